@@ -1,12 +1,9 @@
 package com.connections.entry;
 
-import java.io.File;
-import java.io.IOException;
-
+import com.connections.view_controller.AssetRegistry;
 import com.connections.web.WebFXMLController;
 import com.jpro.webapi.JProApplication;
 
-import javafx.fxml.FXMLLoader;
 import javafx.stage.Stage;
 
 /**
@@ -22,25 +19,16 @@ public class ConnectionsAppWeb extends JProApplication {
 	public void start(Stage stage) {
 		System.out.println("CONNECTIONS: ConnectionsAppWeb has reached start() method...");
 
-		try {
-			File fxmlFile = new File("src/main/resources/com/connections/web/fxml/webapp.fxml");
-
-			if (fxmlFile.exists()) {
-				System.out.println("CONNECTIONS: FXML file has been found and exists...");
-			} else {
-				System.out.println("CONNECTIONS (WARNING): FXML file could not be found!");
-			}
+		// Only the first session of the JVM loads the assets.
+		AssetRegistry.preload();
 
-			FXMLLoader loader = new FXMLLoader(fxmlFile.toURI().toURL());
-			try {
-				loader.load();
-				WebFXMLController controller = loader.getController();
-				controller.init(this, stage);
-			} catch (IOException e) {
-				System.out.println("CONNECTIONS (WARNING): the FXML controller could not be properly initialized!");
-				e.printStackTrace();
-			}
+		// The controller builds the scene itself, so it is created directly rather
+		// than through an FXMLLoader parsing webapp.fxml for every connection.
+		try {
+			WebFXMLController controller = new WebFXMLController();
+			controller.init(this, stage);
 		} catch (Exception e) {
+			System.out.println("CONNECTIONS (WARNING): the controller could not be properly initialized!");
 			e.printStackTrace();
 		}
 	}
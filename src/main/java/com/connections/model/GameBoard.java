@@ -0,0 +1,209 @@
+package com.connections.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the sixteen words of a puzzle as bits of a 16-bit mask. Each word
+ * is assigned a fixed bit (by difficulty color, then by its order within the
+ * answer), so selections, guesses and answers can all be compared with simple
+ * integer operations instead of set scans.
+ */
+public class GameBoard {
+	public static final int GROUP_SIZE = 4;
+	public static final int GROUP_COUNT = 4;
+	public static final int WORD_COUNT = GROUP_SIZE * GROUP_COUNT;
+	public static final int ALL_WORDS_MASK = (1 << WORD_COUNT) - 1;
+	public static final int ALL_GROUPS_MASK = (1 << GROUP_COUNT) - 1;
+
+	private GameData gameData;
+	private Word[] words;
+	private int[] answerMasks;
+	private Map<Word, Integer> indexByWord;
+
+	/**
+	 * Constructs a GameBoard for the specified game data.
+	 *
+	 * @param gameData the game data to build the board from
+	 */
+	public GameBoard(GameData gameData) {
+		this.gameData = gameData;
+		this.words = new Word[WORD_COUNT];
+		this.answerMasks = new int[GROUP_COUNT];
+		this.indexByWord = new HashMap<>();
+
+		for (DifficultyColor color : DifficultyColor.getAllColors()) {
+			GameAnswerColor answer = gameData.getAnswerForColor(color);
+			if (answer == null || answer.getWords() == null) {
+				continue;
+			}
+
+			int group = getGroupIndex(color);
+			String[] answerWords = answer.getWords();
+			for (int i = 0; i < GROUP_SIZE && i < answerWords.length; i++) {
+				int index = group * GROUP_SIZE + i;
+				Word word = new Word(answerWords[i], color);
+				words[index] = word;
+				indexByWord.put(word, index);
+				answerMasks[group] |= 1 << index;
+			}
+		}
+	}
+
+	/**
+	 * Returns the group index (0 to 3) of the specified difficulty color.
+	 *
+	 * @param color the difficulty color
+	 * @return the group index of the color
+	 */
+	public static int getGroupIndex(DifficultyColor color) {
+		return color.getDifficultyLevel() - 1;
+	}
+
+	/**
+	 * Returns the difficulty color of the specified group index.
+	 *
+	 * @param group the group index (0 to 3)
+	 * @return the difficulty color of the group
+	 */
+	public static DifficultyColor getGroupColor(int group) {
+		return DifficultyColor.values()[group];
+	}
+
+	/**
+	 * Returns the game data this board was built from.
+	 *
+	 * @return the game data
+	 */
+	public GameData getGameData() {
+		return gameData;
+	}
+
+	/**
+	 * Returns the bit index of the specified word.
+	 *
+	 * @param word the word to look up
+	 * @return the bit index of the word, or -1 if the word is not on the board
+	 */
+	public int getWordIndex(Word word) {
+		Integer index = (word == null) ? null : indexByWord.get(word);
+		return (index == null) ? -1 : index;
+	}
+
+	/**
+	 * Returns the single-bit mask of the specified word.
+	 *
+	 * @param word the word to look up
+	 * @return the mask of the word, or 0 if the word is not on the board
+	 */
+	public int getWordMask(Word word) {
+		int index = getWordIndex(word);
+		return (index < 0) ? 0 : 1 << index;
+	}
+
+	/**
+	 * Returns the word at the specified bit index.
+	 *
+	 * @param index the bit index
+	 * @return the word at the bit index
+	 */
+	public Word getWord(int index) {
+		return words[index];
+	}
+
+	/**
+	 * Returns the mask of the specified collection of words. Words that are not
+	 * on the board are ignored.
+	 *
+	 * @param wordCollection the words to convert
+	 * @return the mask of the words
+	 */
+	public int getMask(Collection<Word> wordCollection) {
+		int mask = 0;
+		for (Word word : wordCollection) {
+			mask |= getWordMask(word);
+		}
+		return mask;
+	}
+
+	/**
+	 * Returns the set of words whose bits are set in the specified mask.
+	 *
+	 * @param mask the mask to convert
+	 * @return the set of words in the mask
+	 */
+	public Set<Word> getWords(int mask) {
+		Set<Word> wordSet = new HashSet<>();
+		for (int bits = mask & ALL_WORDS_MASK; bits != 0; bits &= bits - 1) {
+			Word word = words[Integer.numberOfTrailingZeros(bits)];
+			if (word != null) {
+				wordSet.add(word);
+			}
+		}
+		return wordSet;
+	}
+
+	/**
+	 * Returns the mask of the words belonging to the specified group.
+	 *
+	 * @param group the group index (0 to 3)
+	 * @return the mask of the group's answer words
+	 */
+	public int getAnswerMask(int group) {
+		return answerMasks[group];
+	}
+
+	/**
+	 * Returns the mask of the words belonging to the specified difficulty color.
+	 *
+	 * @param color the difficulty color
+	 * @return the mask of the color's answer words
+	 */
+	public int getAnswerMask(DifficultyColor color) {
+		return answerMasks[getGroupIndex(color)];
+	}
+
+	/**
+	 * Returns the highest number of words in the mask that belong to a single
+	 * answer.
+	 *
+	 * @param mask the mask to check
+	 * @return the highest match count over all answers
+	 */
+	public int countBestMatch(int mask) {
+		int maxMatchCount = 0;
+		for (int group = 0; group < GROUP_COUNT; group++) {
+			maxMatchCount = Math.max(maxMatchCount, Integer.bitCount(mask & answerMasks[group]));
+		}
+		return maxMatchCount;
+	}
+
+	/**
+	 * Returns the group whose answer exactly matches the mask.
+	 *
+	 * @param mask the mask to check
+	 * @return the matching group index, or -1 if the mask matches no answer
+	 */
+	public int getMatchingGroup(int mask) {
+		for (int group = 0; group < GROUP_COUNT; group++) {
+			if (answerMasks[group] != 0 && mask == answerMasks[group]) {
+				return group;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the difficulty color whose answer exactly matches the mask.
+	 *
+	 * @param mask the mask to check
+	 * @return the matching difficulty color, or null if the mask matches no answer
+	 */
+	public DifficultyColor getMatchingColor(int mask) {
+		int group = getMatchingGroup(mask);
+		return (group < 0) ? null : getGroupColor(group);
+	}
+}
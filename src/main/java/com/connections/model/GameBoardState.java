@@ -0,0 +1,260 @@
+package com.connections.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents the progress of a single game on a GameBoard: the current
+ * selection, the guesses made so far and the groups that have been solved. All
+ * state is kept as board masks, so evaluating a submission allocates nothing.
+ * This class has no JavaFX dependency and is shared by the game grid and the
+ * headless simulation.
+ */
+public class GameBoardState {
+	private static final int INITIAL_GUESS_CAPACITY = 8;
+
+	private GameBoard gameBoard;
+	private int selectedMask;
+	private int[] guessMasks;
+	private int guessCount;
+	private int solvedGroupMask;
+
+	/**
+	 * Represents the outcome of submitting a selection.
+	 */
+	public enum SubmitResult {
+		ALREADY_GUESSED, CORRECT, ONE_AWAY, INCORRECT
+	}
+
+	/**
+	 * Constructs an empty GameBoardState for the specified game board.
+	 *
+	 * @param gameBoard the game board being played
+	 */
+	public GameBoardState(GameBoard gameBoard) {
+		this.gameBoard = gameBoard;
+		this.guessMasks = new int[INITIAL_GUESS_CAPACITY];
+	}
+
+	/**
+	 * Clears the selection, the guesses and the solved groups.
+	 */
+	public void reset() {
+		selectedMask = 0;
+		guessCount = 0;
+		solvedGroupMask = 0;
+	}
+
+	/**
+	 * Returns the game board being played.
+	 *
+	 * @return the game board
+	 */
+	public GameBoard getGameBoard() {
+		return gameBoard;
+	}
+
+	/**
+	 * Adds or removes words from the selection.
+	 *
+	 * @param wordMask the board mask of the words
+	 * @param selected true to select the words, false to deselect them
+	 */
+	public void setSelected(int wordMask, boolean selected) {
+		if (selected) {
+			selectedMask |= wordMask;
+		} else {
+			selectedMask &= ~wordMask;
+		}
+	}
+
+	/**
+	 * Replaces the selection with the specified mask.
+	 *
+	 * @param selectedMask the board mask of the new selection
+	 */
+	public void setSelectedMask(int selectedMask) {
+		this.selectedMask = selectedMask;
+	}
+
+	/**
+	 * Clears the selection.
+	 */
+	public void clearSelection() {
+		selectedMask = 0;
+	}
+
+	/**
+	 * Returns the board mask of the current selection.
+	 *
+	 * @return the selection mask
+	 */
+	public int getSelectedMask() {
+		return selectedMask;
+	}
+
+	/**
+	 * Returns the highest number of selected words that belong to a single
+	 * answer.
+	 *
+	 * @return the match count of the selection
+	 */
+	public int getSelectedMatchCount() {
+		return gameBoard.countBestMatch(selectedMask);
+	}
+
+	/**
+	 * Checks if the current selection has already been guessed.
+	 *
+	 * @return true if the selection has already been guessed, false otherwise
+	 */
+	public boolean isSelectedAlreadyGuessed() {
+		return isGuessed(selectedMask);
+	}
+
+	/**
+	 * Checks if the specified mask has already been guessed.
+	 *
+	 * @param mask the board mask of the guess
+	 * @return true if the mask has already been guessed, false otherwise
+	 */
+	public boolean isGuessed(int mask) {
+		for (int i = 0; i < guessCount; i++) {
+			if (guessMasks[i] == mask) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Records the current selection as a guess, unless it was already guessed.
+	 *
+	 * @return true if the guess was recorded, false if it was already guessed
+	 */
+	public boolean saveSelectedAsGuess() {
+		if (isSelectedAlreadyGuessed()) {
+			return false;
+		}
+		addGuess(selectedMask);
+		return true;
+	}
+
+	/**
+	 * Records the specified mask as a guess and marks its group as solved if it
+	 * matches an answer.
+	 *
+	 * @param mask the board mask of the guess
+	 */
+	public void addGuess(int mask) {
+		if (guessCount == guessMasks.length) {
+			guessMasks = Arrays.copyOf(guessMasks, guessMasks.length * 2);
+		}
+		guessMasks[guessCount++] = mask;
+
+		int group = gameBoard.getMatchingGroup(mask);
+		if (group >= 0) {
+			solvedGroupMask |= 1 << group;
+		}
+	}
+
+	/**
+	 * Records the current selection as a guess and evaluates it.
+	 *
+	 * @return the outcome of the submission
+	 */
+	public SubmitResult submitSelected() {
+		if (!saveSelectedAsGuess()) {
+			return SubmitResult.ALREADY_GUESSED;
+		}
+
+		int matchCount = getSelectedMatchCount();
+		if (matchCount == GameBoard.GROUP_SIZE) {
+			return SubmitResult.CORRECT;
+		} else if (matchCount == GameBoard.GROUP_SIZE - 1) {
+			return SubmitResult.ONE_AWAY;
+		}
+		return SubmitResult.INCORRECT;
+	}
+
+	/**
+	 * Returns the number of guesses made.
+	 *
+	 * @return the guess count
+	 */
+	public int getGuessCount() {
+		return guessCount;
+	}
+
+	/**
+	 * Returns the board mask of the guess at the specified position.
+	 *
+	 * @param index the position of the guess, in the order guesses were made
+	 * @return the board mask of the guess
+	 */
+	public int getGuessMask(int index) {
+		return guessMasks[index];
+	}
+
+	/**
+	 * Returns the guesses made so far as sets of words, in the order they were
+	 * made.
+	 *
+	 * @return the list of guesses
+	 */
+	public List<Set<Word>> getGuesses() {
+		List<Set<Word>> guesses = new ArrayList<>();
+		for (int i = 0; i < guessCount; i++) {
+			guesses.add(gameBoard.getWords(guessMasks[i]));
+		}
+		return guesses;
+	}
+
+	/**
+	 * Replaces the guesses with the specified list of word sets.
+	 *
+	 * @param guesses the guesses to load, in the order they were made
+	 */
+	public void loadGuesses(List<Set<Word>> guesses) {
+		guessCount = 0;
+		solvedGroupMask = 0;
+		for (Set<Word> guess : guesses) {
+			addGuess(gameBoard.getMask(guess));
+		}
+	}
+
+	/**
+	 * Returns the 4-bit mask of the groups that have been solved.
+	 *
+	 * @return the solved group mask
+	 */
+	public int getSolvedGroupMask() {
+		return solvedGroupMask;
+	}
+
+	/**
+	 * Checks if every group has been solved.
+	 *
+	 * @return true if every group has been solved, false otherwise
+	 */
+	public boolean isAllGroupsSolved() {
+		return solvedGroupMask == GameBoard.ALL_GROUPS_MASK;
+	}
+
+	/**
+	 * Returns the board mask of the words that are not part of a solved group.
+	 *
+	 * @return the remaining word mask
+	 */
+	public int getRemainingMask() {
+		int remainingMask = 0;
+		for (int group = 0; group < GameBoard.GROUP_COUNT; group++) {
+			if ((solvedGroupMask & (1 << group)) == 0) {
+				remainingMask |= gameBoard.getAnswerMask(group);
+			}
+		}
+		return remainingMask;
+	}
+}
@@ -16,9 +16,11 @@ import com.connections.web.DatabaseFormattable;
 public class GameData implements DatabaseFormattable {
 	public static final String KEY_COLOR_LIST = "colors";
 	public static final String KEY_PUZZLE_NUMBER = "number";
+	public static final String KEY_DIFFICULTY_METRICS = "difficulty_metrics";
 
 	private Map<DifficultyColor, GameAnswerColor> answerMap;
 	private int puzzleNumber;
+	private PuzzleDifficultyMetrics difficultyMetrics;
 
 	/**
 	 * Constructs a GameData from a MongoDB Document.
@@ -68,6 +70,24 @@ public class GameData implements DatabaseFormattable {
 		return puzzleNumber;
 	}
 
+	/**
+	 * Returns the difficulty metrics of the puzzle.
+	 *
+	 * @return the difficulty metrics, or null if the puzzle has not been analyzed
+	 */
+	public PuzzleDifficultyMetrics getDifficultyMetrics() {
+		return difficultyMetrics;
+	}
+
+	/**
+	 * Sets the difficulty metrics of the puzzle.
+	 *
+	 * @param difficultyMetrics the difficulty metrics of the puzzle
+	 */
+	public void setDifficultyMetrics(PuzzleDifficultyMetrics difficultyMetrics) {
+		this.difficultyMetrics = difficultyMetrics;
+	}
+
 	/**
 	 * Converts the GameData to a MongoDB Document format.
 	 *
@@ -88,6 +108,10 @@ public class GameData implements DatabaseFormattable {
 		}
 		doc.append(KEY_COLOR_LIST, colorList);
 
+		if (difficultyMetrics != null) {
+			doc.append(KEY_DIFFICULTY_METRICS, difficultyMetrics.getAsDatabaseFormat());
+		}
+
 		return doc;
 	}
 
@@ -107,5 +131,8 @@ public class GameData implements DatabaseFormattable {
 			DifficultyColor color = answerColor.getColor();
 			answerMap.put(color, answerColor);
 		}
+
+		Document metricsDoc = doc.get(KEY_DIFFICULTY_METRICS, Document.class);
+		difficultyMetrics = (metricsDoc == null) ? null : new PuzzleDifficultyMetrics(metricsDoc);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.connections.model;
+
+import org.bson.Document;
+
+import com.connections.web.DatabaseFormattable;
+
+/**
+ * Represents a single player action in a game's event log. Each event holds
+ * only what is needed to replay it exactly: the seed of a tile layout or
+ * shuffle, the board mask of a submission, or the level of a hint, along with
+ * the milliseconds elapsed since the game started.
+ */
+public class GameEvent implements DatabaseFormattable {
+	public static final String KEY_TYPE = "type";
+	public static final String KEY_VALUE = "value";
+	public static final String KEY_ELAPSED_MS = "elapsed_ms";
+
+	private EventType type;
+	private long value;
+	private long elapsedMillis;
+
+	/**
+	 * Represents the kinds of actions that are recorded.
+	 */
+	public enum EventType {
+		START, SHUFFLE, SUBMIT, HINT
+	}
+
+	/**
+	 * Constructs a GameEvent with the specified type, value and elapsed time.
+	 *
+	 * @param type          the type of the event
+	 * @param value         the seed, board mask or hint level of the event
+	 * @param elapsedMillis the milliseconds elapsed since the game started
+	 */
+	public GameEvent(EventType type, long value, long elapsedMillis) {
+		this.type = type;
+		this.value = value;
+		this.elapsedMillis = elapsedMillis;
+	}
+
+	/**
+	 * Constructs a GameEvent from a MongoDB Document.
+	 *
+	 * @param doc the MongoDB Document containing the event
+	 */
+	public GameEvent(Document doc) {
+		loadFromDatabaseFormat(doc);
+	}
+
+	/**
+	 * Returns the type of the event.
+	 *
+	 * @return the event type
+	 */
+	public EventType getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the value of the event: the seed of a START or SHUFFLE event, the
+	 * board mask of a SUBMIT event, or the hint level ordinal of a HINT event.
+	 *
+	 * @return the event value
+	 */
+	public long getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns the milliseconds elapsed between the start of the game and the
+	 * event.
+	 *
+	 * @return the elapsed milliseconds
+	 */
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	/**
+	 * Converts the GameEvent to a MongoDB Document format.
+	 *
+	 * @return the MongoDB Document representation of the GameEvent
+	 */
+	@Override
+	public Document getAsDatabaseFormat() {
+		Document doc = new Document();
+		doc.append(KEY_TYPE, type.toString().toLowerCase());
+		doc.append(KEY_VALUE, value);
+		doc.append(KEY_ELAPSED_MS, elapsedMillis);
+		return doc;
+	}
+
+	/**
+	 * Loads the GameEvent from a MongoDB Document.
+	 *
+	 * @param doc the MongoDB Document containing the GameEvent
+	 */
+	@Override
+	public void loadFromDatabaseFormat(Document doc) {
+		type = EventType.valueOf(doc.getString(KEY_TYPE).toUpperCase());
+		Object valueRetrieved = doc.get(KEY_VALUE);
+		value = (valueRetrieved instanceof Number) ? ((Number) valueRetrieved).longValue() : 0;
+		Object elapsedRetrieved = doc.get(KEY_ELAPSED_MS);
+		elapsedMillis = (elapsedRetrieved instanceof Number) ? ((Number) elapsedRetrieved).longValue() : 0;
+	}
+}
@@ -0,0 +1,303 @@
+package com.connections.model;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+
+import com.connections.view_controller.GameSession;
+import com.connections.web.DatabaseFormattable;
+import com.connections.web.WebUtils;
+
+/**
+ * Represents the append-only log of the actions taken in a game. Each action
+ * is stored as a small GameEvent, so recording it is a single push instead of
+ * a rewrite of the whole save state. A snapshot of the replayed state is kept
+ * every SNAPSHOT_INTERVAL events to bound the cost of restoring the game,
+ * while the full list of events stays available to replay the game exactly.
+ */
+public class GameEventLog implements DatabaseFormattable {
+	public static final String KEY_PUZZLE_NUMBER = PlayedGameInfo.KEY_PUZZLE_NUMBER;
+	public static final String KEY_GAME_TYPE = PlayedGameInfo.KEY_GAME_TYPE;
+	public static final String KEY_GAME_START_TIME = PlayedGameInfo.KEY_GAME_START_TIME;
+	public static final String KEY_LAST_ACTIVE_TIME = "last_active_time";
+	public static final String KEY_GAME_FINISHED = GameSaveState.KEY_GAME_FINISHED;
+	public static final String KEY_EVENTS = "events";
+	public static final String KEY_SNAPSHOT = "snapshot";
+	public static final String KEY_SNAPSHOT_EVENT_COUNT = "snapshot_event_count";
+
+	public static final int SNAPSHOT_INTERVAL = 32;
+
+	private int puzzleNumber;
+	private GameSession.GameType gameType;
+	private ZonedDateTime gameStartTime;
+	private ZonedDateTime lastActiveTime;
+	private boolean gameFinished;
+	private List<GameEvent> events;
+	private GameSaveState snapshot;
+	private int snapshotEventCount;
+
+	/**
+	 * Constructs an empty GameEventLog for a game that starts at the specified
+	 * time.
+	 *
+	 * @param puzzleNumber  the puzzle number of the game
+	 * @param gameType      the type of the game
+	 * @param gameStartTime the start time of the game
+	 */
+	public GameEventLog(int puzzleNumber, GameSession.GameType gameType, ZonedDateTime gameStartTime) {
+		this.puzzleNumber = puzzleNumber;
+		this.gameType = gameType;
+		this.gameStartTime = gameStartTime;
+		this.lastActiveTime = gameStartTime;
+		this.gameFinished = false;
+		this.events = new ArrayList<>();
+		this.snapshot = null;
+		this.snapshotEventCount = 0;
+	}
+
+	/**
+	 * Constructs a GameEventLog from a MongoDB Document.
+	 *
+	 * @param doc the MongoDB Document containing the event log
+	 */
+	public GameEventLog(Document doc) {
+		loadFromDatabaseFormat(doc);
+	}
+
+	/**
+	 * Creates an event of the specified type at the specified time and adds it to
+	 * the log.
+	 *
+	 * @param type  the type of the event
+	 * @param value the seed, board mask or hint level of the event
+	 * @param time  the time of the event
+	 * @return the added event
+	 */
+	public GameEvent addEvent(GameEvent.EventType type, long value, ZonedDateTime time) {
+		GameEvent event = new GameEvent(type, value, ChronoUnit.MILLIS.between(gameStartTime, time));
+		events.add(event);
+		lastActiveTime = time;
+		return event;
+	}
+
+	/**
+	 * Returns the events of the log, in the order they happened.
+	 *
+	 * @return the list of events
+	 */
+	public List<GameEvent> getEvents() {
+		return events;
+	}
+
+	/**
+	 * Checks if enough events have been added since the last snapshot that a new
+	 * snapshot should be taken.
+	 *
+	 * @return true if a snapshot should be taken, false otherwise
+	 */
+	public boolean needsSnapshot() {
+		return events.size() - snapshotEventCount >= SNAPSHOT_INTERVAL;
+	}
+
+	/**
+	 * Replays the log from the latest snapshot onto a new GameReplay.
+	 *
+	 * @param gameBoard the game board of the puzzle
+	 * @return the replayed game
+	 */
+	public GameReplay replay(GameBoard gameBoard) {
+		GameReplay gameReplay = new GameReplay(gameBoard);
+		int from = 0;
+		if (snapshot != null) {
+			gameReplay.loadSnapshot(snapshot);
+			from = snapshotEventCount;
+		}
+		gameReplay.applyAll(events, from);
+		return gameReplay;
+	}
+
+	/**
+	 * Replays the log and returns the result as a save state, timestamped with
+	 * the last time the game was active.
+	 *
+	 * @param gameBoard the game board of the puzzle
+	 * @return the save state of the replayed game
+	 */
+	public GameSaveState toSaveState(GameBoard gameBoard) {
+		return replay(gameBoard).toSaveState(gameType, puzzleNumber, gameStartTime, lastActiveTime);
+	}
+
+	/**
+	 * Takes a snapshot of the log by replaying all of its events.
+	 *
+	 * @param gameBoard the game board of the puzzle
+	 */
+	public void takeSnapshot(GameBoard gameBoard) {
+		snapshot = toSaveState(gameBoard);
+		snapshotEventCount = events.size();
+	}
+
+	/**
+	 * Returns the latest snapshot of the log.
+	 *
+	 * @return the snapshot, or null if none has been taken
+	 */
+	public GameSaveState getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Returns the number of events that the latest snapshot includes.
+	 *
+	 * @return the snapshot event count
+	 */
+	public int getSnapshotEventCount() {
+		return snapshotEventCount;
+	}
+
+	/**
+	 * Sets the snapshot of the log, e.g. to continue a game that was saved as a
+	 * full save state.
+	 *
+	 * @param snapshot           the snapshot
+	 * @param snapshotEventCount the number of events the snapshot includes
+	 */
+	public void setSnapshot(GameSaveState snapshot, int snapshotEventCount) {
+		this.snapshot = snapshot;
+		this.snapshotEventCount = snapshotEventCount;
+	}
+
+	/**
+	 * Returns the puzzle number of the game.
+	 *
+	 * @return the puzzle number
+	 */
+	public int getPuzzleNumber() {
+		return puzzleNumber;
+	}
+
+	/**
+	 * Returns the type of the game.
+	 *
+	 * @return the game type
+	 */
+	public GameSession.GameType getGameType() {
+		return gameType;
+	}
+
+	/**
+	 * Returns the start time of the game. Event times are relative to it.
+	 *
+	 * @return the game start time
+	 */
+	public ZonedDateTime getGameStartTime() {
+		return gameStartTime;
+	}
+
+	/**
+	 * Sets the start time of the game, e.g. when a game is continued and its
+	 * clock is shifted to exclude the time the player was away.
+	 *
+	 * @param gameStartTime the game start time
+	 */
+	public void setGameStartTime(ZonedDateTime gameStartTime) {
+		this.gameStartTime = gameStartTime;
+	}
+
+	/**
+	 * Returns the last time the game was active.
+	 *
+	 * @return the last active time
+	 */
+	public ZonedDateTime getLastActiveTime() {
+		return lastActiveTime;
+	}
+
+	/**
+	 * Sets the last time the game was active.
+	 *
+	 * @param lastActiveTime the last active time
+	 */
+	public void setLastActiveTime(ZonedDateTime lastActiveTime) {
+		this.lastActiveTime = lastActiveTime;
+	}
+
+	/**
+	 * Returns whether the game has finished.
+	 *
+	 * @return true if the game has finished, false otherwise
+	 */
+	public boolean isGameFinished() {
+		return gameFinished;
+	}
+
+	/**
+	 * Sets whether the game has finished.
+	 *
+	 * @param gameFinished true if the game has finished, false otherwise
+	 */
+	public void setGameFinished(boolean gameFinished) {
+		this.gameFinished = gameFinished;
+	}
+
+	/**
+	 * Converts the GameEventLog to a MongoDB Document format.
+	 *
+	 * @return the MongoDB Document representation of the GameEventLog
+	 */
+	@Override
+	public Document getAsDatabaseFormat() {
+		List<Document> eventDocList = new ArrayList<>();
+		for (GameEvent event : events) {
+			eventDocList.add(event.getAsDatabaseFormat());
+		}
+
+		Document doc = new Document();
+		doc.append(KEY_PUZZLE_NUMBER, puzzleNumber);
+		doc.append(KEY_GAME_TYPE, gameType.toString().toLowerCase());
+		doc.append(KEY_GAME_START_TIME, WebUtils.helperDateToString(gameStartTime));
+		doc.append(KEY_LAST_ACTIVE_TIME, WebUtils.helperDateToString(lastActiveTime));
+		doc.append(KEY_GAME_FINISHED, gameFinished);
+		doc.append(KEY_EVENTS, eventDocList);
+		if (snapshot != null) {
+			doc.append(KEY_SNAPSHOT, snapshot.getAsDatabaseFormat());
+		}
+		doc.append(KEY_SNAPSHOT_EVENT_COUNT, snapshotEventCount);
+		return doc;
+	}
+
+	/**
+	 * Loads the GameEventLog from a MongoDB Document.
+	 *
+	 * @param doc the MongoDB Document containing the GameEventLog
+	 */
+	@Override
+	public void loadFromDatabaseFormat(Document doc) {
+		puzzleNumber = doc.getInteger(KEY_PUZZLE_NUMBER, -1);
+		gameStartTime = WebUtils.helperStringToDate(doc.getString(KEY_GAME_START_TIME));
+		lastActiveTime = WebUtils.helperStringToDate(doc.getString(KEY_LAST_ACTIVE_TIME));
+		gameFinished = doc.getBoolean(KEY_GAME_FINISHED, false);
+
+		String gameTypeString = doc.getString(KEY_GAME_TYPE);
+		if (gameTypeString == null) {
+			gameType = GameSession.GameType.NONE;
+		} else {
+			gameType = GameSession.GameType.valueOf(gameTypeString.toUpperCase());
+		}
+
+		events = new ArrayList<>();
+		List<Document> eventDocList = doc.getList(KEY_EVENTS, Document.class);
+		if (eventDocList != null) {
+			for (Document eventDoc : eventDocList) {
+				events.add(new GameEvent(eventDoc));
+			}
+		}
+
+		Document snapshotDoc = doc.get(KEY_SNAPSHOT, Document.class);
+		snapshot = (snapshotDoc == null) ? null : new GameSaveState(snapshotDoc);
+		snapshotEventCount = Math.min(doc.getInteger(KEY_SNAPSHOT_EVENT_COUNT, 0), events.size());
+	}
+}
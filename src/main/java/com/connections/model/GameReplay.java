@@ -0,0 +1,261 @@
+package com.connections.model;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.connections.view_controller.GameSession;
+
+/**
+ * Replays a game's events headlessly to rebuild its grid, guesses, hints and
+ * mistakes. Layouts and shuffles use the same seeded shuffle as TileGridWord,
+ * and correct submissions move tiles with the same swaps as the answer
+ * animation, so a replay reproduces exactly what the player saw.
+ */
+public class GameReplay {
+	public static final int MAX_HINTS = 4;
+	public static final int MAX_MISTAKES = 4;
+
+	private GameBoardState gameBoardState;
+	private int[] cells;
+	private int solvingRow;
+	private int hintsUsed;
+	private int mistakesMade;
+
+	/**
+	 * Constructs a GameReplay for the specified game board, with the words in
+	 * board order.
+	 *
+	 * @param gameBoard the game board being replayed
+	 */
+	public GameReplay(GameBoard gameBoard) {
+		this.gameBoardState = new GameBoardState(gameBoard);
+		this.cells = new int[GameBoard.WORD_COUNT];
+		reset();
+	}
+
+	/**
+	 * Resets the replay to an unplayed game with the words in board order.
+	 */
+	public void reset() {
+		gameBoardState.reset();
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = i;
+		}
+		solvingRow = 0;
+		hintsUsed = 0;
+		mistakesMade = 0;
+	}
+
+	/**
+	 * Loads a saved game state as the starting point of the replay.
+	 *
+	 * @param gameSaveState the saved game state
+	 */
+	public void loadSnapshot(GameSaveState gameSaveState) {
+		reset();
+		gameBoardState.loadGuesses(gameSaveState.getGuesses());
+
+		GameBoard gameBoard = gameBoardState.getGameBoard();
+		List<List<Word>> grid = gameSaveState.getGrid();
+		for (int row = 0; row < GridLayout.ROWS; row++) {
+			List<Word> wordsOnRow = (row < grid.size()) ? grid.get(row) : null;
+			if (wordsOnRow == null || wordsOnRow.isEmpty()) {
+				if (row == solvingRow) {
+					solvingRow++;
+				}
+				continue;
+			}
+			for (int col = 0; col < GridLayout.COLS && col < wordsOnRow.size(); col++) {
+				cells[row * GridLayout.COLS + col] = gameBoard.getWordIndex(wordsOnRow.get(col));
+			}
+		}
+		for (int i = 0; i < solvingRow * GridLayout.COLS; i++) {
+			cells[i] = GridLayout.EMPTY;
+		}
+
+		hintsUsed = Math.max(0, MAX_HINTS - gameSaveState.getHintsLeft());
+		mistakesMade = Math.max(0, MAX_MISTAKES - gameSaveState.getMistakesLeft());
+	}
+
+	/**
+	 * Applies a single event to the replay.
+	 *
+	 * @param event the event to apply
+	 */
+	public void apply(GameEvent event) {
+		switch (event.getType()) {
+		case START:
+			reset();
+			shuffleCells(cells, 0, event.getValue());
+			break;
+		case SHUFFLE:
+			shuffleCells(cells, solvingRow * GridLayout.COLS, event.getValue());
+			break;
+		case SUBMIT:
+			applySubmission((int) event.getValue());
+			break;
+		case HINT:
+			hintsUsed++;
+			break;
+		default:
+		}
+	}
+
+	/**
+	 * Applies all of the specified events to the replay, in order.
+	 *
+	 * @param events the events to apply
+	 * @param from   the index of the first event to apply
+	 */
+	public void applyAll(List<GameEvent> events, int from) {
+		for (int i = from; i < events.size(); i++) {
+			apply(events.get(i));
+		}
+	}
+
+	/**
+	 * Submits the specified words. A correct submission swaps the selected tiles
+	 * into the solving row, like the answer animation does, and turns that row
+	 * into an answer row.
+	 *
+	 * @param mask the board mask of the submission
+	 */
+	private void applySubmission(int mask) {
+		gameBoardState.setSelectedMask(mask);
+		GameBoardState.SubmitResult result = gameBoardState.submitSelected();
+		gameBoardState.clearSelection();
+
+		if (result == GameBoardState.SubmitResult.CORRECT) {
+			int rowStart = solvingRow * GridLayout.COLS;
+			int dest = rowStart + GridLayout.COLS;
+			for (int source = rowStart; source < rowStart + GridLayout.COLS; source++) {
+				if (isCellInMask(source, mask)) {
+					continue;
+				}
+				while (dest < cells.length && !isCellInMask(dest, mask)) {
+					dest++;
+				}
+				if (dest < cells.length) {
+					int swapped = cells[source];
+					cells[source] = cells[dest];
+					cells[dest] = swapped;
+					dest++;
+				}
+			}
+			for (int i = rowStart; i < rowStart + GridLayout.COLS; i++) {
+				cells[i] = GridLayout.EMPTY;
+			}
+			solvingRow++;
+		} else if (result != GameBoardState.SubmitResult.ALREADY_GUESSED) {
+			mistakesMade++;
+		}
+	}
+
+	/**
+	 * Checks if the word in the specified cell is part of the mask.
+	 *
+	 * @param cell the cell index
+	 * @param mask the board mask
+	 * @return true if the cell holds a word in the mask, false otherwise
+	 */
+	private boolean isCellInMask(int cell, int mask) {
+		return cells[cell] != GridLayout.EMPTY && (mask & (1 << cells[cell])) != 0;
+	}
+
+	/**
+	 * Shuffles the cells from the specified index onwards with the same algorithm
+	 * and seed as the grid shuffles its tiles.
+	 *
+	 * @param cells the cells to shuffle
+	 * @param from  the index of the first cell to shuffle
+	 * @param seed  the seed of the shuffle
+	 */
+	public static void shuffleCells(int[] cells, int from, long seed) {
+		List<Integer> shuffled = new ArrayList<>();
+		for (int i = from; i < cells.length; i++) {
+			shuffled.add(cells[i]);
+		}
+		Collections.shuffle(shuffled, new Random(seed));
+		for (int i = from; i < cells.length; i++) {
+			cells[i] = shuffled.get(i - from);
+		}
+	}
+
+	/**
+	 * Returns the state holding the replayed guesses.
+	 *
+	 * @return the game board state
+	 */
+	public GameBoardState getGameBoardState() {
+		return gameBoardState;
+	}
+
+	/**
+	 * Returns the board index of the word in the specified cell.
+	 *
+	 * @param row the row index
+	 * @param col the column index
+	 * @return the word index, or GridLayout.EMPTY if the cell is part of an answer
+	 *         row
+	 */
+	public int getCell(int row, int col) {
+		return cells[row * GridLayout.COLS + col];
+	}
+
+	/**
+	 * Returns the index of the first row that has not been solved.
+	 *
+	 * @return the solving row
+	 */
+	public int getSolvingRow() {
+		return solvingRow;
+	}
+
+	/**
+	 * Returns the number of hints used.
+	 *
+	 * @return the hints used count
+	 */
+	public int getHintsUsed() {
+		return hintsUsed;
+	}
+
+	/**
+	 * Returns the number of mistakes made.
+	 *
+	 * @return the mistakes made count
+	 */
+	public int getMistakesMade() {
+		return mistakesMade;
+	}
+
+	/**
+	 * Returns the replayed game as a save state.
+	 *
+	 * @param gameType              the type of the game
+	 * @param puzzleNumber          the puzzle number of the game
+	 * @param gameStartTime         the start time of the game
+	 * @param saveStateCreationTime the time of the last replayed action
+	 * @return the save state of the replayed game
+	 */
+	public GameSaveState toSaveState(GameSession.GameType gameType, int puzzleNumber, ZonedDateTime gameStartTime,
+			ZonedDateTime saveStateCreationTime) {
+		GameBoard gameBoard = gameBoardState.getGameBoard();
+		List<List<Word>> grid = new ArrayList<>();
+		for (int row = 0; row < GridLayout.ROWS; row++) {
+			List<Word> wordsOnRow = new ArrayList<>();
+			if (row >= solvingRow) {
+				for (int col = 0; col < GridLayout.COLS; col++) {
+					wordsOnRow.add(gameBoard.getWord(getCell(row, col)));
+				}
+			}
+			grid.add(wordsOnRow);
+		}
+
+		return new GameSaveState(false, gameType, MAX_HINTS - hintsUsed, MAX_MISTAKES - mistakesMade, puzzleNumber,
+				grid, gameBoardState.getGuesses(), gameStartTime, saveStateCreationTime);
+	}
+}
@@ -0,0 +1,127 @@
+package com.connections.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Describes what each cell of the 4x4 game grid shows after restoring a game:
+ * the solved groups occupy the top rows, in the order they were solved, and
+ * the remaining rows hold word tiles identified by their board index. A layout
+ * is computed in a single pass over the guesses and the saved grid, and can be
+ * reused across restores without allocating.
+ */
+public class GridLayout {
+	public static final int ROWS = GameBoard.GROUP_COUNT;
+	public static final int COLS = GameBoard.GROUP_SIZE;
+	public static final int EMPTY = -1;
+
+	private int[] rowGroups;
+	private int[] cellWordIndices;
+	private int answeredRowCount;
+
+	/**
+	 * Constructs an empty GridLayout.
+	 */
+	public GridLayout() {
+		this.rowGroups = new int[ROWS];
+		this.cellWordIndices = new int[ROWS * COLS];
+		clear();
+	}
+
+	/**
+	 * Clears every row and cell of the layout.
+	 */
+	public void clear() {
+		Arrays.fill(rowGroups, EMPTY);
+		Arrays.fill(cellWordIndices, EMPTY);
+		answeredRowCount = 0;
+	}
+
+	/**
+	 * Lays out a game in progress: one answer row per correct guess, in the
+	 * order the guesses were made, followed by the saved words of the remaining
+	 * rows.
+	 *
+	 * @param gameBoardState the state holding the loaded guesses
+	 * @param gridWords      the saved words of every row, where rows that were
+	 *                       answered may be empty
+	 */
+	public void loadInProgress(GameBoardState gameBoardState, List<List<Word>> gridWords) {
+		clear();
+		addAnsweredRows(gameBoardState);
+
+		GameBoard gameBoard = gameBoardState.getGameBoard();
+		for (int row = answeredRowCount; row < ROWS && row < gridWords.size(); row++) {
+			List<Word> wordsOnRow = gridWords.get(row);
+			for (int col = 0; col < COLS && col < wordsOnRow.size(); col++) {
+				cellWordIndices[row * COLS + col] = gameBoard.getWordIndex(wordsOnRow.get(col));
+			}
+		}
+	}
+
+	/**
+	 * Lays out a finished game: one answer row per correct guess, in the order
+	 * the guesses were made, followed by the unsolved groups in order of
+	 * difficulty.
+	 *
+	 * @param gameBoardState the state holding the loaded guesses
+	 */
+	public void loadFinished(GameBoardState gameBoardState) {
+		clear();
+		addAnsweredRows(gameBoardState);
+
+		int solvedGroupMask = gameBoardState.getSolvedGroupMask();
+		for (int group = 0; group < GameBoard.GROUP_COUNT && answeredRowCount < ROWS; group++) {
+			if ((solvedGroupMask & (1 << group)) == 0) {
+				rowGroups[answeredRowCount++] = group;
+			}
+		}
+	}
+
+	/**
+	 * Adds an answer row for every correct guess of the state.
+	 *
+	 * @param gameBoardState the state holding the loaded guesses
+	 */
+	private void addAnsweredRows(GameBoardState gameBoardState) {
+		GameBoard gameBoard = gameBoardState.getGameBoard();
+		int placedGroupMask = 0;
+		for (int i = 0; i < gameBoardState.getGuessCount() && answeredRowCount < ROWS; i++) {
+			int group = gameBoard.getMatchingGroup(gameBoardState.getGuessMask(i));
+			if (group >= 0 && (placedGroupMask & (1 << group)) == 0) {
+				placedGroupMask |= 1 << group;
+				rowGroups[answeredRowCount++] = group;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of rows at the top of the grid that show an answer.
+	 *
+	 * @return the answered row count
+	 */
+	public int getAnsweredRowCount() {
+		return answeredRowCount;
+	}
+
+	/**
+	 * Returns the group shown by the specified row.
+	 *
+	 * @param row the row index
+	 * @return the group index, or EMPTY if the row holds word tiles
+	 */
+	public int getRowGroup(int row) {
+		return rowGroups[row];
+	}
+
+	/**
+	 * Returns the board index of the word shown by the specified cell.
+	 *
+	 * @param row the row index
+	 * @param col the column index
+	 * @return the word index, or EMPTY if the cell holds no word
+	 */
+	public int getWordIndex(int row, int col) {
+		return cellWordIndices[row * COLS + col];
+	}
+}
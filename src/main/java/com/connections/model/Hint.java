@@ -0,0 +1,60 @@
+package com.connections.model;
+
+/**
+ * Represents a single hint: the level of the hint, the group it points to and
+ * the board mask of the words it reveals.
+ */
+public class Hint {
+	private HintLevel level;
+	private int group;
+	private int wordMask;
+
+	/**
+	 * Constructs a Hint with the specified level, group and word mask.
+	 *
+	 * @param level    the level of the hint
+	 * @param group    the group index (0 to 3) the hint points to
+	 * @param wordMask the board mask of the words the hint reveals
+	 */
+	public Hint(HintLevel level, int group, int wordMask) {
+		this.level = level;
+		this.group = group;
+		this.wordMask = wordMask;
+	}
+
+	/**
+	 * Returns the level of the hint.
+	 *
+	 * @return the hint level
+	 */
+	public HintLevel getLevel() {
+		return level;
+	}
+
+	/**
+	 * Returns the group index the hint points to.
+	 *
+	 * @return the group index (0 to 3)
+	 */
+	public int getGroup() {
+		return group;
+	}
+
+	/**
+	 * Returns the difficulty color of the group the hint points to.
+	 *
+	 * @return the difficulty color of the hinted group
+	 */
+	public DifficultyColor getColor() {
+		return GameBoard.getGroupColor(group);
+	}
+
+	/**
+	 * Returns the board mask of the words the hint reveals.
+	 *
+	 * @return the word mask of the hint
+	 */
+	public int getWordMask() {
+		return wordMask;
+	}
+}
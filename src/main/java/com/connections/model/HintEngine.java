@@ -0,0 +1,200 @@
+package com.connections.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes ranked hint plans for a puzzle. A plan holds one hint per
+ * HintLevel for a given board state (the solved groups and the current
+ * selection), and is computed once and then served from a cache, so asking for
+ * a hint is a table lookup. The engine does not depend on JavaFX and can be
+ * used by bots and tests.
+ */
+public class HintEngine {
+	public static final int MAX_SHARED_ENGINES = 64;
+
+	// Keyed by the content of the puzzle rather than its number, so that a puzzle
+	// that is edited or loaded again from a different games file gets a new
+	// engine instead of the plans of the old board.
+	private static final Map<String, HintEngine> ENGINES_BY_PUZZLE = new ConcurrentHashMap<>();
+
+	private GameBoard gameBoard;
+	private Map<Integer, Hint[]> planCache;
+
+	/**
+	 * Constructs a HintEngine for the specified game board.
+	 *
+	 * @param gameBoard the game board to compute hints for
+	 */
+	public HintEngine(GameBoard gameBoard) {
+		this.gameBoard = gameBoard;
+		this.planCache = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the shared HintEngine for the specified game data. Engines (and
+	 * their plan caches) are shared by every game of the same puzzle with the
+	 * same words. Only a few puzzles are played at a time, so the shared engines
+	 * are dropped all at once when there are more than MAX_SHARED_ENGINES.
+	 *
+	 * @param gameData the game data of the puzzle
+	 * @return the shared HintEngine for the puzzle
+	 */
+	public static HintEngine forGameData(GameData gameData) {
+		String puzzleKey = getPuzzleKey(gameData);
+		HintEngine hintEngine = ENGINES_BY_PUZZLE.get(puzzleKey);
+		if (hintEngine == null) {
+			if (ENGINES_BY_PUZZLE.size() >= MAX_SHARED_ENGINES) {
+				ENGINES_BY_PUZZLE.clear();
+			}
+			hintEngine = ENGINES_BY_PUZZLE.computeIfAbsent(puzzleKey, key -> new HintEngine(new GameBoard(gameData)));
+		}
+		return hintEngine;
+	}
+
+	/**
+	 * Drops every shared HintEngine. Called whenever the puzzles in the database
+	 * are replaced.
+	 */
+	public static void clearSharedEngines() {
+		ENGINES_BY_PUZZLE.clear();
+	}
+
+	/**
+	 * Returns the key of the specified puzzle in the shared engines: its puzzle
+	 * number followed by the words of every group, in color order.
+	 *
+	 * @param gameData the game data of the puzzle
+	 * @return the key of the puzzle
+	 */
+	private static String getPuzzleKey(GameData gameData) {
+		StringBuilder puzzleKey = new StringBuilder().append(gameData.getPuzzleNumber());
+		for (DifficultyColor color : DifficultyColor.getAllColors()) {
+			GameAnswerColor answer = gameData.getAnswerForColor(color);
+			puzzleKey.append('|');
+			if (answer != null && answer.getWords() != null) {
+				puzzleKey.append(String.join(",", answer.getWords()));
+			}
+		}
+		return puzzleKey.toString();
+	}
+
+	/**
+	 * Returns the game board this engine computes hints for.
+	 *
+	 * @return the game board
+	 */
+	public GameBoard getGameBoard() {
+		return gameBoard;
+	}
+
+	/**
+	 * Returns the hint of the specified level for the given board state.
+	 *
+	 * @param solvedGroupMask the 4-bit mask of groups that are already solved
+	 * @param selectedMask    the board mask of the currently selected words
+	 * @param level           the level of hint requested
+	 * @return the hint, or null if every group is already solved
+	 */
+	public Hint getHint(int solvedGroupMask, int selectedMask, HintLevel level) {
+		Hint[] plan = getPlan(solvedGroupMask, selectedMask);
+		return (plan == null) ? null : plan[level.ordinal()];
+	}
+
+	/**
+	 * Returns the ranked hint plan for the given board state, indexed by
+	 * HintLevel ordinal from weakest to strongest.
+	 *
+	 * @param solvedGroupMask the 4-bit mask of groups that are already solved
+	 * @param selectedMask    the board mask of the currently selected words
+	 * @return the hint plan, or null if every group is already solved
+	 */
+	public Hint[] getPlan(int solvedGroupMask, int selectedMask) {
+		int remainingMask = getRemainingMask(solvedGroupMask);
+		if (remainingMask == 0) {
+			return null;
+		}
+
+		int key = ((solvedGroupMask & GameBoard.ALL_GROUPS_MASK) << GameBoard.WORD_COUNT)
+				| (selectedMask & remainingMask);
+		Hint[] plan = planCache.get(key);
+		if (plan == null) {
+			plan = computePlan(solvedGroupMask, selectedMask & remainingMask);
+			planCache.put(key, plan);
+		}
+		return plan;
+	}
+
+	/**
+	 * Returns the number of plans currently cached by this engine.
+	 *
+	 * @return the number of cached plans
+	 */
+	public int getCachedPlanCount() {
+		return planCache.size();
+	}
+
+	/**
+	 * Returns the board mask of the words that are not part of a solved group.
+	 *
+	 * @param solvedGroupMask the 4-bit mask of groups that are already solved
+	 * @return the board mask of the remaining words
+	 */
+	private int getRemainingMask(int solvedGroupMask) {
+		int remainingMask = 0;
+		for (int group = 0; group < GameBoard.GROUP_COUNT; group++) {
+			if ((solvedGroupMask & (1 << group)) == 0) {
+				remainingMask |= gameBoard.getAnswerMask(group);
+			}
+		}
+		return remainingMask;
+	}
+
+	/**
+	 * Computes the hint plan for the given board state. The hinted group is the
+	 * unsolved group sharing the most words with the selection (the easiest group
+	 * wins ties, and is also used when nothing is selected).
+	 *
+	 * @param solvedGroupMask the 4-bit mask of groups that are already solved
+	 * @param selectedMask    the board mask of the selected, unsolved words
+	 * @return the hint plan indexed by HintLevel ordinal
+	 */
+	private Hint[] computePlan(int solvedGroupMask, int selectedMask) {
+		int targetGroup = -1;
+		int targetOverlap = -1;
+		for (int group = 0; group < GameBoard.GROUP_COUNT; group++) {
+			int answerMask = gameBoard.getAnswerMask(group);
+			if ((solvedGroupMask & (1 << group)) != 0 || answerMask == 0) {
+				continue;
+			}
+			int overlap = Integer.bitCount(selectedMask & answerMask);
+			if (overlap > targetOverlap) {
+				targetGroup = group;
+				targetOverlap = overlap;
+			}
+		}
+
+		int answerMask = gameBoard.getAnswerMask(targetGroup);
+		int selectedInGroup = selectedMask & answerMask;
+		int unselectedInGroup = answerMask & ~selectedMask;
+
+		// The nudge points at a tile that still needs to be selected, or confirms
+		// a tile of the group if the group is already fully selected.
+		int nudgeMask = Integer.lowestOneBit((unselectedInGroup != 0) ? unselectedInGroup : answerMask);
+
+		// The pair anchors on a selected tile of the group when there is one, and
+		// partners it with the nudge tile.
+		int anchorMask = Integer.lowestOneBit((selectedInGroup != 0) ? selectedInGroup : answerMask & ~nudgeMask);
+		int pairMask = anchorMask | nudgeMask;
+		if (Integer.bitCount(pairMask) < 2) {
+			pairMask |= Integer.lowestOneBit(answerMask & ~pairMask);
+		}
+
+		Hint[] plan = new Hint[HintLevel.values().length];
+		plan[HintLevel.NUDGE.ordinal()] = new Hint(HintLevel.NUDGE, targetGroup, nudgeMask);
+		plan[HintLevel.PARTNER_PAIR.ordinal()] = new Hint(HintLevel.PARTNER_PAIR, targetGroup, pairMask);
+		plan[HintLevel.CATEGORY_LABEL.ordinal()] = new Hint(HintLevel.CATEGORY_LABEL, targetGroup, nudgeMask);
+		plan[HintLevel.FULL_GROUP.ordinal()] = new Hint(HintLevel.FULL_GROUP, targetGroup, answerMask);
+		return plan;
+	}
+}
@@ -0,0 +1,21 @@
+package com.connections.model;
+
+/**
+ * Represents the strength of a hint, from the weakest (a single correct tile)
+ * to the strongest (a whole group).
+ */
+public enum HintLevel {
+	NUDGE, PARTNER_PAIR, CATEGORY_LABEL, FULL_GROUP;
+
+	/**
+	 * Returns the hint level to offer after the specified number of hints have
+	 * already been used, so that each hint is stronger than the previous one.
+	 *
+	 * @param hintsUsed the number of hints already used in the game
+	 * @return the hint level to offer next
+	 */
+	public static HintLevel forHintsUsed(int hintsUsed) {
+		HintLevel[] levels = values();
+		return levels[Math.max(0, Math.min(hintsUsed, levels.length - 1))];
+	}
+}
@@ -0,0 +1,221 @@
+package com.connections.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Measures how ambiguous a puzzle is before it goes live. Every 4-word subset
+ * of the board (C(16,4) = 1820 of them) is enumerated as a bitmask and scored
+ * by the average pairwise relatedness of its words. Non-answer subsets that
+ * score at or above the red herring threshold are counted as red herrings.
+ */
+public class PuzzleAmbiguityAnalyzer {
+	public static final double DEFAULT_RED_HERRING_THRESHOLD = 0.5;
+
+	private static final int PAIRS_PER_GROUP = GameBoard.GROUP_SIZE * (GameBoard.GROUP_SIZE - 1) / 2;
+	private static final int MULTI_CATEGORY_MIN = 3;
+
+	private WordRelatedness wordRelatedness;
+	private double redHerringThreshold;
+
+	/**
+	 * Constructs a PuzzleAmbiguityAnalyzer with the default red herring
+	 * threshold.
+	 *
+	 * @param wordRelatedness the source of word relatedness scores
+	 */
+	public PuzzleAmbiguityAnalyzer(WordRelatedness wordRelatedness) {
+		this(wordRelatedness, DEFAULT_RED_HERRING_THRESHOLD);
+	}
+
+	/**
+	 * Constructs a PuzzleAmbiguityAnalyzer with the specified red herring
+	 * threshold.
+	 *
+	 * @param wordRelatedness     the source of word relatedness scores
+	 * @param redHerringThreshold the minimum score for a non-answer subset to
+	 *                            count as a red herring
+	 */
+	public PuzzleAmbiguityAnalyzer(WordRelatedness wordRelatedness, double redHerringThreshold) {
+		this.wordRelatedness = wordRelatedness;
+		this.redHerringThreshold = redHerringThreshold;
+	}
+
+	/**
+	 * Analyzes a single puzzle.
+	 *
+	 * @param gameData the puzzle to analyze
+	 * @return the difficulty metrics of the puzzle
+	 */
+	public PuzzleDifficultyMetrics analyze(GameData gameData) {
+		GameBoard gameBoard = new GameBoard(gameData);
+
+		// Score every pair once; each subset is then six table lookups.
+		double[][] pairScores = new double[GameBoard.WORD_COUNT][GameBoard.WORD_COUNT];
+		for (int a = 0; a < GameBoard.WORD_COUNT; a++) {
+			for (int b = a + 1; b < GameBoard.WORD_COUNT; b++) {
+				Word wordA = gameBoard.getWord(a);
+				Word wordB = gameBoard.getWord(b);
+				if (wordA != null && wordB != null) {
+					double score = wordRelatedness.getRelatedness(wordA.getText(), wordB.getText());
+					pairScores[a][b] = score;
+					pairScores[b][a] = score;
+				}
+			}
+		}
+
+		int redHerringCount = 0;
+		int multiCategoryRedHerringCount = 0;
+		double strongestDecoyScore = 0;
+		double weakestAnswerScore = Double.MAX_VALUE;
+		int[] indices = new int[GameBoard.GROUP_SIZE];
+
+		// Walk every 4-bit subset of the 16-bit board in increasing order.
+		int subset = (1 << GameBoard.GROUP_SIZE) - 1;
+		while (subset <= GameBoard.ALL_WORDS_MASK) {
+			int bits = subset;
+			for (int i = 0; i < GameBoard.GROUP_SIZE; i++) {
+				indices[i] = Integer.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+			}
+
+			double score = 0;
+			for (int i = 0; i < GameBoard.GROUP_SIZE; i++) {
+				for (int j = i + 1; j < GameBoard.GROUP_SIZE; j++) {
+					score += pairScores[indices[i]][indices[j]];
+				}
+			}
+			score /= PAIRS_PER_GROUP;
+
+			if (gameBoard.getMatchingGroup(subset) >= 0) {
+				weakestAnswerScore = Math.min(weakestAnswerScore, score);
+			} else {
+				strongestDecoyScore = Math.max(strongestDecoyScore, score);
+				if (score >= redHerringThreshold) {
+					redHerringCount++;
+					if (countCategories(gameBoard, subset) >= MULTI_CATEGORY_MIN) {
+						multiCategoryRedHerringCount++;
+					}
+				}
+			}
+
+			subset = nextSubsetOfSameSize(subset);
+		}
+
+		if (weakestAnswerScore == Double.MAX_VALUE) {
+			weakestAnswerScore = 0;
+		}
+
+		return new PuzzleDifficultyMetrics(redHerringCount, multiCategoryRedHerringCount, strongestDecoyScore,
+				weakestAnswerScore);
+	}
+
+	/**
+	 * Analyzes every puzzle of the catalog in parallel on the common fork/join
+	 * pool.
+	 *
+	 * @param catalog the puzzles to analyze
+	 * @return the difficulty metrics of each puzzle, by puzzle number
+	 */
+	public Map<Integer, PuzzleDifficultyMetrics> analyzeCatalog(List<GameData> catalog) {
+		return analyzeCatalog(catalog, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Analyzes every puzzle of the catalog in parallel on the specified fork/join
+	 * pool.
+	 *
+	 * @param catalog the puzzles to analyze
+	 * @param pool    the fork/join pool to run the analysis on
+	 * @return the difficulty metrics of each puzzle, by puzzle number
+	 */
+	public Map<Integer, PuzzleDifficultyMetrics> analyzeCatalog(List<GameData> catalog, ForkJoinPool pool) {
+		PuzzleDifficultyMetrics[] results = new PuzzleDifficultyMetrics[catalog.size()];
+		pool.invoke(new AnalyzeRangeTask(catalog, results, 0, catalog.size()));
+
+		Map<Integer, PuzzleDifficultyMetrics> metricsByPuzzleNumber = new HashMap<>();
+		for (int i = 0; i < results.length; i++) {
+			metricsByPuzzleNumber.put(catalog.get(i).getPuzzleNumber(), results[i]);
+		}
+		return metricsByPuzzleNumber;
+	}
+
+	/**
+	 * Returns the number of categories the words of the subset belong to.
+	 *
+	 * @param gameBoard the game board of the puzzle
+	 * @param subset    the board mask of the subset
+	 * @return the number of categories touched by the subset
+	 */
+	private static int countCategories(GameBoard gameBoard, int subset) {
+		int count = 0;
+		for (int group = 0; group < GameBoard.GROUP_COUNT; group++) {
+			if ((subset & gameBoard.getAnswerMask(group)) != 0) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the next larger integer with the same number of set bits (Gosper's
+	 * hack).
+	 *
+	 * @param subset the current subset
+	 * @return the next subset of the same size
+	 */
+	private static int nextSubsetOfSameSize(int subset) {
+		int lowest = subset & -subset;
+		int ripple = subset + lowest;
+		return ripple | (((subset ^ ripple) >>> 2) / lowest);
+	}
+
+	/**
+	 * A fork/join task that analyzes a range of the catalog, splitting it in half
+	 * until each task handles a single puzzle.
+	 */
+	private class AnalyzeRangeTask extends RecursiveTask<Void> {
+		private static final long serialVersionUID = 1L;
+
+		private List<GameData> catalog;
+		private PuzzleDifficultyMetrics[] results;
+		private int start;
+		private int end;
+
+		/**
+		 * Constructs an AnalyzeRangeTask over the specified range of the catalog.
+		 *
+		 * @param catalog the puzzles to analyze
+		 * @param results the array to store each puzzle's metrics in
+		 * @param start   the first index of the range (inclusive)
+		 * @param end     the last index of the range (exclusive)
+		 */
+		AnalyzeRangeTask(List<GameData> catalog, PuzzleDifficultyMetrics[] results, int start, int end) {
+			this.catalog = catalog;
+			this.results = results;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected Void compute() {
+			if (end - start <= 1) {
+				for (int i = start; i < end; i++) {
+					results[i] = analyze(catalog.get(i));
+				}
+				return null;
+			}
+
+			int middle = (start + end) >>> 1;
+			AnalyzeRangeTask left = new AnalyzeRangeTask(catalog, results, start, middle);
+			AnalyzeRangeTask right = new AnalyzeRangeTask(catalog, results, middle, end);
+			left.fork();
+			right.compute();
+			left.join();
+			return null;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.connections.model;
+
+import org.bson.Document;
+
+import com.connections.web.DatabaseFormattable;
+
+/**
+ * Represents the difficulty metrics of a puzzle as computed by the
+ * PuzzleAmbiguityAnalyzer. Stored alongside the puzzle in the games catalog.
+ */
+public class PuzzleDifficultyMetrics implements DatabaseFormattable {
+	public static final String KEY_RED_HERRING_COUNT = "red_herring_count";
+	public static final String KEY_MULTI_CATEGORY_RED_HERRING_COUNT = "multi_category_red_herring_count";
+	public static final String KEY_STRONGEST_DECOY_SCORE = "strongest_decoy_score";
+	public static final String KEY_WEAKEST_ANSWER_SCORE = "weakest_answer_score";
+	public static final String KEY_AMBIGUITY_SCORE = "ambiguity_score";
+
+	private int redHerringCount;
+	private int multiCategoryRedHerringCount;
+	private double strongestDecoyScore;
+	private double weakestAnswerScore;
+
+	/**
+	 * Constructs a PuzzleDifficultyMetrics from a MongoDB Document.
+	 *
+	 * @param doc the MongoDB Document containing the difficulty metrics
+	 */
+	public PuzzleDifficultyMetrics(Document doc) {
+		loadFromDatabaseFormat(doc);
+	}
+
+	/**
+	 * Constructs a PuzzleDifficultyMetrics with the specified values.
+	 *
+	 * @param redHerringCount              the number of non-answer groupings that
+	 *                                     scored as red herrings
+	 * @param multiCategoryRedHerringCount the number of red herrings spanning
+	 *                                     three or more categories
+	 * @param strongestDecoyScore          the highest score of any non-answer
+	 *                                     grouping
+	 * @param weakestAnswerScore           the lowest score of any answer grouping
+	 */
+	public PuzzleDifficultyMetrics(int redHerringCount, int multiCategoryRedHerringCount, double strongestDecoyScore,
+			double weakestAnswerScore) {
+		this.redHerringCount = redHerringCount;
+		this.multiCategoryRedHerringCount = multiCategoryRedHerringCount;
+		this.strongestDecoyScore = strongestDecoyScore;
+		this.weakestAnswerScore = weakestAnswerScore;
+	}
+
+	/**
+	 * Returns the number of non-answer groupings that scored as red herrings.
+	 *
+	 * @return the red herring count
+	 */
+	public int getRedHerringCount() {
+		return redHerringCount;
+	}
+
+	/**
+	 * Returns the number of red herrings spanning three or more categories.
+	 *
+	 * @return the multi-category red herring count
+	 */
+	public int getMultiCategoryRedHerringCount() {
+		return multiCategoryRedHerringCount;
+	}
+
+	/**
+	 * Returns the highest score of any non-answer grouping.
+	 *
+	 * @return the strongest decoy score
+	 */
+	public double getStrongestDecoyScore() {
+		return strongestDecoyScore;
+	}
+
+	/**
+	 * Returns the lowest score of any answer grouping.
+	 *
+	 * @return the weakest answer score
+	 */
+	public double getWeakestAnswerScore() {
+		return weakestAnswerScore;
+	}
+
+	/**
+	 * Returns how much the strongest decoy outscores the weakest answer. A
+	 * positive value means some wrong grouping looks more convincing than a real
+	 * one.
+	 *
+	 * @return the ambiguity score
+	 */
+	public double getAmbiguityScore() {
+		return strongestDecoyScore - weakestAnswerScore;
+	}
+
+	/**
+	 * Converts the PuzzleDifficultyMetrics to a MongoDB Document format.
+	 *
+	 * @return the MongoDB Document representation of the difficulty metrics
+	 */
+	@Override
+	public Document getAsDatabaseFormat() {
+		Document doc = new Document();
+		doc.append(KEY_RED_HERRING_COUNT, redHerringCount);
+		doc.append(KEY_MULTI_CATEGORY_RED_HERRING_COUNT, multiCategoryRedHerringCount);
+		doc.append(KEY_STRONGEST_DECOY_SCORE, strongestDecoyScore);
+		doc.append(KEY_WEAKEST_ANSWER_SCORE, weakestAnswerScore);
+		doc.append(KEY_AMBIGUITY_SCORE, getAmbiguityScore());
+		return doc;
+	}
+
+	/**
+	 * Loads the PuzzleDifficultyMetrics from a MongoDB Document.
+	 *
+	 * @param doc the MongoDB Document containing the difficulty metrics
+	 */
+	@Override
+	public void loadFromDatabaseFormat(Document doc) {
+		redHerringCount = doc.getInteger(KEY_RED_HERRING_COUNT, 0);
+		multiCategoryRedHerringCount = doc.getInteger(KEY_MULTI_CATEGORY_RED_HERRING_COUNT, 0);
+		strongestDecoyScore = helperGetDouble(doc, KEY_STRONGEST_DECOY_SCORE);
+		weakestAnswerScore = helperGetDouble(doc, KEY_WEAKEST_ANSWER_SCORE);
+	}
+
+	/**
+	 * Reads a numeric value from a MongoDB Document as a double.
+	 *
+	 * @param doc the MongoDB Document to read from
+	 * @param key the key of the value
+	 * @return the value as a double, or 0 if it is missing
+	 */
+	private static double helperGetDouble(Document doc, String key) {
+		Object value = doc.get(key);
+		return (value instanceof Number) ? ((Number) value).doubleValue() : 0;
+	}
+}
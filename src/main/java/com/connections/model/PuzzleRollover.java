@@ -0,0 +1,139 @@
+package com.connections.model;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Advances the daily puzzle when the day rolls over. The date of the last
+ * rollover and the current puzzle number are read together, the advanced
+ * state is computed in memory, and it is written back with a single
+ * compare-and-set keyed on the state that was read. When several servers or
+ * threads roll over at once, exactly one compare-and-set succeeds and the
+ * others re-read the advanced state instead of advancing it again.
+ */
+public class PuzzleRollover {
+	public static final int MAX_ATTEMPTS = 8;
+
+	/**
+	 * Represents the stored rollover state: the date of the last rollover and
+	 * the puzzle number it produced.
+	 */
+	public static class State {
+		private final String lastPuzzleDate;
+		private final int puzzleNumber;
+
+		/**
+		 * Constructs a State with the specified date and puzzle number.
+		 *
+		 * @param lastPuzzleDate the date of the last rollover, in ISO zoned format
+		 * @param puzzleNumber   the current puzzle number, or -1 if there is none
+		 */
+		public State(String lastPuzzleDate, int puzzleNumber) {
+			this.lastPuzzleDate = lastPuzzleDate;
+			this.puzzleNumber = puzzleNumber;
+		}
+
+		/**
+		 * Returns the date of the last rollover, exactly as it is stored.
+		 *
+		 * @return the last puzzle date
+		 */
+		public String getLastPuzzleDate() {
+			return lastPuzzleDate;
+		}
+
+		/**
+		 * Returns the current puzzle number.
+		 *
+		 * @return the puzzle number, or -1 if there is none
+		 */
+		public int getPuzzleNumber() {
+			return puzzleNumber;
+		}
+	}
+
+	/**
+	 * Represents where the rollover state and the puzzle catalog are stored.
+	 */
+	public interface Store {
+		/**
+		 * Reads the current rollover state.
+		 *
+		 * @return the state, or null if the store has not been initialized
+		 */
+		State read();
+
+		/**
+		 * Replaces the rollover state only if it still equals the expected state.
+		 *
+		 * @param expected the state that was read
+		 * @param updated  the state to write
+		 * @return true if the state was replaced, false if it had changed
+		 */
+		boolean compareAndSet(State expected, State updated);
+
+		/**
+		 * Returns the puzzle numbers of the catalog, in ascending order.
+		 *
+		 * @return the sorted puzzle numbers
+		 */
+		int[] getCatalog();
+	}
+
+	private PuzzleRollover() {
+	}
+
+	/**
+	 * Advances the daily puzzle by one puzzle for every day that has started
+	 * since the last rollover, moving the anchor of the PuzzleSchedule to today
+	 * without changing the puzzle it derives for any date. Calling it again on the
+	 * same day, from any server or thread, has no effect.
+	 *
+	 * @param store       the store holding the rollover state
+	 * @param currentDate the current time
+	 * @return the puzzle number after the rollover, or -1 if the store has not
+	 *         been initialized
+	 */
+	public static int rolloverIfNeeded(Store store, ZonedDateTime currentDate) {
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			State expected = store.read();
+			if (expected == null) {
+				return -1;
+			}
+
+			long daysBetween = getDaysBetween(expected.getLastPuzzleDate(), currentDate);
+			if (daysBetween <= 0) {
+				return expected.getPuzzleNumber();
+			}
+
+			int puzzleNumber = PuzzleSchedule.advance(store.getCatalog(), expected.getPuzzleNumber(), daysBetween);
+			State updated = new State(currentDate.format(DateTimeFormatter.ISO_ZONED_DATE_TIME), puzzleNumber);
+			if (store.compareAndSet(expected, updated)) {
+				return puzzleNumber;
+			}
+		}
+		// Another server kept winning, so its rollover is the one that counts.
+		State latest = store.read();
+		return (latest == null) ? -1 : latest.getPuzzleNumber();
+	}
+
+	/**
+	 * Returns the number of day boundaries between the last rollover and the
+	 * specified time.
+	 *
+	 * @param lastPuzzleDate the date of the last rollover, in ISO zoned format,
+	 *                       or null if there was none
+	 * @param currentDate    the current time
+	 * @return the number of days that have started since the last rollover
+	 */
+	public static long getDaysBetween(String lastPuzzleDate, ZonedDateTime currentDate) {
+		if (lastPuzzleDate == null) {
+			return 1;
+		}
+		ZonedDateTime prevDate = ZonedDateTime.parse(lastPuzzleDate, DateTimeFormatter.ISO_ZONED_DATE_TIME);
+		ZonedDateTime prevDateRoundedToDay = prevDate.toLocalDate().atStartOfDay(prevDate.getZone());
+		ZonedDateTime currentDateRoundedToDay = currentDate.toLocalDate().atStartOfDay(currentDate.getZone());
+		return ChronoUnit.DAYS.between(prevDateRoundedToDay, currentDateRoundedToDay);
+	}
+}
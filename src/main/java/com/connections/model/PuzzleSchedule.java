@@ -0,0 +1,134 @@
+package com.connections.model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Derives the daily puzzle of any date from an anchor: a date and the puzzle
+ * that was played on it. Every day after the anchor moves to the next puzzle
+ * of the catalog, wrapping around to the first one, so the puzzle of a date is
+ * computed directly from (epochDay - anchorDay) mod catalogSize instead of
+ * being advanced one day at a time. Explicit overrides replace the puzzle of
+ * single dates without shifting the rest of the schedule.
+ */
+public class PuzzleSchedule {
+	private long anchorEpochDay;
+	private int anchorPuzzleNumber;
+	private int anchorIndex;
+	private int[] catalog;
+	private Map<Long, Integer> overrides;
+
+	/**
+	 * Constructs a PuzzleSchedule from an anchor, a catalog and overrides.
+	 *
+	 * @param anchorDate         the date of the anchor
+	 * @param anchorPuzzleNumber the puzzle number of the anchor date, or -1 if
+	 *                           there was none
+	 * @param catalog            the puzzle numbers of the catalog
+	 * @param overrides          the puzzle numbers that replace the schedule on
+	 *                           specific dates, or null if there are none
+	 */
+	public PuzzleSchedule(LocalDate anchorDate, int anchorPuzzleNumber, int[] catalog,
+			Map<LocalDate, Integer> overrides) {
+		this.anchorEpochDay = anchorDate.toEpochDay();
+		this.anchorPuzzleNumber = anchorPuzzleNumber;
+		this.catalog = catalog.clone();
+		Arrays.sort(this.catalog);
+		this.anchorIndex = getCatalogIndex(this.catalog, anchorPuzzleNumber);
+
+		this.overrides = new HashMap<>();
+		if (overrides != null) {
+			for (Map.Entry<LocalDate, Integer> entry : overrides.entrySet()) {
+				this.overrides.put(entry.getKey().toEpochDay(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Returns the puzzle number of the specified date, taking overrides into
+	 * account.
+	 *
+	 * @param date the date
+	 * @return the puzzle number, or -1 if there is none
+	 */
+	public int getPuzzleNumber(LocalDate date) {
+		Integer override = overrides.get(date.toEpochDay());
+		if (override != null) {
+			return override;
+		}
+		return getScheduledPuzzleNumber(date);
+	}
+
+	/**
+	 * Returns the puzzle number of the specified date without overrides.
+	 *
+	 * @param date the date
+	 * @return the puzzle number, or -1 if there is none
+	 */
+	public int getScheduledPuzzleNumber(LocalDate date) {
+		return advance(catalog, anchorIndex, anchorPuzzleNumber, date.toEpochDay() - anchorEpochDay);
+	}
+
+	/**
+	 * Checks if the puzzle of the specified date is overridden.
+	 *
+	 * @param date the date
+	 * @return true if the date has an override, false otherwise
+	 */
+	public boolean hasOverride(LocalDate date) {
+		return overrides.containsKey(date.toEpochDay());
+	}
+
+	/**
+	 * Returns the puzzle number reached by advancing the specified puzzle by the
+	 * specified number of days.
+	 *
+	 * @param catalog      the sorted puzzle numbers of the catalog
+	 * @param puzzleNumber the starting puzzle number, or -1 if there is none
+	 * @param days         the number of days to advance, which may be negative
+	 * @return the advanced puzzle number, or -1 if there is none
+	 */
+	public static int advance(int[] catalog, int puzzleNumber, long days) {
+		return advance(catalog, getCatalogIndex(catalog, puzzleNumber), puzzleNumber, days);
+	}
+
+	/**
+	 * Returns the puzzle number reached by advancing the puzzle at the specified
+	 * catalog index by the specified number of days.
+	 *
+	 * @param catalog      the sorted puzzle numbers of the catalog
+	 * @param index        the catalog index of the starting puzzle
+	 * @param puzzleNumber the starting puzzle number
+	 * @param days         the number of days to advance
+	 * @return the advanced puzzle number, or -1 if there is none
+	 */
+	private static int advance(int[] catalog, int index, int puzzleNumber, long days) {
+		if (days == 0) {
+			return puzzleNumber;
+		}
+		if (catalog.length == 0) {
+			return -1;
+		}
+		return catalog[(int) Math.floorMod(index + days, (long) catalog.length)];
+	}
+
+	/**
+	 * Returns the catalog index of the specified puzzle. A puzzle that is not in
+	 * the catalog gets the index of the puzzle before it, so that the next day
+	 * moves to the puzzle after it; no puzzle at all comes right before the first
+	 * one.
+	 *
+	 * @param catalog      the sorted puzzle numbers of the catalog
+	 * @param puzzleNumber the puzzle number, or -1 if there is none
+	 * @return the catalog index
+	 */
+	private static int getCatalogIndex(int[] catalog, int puzzleNumber) {
+		if (puzzleNumber == -1) {
+			return -1;
+		}
+		int index = Arrays.binarySearch(catalog, puzzleNumber);
+		return (index >= 0) ? index : -index - 2;
+	}
+}
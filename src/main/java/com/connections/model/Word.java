@@ -84,7 +84,7 @@ public class Word implements DatabaseFormattable {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(text, color);
+		return 31 * (31 + Objects.hashCode(text)) + Objects.hashCode(color);
 	}
 
 	/**
@@ -0,0 +1,19 @@
+package com.connections.model;
+
+/**
+ * A source of relatedness scores between two puzzle words, used to find
+ * groupings that look valid but are not answers.
+ */
+public interface WordRelatedness {
+
+	/**
+	 * Returns how strongly two words are related, from 0 (unrelated) to 1
+	 * (strongly related). Implementations must be thread-safe, since puzzles are
+	 * analyzed in parallel.
+	 *
+	 * @param wordA the first word
+	 * @param wordB the second word
+	 * @return the relatedness score between the two words
+	 */
+	double getRelatedness(String wordA, String wordB);
+}
@@ -0,0 +1,96 @@
+package com.connections.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A WordRelatedness source backed by a table of scored word pairs, such as one
+ * exported from a word embedding model. Each line of the table holds two words
+ * and their score, separated by tabs; blank lines and lines starting with '#'
+ * are skipped. Words are compared without case, the order of a pair does not
+ * matter and pairs missing from the table score 0.
+ */
+public class WordRelatednessTable implements WordRelatedness {
+	private static final String SEPARATOR = "\t";
+	private static final String COMMENT_PREFIX = "#";
+
+	private Map<String, Double> scores;
+
+	/**
+	 * Constructs a WordRelatednessTable from the lines of a table.
+	 *
+	 * @param lines the lines of the table
+	 * @throws IllegalArgumentException if a line is not two words and a score
+	 */
+	public WordRelatednessTable(List<String> lines) {
+		scores = new HashMap<>();
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i).trim();
+			if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+				continue;
+			}
+
+			String[] fields = line.split(SEPARATOR);
+			if (fields.length != 3) {
+				throw new IllegalArgumentException("line " + (i + 1) + " is not two words and a score: " + line);
+			}
+			try {
+				scores.put(getPairKey(fields[0], fields[1]), Double.parseDouble(fields[2].trim()));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("line " + (i + 1) + " has an invalid score: " + line);
+			}
+		}
+	}
+
+	/**
+	 * Loads a WordRelatednessTable from the specified file.
+	 *
+	 * @param path the path of the table file
+	 * @return the table
+	 * @throws IOException if the file cannot be read
+	 */
+	public static WordRelatednessTable load(String path) throws IOException {
+		return new WordRelatednessTable(Files.readAllLines(Paths.get(path)));
+	}
+
+	/**
+	 * Returns the number of word pairs in the table.
+	 *
+	 * @return the pair count
+	 */
+	public int getPairCount() {
+		return scores.size();
+	}
+
+	/**
+	 * Returns the score of the two words in the table. The table is not modified
+	 * after it is built, so it can be read by several threads at once.
+	 *
+	 * @param wordA the first word
+	 * @param wordB the second word
+	 * @return the score of the pair, or 0 if the pair is not in the table
+	 */
+	@Override
+	public double getRelatedness(String wordA, String wordB) {
+		return scores.getOrDefault(getPairKey(wordA, wordB), 0.0);
+	}
+
+	/**
+	 * Returns the key of a word pair, which is the same for either order of the
+	 * words.
+	 *
+	 * @param wordA the first word
+	 * @param wordB the second word
+	 * @return the key of the pair
+	 */
+	private static String getPairKey(String wordA, String wordB) {
+		String first = wordA.trim().toLowerCase(Locale.ROOT);
+		String second = wordB.trim().toLowerCase(Locale.ROOT);
+		return (first.compareTo(second) <= 0) ? first + SEPARATOR + second : second + SEPARATOR + first;
+	}
+}
@@ -0,0 +1,28 @@
+package com.connections.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * The BotStrategy interface defines how a simulated player picks its next
+ * guess. Implementations must be stateless (or thread-safe), since a single
+ * strategy instance plays many games in parallel.
+ */
+public interface BotStrategy {
+
+	/**
+	 * Returns the name of the strategy, used in simulation reports.
+	 *
+	 * @return the name of the strategy
+	 */
+	String getName();
+
+	/**
+	 * Chooses the next guess for the specified game. The strategy may use hints
+	 * through the game before choosing.
+	 *
+	 * @param game   the game being played
+	 * @param random the random source for this game
+	 * @return the board mask of the four words to submit
+	 */
+	int chooseGuess(SimulatedGame game, SplittableRandom random);
+}
@@ -0,0 +1,175 @@
+package com.connections.simulation;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.bson.Document;
+
+import com.connections.model.GameBoard;
+import com.connections.model.GameData;
+import com.connections.model.HintEngine;
+import com.connections.web.WebUtils;
+
+/**
+ * The GameSimulator class plays large numbers of headless games with a bot
+ * strategy across a puzzle catalog, in parallel, and reports throughput,
+ * allocation per game and per-puzzle outcome histograms. The games run on the
+ * same GameBoardState and HintEngine as the game grid, so the simulation
+ * exercises the real guess and hint logic without JavaFX.
+ */
+public class GameSimulator {
+	private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	private List<GameData> catalog;
+	private HintEngine[] hintEngines;
+	private int[] puzzleNumbers;
+	private BotStrategy strategy;
+
+	/**
+	 * Constructs a new GameSimulator for the specified catalog and strategy.
+	 *
+	 * @param catalog  the puzzles to play, in order
+	 * @param strategy the bot strategy that plays every game
+	 */
+	public GameSimulator(List<GameData> catalog, BotStrategy strategy) {
+		this.catalog = catalog;
+		this.strategy = strategy;
+		this.hintEngines = new HintEngine[catalog.size()];
+		this.puzzleNumbers = new int[catalog.size()];
+		for (int i = 0; i < catalog.size(); i++) {
+			hintEngines[i] = new HintEngine(new GameBoard(catalog.get(i)));
+			puzzleNumbers[i] = catalog.get(i).getPuzzleNumber();
+		}
+	}
+
+	/**
+	 * Returns the puzzles played by this simulator.
+	 *
+	 * @return the puzzle catalog
+	 */
+	public List<GameData> getCatalog() {
+		return catalog;
+	}
+
+	/**
+	 * Plays the specified number of games, cycling through the catalog, and
+	 * reports the outcome. Game i is played on puzzle i modulo the catalog size
+	 * with a random source derived from the seed and i, so runs are repeatable
+	 * regardless of the number of threads.
+	 *
+	 * @param gameCount the number of games to play
+	 * @param seed      the seed of the run
+	 * @return the report of the run
+	 */
+	public SimulationReport run(int gameCount, long seed) {
+		long startNanos = System.nanoTime();
+		SimulationReport report = IntStream.range(0, gameCount).parallel().collect(
+				() -> new SimulationReport(puzzleNumbers), (threadReport, i) -> playGame(threadReport, i, seed),
+				SimulationReport::merge);
+		report.setElapsedNanos(System.nanoTime() - startNanos);
+		return report;
+	}
+
+	/**
+	 * Plays a single game to completion and records it in the report.
+	 *
+	 * @param report    the report of the current thread
+	 * @param gameIndex the index of the game in the run
+	 * @param seed      the seed of the run
+	 */
+	private void playGame(SimulationReport report, int gameIndex, long seed) {
+		long allocatedBefore = getCurrentThreadAllocatedBytes();
+
+		int puzzleIndex = gameIndex % hintEngines.length;
+		SplittableRandom random = new SplittableRandom(seed + gameIndex * SEED_INCREMENT);
+		SimulatedGame game = new SimulatedGame(hintEngines[puzzleIndex]);
+		while (!game.isFinished()) {
+			game.submit(strategy.chooseGuess(game, random));
+		}
+		report.record(puzzleIndex, game);
+
+		long allocatedAfter = getCurrentThreadAllocatedBytes();
+		if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+			report.addAllocatedBytes(allocatedAfter - allocatedBefore);
+		}
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the current thread, when the JVM
+	 * supports measuring it.
+	 *
+	 * @return the allocated bytes, or -1 if not supported
+	 */
+	private static long getCurrentThreadAllocatedBytes() {
+		java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		if (threadBean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+			if (sunThreadBean.isThreadAllocatedMemorySupported() && sunThreadBean.isThreadAllocatedMemoryEnabled()) {
+				return sunThreadBean.getCurrentThreadAllocatedBytes();
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Loads the puzzle catalog from the games JSON file used to seed the
+	 * database.
+	 *
+	 * @param path the path of the games JSON file
+	 * @return the puzzles in the file
+	 * @throws IOException if the file cannot be read
+	 */
+	public static List<GameData> loadCatalog(String path) throws IOException {
+		List<GameData> catalog = new ArrayList<>();
+		Document gamesDocument = Document.parse(new String(Files.readAllBytes(Paths.get(path))));
+		List<Document> gameDocumentList = gamesDocument.getList("games", Document.class);
+		if (gameDocumentList != null) {
+			for (Document gameDoc : gameDocumentList) {
+				catalog.add(new GameData(gameDoc));
+			}
+		}
+		return catalog;
+	}
+
+	/**
+	 * Returns the bot strategy with the specified name.
+	 *
+	 * @param name the strategy name
+	 * @return the strategy
+	 */
+	public static BotStrategy getStrategy(String name) {
+		switch (name) {
+		case "random":
+			return new RandomBotStrategy();
+		case "perfect":
+			return new PerfectBotStrategy();
+		default:
+			return new GreedyHintBotStrategy();
+		}
+	}
+
+	/**
+	 * Runs a simulation from the command line. The optional arguments are the
+	 * strategy name (random, greedy or perfect), the number of games and the
+	 * seed.
+	 *
+	 * @param args the command line arguments
+	 * @throws IOException if the games file cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+		BotStrategy strategy = getStrategy(args.length > 0 ? args[0] : "greedy");
+		int gameCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+		GameSimulator simulator = new GameSimulator(loadCatalog(WebUtils.GAMES_FILE_PATH), strategy);
+		// warm up the hint plan caches and the JIT before measuring
+		simulator.run(Math.min(gameCount, 10_000), seed);
+		simulator.run(gameCount, seed).print(System.out, strategy.getName());
+	}
+}
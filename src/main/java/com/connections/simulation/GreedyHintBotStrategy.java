@@ -0,0 +1,36 @@
+package com.connections.simulation;
+
+import java.util.SplittableRandom;
+
+import com.connections.model.GameBoard;
+import com.connections.model.Hint;
+
+/**
+ * A bot that uses a hint before every guess while it has any left, builds its
+ * guess around the hinted words and fills the rest randomly. Once the hints
+ * are gone it guesses randomly.
+ */
+public class GreedyHintBotStrategy implements BotStrategy {
+	private static final int MAX_RETRIES = 32;
+
+	@Override
+	public String getName() {
+		return "greedy";
+	}
+
+	@Override
+	public int chooseGuess(SimulatedGame game, SplittableRandom random) {
+		int remainingMask = game.getRemainingMask();
+
+		game.setSelection(0);
+		Hint hint = game.useHint();
+		int hintMask = (hint == null) ? 0 : hint.getWordMask() & remainingMask;
+		int fillSize = GameBoard.GROUP_SIZE - Integer.bitCount(hintMask);
+
+		int guess = hintMask | SimulatedGame.randomSubset(remainingMask & ~hintMask, fillSize, random);
+		for (int retry = 0; retry < MAX_RETRIES && game.isGuessed(guess); retry++) {
+			guess = hintMask | SimulatedGame.randomSubset(remainingMask & ~hintMask, fillSize, random);
+		}
+		return guess;
+	}
+}
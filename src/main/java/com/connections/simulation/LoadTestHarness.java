@@ -0,0 +1,183 @@
+package com.connections.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.bson.Document;
+
+import com.connections.web.WebContext;
+import com.connections.web.WebUserAccount;
+import com.connections.web.WebUtils;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * The LoadTestHarness class estimates how many concurrent players one node can
+ * carry. It runs thousands of VirtualUsers on a fixed pool of threads against
+ * a MongoDB server, each thread standing in for one connected player at a
+ * time, and reports the throughput and latency percentiles of every operation
+ * and the database round trips of a whole visit.
+ *
+ * The harness uses its own database, which it drops and seeds from the games
+ * file on every run, so it must be run from the project directory and never
+ * touches the site's data.
+ */
+public class LoadTestHarness {
+	public static final String DATABASE_NAME = "connections_loadtest";
+	public static final int WARMUP_USER_COUNT = 200;
+	private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	// The driver notifies command listeners on the thread that runs the command,
+	// so a thread-local count attributes every round trip to its virtual user.
+	private static final ThreadLocal<long[]> ROUND_TRIPS = ThreadLocal.withInitial(() -> new long[1]);
+
+	private MongoDatabase mongoDatabase;
+	private BotStrategy strategy;
+	private int threadCount;
+
+	/**
+	 * Constructs a new LoadTestHarness.
+	 *
+	 * @param mongoDatabase the database to run against, seeded with setup()
+	 * @param strategy      the strategy the virtual users play with
+	 * @param threadCount   the number of virtual users that run at once
+	 */
+	public LoadTestHarness(MongoDatabase mongoDatabase, BotStrategy strategy, int threadCount) {
+		this.mongoDatabase = mongoDatabase;
+		this.strategy = strategy;
+		this.threadCount = threadCount;
+	}
+
+	/**
+	 * Resets the database to the games file and registers the specified number
+	 * of accounts with random achievement counts, so that the leaderboard has
+	 * users to rank.
+	 *
+	 * @param accountCount the number of accounts to register
+	 * @param seed         the seed of the achievement counts
+	 */
+	public void setup(int accountCount, long seed) {
+		WebContext webContext = new WebContext(mongoDatabase, null, null);
+		WebUtils.initDatabase(webContext);
+
+		SplittableRandom random = new SplittableRandom(seed);
+		for (int i = 0; i < accountCount; i++) {
+			WebUserAccount account = new WebUserAccount(webContext, "loadtest" + i, "loadtest" + i + "@example.com",
+					"loadtest", "");
+			Document doc = account.getAsDatabaseFormat();
+			doc.put("regular_games_completed", random.nextInt(100));
+			doc.put("time_trials_completed", random.nextInt(100));
+			doc.put("no_mistakes_completed", random.nextInt(100));
+			doc.put("time_trials_under_time_completed", random.nextInt(100));
+			account.loadFromDatabaseFormat(doc);
+			account.writeToDatabase();
+		}
+	}
+
+	/**
+	 * Runs the specified number of virtual users and reports the outcome. Each
+	 * user gets its own WebContext, like a browser tab, so its session cookie is
+	 * its own.
+	 *
+	 * @param userCount the number of virtual users to run
+	 * @param seed      the seed of the run
+	 * @return the report of the run
+	 */
+	public LoadTestReport run(int userCount, long seed) {
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		List<Future<LoadTestReport>> futures = new ArrayList<>();
+		long startNanos = System.nanoTime();
+		for (int i = 0; i < userCount; i++) {
+			long userSeed = seed + i * SEED_INCREMENT;
+			String instanceID = "loadtest-" + seed + "-" + i;
+			futures.add(executor.submit(() -> {
+				LoadTestReport userReport = new LoadTestReport();
+				WebContext webContext = new WebContext(mongoDatabase, null, null);
+				new VirtualUser(webContext, strategy, new SplittableRandom(userSeed), LoadTestHarness::getRoundTrips,
+						instanceID).play(userReport);
+				return userReport;
+			}));
+		}
+
+		LoadTestReport report = new LoadTestReport();
+		try {
+			for (Future<LoadTestReport> future : futures) {
+				report.merge(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			System.out.println("CONNECTIONS (WARNING): the load test could not finish: " + e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		report.setElapsedNanos(System.nanoTime() - startNanos);
+		return report;
+	}
+
+	/**
+	 * Returns the number of database commands sent so far by the current thread.
+	 *
+	 * @return the round trip count of the current thread
+	 */
+	private static long getRoundTrips() {
+		return ROUND_TRIPS.get()[0];
+	}
+
+	/**
+	 * Creates a client for the specified server that counts the commands sent by
+	 * each thread, with a connection pool large enough for every thread.
+	 *
+	 * @param mongoURL    the URL of the server
+	 * @param threadCount the number of threads that use the client at once
+	 * @return the client
+	 */
+	private static MongoClient createClient(String mongoURL, int threadCount) {
+		CommandListener roundTripCounter = new CommandListener() {
+			@Override
+			public void commandStarted(CommandStartedEvent event) {
+				ROUND_TRIPS.get()[0]++;
+			}
+		};
+		MongoClientSettings settings = MongoClientSettings.builder()
+				.applyConnectionString(new ConnectionString(mongoURL)).addCommandListener(roundTripCounter)
+				.applyToConnectionPoolSettings(pool -> pool.maxSize(Math.max(threadCount, 1))).build();
+		return MongoClients.create(settings);
+	}
+
+	/**
+	 * Runs a load test from the command line. The optional arguments are the
+	 * number of virtual users, the number of concurrent users, the MongoDB URL,
+	 * the number of registered accounts and the strategy name (random, greedy or
+	 * perfect).
+	 *
+	 * @param args the command line arguments
+	 */
+	public static void main(String[] args) {
+		int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		int threadCount = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+		String mongoURL = args.length > 2 ? args[2] : "mongodb://localhost:27017/";
+		int accountCount = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+		BotStrategy strategy = GameSimulator.getStrategy(args.length > 4 ? args[4] : "greedy");
+		long seed = 42;
+
+		try (MongoClient mongoClient = createClient(mongoURL, threadCount)) {
+			LoadTestHarness harness = new LoadTestHarness(mongoClient.getDatabase(DATABASE_NAME), strategy,
+					threadCount);
+			harness.setup(accountCount, seed);
+			// warm up the connection pool, the hint plan caches and the JIT before measuring
+			harness.run(Math.min(userCount, WARMUP_USER_COUNT), seed - 1);
+			harness.run(userCount, seed).print(System.out, threadCount);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package com.connections.simulation;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * The LoadTestReport class accumulates the measurements of a load test: the
+ * latency and database round trips of every operation of the virtual users,
+ * and the number of user flows that completed or failed. Reports are filled
+ * per virtual user and merged, so no method is synchronized.
+ */
+public class LoadTestReport {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private long[][] latencyNanos;
+	private int[] operationCounts;
+	private long[] roundTrips;
+	private long completedFlows;
+	private long completedFlowRoundTrips;
+	private long failedFlows;
+	private long elapsedNanos;
+
+	/**
+	 * Constructs an empty LoadTestReport.
+	 */
+	public LoadTestReport() {
+		int operationCount = VirtualUser.Operation.values().length;
+		latencyNanos = new long[operationCount][INITIAL_CAPACITY];
+		operationCounts = new int[operationCount];
+		roundTrips = new long[operationCount];
+	}
+
+	/**
+	 * Records one run of an operation.
+	 *
+	 * @param operation           the operation
+	 * @param nanos               the latency of the operation in nanoseconds
+	 * @param operationRoundTrips the database round trips made by the operation
+	 */
+	public void record(VirtualUser.Operation operation, long nanos, long operationRoundTrips) {
+		int index = operation.ordinal();
+		if (operationCounts[index] == latencyNanos[index].length) {
+			latencyNanos[index] = Arrays.copyOf(latencyNanos[index], latencyNanos[index].length * 2);
+		}
+		latencyNanos[index][operationCounts[index]++] = nanos;
+		roundTrips[index] += operationRoundTrips;
+	}
+
+	/**
+	 * Records the end of a user flow.
+	 *
+	 * @param completed      true if the flow ran to the end, false if it failed
+	 * @param flowRoundTrips the database round trips made by the flow
+	 */
+	public void recordFlow(boolean completed, long flowRoundTrips) {
+		if (completed) {
+			completedFlows++;
+			completedFlowRoundTrips += flowRoundTrips;
+		} else {
+			failedFlows++;
+		}
+	}
+
+	/**
+	 * Merges the measurements of another report into this one.
+	 *
+	 * @param other the report to merge
+	 */
+	public void merge(LoadTestReport other) {
+		for (int i = 0; i < operationCounts.length; i++) {
+			int count = operationCounts[i] + other.operationCounts[i];
+			if (count > latencyNanos[i].length) {
+				latencyNanos[i] = Arrays.copyOf(latencyNanos[i], Math.max(count, latencyNanos[i].length * 2));
+			}
+			System.arraycopy(other.latencyNanos[i], 0, latencyNanos[i], operationCounts[i], other.operationCounts[i]);
+			operationCounts[i] = count;
+			roundTrips[i] += other.roundTrips[i];
+		}
+		completedFlows += other.completedFlows;
+		completedFlowRoundTrips += other.completedFlowRoundTrips;
+		failedFlows += other.failedFlows;
+	}
+
+	/**
+	 * Sets the wall-clock duration of the load test.
+	 *
+	 * @param elapsedNanos the duration in nanoseconds
+	 */
+	public void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Returns the number of runs of the specified operation.
+	 *
+	 * @param operation the operation
+	 * @return the run count
+	 */
+	public int getCount(VirtualUser.Operation operation) {
+		return operationCounts[operation.ordinal()];
+	}
+
+	/**
+	 * Returns the runs of the specified operation per second of wall-clock time.
+	 *
+	 * @param operation the operation
+	 * @return the throughput, or 0 if no time was recorded
+	 */
+	public double getThroughput(VirtualUser.Operation operation) {
+		return (elapsedNanos <= 0) ? 0 : getCount(operation) * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	/**
+	 * Returns the latency of the specified operation at the specified
+	 * percentile, using the nearest-rank method.
+	 *
+	 * @param operation  the operation
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the latency in nanoseconds, or 0 if the operation never ran
+	 */
+	public long getLatencyPercentileNanos(VirtualUser.Operation operation, double percentile) {
+		int count = getCount(operation);
+		if (count == 0) {
+			return 0;
+		}
+		long[] sorted = Arrays.copyOf(latencyNanos[operation.ordinal()], count);
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(percentile / 100.0 * count);
+		return sorted[Math.max(0, Math.min(count, rank) - 1)];
+	}
+
+	/**
+	 * Returns the average number of database round trips of one run of the
+	 * specified operation.
+	 *
+	 * @param operation the operation
+	 * @return the round trips per run, or 0 if the operation never ran
+	 */
+	public double getRoundTripsPerOperation(VirtualUser.Operation operation) {
+		int count = getCount(operation);
+		return (count == 0) ? 0 : (double) roundTrips[operation.ordinal()] / count;
+	}
+
+	/**
+	 * Returns the average number of database round trips of a completed user
+	 * flow. The round trips of failed flows are left out.
+	 *
+	 * @return the round trips per flow, or 0 if no flow completed
+	 */
+	public double getRoundTripsPerFlow() {
+		return (completedFlows == 0) ? 0 : (double) completedFlowRoundTrips / completedFlows;
+	}
+
+	/**
+	 * Returns the number of user flows that ran to the end.
+	 *
+	 * @return the completed flow count
+	 */
+	public long getCompletedFlows() {
+		return completedFlows;
+	}
+
+	/**
+	 * Returns the number of user flows that failed.
+	 *
+	 * @return the failed flow count
+	 */
+	public long getFailedFlows() {
+		return failedFlows;
+	}
+
+	/**
+	 * Prints the totals and, per operation, the throughput, latency percentiles
+	 * and round trips.
+	 *
+	 * @param out         the stream to print to
+	 * @param threadCount the number of virtual users that ran at once
+	 */
+	public void print(PrintStream out, int threadCount) {
+		double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+		out.printf("flows=%d failed=%d concurrent=%d elapsed=%.1fs flows/sec=%.1f round_trips/flow=%.1f%n",
+				completedFlows, failedFlows, threadCount, elapsedSeconds,
+				(elapsedSeconds <= 0) ? 0 : completedFlows / elapsedSeconds, getRoundTripsPerFlow());
+		out.println("operation\tcount\tops/sec\tp50_ms\tp95_ms\tp99_ms\tround_trips/op");
+		for (VirtualUser.Operation operation : VirtualUser.Operation.values()) {
+			out.printf("%s\t%d\t%.1f\t%.2f\t%.2f\t%.2f\t%.1f%n", operation, getCount(operation),
+					getThroughput(operation), getLatencyPercentileNanos(operation, 50) / 1_000_000.0,
+					getLatencyPercentileNanos(operation, 95) / 1_000_000.0,
+					getLatencyPercentileNanos(operation, 99) / 1_000_000.0, getRoundTripsPerOperation(operation));
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.connections.simulation;
+
+import java.util.SplittableRandom;
+
+import com.connections.model.GameBoard;
+
+/**
+ * A bot that knows the answers and solves the groups in order of difficulty
+ * without making mistakes.
+ */
+public class PerfectBotStrategy implements BotStrategy {
+
+	@Override
+	public String getName() {
+		return "perfect";
+	}
+
+	@Override
+	public int chooseGuess(SimulatedGame game, SplittableRandom random) {
+		int solvedGroupMask = game.getSolvedGroupMask();
+		for (int group = 0; group < GameBoard.GROUP_COUNT; group++) {
+			if ((solvedGroupMask & (1 << group)) == 0) {
+				return game.getGameBoard().getAnswerMask(group);
+			}
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,60 @@
+package com.connections.simulation;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.connections.model.PuzzleAmbiguityAnalyzer;
+import com.connections.model.PuzzleDifficultyMetrics;
+import com.connections.model.WordRelatednessTable;
+import com.connections.web.WebContext;
+import com.connections.web.WebUtils;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * The PuzzleCatalogAnalyzer class is the offline run of the
+ * PuzzleAmbiguityAnalyzer over the site's puzzle catalog. It loads every puzzle
+ * of the games collection, analyzes the catalog in parallel and writes each
+ * puzzle's difficulty metrics back to its games document, from where GameData
+ * loads them.
+ *
+ * No word relatedness data ships with the project, so the run needs a
+ * relatedness table supplied by the team, in the format read by
+ * WordRelatednessTable. Nothing in the game reads the stored metrics yet.
+ */
+public class PuzzleCatalogAnalyzer {
+	/**
+	 * Analyzes the catalog from the command line. The first argument is the path
+	 * of the word relatedness table; the optional ones are the MongoDB URL and the
+	 * red herring threshold.
+	 *
+	 * @param args the command line arguments
+	 * @throws IOException if the relatedness table cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.out.println("CONNECTIONS (WARNING): no word relatedness table given, the catalog is not analyzed");
+			return;
+		}
+		WordRelatednessTable wordRelatedness = WordRelatednessTable.load(args[0]);
+		String mongoURL = args.length > 1 ? args[1] : "mongodb://localhost:27017/";
+		double redHerringThreshold = args.length > 2 ? Double.parseDouble(args[2])
+				: PuzzleAmbiguityAnalyzer.DEFAULT_RED_HERRING_THRESHOLD;
+
+		try (MongoClient mongoClient = MongoClients.create(mongoURL)) {
+			WebContext webContext = new WebContext(mongoClient.getDatabase(WebUtils.DATABASE_NAME), null, null);
+			PuzzleAmbiguityAnalyzer analyzer = new PuzzleAmbiguityAnalyzer(wordRelatedness, redHerringThreshold);
+			Map<Integer, PuzzleDifficultyMetrics> metricsByPuzzleNumber = WebUtils.gameAnalyzeCatalog(webContext,
+					analyzer);
+
+			int ambiguousPuzzles = 0;
+			for (PuzzleDifficultyMetrics metrics : metricsByPuzzleNumber.values()) {
+				if (metrics.getAmbiguityScore() > 0) {
+					ambiguousPuzzles++;
+				}
+			}
+			System.out.printf("CONNECTIONS: analyzed %d puzzles with %d word pairs, %d have a decoy stronger than "
+					+ "an answer%n", metricsByPuzzleNumber.size(), wordRelatedness.getPairCount(), ambiguousPuzzles);
+		}
+	}
+}
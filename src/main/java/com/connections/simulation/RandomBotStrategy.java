@@ -0,0 +1,28 @@
+package com.connections.simulation;
+
+import java.util.SplittableRandom;
+
+import com.connections.model.GameBoard;
+
+/**
+ * A bot that guesses four random remaining words, avoiding guesses it has
+ * already made. It never uses hints.
+ */
+public class RandomBotStrategy implements BotStrategy {
+	private static final int MAX_RETRIES = 32;
+
+	@Override
+	public String getName() {
+		return "random";
+	}
+
+	@Override
+	public int chooseGuess(SimulatedGame game, SplittableRandom random) {
+		int remainingMask = game.getRemainingMask();
+		int guess = SimulatedGame.randomSubset(remainingMask, GameBoard.GROUP_SIZE, random);
+		for (int retry = 0; retry < MAX_RETRIES && game.isGuessed(guess); retry++) {
+			guess = SimulatedGame.randomSubset(remainingMask, GameBoard.GROUP_SIZE, random);
+		}
+		return guess;
+	}
+}
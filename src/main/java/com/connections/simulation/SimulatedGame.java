@@ -0,0 +1,199 @@
+package com.connections.simulation;
+
+import java.util.SplittableRandom;
+
+import com.connections.model.GameBoard;
+import com.connections.model.GameBoardState;
+import com.connections.model.Hint;
+import com.connections.model.HintEngine;
+import com.connections.model.HintLevel;
+
+/**
+ * The SimulatedGame class plays a single game headlessly on top of the same
+ * GameBoardState and HintEngine used by the game grid. It applies the normal
+ * rules: four mistakes end the game and each hint used is one level stronger
+ * than the last.
+ */
+public class SimulatedGame {
+	public static final int MAX_MISTAKES = 4;
+	public static final int MAX_HINTS = 4;
+	public static final int MAX_SUBMISSIONS = 64;
+
+	private HintEngine hintEngine;
+	private GameBoardState gameBoardState;
+	private int mistakesMade;
+	private int hintsUsed;
+	private int submissions;
+	private GameBoardState.SubmitResult lastResult;
+
+	/**
+	 * Constructs a new SimulatedGame for the puzzle of the specified hint engine.
+	 *
+	 * @param hintEngine the hint engine of the puzzle to play
+	 */
+	public SimulatedGame(HintEngine hintEngine) {
+		this.hintEngine = hintEngine;
+		this.gameBoardState = new GameBoardState(hintEngine.getGameBoard());
+	}
+
+	/**
+	 * Resets the game so it can be played again.
+	 */
+	public void reset() {
+		gameBoardState.reset();
+		mistakesMade = 0;
+		hintsUsed = 0;
+		submissions = 0;
+		lastResult = null;
+	}
+
+	/**
+	 * Returns the game board being played.
+	 *
+	 * @return the game board
+	 */
+	public GameBoard getGameBoard() {
+		return gameBoardState.getGameBoard();
+	}
+
+	/**
+	 * Returns the board mask of the words that are not part of a solved group.
+	 *
+	 * @return the remaining word mask
+	 */
+	public int getRemainingMask() {
+		return gameBoardState.getRemainingMask();
+	}
+
+	/**
+	 * Returns the 4-bit mask of the groups that have been solved.
+	 *
+	 * @return the solved group mask
+	 */
+	public int getSolvedGroupMask() {
+		return gameBoardState.getSolvedGroupMask();
+	}
+
+	/**
+	 * Checks if the specified mask has already been guessed.
+	 *
+	 * @param mask the board mask of the guess
+	 * @return true if the mask has already been guessed, false otherwise
+	 */
+	public boolean isGuessed(int mask) {
+		return gameBoardState.isGuessed(mask);
+	}
+
+	/**
+	 * Sets the selection that the next hint is computed against.
+	 *
+	 * @param selectedMask the board mask of the selection
+	 */
+	public void setSelection(int selectedMask) {
+		gameBoardState.setSelectedMask(selectedMask);
+	}
+
+	/**
+	 * Uses a hint, if any are left.
+	 *
+	 * @return the hint, or null if no hints are left
+	 */
+	public Hint useHint() {
+		if (hintsUsed >= MAX_HINTS) {
+			return null;
+		}
+		Hint hint = hintEngine.getHint(gameBoardState.getSolvedGroupMask(), gameBoardState.getSelectedMask(),
+				HintLevel.forHintsUsed(hintsUsed));
+		if (hint != null) {
+			hintsUsed++;
+		}
+		return hint;
+	}
+
+	/**
+	 * Submits the specified words as a guess.
+	 *
+	 * @param mask the board mask of the guess
+	 * @return the outcome of the submission
+	 */
+	public GameBoardState.SubmitResult submit(int mask) {
+		submissions++;
+		gameBoardState.setSelectedMask(mask);
+		lastResult = gameBoardState.submitSelected();
+		if (lastResult == GameBoardState.SubmitResult.INCORRECT
+				|| lastResult == GameBoardState.SubmitResult.ONE_AWAY) {
+			mistakesMade++;
+		}
+		gameBoardState.clearSelection();
+		return lastResult;
+	}
+
+	/**
+	 * Returns the outcome of the last submission.
+	 *
+	 * @return the last submission outcome, or null if nothing was submitted
+	 */
+	public GameBoardState.SubmitResult getLastResult() {
+		return lastResult;
+	}
+
+	/**
+	 * Checks if the game is over, either by winning, by running out of
+	 * mistakes, or by reaching the submission limit.
+	 *
+	 * @return true if the game is over, false otherwise
+	 */
+	public boolean isFinished() {
+		return isWon() || mistakesMade >= MAX_MISTAKES || submissions >= MAX_SUBMISSIONS;
+	}
+
+	/**
+	 * Checks if every group has been solved.
+	 *
+	 * @return true if the game was won, false otherwise
+	 */
+	public boolean isWon() {
+		return gameBoardState.isAllGroupsSolved();
+	}
+
+	/**
+	 * Returns the number of mistakes made.
+	 *
+	 * @return the mistakes made count
+	 */
+	public int getMistakesMade() {
+		return mistakesMade;
+	}
+
+	/**
+	 * Returns the number of hints used.
+	 *
+	 * @return the hints used count
+	 */
+	public int getHintsUsed() {
+		return hintsUsed;
+	}
+
+	/**
+	 * Returns a random subset of the specified size from the words of a mask.
+	 *
+	 * @param mask   the board mask to pick words from
+	 * @param size   the number of words to pick
+	 * @param random the random source
+	 * @return the board mask of the picked words
+	 */
+	public static int randomSubset(int mask, int size, SplittableRandom random) {
+		int result = 0;
+		int available = mask;
+		for (int i = 0; i < size && available != 0; i++) {
+			int bits = available;
+			for (int skip = random.nextInt(Integer.bitCount(available)); skip > 0; skip--) {
+				bits &= bits - 1;
+			}
+			int bit = Integer.lowestOneBit(bits);
+			result |= bit;
+			available &= ~bit;
+		}
+		return result;
+	}
+}
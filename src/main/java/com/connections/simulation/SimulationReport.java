@@ -0,0 +1,190 @@
+package com.connections.simulation;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * The SimulationReport class accumulates the outcomes of simulated games:
+ * win counts and, per puzzle, histograms of the mistakes made and hints used.
+ * Reports are filled per thread and merged, so no method is synchronized.
+ */
+public class SimulationReport {
+	private int[] puzzleNumbers;
+	private long[] gamesPlayed;
+	private long[] gamesWon;
+	private long[][] mistakesHistogram;
+	private long[][] hintsHistogram;
+	private long totalGames;
+	private long totalWins;
+	private long allocatedBytes;
+	private long elapsedNanos;
+
+	/**
+	 * Constructs an empty SimulationReport for the specified puzzles.
+	 *
+	 * @param puzzleNumbers the puzzle numbers in catalog order
+	 */
+	public SimulationReport(int[] puzzleNumbers) {
+		this.puzzleNumbers = puzzleNumbers;
+		this.gamesPlayed = new long[puzzleNumbers.length];
+		this.gamesWon = new long[puzzleNumbers.length];
+		this.mistakesHistogram = new long[puzzleNumbers.length][SimulatedGame.MAX_MISTAKES + 1];
+		this.hintsHistogram = new long[puzzleNumbers.length][SimulatedGame.MAX_HINTS + 1];
+	}
+
+	/**
+	 * Records the outcome of a finished game.
+	 *
+	 * @param puzzleIndex the catalog index of the puzzle played
+	 * @param game        the finished game
+	 */
+	public void record(int puzzleIndex, SimulatedGame game) {
+		gamesPlayed[puzzleIndex]++;
+		totalGames++;
+		if (game.isWon()) {
+			gamesWon[puzzleIndex]++;
+			totalWins++;
+		}
+		mistakesHistogram[puzzleIndex][Math.min(game.getMistakesMade(), SimulatedGame.MAX_MISTAKES)]++;
+		hintsHistogram[puzzleIndex][Math.min(game.getHintsUsed(), SimulatedGame.MAX_HINTS)]++;
+	}
+
+	/**
+	 * Adds the specified number of allocated bytes to the report.
+	 *
+	 * @param bytes the allocated bytes
+	 */
+	public void addAllocatedBytes(long bytes) {
+		allocatedBytes += bytes;
+	}
+
+	/**
+	 * Merges the outcomes of another report, built for the same puzzles, into
+	 * this one.
+	 *
+	 * @param other the report to merge
+	 */
+	public void merge(SimulationReport other) {
+		for (int i = 0; i < puzzleNumbers.length; i++) {
+			gamesPlayed[i] += other.gamesPlayed[i];
+			gamesWon[i] += other.gamesWon[i];
+			for (int j = 0; j < mistakesHistogram[i].length; j++) {
+				mistakesHistogram[i][j] += other.mistakesHistogram[i][j];
+			}
+			for (int j = 0; j < hintsHistogram[i].length; j++) {
+				hintsHistogram[i][j] += other.hintsHistogram[i][j];
+			}
+		}
+		totalGames += other.totalGames;
+		totalWins += other.totalWins;
+		allocatedBytes += other.allocatedBytes;
+	}
+
+	/**
+	 * Sets the wall-clock duration of the simulation.
+	 *
+	 * @param elapsedNanos the duration in nanoseconds
+	 */
+	public void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Returns the wall-clock duration of the simulation.
+	 *
+	 * @return the duration in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Returns the total number of games played.
+	 *
+	 * @return the total game count
+	 */
+	public long getTotalGames() {
+		return totalGames;
+	}
+
+	/**
+	 * Returns the total number of games won.
+	 *
+	 * @return the total win count
+	 */
+	public long getTotalWins() {
+		return totalWins;
+	}
+
+	/**
+	 * Returns the number of games played on the puzzle at the specified index.
+	 *
+	 * @param puzzleIndex the catalog index of the puzzle
+	 * @return the game count of the puzzle
+	 */
+	public long getGamesPlayed(int puzzleIndex) {
+		return gamesPlayed[puzzleIndex];
+	}
+
+	/**
+	 * Returns the number of games on the puzzle at the specified index that
+	 * ended with the specified number of mistakes.
+	 *
+	 * @param puzzleIndex the catalog index of the puzzle
+	 * @param mistakes    the number of mistakes (0 to 4)
+	 * @return the game count
+	 */
+	public long getMistakesCount(int puzzleIndex, int mistakes) {
+		return mistakesHistogram[puzzleIndex][mistakes];
+	}
+
+	/**
+	 * Returns the number of games on the puzzle at the specified index that
+	 * used the specified number of hints.
+	 *
+	 * @param puzzleIndex the catalog index of the puzzle
+	 * @param hints       the number of hints (0 to 4)
+	 * @return the game count
+	 */
+	public long getHintsCount(int puzzleIndex, int hints) {
+		return hintsHistogram[puzzleIndex][hints];
+	}
+
+	/**
+	 * Returns the number of games simulated per second of wall-clock time.
+	 *
+	 * @return the games per second, or 0 if no time was recorded
+	 */
+	public double getGamesPerSecond() {
+		return (elapsedNanos <= 0) ? 0 : totalGames * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	/**
+	 * Returns the average number of bytes allocated per game.
+	 *
+	 * @return the bytes per game, or 0 if no games were played
+	 */
+	public double getAllocatedBytesPerGame() {
+		return (totalGames == 0) ? 0 : (double) allocatedBytes / totalGames;
+	}
+
+	/**
+	 * Prints the totals and the per-puzzle histograms.
+	 *
+	 * @param out          the stream to print to
+	 * @param strategyName the name of the strategy that played the games
+	 */
+	public void print(PrintStream out, String strategyName) {
+		out.printf("strategy=%s games=%d wins=%d (%.1f%%) games/sec=%.0f bytes/game=%.1f%n", strategyName,
+				totalGames, totalWins, (totalGames == 0) ? 0 : 100.0 * totalWins / totalGames, getGamesPerSecond(),
+				getAllocatedBytesPerGame());
+		out.println("puzzle\tgames\twins\tmistakes[0..4]\thints[0..4]");
+		for (int i = 0; i < puzzleNumbers.length; i++) {
+			if (gamesPlayed[i] == 0) {
+				continue;
+			}
+			out.printf("%d\t%d\t%d\t%s\t%s%n", puzzleNumbers[i], gamesPlayed[i], gamesWon[i],
+					Arrays.toString(mistakesHistogram[i]), Arrays.toString(hintsHistogram[i]));
+		}
+	}
+}
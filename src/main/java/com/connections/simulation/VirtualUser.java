@@ -0,0 +1,230 @@
+package com.connections.simulation;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.LongSupplier;
+
+import com.connections.model.GameBoard;
+import com.connections.model.GameBoardState;
+import com.connections.model.GameData;
+import com.connections.model.GameEvent;
+import com.connections.model.GameEventLog;
+import com.connections.model.HintEngine;
+import com.connections.model.PlayedGameInfo;
+import com.connections.model.PlayedGameInfoClassic;
+import com.connections.model.Word;
+import com.connections.view_controller.GameSession;
+import com.connections.web.GamePersistence;
+import com.connections.web.WebContext;
+import com.connections.web.WebSession;
+import com.connections.web.WebSessionContext;
+import com.connections.web.WebUser;
+import com.connections.web.WebUtils;
+
+/**
+ * The VirtualUser class plays one player's visit to the site without a
+ * browser or a JavaFX display: it logs in, plays the daily puzzle to the end
+ * with a bot strategy, shuffling and toggling dark mode along the way, and
+ * views the leaderboard. The game is stored through the same GamePersistence
+ * calls as the game screen makes for a real player, and the other operations
+ * make the same WebSession, WebUser and WebUtils calls, so the database sees
+ * the same traffic.
+ *
+ * Each operation is timed and its database round trips counted into a
+ * LoadTestReport.
+ */
+public class VirtualUser {
+	// Every how many submissions the player shuffles the board
+	public static final int SHUFFLE_INTERVAL = 2;
+	public static final int LEADERBOARD_SIZE = 10;
+
+	/**
+	 * The Operation enum lists the measured operations of a visit.
+	 */
+	public enum Operation {
+		LOGIN, OPEN_GAME, SHUFFLE, SUBMIT, TOGGLE_DARK_MODE, FINISH_GAME, VIEW_LEADERBOARD
+	}
+
+	private WebContext webContext;
+	private BotStrategy strategy;
+	private SplittableRandom random;
+	private LongSupplier roundTripCounter;
+	private String instanceID;
+	private LoadTestReport report;
+
+	private WebSession session;
+	private WebUser user;
+	private GamePersistence gamePersistence;
+	private GameData gameData;
+	private GameBoard gameBoard;
+	private SimulatedGame game;
+	private GameEventLog gameEventLog;
+	private List<Set<Word>> guesses;
+	private ZonedDateTime gameStartDateTime;
+
+	/**
+	 * Constructs a VirtualUser.
+	 *
+	 * @param webContext       the context of the user, without a WebAPI
+	 * @param strategy         the strategy that picks the user's guesses
+	 * @param random           the random source of the user
+	 * @param roundTripCounter returns the number of database round trips made so
+	 *                         far by the current thread
+	 * @param instanceID       stands in for the ID of the user's browser tab
+	 */
+	public VirtualUser(WebContext webContext, BotStrategy strategy, SplittableRandom random,
+			LongSupplier roundTripCounter, String instanceID) {
+		this.webContext = webContext;
+		this.strategy = strategy;
+		this.random = random;
+		this.roundTripCounter = roundTripCounter;
+		this.instanceID = instanceID;
+	}
+
+	/**
+	 * Plays a whole visit and records its operations in the specified report. A
+	 * visit that throws is recorded as a failed flow.
+	 *
+	 * @param report the report to record into
+	 */
+	public void play(LoadTestReport report) {
+		this.report = report;
+		long roundTripsBefore = roundTripCounter.getAsLong();
+		try {
+			measure(Operation.LOGIN, this::login);
+			measure(Operation.OPEN_GAME, this::openGame);
+
+			int submissions = 0;
+			while (!game.isFinished()) {
+				if (submissions > 0 && submissions % SHUFFLE_INTERVAL == 0) {
+					measure(Operation.SHUFFLE, this::shuffle);
+				}
+				measure(Operation.SUBMIT, this::submit);
+				submissions++;
+				if (submissions == 1) {
+					measure(Operation.TOGGLE_DARK_MODE, this::toggleDarkMode);
+				}
+			}
+
+			measure(Operation.FINISH_GAME, this::finishGame);
+			measure(Operation.VIEW_LEADERBOARD, this::viewLeaderboard);
+			report.recordFlow(true, roundTripCounter.getAsLong() - roundTripsBefore);
+		} catch (RuntimeException e) {
+			System.out.println("CONNECTIONS (WARNING): a virtual user failed: " + e);
+			report.recordFlow(false, roundTripCounter.getAsLong() - roundTripsBefore);
+		}
+	}
+
+	/**
+	 * Runs an operation, timing it and counting its database round trips.
+	 *
+	 * @param operation the operation being run
+	 * @param action    the work of the operation
+	 */
+	private void measure(Operation operation, Runnable action) {
+		long roundTripsBefore = roundTripCounter.getAsLong();
+		long startNanos = System.nanoTime();
+		action.run();
+		long nanos = System.nanoTime() - startNanos;
+		report.record(operation, nanos, roundTripCounter.getAsLong() - roundTripsBefore);
+	}
+
+	/**
+	 * Resolves the session from the (empty) cookie and logs in as a guest, as
+	 * the home screen does for a new player.
+	 */
+	private void login() {
+		session = new WebSession(webContext);
+		if (session.isEmpty()) {
+			session.login();
+		}
+		user = session.getUser();
+		gamePersistence = new GamePersistence(new WebSessionContext(session), instanceID);
+	}
+
+	/**
+	 * Opens the daily puzzle, as ConnectionsHome and GameSession do: loads the
+	 * puzzle, checks the user's save state and earlier result, marks the user as
+	 * in game and starts the game's event log. A new guest has neither a saved
+	 * game nor an earlier result.
+	 */
+	private void openGame() {
+		gameData = WebUtils.gameGetByPuzzleNumber(webContext, WebUtils.dailyPuzzleNumberGet(webContext));
+		gameBoard = new GameBoard(gameData);
+		game = new SimulatedGame(HintEngine.forGameData(gameData));
+		guesses = new ArrayList<>();
+		gameStartDateTime = ZonedDateTime.now();
+
+		if (gamePersistence.open() == GamePersistence.SavedGame.NONE) {
+			gamePersistence.getPlayedGame(gameData.getPuzzleNumber());
+		}
+		gamePersistence.setInGameStatus(true);
+
+		gameEventLog = new GameEventLog(gameData.getPuzzleNumber(), GameSession.GameType.CLASSIC,
+				gameStartDateTime);
+		gameEventLog.addEvent(GameEvent.EventType.START, random.nextLong(), gameStartDateTime);
+		gamePersistence.startEventLog(gameEventLog);
+	}
+
+	/**
+	 * Shuffles the board, which only records the shuffle in the event log.
+	 */
+	private void shuffle() {
+		gamePersistence.logEvent(gameEventLog, GameEvent.EventType.SHUFFLE, random.nextLong(), gameBoard);
+	}
+
+	/**
+	 * Picks a guess with the strategy, using hints if the strategy asks for them,
+	 * and submits it.
+	 */
+	private void submit() {
+		int hintsUsedBefore = game.getHintsUsed();
+		int mask = strategy.chooseGuess(game, random);
+		for (int i = hintsUsedBefore; i < game.getHintsUsed(); i++) {
+			gamePersistence.logEvent(gameEventLog, GameEvent.EventType.HINT, 0, gameBoard);
+		}
+
+		GameBoardState.SubmitResult result = game.submit(mask);
+		if (result != GameBoardState.SubmitResult.ALREADY_GUESSED) {
+			guesses.add(gameBoard.getWords(mask));
+			gamePersistence.logEvent(gameEventLog, GameEvent.EventType.SUBMIT, mask, gameBoard);
+		}
+	}
+
+	/**
+	 * Toggles dark mode, which is saved to the user right away.
+	 */
+	private void toggleDarkMode() {
+		user.readFromDatabase();
+		user.setDarkModeStatus(!user.getDarkModeStatus());
+		user.writeToDatabase();
+	}
+
+	/**
+	 * Ends the game, as GameSession does: stores the played game, clears the
+	 * save state, finishes the event log, clears the in-game status and updates
+	 * the achievements.
+	 */
+	private void finishGame() {
+		ZonedDateTime gameEndDateTime = ZonedDateTime.now();
+		int connectionsMade = Integer.bitCount(game.getSolvedGroupMask());
+		PlayedGameInfo playedGameInfo = new PlayedGameInfoClassic(gameData.getPuzzleNumber(),
+				game.getMistakesMade(), game.getHintsUsed(), connectionsMade, guesses, game.isWon(),
+				gameStartDateTime, gameEndDateTime);
+
+		gamePersistence.finishGame(playedGameInfo, gameEventLog);
+
+		boolean noMistakes = game.isWon() && guesses.size() == GameBoard.GROUP_COUNT;
+		session.updateUserAchievementData(GameSession.GameType.CLASSIC, noMistakes, 0, game.isWon());
+	}
+
+	/**
+	 * Loads the leaderboard.
+	 */
+	private void viewLeaderboard() {
+		WebUser.getTopUsers(webContext, LEADERBOARD_SIZE);
+	}
+}
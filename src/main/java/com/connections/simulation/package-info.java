@@ -0,0 +1 @@
+package com.connections.simulation;
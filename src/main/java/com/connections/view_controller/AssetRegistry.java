@@ -0,0 +1,168 @@
+package com.connections.view_controller;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.scene.image.Image;
+import javafx.scene.text.Font;
+
+/**
+ * The AssetRegistry class holds the fonts and images used by the application.
+ * Each asset is loaded from its file once per JVM and then shared by every
+ * session; fonts and images are immutable, so they can be shown in any number
+ * of scenes at once. The registry counts how often an asset was served from
+ * memory (a hit) and how often it had to be loaded (a miss).
+ *
+ * SVG paths are not held here: their content strings are already constants,
+ * and JavaFX parses the content into the SVGPath node itself, which cannot be
+ * shared between scenes.
+ */
+public final class AssetRegistry {
+	public static final String LOGO_IMAGE_URL = "file:img/conn_logo.png";
+
+	private static final Map<String, Font> FONTS = new ConcurrentHashMap<>();
+	private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+	private static final AtomicLong HIT_COUNT = new AtomicLong();
+	private static final AtomicLong MISS_COUNT = new AtomicLong();
+	private static final AtomicBoolean PRELOADED = new AtomicBoolean();
+
+	private AssetRegistry() {
+	}
+
+	/**
+	 * Loads every font and image that the application uses, so that sessions do
+	 * not read asset files. Only the first call does any work. It must be called
+	 * once the JavaFX toolkit is running.
+	 */
+	public static void preload() {
+		if (!PRELOADED.compareAndSet(false, true)) {
+			return;
+		}
+
+		for (int size : new int[] { 14, 16, 18, 20 }) {
+			getFont("franklin-normal", "ttf", 500, size);
+		}
+		for (int size : new int[] { 16, 20, 22, 40, 65 }) {
+			getFont("franklin-normal", "ttf", 600, size);
+		}
+		for (int size : new int[] { 14, 16, 18, 20, 32 }) {
+			getFont("franklin-normal", "ttf", 700, size);
+		}
+		getFont("cheltenham-normal", "ttf", 400, 30);
+		getFont("KarnakPro-Medium_400", "otf", 64);
+		getFont("KarnakPro-Medium_400", "otf", 65);
+		getFont("karnakpro-condensedblack", "ttf", 36);
+		getFont("karnakpro-condensedblack", "ttf", 65);
+		getImage(LOGO_IMAGE_URL);
+
+		System.out.printf("CONNECTIONS: preloaded %d fonts and %d images\n", FONTS.size(), IMAGES.size());
+	}
+
+	/**
+	 * Returns the font with the specified name, file extension, weight, and size,
+	 * loading it from "Fonts/[name]-[weight].[extension]" the first time.
+	 *
+	 * @param fontName      the name of the font
+	 * @param fileExtension the file extension of the font file (e.g., "ttf",
+	 *                      "otf")
+	 * @param weight        the weight of the font (e.g., 400 for normal, 600 for
+	 *                      bold)
+	 * @param size          the size of the font in points
+	 * @return the font, or the system font of the same size if the file could not
+	 *         be loaded
+	 */
+	public static Font getFont(String fontName, String fileExtension, int weight, int size) {
+		String key = String.format("%s-%s-%d-%d", fontName, fileExtension, size, weight);
+		return getFont(key, String.format("Fonts/%s-%d.%s", fontName, weight, fileExtension), size);
+	}
+
+	/**
+	 * Returns the font with the specified name, file extension, and size, loading
+	 * it from "Fonts/[name].[extension]" the first time.
+	 *
+	 * @param fontName      the name of the font
+	 * @param fileExtension the file extension of the font file (e.g., "ttf",
+	 *                      "otf")
+	 * @param size          the size of the font in points
+	 * @return the font, or the system font of the same size if the file could not
+	 *         be loaded
+	 */
+	public static Font getFont(String fontName, String fileExtension, int size) {
+		String key = String.format("%s-%s-%d", fontName, fileExtension, size);
+		return getFont(key, String.format("Fonts/%s.%s", fontName, fileExtension), size);
+	}
+
+	/**
+	 * Returns the font registered under the specified key, loading it from the
+	 * specified file the first time. A font that fails to load is registered as
+	 * the system font, so the file is not read again.
+	 *
+	 * @param key  the key of the font in the registry
+	 * @param path the path of the font file
+	 * @param size the size of the font in points
+	 * @return the font
+	 */
+	private static Font getFont(String key, String path, int size) {
+		Font font = FONTS.get(key);
+		if (font != null) {
+			HIT_COUNT.incrementAndGet();
+			return font;
+		}
+
+		return FONTS.computeIfAbsent(key, k -> {
+			MISS_COUNT.incrementAndGet();
+			try (InputStream stream = new FileInputStream(path)) {
+				Font loadedFont = Font.loadFont(stream, size);
+				if (loadedFont != null) {
+					return loadedFont;
+				}
+			} catch (IOException e) {
+				// Falls through to the system font below.
+			}
+			System.out.printf("ERROR: could not load font %s with size %d!\n", path, size);
+			return Font.font("System", size);
+		});
+	}
+
+	/**
+	 * Returns the image at the specified URL, decoding it the first time.
+	 *
+	 * @param url the URL of the image (e.g., "file:img/conn_logo.png")
+	 * @return the image
+	 */
+	public static Image getImage(String url) {
+		Image image = IMAGES.get(url);
+		if (image != null) {
+			HIT_COUNT.incrementAndGet();
+			return image;
+		}
+
+		return IMAGES.computeIfAbsent(url, k -> {
+			MISS_COUNT.incrementAndGet();
+			return new Image(url);
+		});
+	}
+
+	/**
+	 * Returns the number of times an asset was served from the registry.
+	 *
+	 * @return the hit count
+	 */
+	public static long getHitCount() {
+		return HIT_COUNT.get();
+	}
+
+	/**
+	 * Returns the number of times an asset had to be loaded from its file.
+	 *
+	 * @return the miss count
+	 */
+	public static long getMissCount() {
+		return MISS_COUNT.get();
+	}
+}
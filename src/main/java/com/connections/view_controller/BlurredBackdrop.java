@@ -0,0 +1,140 @@
+package com.connections.view_controller;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+/**
+ * The BlurredBackdrop class shows a blurred still image of a node in its place
+ * while an overlay is shown on top of it. The node is captured once, at a
+ * quarter of its resolution, and the blur is applied to that capture once, so
+ * nothing is blurred again while the overlay is up. The node itself is hidden
+ * until the backdrop is removed, so the animations running inside it are not
+ * rendered either.
+ *
+ * When the server is under load the blur is skipped entirely and the node is
+ * left as it is.
+ */
+public class BlurredBackdrop extends ImageView {
+	private static final double CAPTURE_SCALE = 0.25;
+	// GaussianBlur's default radius of 10 at full resolution
+	private static final double BLUR_RADIUS = 10 * CAPTURE_SCALE;
+	// System load average per available processor above which blur is skipped
+	private static final double LOAD_THRESHOLD = 1.0;
+
+	private Node coveredNode;
+	private ChangeListener<Scene> pendingCoverListener;
+
+	/**
+	 * Constructs an empty BlurredBackdrop.
+	 */
+	public BlurredBackdrop() {
+		setSmooth(true);
+		setMouseTransparent(true);
+	}
+
+	/**
+	 * Covers the specified node with a blurred image of it. If the node is not in
+	 * a scene yet, it is captured as soon as it is added to one.
+	 *
+	 * @param node the node to be blurred
+	 * @param fill the color behind the node, used where the node is transparent
+	 * @return true if the node will be covered, false if blur was skipped because
+	 *         the server is under load
+	 */
+	public boolean cover(Node node, Color fill) {
+		uncover();
+		if (isUnderLoad()) {
+			return false;
+		}
+
+		coveredNode = node;
+		if (node.getScene() != null) {
+			capture(fill);
+		} else {
+			pendingCoverListener = (observable, oldScene, newScene) -> {
+				if (newScene != null) {
+					node.sceneProperty().removeListener(pendingCoverListener);
+					pendingCoverListener = null;
+					capture(fill);
+				}
+			};
+			node.sceneProperty().addListener(pendingCoverListener);
+		}
+		return true;
+	}
+
+	/**
+	 * Removes the blurred image and shows the covered node again.
+	 */
+	public void uncover() {
+		if (coveredNode == null) {
+			return;
+		}
+		if (pendingCoverListener != null) {
+			coveredNode.sceneProperty().removeListener(pendingCoverListener);
+			pendingCoverListener = null;
+		}
+		coveredNode.setVisible(true);
+		coveredNode = null;
+		setImage(null);
+	}
+
+	/**
+	 * Captures the covered node at reduced resolution, blurs the capture, and
+	 * shows the result in place of the node.
+	 *
+	 * @param fill the color behind the node
+	 */
+	private void capture(Color fill) {
+		Bounds bounds = coveredNode.getLayoutBounds();
+		double width = Math.ceil(bounds.getWidth() * CAPTURE_SCALE);
+		double height = Math.ceil(bounds.getHeight() * CAPTURE_SCALE);
+
+		SnapshotParameters captureParameters = new SnapshotParameters();
+		captureParameters.setFill(fill);
+		captureParameters.setTransform(Transform.scale(CAPTURE_SCALE, CAPTURE_SCALE));
+		WritableImage capture = coveredNode.snapshot(captureParameters, null);
+
+		// The blur is baked into a second snapshot, cropped back to the size of the
+		// capture so the blurred edges do not shift the image.
+		ImageView blurView = new ImageView(capture);
+		blurView.setEffect(new GaussianBlur(BLUR_RADIUS));
+		SnapshotParameters blurParameters = new SnapshotParameters();
+		blurParameters.setFill(fill);
+		blurParameters.setViewport(new Rectangle2D(0, 0, width, height));
+		WritableImage blurred = blurView.snapshot(blurParameters, null);
+
+		setImage(blurred);
+		setFitWidth(bounds.getWidth());
+		setFitHeight(bounds.getHeight());
+		coveredNode.setVisible(false);
+	}
+
+	/**
+	 * Returns whether the server is too busy to blur backdrops, judged by the
+	 * system load average per available processor.
+	 *
+	 * @return true if blur should be skipped, false otherwise
+	 */
+	public static boolean isUnderLoad() {
+		OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+		double loadAverage = osBean.getSystemLoadAverage();
+		if (loadAverage < 0) {
+			// Not available on this platform.
+			return false;
+		}
+		return loadAverage / osBean.getAvailableProcessors() >= LOAD_THRESHOLD;
+	}
+}
@@ -0,0 +1,34 @@
+package com.connections.view_controller;
+
+import javafx.beans.InvalidationListener;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * The CanvasDrawable interface defines methods that should be implemented by
+ * tiles that can be drawn onto a TileGridCanvas instead of being shown as
+ * nodes of their own.
+ */
+interface CanvasDrawable {
+
+	/**
+	 * Draws the tile onto the canvas at its current position, scale and opacity.
+	 *
+	 * @param gc the graphics context of the canvas
+	 */
+	void drawOnCanvas(GraphicsContext gc);
+
+	/**
+	 * Adds a listener that is invalidated whenever the drawn appearance of the
+	 * tile changes.
+	 *
+	 * @param listener the listener to be added
+	 */
+	void addRedrawListener(InvalidationListener listener);
+
+	/**
+	 * Removes a listener added with addRedrawListener.
+	 *
+	 * @param listener the listener to be removed
+	 */
+	void removeRedrawListener(InvalidationListener listener);
+}
@@ -1,5 +1,6 @@
 package com.connections.view_controller;
 
+import javafx.css.PseudoClass;
 import javafx.scene.Cursor;
 import javafx.scene.control.Button;
 
@@ -9,6 +10,7 @@ import javafx.scene.control.Button;
  * interface.
  */
 public class CircularButton extends Button implements Modular {
+	private static final PseudoClass FILL_PSEUDO_CLASS = PseudoClass.getPseudoClass("fill");
 
 	private GameSessionContext gameSessionContext;
 	private boolean fillStyle;
@@ -27,6 +29,7 @@ public class CircularButton extends Button implements Modular {
 		this.fillStyle = fillStyle;
 		this.gameSessionContext = gameSessionContext;
 		setText(text);
+		getStyleClass().add("circular-button");
 		setMinHeight(48);
 		setMinWidth(width);
 		setFont(gameSessionContext.getStyleManager().getFont("franklin-normal", 600, 16));
@@ -51,18 +54,13 @@ public class CircularButton extends Button implements Modular {
 	}
 
 	/**
-	 * Refreshes the style of the button based on the fill style and disabled state.
-	 * If the button has a fill style and is not disabled, it applies the submit
-	 * button fill style. Otherwise, it applies the regular button style.
+	 * Refreshes the style of the button based on the fill style. The theme
+	 * stylesheet gives a filled button that is not disabled the submit button fill
+	 * style, and every other button the regular button style.
 	 */
 	@Override
 	public void refreshStyle() {
-		gameSessionContext.getStyleManager();
-		if (fillStyle && !isDisabled()) {
-			setStyle(gameSessionContext.getStyleManager().styleSubmitButtonFill());
-		} else {
-			setStyle(gameSessionContext.getStyleManager().styleButton());
-		}
+		pseudoClassStateChanged(FILL_PSEUDO_CLASS, fillStyle);
 	}
 
 	/**
@@ -0,0 +1,226 @@
+package com.connections.view_controller;
+
+import com.connections.web.WebContext;
+import com.connections.web.WebContextAccessible;
+import com.connections.web.WebSessionAccessible;
+import com.connections.web.WebSessionContext;
+import com.connections.web.WebUtils;
+
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.SpinnerValueFactory;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * The ConnectionsArchive class represents the screen where players pick a past
+ * puzzle to play. It extends the JavaFX BorderPane class and implements the
+ * WebContextAccessible and WebSessionAccessible interfaces.
+ */
+public class ConnectionsArchive extends BorderPane implements WebContextAccessible, WebSessionAccessible {
+	private StyleManager styleManager;
+	private WebContext webContext;
+	private WebSessionContext webSessionContext;
+
+	private BorderPane window;
+	private VBox verticalLayout;
+	private Label headingLabel;
+	private Label descriptionLabel;
+	private Label missingPuzzleLabel;
+	private Spinner<Integer> puzzleNumberSpinner;
+	private Button playButton;
+	private BackMenuButton backButton;
+
+	private Font franklinSmall;
+	private Font franklinMedium;
+	private Font cheltenham;
+	private EventHandler<ActionEvent> onPlay;
+	private EventHandler<ActionEvent> onGoBack;
+
+	/**
+	 * Constructs a ConnectionsArchive object with the specified WebContext and
+	 * WebSessionContext.
+	 *
+	 * @param webContext           the WebContext associated with the archive
+	 *                             screen
+	 * @param webSessionContext    the WebSessionContext associated with the
+	 *                             archive screen
+	 * @param todayPuzzleNumber    today's puzzle number, the first puzzle that is
+	 *                             not in the archive
+	 * @param initialPuzzleNumber  the puzzle number selected at first
+	 */
+	public ConnectionsArchive(WebContext webContext, WebSessionContext webSessionContext, int todayPuzzleNumber,
+			int initialPuzzleNumber) {
+		setWebContext(webContext);
+		setWebSessionContext(webSessionContext);
+		initPane(todayPuzzleNumber, initialPuzzleNumber);
+	}
+
+	/**
+	 * Initializes the layout and components of the archive screen.
+	 *
+	 * @param todayPuzzleNumber   today's puzzle number
+	 * @param initialPuzzleNumber the puzzle number selected at first
+	 */
+	private void initPane(int todayPuzzleNumber, int initialPuzzleNumber) {
+		styleManager = new StyleManager();
+		franklinSmall = styleManager.getFont("franklin-normal", 700, 14);
+		franklinMedium = styleManager.getFont("franklin-normal", 700, 16);
+		cheltenham = styleManager.getFont("cheltenham-normal", 400, 30);
+
+		window = new BorderPane();
+
+		headingLabel = new Label("Puzzle archive");
+		headingLabel.setFont(cheltenham);
+		headingLabel.setTextFill(Color.BLACK);
+
+		descriptionLabel = new Label("Pick a past puzzle to play.");
+		descriptionLabel.setFont(franklinMedium);
+		descriptionLabel.setTextFill(Color.BLACK);
+
+		int minPuzzleNumber = WebUtils.dailyPuzzleNumberGetMin(webContext);
+		// Today's puzzle and the ones after it are played from the home screen once
+		// their day comes, so the archive stops the day before.
+		int maxPuzzleNumber = Math.min(WebUtils.dailyPuzzleNumberGetMax(webContext), todayPuzzleNumber - 1);
+		puzzleNumberSpinner = new Spinner<>();
+		puzzleNumberSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(minPuzzleNumber,
+				Math.max(minPuzzleNumber, maxPuzzleNumber), initialPuzzleNumber));
+		puzzleNumberSpinner.setEditable(true);
+		puzzleNumberSpinner.setPrefSize(450, 44);
+		puzzleNumberSpinner.valueProperty().addListener((observable, oldValue, newValue) -> {
+			missingPuzzleLabel.setVisible(false);
+		});
+
+		missingPuzzleLabel = new Label("This puzzle could not be found.");
+		missingPuzzleLabel.setFont(franklinSmall);
+		missingPuzzleLabel.setTextFill(Color.RED);
+		missingPuzzleLabel.setVisible(false);
+
+		playButton = new Button("Play");
+		playButton.setStyle(
+				"-fx-background-color: rgba(0, 0, 0, 1); -fx-border-color: black; -fx-border-width: 1px; -fx-border-radius: 50; -fx-font-size: 20px;");
+		playButton.setPrefSize(450, 44);
+		playButton.setFont(franklinMedium);
+		playButton.setTextFill(Color.WHITE);
+		playButton.setOnAction(event -> {
+			if (onPlay != null) {
+				onPlay.handle(new ActionEvent(this, null));
+			}
+		});
+
+		verticalLayout = new VBox(20);
+		verticalLayout.setAlignment(Pos.CENTER);
+		verticalLayout.getChildren().addAll(headingLabel, descriptionLabel, puzzleNumberSpinner, missingPuzzleLabel,
+				playButton);
+
+		backButton = new BackMenuButton();
+		backButton.setStyle("-fx-alignment: center-left;");
+		backButton.setMaxWidth(SVGButton.PREF_WIDTH);
+		backButton.setOnMouseClicked(event -> {
+			if (onGoBack != null) {
+				// Only want to disable buttons if there IS a onGoBack.
+				setButtonsDisabled(true);
+				onGoBack.handle(new ActionEvent(this, null));
+			}
+		});
+		window.setTop(backButton);
+
+		window.setCenter(verticalLayout);
+
+		setStyle("-fx-background-color: white;");
+		setPadding(new Insets(10));
+		setCenter(window);
+	}
+
+	/**
+	 * Returns the puzzle number picked by the player.
+	 *
+	 * @return the selected puzzle number
+	 */
+	public int getSelectedPuzzleNumber() {
+		return puzzleNumberSpinner.getValue();
+	}
+
+	/**
+	 * Shows that the selected puzzle could not be found.
+	 */
+	public void showMissingPuzzle() {
+		missingPuzzleLabel.setVisible(true);
+	}
+
+	/**
+	 * Sets the disabled state of the buttons in the archive screen.
+	 *
+	 * @param disabled true to disable the buttons, false to enable them
+	 */
+	public void setButtonsDisabled(boolean disabled) {
+		backButton.setDisable(disabled);
+		playButton.setDisable(disabled);
+		puzzleNumberSpinner.setDisable(disabled);
+	}
+
+	/**
+	 * Sets the event handler to be invoked when the play button is pressed.
+	 *
+	 * @param onPlay the event handler to be set
+	 */
+	public void setOnPlay(EventHandler<ActionEvent> onPlay) {
+		this.onPlay = onPlay;
+	}
+
+	/**
+	 * Sets the event handler to be invoked when the back button is pressed.
+	 *
+	 * @param onGoBack the event handler to be set
+	 */
+	public void setOnGoBack(EventHandler<ActionEvent> onGoBack) {
+		this.onGoBack = onGoBack;
+	}
+
+	/**
+	 * Sets the WebContext associated with the archive screen.
+	 *
+	 * @param webContext the WebContext to be set
+	 */
+	@Override
+	public void setWebContext(WebContext webContext) {
+		this.webContext = webContext;
+	}
+
+	/**
+	 * Returns the WebContext associated with the archive screen.
+	 *
+	 * @return the WebContext associated with the archive screen
+	 */
+	@Override
+	public WebContext getWebContext() {
+		return webContext;
+	}
+
+	/**
+	 * Sets the WebSessionContext associated with the archive screen.
+	 *
+	 * @param webSessionContext the WebSessionContext to be set
+	 */
+	@Override
+	public void setWebSessionContext(WebSessionContext webSessionContext) {
+		this.webSessionContext = webSessionContext;
+	}
+
+	/**
+	 * Returns the WebSessionContext associated with the archive screen.
+	 *
+	 * @return the WebSessionContext associated with the archive screen
+	 */
+	@Override
+	public WebSessionContext getWebSessionContext() {
+		return webSessionContext;
+	}
+}
@@ -1,6 +1,8 @@
 package com.connections.view_controller;
 
 import com.connections.model.GameData;
+import com.connections.web.ArchivePrefetcher;
+import com.connections.web.ArchivePuzzle;
 import com.connections.web.WebContext;
 import com.connections.web.WebContextAccessible;
 import com.connections.web.WebDebugDatabaseView;
@@ -50,9 +52,16 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 	private MenuButton loginButton;
 	private MenuButton logoutButton;
 	private MenuButton playButton;
+	private MenuButton archiveButton;
 	private MenuButton showDebugInfoButton;
 	private WebDebugDatabaseView debugDatabaseViewer;
 	private boolean debugInfoShown;
+	private ArchivePrefetcher archivePrefetcher;
+	// The game session on display, if any, so it can be closed with the tab
+	private GameSession openGameSession;
+	private boolean openGameSessionIsArchive;
+	// The login screen is built on first use and then reused
+	private ScreenRegistry screenRegistry;
 
 	/**
 	 * The MenuButton class represents a customized button used in the Connections
@@ -84,7 +93,8 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 
 	/**
 	 * Constructs a ConnectionsHome object with the specified WebContext and
-	 * WebSessionContext.
+	 * WebSessionContext. Nothing is read from the database, and the buttons stay
+	 * disabled until onSessionReady() is called.
 	 *
 	 * @param webContext        the WebContext associated with the Connections home
 	 *                          screen
@@ -114,12 +124,28 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 	 * @param screen the screen to be shown
 	 */
 	private void showScreen(Pane screen) {
+		showScreen(screen, true);
+	}
+
+	/**
+	 * Shows the specified screen by adding it to the center stack pane, animating
+	 * its appearance if requested.
+	 *
+	 * @param screen  the screen to be shown
+	 * @param animate true to scroll the screen in, false to show it in place
+	 */
+	private void showScreen(Pane screen, boolean animate) {
 		setButtonsDisabled(true);
 		screen.setVisible(true);
 		centerStackPane.getChildren().add(screen);
 
-		TranslateTransition scroll = new TranslateTransition(Duration.millis(500), screen);
 		screen.setTranslateX(0);
+		if (!animate) {
+			screen.setTranslateY(0);
+			return;
+		}
+
+		TranslateTransition scroll = new TranslateTransition(Duration.millis(500), screen);
 		screen.setTranslateY(getHeight());
 		scroll.setToX(0);
 		scroll.setToY(0);
@@ -180,9 +206,8 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 	 * Initializes the layout and components of the Connections home screen.
 	 */
 	private void initPane() {
-		debugDatabaseViewer = new WebDebugDatabaseView(webContext);
-
 		styleManager = new StyleManager();
+		screenRegistry = new ScreenRegistry();
 		window = new BorderPane();
 		layoutConfigs();
 
@@ -199,6 +224,7 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 		howTo.setTextFill(Color.BLACK);
 
 		playButton = new MenuButton("Play", true);
+		archiveButton = new MenuButton("Archive", false);
 		loginButton = new MenuButton("Log In", false);
 		logoutButton = new MenuButton("Log Out", false);
 		showDebugInfoButton = new MenuButton("Debug Info", false);
@@ -207,21 +233,34 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 
 		centerBox = new VBox(20);
 		centerBox.setAlignment(Pos.CENTER);
-		centerBox.getChildren().addAll(logoImageView, title, howTo, playButton);
-
-		if (WebUtils.debugIsEnabled(webContext)) {
-			System.out.println("CONNECTIONS: debug mode is ENABLED, ConnectionsHome now has the debug view button.");
-			centerBox.getChildren().add(showDebugInfoButton);
-		}
+		centerBox.getChildren().addAll(logoImageView, title, howTo, playButton, archiveButton);
 
 		layoutAdjustLoginLogoutButtons();
 		initListeners();
+		setButtonsDisabled(true);
 
 		centerStackPane = new StackPane(centerBox);
 		window.setCenter(centerStackPane);
 		setCenter(window);
 	}
 
+	/**
+	 * Finishes the home screen once the session has been resolved and the server
+	 * status read: adds the debug view button if debug mode is enabled, shows the
+	 * login or logout button for the session, and enables the buttons.
+	 *
+	 * @param debugEnabled true if debug mode is enabled on the server
+	 */
+	public void onSessionReady(boolean debugEnabled) {
+		if (debugEnabled && !centerBox.getChildren().contains(showDebugInfoButton)) {
+			System.out.println("CONNECTIONS: debug mode is ENABLED, ConnectionsHome now has the debug view button.");
+			centerBox.getChildren().add(showDebugInfoButton);
+		}
+
+		layoutAdjustLoginLogoutButtons();
+		setButtonsDisabled(false);
+	}
+
 	/**
 	 * Initializes the listeners for the main assets in the home screen.
 	 */
@@ -242,6 +281,10 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 		playButton.setOnAction(event -> {
 			initGameSession();
 		});
+
+		archiveButton.setOnAction(event -> {
+			initArchiveScreen();
+		});
 	}
 
 	/**
@@ -251,6 +294,10 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 	private void handleDebugScreen() {
 		debugInfoShown = !debugInfoShown;
 		if (debugInfoShown) {
+			// The debug view reads every collection, so it is only built when first shown.
+			if (debugDatabaseViewer == null) {
+				debugDatabaseViewer = new WebDebugDatabaseView(webContext);
+			}
 			setTop(debugDatabaseViewer);
 		} else {
 			getChildren().remove(debugDatabaseViewer);
@@ -261,14 +308,17 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 	 * Initializes the login screen and shows it over the home screen.
 	 */
 	private void initLoginScreen() {
-		ConnectionsLogin loginScreen = new ConnectionsLogin(webContext, webSessionContext);
-		loginScreen.setOnGoBack(event -> {
-			hideScreen(loginScreen);
-			layoutAdjustLoginLogoutButtons();
-		});
-		loginScreen.setOnLoginSuccessfully(event -> {
-			hideScreen(loginScreen);
-			layoutAdjustLoginLogoutButtons();
+		ConnectionsLogin loginScreen = screenRegistry.get(ConnectionsLogin.class, () -> {
+			ConnectionsLogin newLoginScreen = new ConnectionsLogin(webContext, webSessionContext);
+			newLoginScreen.setOnGoBack(event -> {
+				hideScreen(newLoginScreen);
+				layoutAdjustLoginLogoutButtons();
+			});
+			newLoginScreen.setOnLoginSuccessfully(event -> {
+				hideScreen(newLoginScreen);
+				layoutAdjustLoginLogoutButtons();
+			});
+			return newLoginScreen;
 		});
 		showScreen(loginScreen);
 	}
@@ -277,6 +327,15 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 	 * Initializes the game session screen and shows it over the home screen.
 	 */
 	private void initGameSession() {
+		initGameSession(true);
+	}
+
+	/**
+	 * Initializes the game session screen and shows it over the home screen.
+	 *
+	 * @param animate true to scroll the game session in, false to show it in place
+	 */
+	private void initGameSession(boolean animate) {
 		checkSession();
 		GameData gameDataLoadWith = WebUtils.gameGetByPuzzleNumber(webContext,
 				WebUtils.dailyPuzzleNumberGet(webContext));
@@ -285,23 +344,209 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 		GameSession gameSession = new GameSession(gameSessionContext);
 		gameSession.setOnGoBack(event -> {
 			hideScreen(gameSession, onHide -> {
-				gameSession.close();
+				closeGameSession(gameSession);
 			});
 		});
 		gameSession.setOnMidnight(event -> {
 			hideScreen(gameSession, onHide -> {
-				gameSession.close();
+				closeGameSession(gameSession);
 				setButtonsDisabled(true);
 			});
 
+			// The daily puzzle is derived from the date, so it has already changed.
 			PauseTransition delay = new PauseTransition(Duration.millis(2000));
 			delay.setOnFinished(onFinished -> {
-				WebUtils.dailyPuzzleNumberIncrementIfNeeded(webContext);
 				setButtonsDisabled(false);
 			});
 			delay.play();
 		});
-		showScreen(gameSession);
+		openGameSession = gameSession;
+		openGameSessionIsArchive = false;
+		showScreen(gameSession, animate);
+	}
+
+	/**
+	 * Initializes the archive screen and shows it over the home screen. The
+	 * archive prefetcher is created on first use and kept until the player
+	 * leaves the archive.
+	 */
+	private void initArchiveScreen() {
+		checkSession();
+		if (archivePrefetcher == null) {
+			archivePrefetcher = new ArchivePrefetcher(webContext, webSessionContext.getSession().getUser().getUserID());
+		}
+		int todayPuzzleNumber = WebUtils.dailyPuzzleNumberGet(webContext);
+		ConnectionsArchive archiveScreen = new ConnectionsArchive(webContext, webSessionContext, todayPuzzleNumber,
+				archivePrefetcher.getNextPuzzleNumber(todayPuzzleNumber));
+		archiveScreen.setOnGoBack(event -> {
+			hideScreen(archiveScreen, onHide -> {
+				closeArchivePrefetcher();
+			});
+		});
+		archiveScreen.setOnPlay(event -> {
+			int selectedPuzzleNumber = archiveScreen.getSelectedPuzzleNumber();
+			// An archive game is never checked against or saved into the user's daily
+			// game, so today's puzzle and the ones after it cannot be played from here.
+			if (selectedPuzzleNumber >= todayPuzzleNumber) {
+				archiveScreen.showMissingPuzzle();
+				return;
+			}
+			ArchivePuzzle archivePuzzle = archivePrefetcher.take(selectedPuzzleNumber);
+			if (archivePuzzle == null) {
+				archiveScreen.showMissingPuzzle();
+				return;
+			}
+			archiveScreen.setButtonsDisabled(true);
+			initArchiveGameSession(archivePuzzle);
+			hideScreen(archiveScreen, onHide -> {
+				setButtonsDisabled(true);
+			});
+		});
+		showScreen(archiveScreen);
+	}
+
+	/**
+	 * Initializes a game session for a puzzle from the archive and shows it over
+	 * the home screen. While it is being played, the puzzles after it are
+	 * prefetched so that the next puzzle button opens without a database round
+	 * trip.
+	 *
+	 * @param archivePuzzle the archive puzzle to play
+	 */
+	private void initArchiveGameSession(ArchivePuzzle archivePuzzle) {
+		initArchiveGameSession(archivePuzzle, true);
+	}
+
+	/**
+	 * Initializes a game session for a puzzle from the archive and shows it over
+	 * the home screen.
+	 *
+	 * @param archivePuzzle the archive puzzle to play
+	 * @param animate       true to scroll the game session in, false to show it in
+	 *                      place
+	 */
+	private void initArchiveGameSession(ArchivePuzzle archivePuzzle, boolean animate) {
+		int puzzleNumber = archivePuzzle.getGameData().getPuzzleNumber();
+		GameSessionContext gameSessionContext = new GameSessionContext(styleManager, archivePuzzle, webContext,
+				webSessionContext);
+		GameSession gameSession = new GameSession(gameSessionContext);
+		gameSession.setOnGoBack(event -> {
+			hideScreen(gameSession, onHide -> {
+				closeGameSession(gameSession);
+				closeArchivePrefetcher();
+			});
+		});
+		gameSession.setOnNextPuzzle(event -> {
+			ArchivePuzzle nextArchivePuzzle = null;
+			int nextPuzzleNumber = archivePrefetcher.getNextPuzzleNumber(puzzleNumber);
+			if (nextPuzzleNumber != -1) {
+				nextArchivePuzzle = archivePrefetcher.take(nextPuzzleNumber);
+			}
+			if (nextArchivePuzzle == null) {
+				hideScreen(gameSession, onHide -> {
+					closeGameSession(gameSession);
+					closeArchivePrefetcher();
+				});
+				return;
+			}
+			initArchiveGameSession(nextArchivePuzzle);
+			hideScreen(gameSession, onHide -> {
+				closeGameSession(gameSession);
+				setButtonsDisabled(true);
+			});
+		});
+		openGameSession = gameSession;
+		openGameSessionIsArchive = true;
+		showScreen(gameSession, animate);
+		archivePrefetcher.prefetchAfter(puzzleNumber);
+	}
+
+	/**
+	 * Closes the specified game session, which also saves its state.
+	 *
+	 * @param gameSession the game session to be closed
+	 */
+	private void closeGameSession(GameSession gameSession) {
+		gameSession.close();
+		if (openGameSession == gameSession) {
+			openGameSession = null;
+		}
+	}
+
+	/**
+	 * Returns the puzzle number of the game session on display.
+	 *
+	 * @return the puzzle number, or -1 if no game session is on display
+	 */
+	public int getOpenPuzzleNumber() {
+		if (openGameSession == null) {
+			return -1;
+		}
+		return openGameSession.getGameSessionContext().getGameData().getPuzzleNumber();
+	}
+
+	/**
+	 * Returns the archive puzzle played by the game session on display. Once the
+	 * game session is closed, it holds the progress of the game if it was left
+	 * unfinished.
+	 *
+	 * @return the archive puzzle, or null if no archive game is on display
+	 */
+	public ArchivePuzzle getOpenArchivePuzzle() {
+		if (openGameSession == null || !openGameSessionIsArchive) {
+			return null;
+		}
+		return openGameSession.getGameSessionContext().getArchivePuzzle();
+	}
+
+	/**
+	 * Shows the game session of the specified daily puzzle right away, without
+	 * the screen scrolling in. The game is loaded from the user's save state.
+	 * Used to bring back a session that was hibernated. Nothing is shown if the
+	 * daily puzzle has changed since.
+	 *
+	 * @param puzzleNumber the puzzle number of the game session
+	 */
+	public void resumeGameSession(int puzzleNumber) {
+		if (puzzleNumber == WebUtils.dailyPuzzleNumberGet(webContext)) {
+			initGameSession(false);
+		}
+	}
+
+	/**
+	 * Shows the game session of the specified archive puzzle right away, without
+	 * the screen scrolling in. Archive games are not saved to the database, so
+	 * the game is loaded from the progress kept in the archive puzzle when its
+	 * game session was closed. Used to bring back a session that was hibernated.
+	 *
+	 * @param archivePuzzle the archive puzzle of the game session
+	 */
+	public void resumeArchiveGameSession(ArchivePuzzle archivePuzzle) {
+		checkSession();
+		archivePrefetcher = new ArchivePrefetcher(webContext, webSessionContext.getSession().getUser().getUserID());
+		initArchiveGameSession(archivePuzzle, false);
+	}
+
+	/**
+	 * Closes the game session on display, saving its state, and cancels any
+	 * pending archive fetches. Called when the browser tab is closed or the
+	 * session is hibernated.
+	 */
+	public void close() {
+		if (openGameSession != null) {
+			closeGameSession(openGameSession);
+		}
+		closeArchivePrefetcher();
+	}
+
+	/**
+	 * Cancels any pending archive fetches and drops the archive prefetcher.
+	 */
+	private void closeArchivePrefetcher() {
+		if (archivePrefetcher != null) {
+			archivePrefetcher.close();
+			archivePrefetcher = null;
+		}
 	}
 
 	/**
@@ -315,10 +560,10 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 			logoutButton.setVisible(false);
 
 			if (currentlySignedInAccount()) {
-				centerBox.getChildren().add(4, logoutButton);
+				centerBox.getChildren().add(5, logoutButton);
 				logoutButton.setVisible(true);
 			} else {
-				centerBox.getChildren().add(4, loginButton);
+				centerBox.getChildren().add(5, loginButton);
 				loginButton.setVisible(true);
 			}
 		}
@@ -338,7 +583,7 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 	 * @return the ImageView with the logo image
 	 */
 	private ImageView createLogoImageView() {
-		Image logoImage = new Image("file:img/conn_logo.png");
+		Image logoImage = AssetRegistry.getImage(AssetRegistry.LOGO_IMAGE_URL);
 		ImageView logoImageView = new ImageView(logoImage);
 		logoImageView.setFitWidth(100);
 		logoImageView.setPreserveRatio(true);
@@ -353,6 +598,7 @@ public class ConnectionsHome extends BorderPane implements WebContextAccessible,
 	private void setButtonsDisabled(boolean disabled) {
 		loginButton.setDisable(disabled);
 		playButton.setDisable(disabled);
+		archiveButton.setDisable(disabled);
 		showDebugInfoButton.setDisable(disabled);
 	}
 
@@ -34,7 +34,8 @@ import javafx.util.Duration;
  * game. It extends the JavaFX BorderPane class and implements the
  * WebContextAccessible and WebSessionAccessible interfaces.
  */
-public class ConnectionsLogin extends BorderPane implements WebContextAccessible, WebSessionAccessible {
+public class ConnectionsLogin extends BorderPane
+		implements WebContextAccessible, WebSessionAccessible, ScreenRegistry.Recyclable {
 	private StyleManager styleManager;
 	private WebContext webContext;
 	private WebSessionContext webSessionContext;
@@ -313,6 +314,62 @@ public class ConnectionsLogin extends BorderPane implements WebContextAccessible
 		parallel.play();
 	}
 
+	/**
+	 * Displays the first menu of the login screen, where only the email is asked
+	 * for.
+	 */
+	private void menuForEnteringEmail() {
+		continueButton.setText("Continue");
+		continueButton.setOnAction(event -> {
+			if (isValidEmail(emailBox.getInput())) {
+				emailBox.setInputDisabled(true);
+				isCreatingNewAccount = !emailExistsInDatabase(emailBox.getInput());
+
+				if (isCreatingNewAccount) {
+					menuForCreatingAccount();
+				} else {
+					menuForLoggingIn();
+				}
+			} else {
+				emailBox.setIncorrect(true);
+				invalidEmailMessage.setVisible(true);
+			}
+		});
+	}
+
+	/**
+	 * Resets the login screen to its first menu with empty fields, so that it can
+	 * be shown again.
+	 */
+	@Override
+	public void refreshData() {
+		for (EntryBox entryBox : new EntryBox[] { emailBox, usernameBox, passwordBox }) {
+			entryBox.field.clear();
+			entryBox.setIncorrect(false);
+			entryBox.setInputDisabled(false);
+		}
+		invalidEmailMessage.setVisible(false);
+		accountErrorMessage.setVisible(false);
+		for (Node node : nextSectionLayout.getChildren()) {
+			node.setVisible(false);
+		}
+
+		// The continue button swaps rows with its placeholder when the next menu is
+		// shown, so it is swapped back here.
+		int continueRow = GridPane.getRowIndex(continueButton);
+		int placeholderRow = GridPane.getRowIndex(continueButtonPlaceholder);
+		if (continueRow > placeholderRow) {
+			gridLayout.getChildren().removeAll(continueButton, continueButtonPlaceholder);
+			gridLayout.add(continueButton, 0, placeholderRow);
+			gridLayout.add(continueButtonPlaceholder, 0, continueRow);
+		}
+		continueButton.setTranslateX(0);
+		continueButton.setTranslateY(0);
+
+		menuForEnteringEmail();
+		setButtonsDisabled(false);
+	}
+
 	/**
 	 * Displays the menu for creating a new account.
 	 */
@@ -481,21 +538,7 @@ public class ConnectionsLogin extends BorderPane implements WebContextAccessible
 		gridLayout.add(continueButtonPlaceholder, 0, 4);
 		gridLayout.add(accountErrorMessage, 0, 5);
 
-		continueButton.setOnAction(event -> {
-			if (isValidEmail(emailBox.getInput())) {
-				emailBox.setInputDisabled(true);
-				isCreatingNewAccount = !emailExistsInDatabase(emailBox.getInput());
-
-				if (isCreatingNewAccount) {
-					menuForCreatingAccount();
-				} else {
-					menuForLoggingIn();
-				}
-			} else {
-				emailBox.setIncorrect(true);
-				invalidEmailMessage.setVisible(true);
-			}
-		});
+		menuForEnteringEmail();
 
 		verticalLayout = new VBox(20);
 		verticalLayout.setAlignment(Pos.CENTER);
@@ -21,6 +21,7 @@ import javafx.util.Duration;
 /**
  * The CountDownOverlayPane class represents a pane that displays a countdown
  * animation. It is designed to be used as an overlay during a game session.
+ * Its transitions are built once and replayed for every countdown.
  */
 public class CountDownOverlayPane extends StackPane implements Modular {
 	public static final int BACKGROUND_PANE_WIDTH = 500;
@@ -29,6 +30,9 @@ public class CountDownOverlayPane extends StackPane implements Modular {
 	private Text countDownText;
 	private GameSessionContext gameSessionContext;
 	private EventHandler<ActionEvent> onFinishedCountdown;
+	private SequentialTransition appearSequence;
+	private SequentialTransition countdownSequence;
+	private FadeTransition disappearFadeOut;
 
 	/**
 	 * Constructs a new CountDownOverlayPane with the specified GameSessionContext.
@@ -56,9 +60,44 @@ public class CountDownOverlayPane extends StackPane implements Modular {
 		setAlignment(Pos.CENTER);
 		getChildren().addAll(backgroundPane, countDownText);
 		setVisible(false);
+		initTransitions();
 		refreshStyle();
 	}
 
+	/**
+	 * Initializes the transitions that make up the countdown.
+	 */
+	private void initTransitions() {
+		PauseTransition delay = new PauseTransition(Duration.millis(1000));
+		delay.setOnFinished(event -> {
+			setVisible(true);
+		});
+
+		FadeTransition fadeIn = new FadeTransition(Duration.millis(500), this);
+		fadeIn.setFromValue(0.0);
+		fadeIn.setToValue(1.0);
+
+		fadeIn.setOnFinished(event -> {
+			countdownSequence.playFromStart();
+		});
+
+		appearSequence = new SequentialTransition(delay, fadeIn);
+
+		countdownSequence = new SequentialTransition(getShrinkAnimation("3", false), getShrinkAnimation("2", false),
+				getShrinkAnimation("1", false), getShrinkAnimation("GO!", true));
+
+		disappearFadeOut = new FadeTransition(Duration.millis(500), this);
+		disappearFadeOut.setFromValue(1.0);
+		disappearFadeOut.setToValue(0.0);
+
+		disappearFadeOut.setOnFinished(event -> {
+			if (onFinishedCountdown != null) {
+				onFinishedCountdown.handle(new ActionEvent(this, null));
+			}
+			setVisible(false);
+		});
+	}
+
 	/**
 	 * Creates a shrink animation sequence for the countdown text.
 	 *
@@ -101,26 +140,7 @@ public class CountDownOverlayPane extends StackPane implements Modular {
 	 * event.
 	 */
 	private void fadeOutAndTrigger() {
-		FadeTransition fadeOut = new FadeTransition(Duration.millis(500), this);
-		fadeOut.setFromValue(1.0);
-		fadeOut.setToValue(0.0);
-		fadeOut.play();
-
-		fadeOut.setOnFinished(event -> {
-			if (onFinishedCountdown != null) {
-				onFinishedCountdown.handle(new ActionEvent(this, null));
-			}
-			setVisible(false);
-		});
-	}
-
-	/**
-	 * Plays the countdown animation sequence.
-	 */
-	private void playCountDownAnimation() {
-		SequentialTransition countdownSequence = new SequentialTransition(getShrinkAnimation("3", false),
-				getShrinkAnimation("2", false), getShrinkAnimation("1", false), getShrinkAnimation("GO!", true));
-		countdownSequence.play();
+		disappearFadeOut.playFromStart();
 	}
 
 	/**
@@ -128,21 +148,7 @@ public class CountDownOverlayPane extends StackPane implements Modular {
 	 * animation.
 	 */
 	public void startCountdown() {
-		PauseTransition delay = new PauseTransition(Duration.millis(1000));
-		delay.setOnFinished(event -> {
-			setVisible(true);
-		});
-
-		FadeTransition fadeIn = new FadeTransition(Duration.millis(500), this);
-		fadeIn.setFromValue(0.0);
-		fadeIn.setToValue(1.0);
-
-		fadeIn.setOnFinished(event -> {
-			playCountDownAnimation();
-		});
-
-		SequentialTransition sequence = new SequentialTransition(delay, fadeIn);
-		sequence.play();
+		appearSequence.playFromStart();
 	}
 
 	/**
@@ -32,7 +32,9 @@ public class DarkModeToggle extends StackPane implements Modular {
 		this.gameSessionContext = gameSessionContext;
 		label = new Label();
 		label.setPrefSize(92.5, HEIGHT);
+		label.getStyleClass().add("dark-mode-toggle-label");
 		circle = new Circle(16.65);
+		circle.getStyleClass().add("dark-mode-toggle-circle");
 		circle.setTranslateX(-27.5);
 
 		moonIconSVG = new SVGPath();
@@ -104,13 +106,11 @@ public class DarkModeToggle extends StackPane implements Modular {
 	}
 
 	/**
-	 * Refreshes the style of the dark mode toggle based on the current style
-	 * manager.
+	 * Refreshes the style of the dark mode toggle. The label and the knob are
+	 * styled by the theme stylesheet, so they follow the dark mode on their own.
 	 */
 	@Override
 	public void refreshStyle() {
-		label.setStyle(gameSessionContext.getStyleManager().styleLabel());
-		circle.setStyle(gameSessionContext.getStyleManager().styleCircle());
 	}
 
 	/**
@@ -4,16 +4,25 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.connections.model.DifficultyColor;
 import com.connections.model.GameAnswerColor;
+import com.connections.model.GameEvent;
+import com.connections.model.GameEventLog;
 import com.connections.model.GameSaveState;
+import com.connections.model.Hint;
+import com.connections.model.HintLevel;
 import com.connections.model.PlayedGameInfo;
 import com.connections.model.PlayedGameInfoClassic;
 import com.connections.model.PlayedGameInfoTimed;
 import com.connections.model.Word;
+import com.connections.web.ArchivePuzzle;
+import com.connections.web.GamePersistence;
+import com.connections.web.SessionRegistry;
 import com.connections.web.WebSessionContext;
 import com.connections.web.WebUser;
+import com.jpro.webapi.WebAPI;
 
 import javafx.animation.ParallelTransition;
 import javafx.animation.PauseTransition;
@@ -24,9 +33,6 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.Parent;
-import javafx.scene.effect.GaussianBlur;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
@@ -45,6 +51,7 @@ public class GameSession extends StackPane implements Modular {
 	public static final int STAGE_HEIGHT = 750;
 
 	private static final int POPUP_DEFAULT_DURATION_MS = 3000;
+	private static final int POPUP_TEXT_PADDING = 24;
 	private static final int MENU_PANE_HEIGHT = NotificationPane.HEIGHT + 10;
 
 	public static final int TIME_TRIAL_DURATION_SEC = 60;
@@ -56,6 +63,7 @@ public class GameSession extends StackPane implements Modular {
 	private BorderPane timeTrialTimerLayout;
 	private Text mainHeaderText;
 	private BorderPane organizationPane;
+	private BlurredBackdrop organizationBackdrop;
 	private StackPane menuPane;
 	private VBox gameContentPane;
 	private StackPane tileGridStackPane;
@@ -86,10 +94,13 @@ public class GameSession extends StackPane implements Modular {
 	private CircularButton gameDeselectButton;
 	private CircularButton gameShuffleButton;
 	private CircularButton gameViewResultsButton;
+	private CircularButton gameNextPuzzleButton;
 
 	// Keep reference to results pane to avoid re-loading it each time
 	private ResultsPane resultsPane;
 	private PopupWrapperPane popupPane;
+	// The leaderboard and profile screens are built on first use and then reused
+	private ScreenRegistry screenRegistry;
 
 	private int currentPuzzleNumber;
 	private boolean gameAlreadyFinished;
@@ -99,16 +110,28 @@ public class GameSession extends StackPane implements Modular {
 	private boolean hintsCannotBeUsedRightNow;
 	private GameType gameType;
 
+	// The submission animations are built once and reused for every guess. The
+	// outcome of the guess being animated is kept in the fields below them.
+	private SequentialTransition submissionIncorrectTransition;
+	private SequentialTransition submissionCorrectTransition;
+	private boolean submissionLostGame;
+	private boolean submissionOneAway;
+	private boolean submissionWonGame;
+
 	private boolean timeKeepingActive;
 	private ZonedDateTime gameStartDateTime;
 	private ZonedDateTime gameEndDateTime;
 
 	private EventHandler<ActionEvent> onGoBack;
 	private EventHandler<ActionEvent> onMidnight;
+	private EventHandler<ActionEvent> onNextPuzzle;
 
 	// will be null if the game was not finished yet
 	private PlayedGameInfo playedGameInfo;
 	private GameSaveState loadedSaveState;
+	private GameEventLog gameEventLog;
+	private long tileLayoutSeed;
+	private GamePersistence gamePersistence;
 
 	/**
 	 * Represents the different types of game modes available.
@@ -124,6 +147,11 @@ public class GameSession extends StackPane implements Modular {
 	 */
 	public GameSession(GameSessionContext gameSessionContext) {
 		this.gameSessionContext = gameSessionContext;
+		// A context without a WebAPI, as in benchmarks, has no tab to claim the game
+		// for, which only archive games do without.
+		WebAPI webAPI = gameSessionContext.getWebContext().getWebAPI();
+		this.gamePersistence = new GamePersistence(gameSessionContext.getWebSessionContext(),
+				(webAPI == null) ? null : webAPI.getInstanceID());
 		initAssets();
 		initListeners();
 		fastForwardAutoLoad();
@@ -139,13 +167,15 @@ public class GameSession extends StackPane implements Modular {
 		ranOutOfTime = false;
 
 		currentPuzzleNumber = gameSessionContext.getGameData().getPuzzleNumber();
+		screenRegistry = new ScreenRegistry();
 
 		setPrefSize(STAGE_WIDTH, STAGE_HEIGHT);
 
 		darkModeToggleMenuButton = new DarkModeToggle(gameSessionContext);
 
 		tileGridWord = new TileGridWord(gameSessionContext);
-		tileGridWord.initTileWords();
+		tileLayoutSeed = ThreadLocalRandom.current().nextLong();
+		tileGridWord.initTileWords(tileLayoutSeed);
 
 		tileGridWordAnimationPane = new TileGridWordAnimationOverlay(tileGridWord);
 
@@ -165,6 +195,9 @@ public class GameSession extends StackPane implements Modular {
 		profileMenuButton = new ProfileMenuButton(gameSessionContext);
 
 		mainHeaderText = new Text("Create four groups of four!");
+		if (gameSessionContext.isArchiveMode()) {
+			mainHeaderText.setText("Puzzle #" + currentPuzzleNumber + ": Create four groups of four!");
+		}
 		mainHeaderText.setFont(gameSessionContext.getStyleManager().getFont("franklin-normal", 500, 18));
 
 		hintsPane = new CircleRowPane("Hints remaining:", gameSessionContext);
@@ -179,6 +212,8 @@ public class GameSession extends StackPane implements Modular {
 
 		gameViewResultsButton = new CircularButton("View Results", 160, gameSessionContext, false);
 
+		gameNextPuzzleButton = new CircularButton("Next Puzzle", 132, gameSessionContext, true);
+
 		gameButtonRowPane = new HBox(8);
 		gameButtonRowPane.setAlignment(Pos.CENTER);
 
@@ -210,10 +245,14 @@ public class GameSession extends StackPane implements Modular {
 		organizationPane.setPrefSize(STAGE_WIDTH, STAGE_HEIGHT);
 		organizationPane.setPadding(new Insets(10));
 
-		getChildren().add(organizationPane);
+		organizationBackdrop = new BlurredBackdrop();
+		getChildren().addAll(organizationPane, organizationBackdrop);
 
+		// Archive puzzles do not change at midnight.
 		midnightChecker = new MidnightChecker();
-		midnightChecker.start();
+		if (!gameSessionContext.isArchiveMode()) {
+			midnightChecker.start();
+		}
 
 		timeTrialCountDownOverlay = new CountDownOverlayPane(gameSessionContext);
 		timeTrialTimerPane = new TimerPane(gameSessionContext, TIME_TRIAL_DURATION_SEC);
@@ -232,8 +271,12 @@ public class GameSession extends StackPane implements Modular {
 		errorUserInGamePane.setBodyText(
 				"You are currently playing from another browser tab or device under the same user.\nPlease wait until the game is finished and try again.");
 
+		// An archive game follows another game of the same session, so the user
+		// is already up to date.
 		WebUser currentUser = gameSessionContext.getWebSessionContext().getSession().getUser();
-		currentUser.readFromDatabase();
+		if (!gameSessionContext.isArchiveMode()) {
+			currentUser.readFromDatabase();
+		}
 		darkModeToggleMenuButton.setDarkMode(currentUser.getDarkModeStatus());
 		getChildren().add(0, timeTrialTimerLayout);
 		controlsSetNormal();
@@ -249,8 +292,9 @@ public class GameSession extends StackPane implements Modular {
 			helperUpdateGameButtonStatus();
 		});
 		gameShuffleButton.setOnAction(event -> {
-			tileGridWord.shuffleTileWords();
-			fastForwardStoreSaveState();
+			long shuffleSeed = ThreadLocalRandom.current().nextLong();
+			tileGridWord.shuffleTileWords(shuffleSeed);
+			fastForwardLogEvent(GameEvent.EventType.SHUFFLE, shuffleSeed);
 		});
 		gameSubmitButton.setOnAction(event -> {
 			sessionSubmissionAttempt();
@@ -273,6 +317,13 @@ public class GameSession extends StackPane implements Modular {
 		gameViewResultsButton.setOnAction(event -> {
 			screenDisplayResults();
 		});
+		gameNextPuzzleButton.setOnAction(event -> {
+			if (onNextPuzzle != null) {
+				helperSetAllInteractablesDisabled(true);
+				gameNextPuzzleButton.setDisable(true);
+				onNextPuzzle.handle(new ActionEvent(this, null));
+			}
+		});
 		backMenuButton.setOnMouseClicked(event -> {
 			if (onGoBack != null) {
 				// Disable buttons only if there IS a onGoBack set.
@@ -292,11 +343,8 @@ public class GameSession extends StackPane implements Modular {
 		profileMenuButton.setOnMouseClicked(event -> {
 			screenDisplayProfile();
 		});
-		gameSessionContext.getWebContext().getWebAPI().addInstanceCloseListener(() -> {
-			close();
-		});
 		gameTypeOptionSelector.setOnDisappear(event -> {
-			organizationPane.setEffect(null);
+			organizationBackdrop.uncover();
 			switch (gameTypeOptionSelector.getOptionSelected()) {
 			case "Classic":
 				gameType = GameType.CLASSIC;
@@ -312,7 +360,7 @@ public class GameSession extends StackPane implements Modular {
 		});
 		timeTrialTimerPane.setOnSecondPassedBy(event -> {
 			if (gameActive && gameType == GameType.TIME_TRIAL) {
-				fastForwardStoreSaveState();
+				fastForwardTouchEventLog();
 			}
 		});
 		timeTrialTimerPane.setOnFinishedTimer(event -> {
@@ -346,6 +394,9 @@ public class GameSession extends StackPane implements Modular {
 	private void controlsSetViewResultsOnly() {
 		gameButtonRowPane.getChildren().clear();
 		gameButtonRowPane.getChildren().add(gameViewResultsButton);
+		if (gameSessionContext.isArchiveMode()) {
+			gameButtonRowPane.getChildren().add(gameNextPuzzleButton);
+		}
 		gameContentPane.getChildren().clear();
 		gameContentPane.getChildren().addAll(mainHeaderText, tileGridStackPane, gameButtonRowPane);
 	}
@@ -375,15 +426,16 @@ public class GameSession extends StackPane implements Modular {
 	 * Displays the leaderboard screen.
 	 */
 	private void screenDisplayLeaderboard() {
-		new BorderPane();
-		helperPopupScreen(new LeaderboardPane(gameSessionContext), "Leaderboard:");
+		helperPopupScreen(screenRegistry.get(LeaderboardPane.class, () -> new LeaderboardPane(gameSessionContext)),
+				"Leaderboard:");
 	}
 
 	/**
 	 * Displays the profile screen.
 	 */
 	private void screenDisplayProfile() {
-		helperPopupScreen(new ProfilePane(gameSessionContext), "Profile:");
+		helperPopupScreen(screenRegistry.get(ProfilePane.class, () -> new ProfilePane(gameSessionContext)),
+				"Profile:");
 	}
 
 	/**
@@ -415,11 +467,18 @@ public class GameSession extends StackPane implements Modular {
 	 * if the game has already finished.
 	 */
 	private void fastForwardAutoLoad() {
-		WebUser currentUser = gameSessionContext.getWebSessionContext().getSession().getUser();
-		currentUser.readFromDatabase();
-		if (currentUser.isCurrentlyInGame()) {
+		// Archive games are not saved to the database, and the earlier result was
+		// prefetched. A game left unfinished when the tab was hibernated is kept in
+		// memory instead.
+		if (gameSessionContext.isArchiveMode()) {
+			fastForwardLoadArchiveSaveState();
+			return;
+		}
+
+		GamePersistence.SavedGame savedGame = gamePersistence.open();
+		if (savedGame == GamePersistence.SavedGame.IN_GAME_ELSEWHERE) {
 			fastForwardUserCurrentlyIngame();
-		} else if (currentUser.hasLatestSaveState()) {
+		} else if (savedGame == GamePersistence.SavedGame.IN_PROGRESS) {
 			fastForwardLoadSaveState();
 		} else {
 			fastForwardCheckGameFinishedAlready();
@@ -431,72 +490,174 @@ public class GameSession extends StackPane implements Modular {
 	 */
 	private void fastForwardUserCurrentlyIngame() {
 		helperSetAllInteractablesDisabled(true);
-		displayPaneWithGaussianBlur(errorUserInGamePane);
+		displayPaneWithBlurredBackdrop(errorUserInGamePane);
 		errorUserInGamePane.appear();
 	}
 
 	/**
-	 * Loads the game session from the user's save state.
+	 * Loads the game session from the user's save state. The state is replayed
+	 * from the user's game event log when there is one, and read from the full
+	 * save state written by older versions otherwise. The user was read when the
+	 * game was opened.
 	 */
 	private void fastForwardLoadSaveState() {
-		WebUser currentUser = gameSessionContext.getWebSessionContext().getSession().getUser();
-		currentUser.readFromDatabase();
+		GameEventLog storedEventLog = gamePersistence.getSavedEventLog();
+		if (storedEventLog != null) {
+			loadedSaveState = storedEventLog.toSaveState(tileGridWord.getGameBoard());
+		} else if (gamePersistence.getSavedSaveState() != null) {
+			loadedSaveState = gamePersistence.getSavedSaveState();
+		} else {
+			return;
+		}
 
-		if (currentUser.hasLatestSaveState() && currentUser.getLatestGameSaveState() != null) {
-			loadedSaveState = currentUser.getLatestGameSaveState();
-			int puzzleNumberInSave = loadedSaveState.getPuzzleNumber();
+		int puzzleNumberInSave = loadedSaveState.getPuzzleNumber();
 
-			// This occurs when the daily puzzle number has changed (and the previous save
-			// state is on some previous puzzle number).
-			if (puzzleNumberInSave != currentPuzzleNumber) {
-				fastForwardCheckGameFinishedAlready();
-				return;
-			}
+		// This occurs when the daily puzzle number has changed (and the previous save
+		// state is on some previous puzzle number).
+		if (puzzleNumberInSave != currentPuzzleNumber) {
+			fastForwardCheckGameFinishedAlready();
+			return;
+		}
 
-			hintsPane.setNumCircles(loadedSaveState.getHintsLeft());
-			mistakesPane.setNumCircles(loadedSaveState.getMistakesLeft());
-			tileGridWord.loadFromSaveState(loadedSaveState);
-			gameType = loadedSaveState.getGameType();
+		fastForwardRestoreSaveState(storedEventLog);
+	}
 
-			helperSetAllInteractablesDisabled(false);
+	/**
+	 * Loads an archive game from the save state kept in its ArchivePuzzle when
+	 * the game was closed unfinished, or checks if the game has already finished
+	 * when there is none. The kept save state is used up, so a game that is
+	 * finished afterwards is not reopened from it.
+	 */
+	private void fastForwardLoadArchiveSaveState() {
+		ArchivePuzzle archivePuzzle = gameSessionContext.getArchivePuzzle();
+		loadedSaveState = archivePuzzle.getSaveState();
+		archivePuzzle.setSaveState(null);
+		if (loadedSaveState == null) {
+			fastForwardCheckGameFinishedAlready();
+			return;
+		}
 
-			gameActive = true;
-			wonGame = false;
-			ranOutOfTime = false;
-			gameAlreadyFinished = false;
-			loadedFromSaveState = true;
+		fastForwardRestoreSaveState(null);
+	}
 
-			java.time.Duration previousGameDuration = java.time.Duration.between(loadedSaveState.getGameStartTime(),
-					loadedSaveState.getSaveStateCreationTime());
+	/**
+	 * Restores the game session from the loaded save state and resumes the game
+	 * where it was left.
+	 *
+	 * @param storedEventLog the event log the game was loaded from, or null if it
+	 *                       was loaded from a full save state
+	 */
+	private void fastForwardRestoreSaveState(GameEventLog storedEventLog) {
+		hintsPane.setNumCircles(loadedSaveState.getHintsLeft());
+		mistakesPane.setNumCircles(loadedSaveState.getMistakesLeft());
+		tileGridWord.loadFromSaveState(loadedSaveState);
+		gameType = loadedSaveState.getGameType();
 
-			ZonedDateTime newStartTime = ZonedDateTime.now().minus(previousGameDuration);
+		helperSetAllInteractablesDisabled(false);
+
+		gameActive = true;
+		wonGame = false;
+		ranOutOfTime = false;
+		gameAlreadyFinished = false;
+		loadedFromSaveState = true;
+
+		java.time.Duration previousGameDuration = java.time.Duration.between(loadedSaveState.getGameStartTime(),
+				loadedSaveState.getSaveStateCreationTime());
+
+		ZonedDateTime newStartTime = ZonedDateTime.now().minus(previousGameDuration);
+
+		helperTimeKeepingStart(newStartTime);
+		fastForwardResumeEventLog(storedEventLog);
+		helperSetUserInGameStatus(true);
+	}
 
-			helperTimeKeepingStart(newStartTime);
-			helperSetUserInGameStatus(true);
+	/**
+	 * Starts the event log of a new game, beginning with the seed of the tile
+	 * layout.
+	 */
+	private void fastForwardStartEventLog() {
+		// The event log belongs to the daily puzzle, so an archive game must not
+		// replace it.
+		if (gameSessionContext.isArchiveMode()) {
+			return;
 		}
+
+		gameEventLog = new GameEventLog(currentPuzzleNumber, gameType, gameStartDateTime);
+		gameEventLog.addEvent(GameEvent.EventType.START, tileLayoutSeed, gameStartDateTime);
+		gamePersistence.startEventLog(gameEventLog);
 	}
 
 	/**
-	 * Stores the current game state as the user's save state.
+	 * Continues the event log of a loaded game. The log's clock is shifted to the
+	 * resumed start time so event times keep measuring time spent in the game. A
+	 * game loaded from an older full save state gets a new log that starts from
+	 * that state as its snapshot.
+	 *
+	 * @param storedEventLog the event log the game was loaded from, or null if it
+	 *                       was loaded from a full save state
 	 */
-	private void fastForwardStoreSaveState() {
-		if (gameActive && !gameAlreadyFinished && !blockedStoringSaveState) {
-			WebUser currentUser = gameSessionContext.getWebSessionContext().getSession().getUser();
+	private void fastForwardResumeEventLog(GameEventLog storedEventLog) {
+		if (gameSessionContext.isArchiveMode()) {
+			return;
+		}
 
-			GameSaveState gameSaveState = new GameSaveState(tileGridWord, hintsPane, mistakesPane, gameSessionContext,
-					!gameActive, gameType, gameStartDateTime);
+		if (storedEventLog == null) {
+			gameEventLog = new GameEventLog(currentPuzzleNumber, gameType, gameStartDateTime);
+			gameEventLog.setSnapshot(loadedSaveState, 0);
+			gamePersistence.startEventLog(gameEventLog);
+			fastForwardClearSaveState();
+		} else {
+			gameEventLog = storedEventLog;
+			gameEventLog.setGameStartTime(gameStartDateTime);
+			gamePersistence.touchEventLog(gameEventLog);
+		}
+	}
 
-			currentUser.readFromDatabase();
-			currentUser.setLatestGameSaveState(gameSaveState);
-			currentUser.writeToDatabase();
+	/**
+	 * Records a player action in the game's event log with a single push, and
+	 * stores a new snapshot of the log when enough events have been added since
+	 * the last one.
+	 *
+	 * @param type  the type of the action
+	 * @param value the seed, board mask or hint level of the action
+	 */
+	private void fastForwardLogEvent(GameEvent.EventType type, long value) {
+		if (fastForwardCanStoreEventLog()) {
+			gamePersistence.logEvent(gameEventLog, type, value, tileGridWord.getGameBoard());
+			fastForwardCheckBlockStoring();
+		}
+	}
 
-			/*
-			 * This is to prevent edge cases where the user loads a state RIGHT before they
-			 * ran out of time
-			 */
-			if (gameType == GameType.TIME_TRIAL && timeTrialTimerPane.getTimeLeft() <= 2) {
-				blockedStoringSaveState = true;
-			}
+	/**
+	 * Records that the game is still active, so the time spent in it is kept when
+	 * the game is loaded again.
+	 */
+	private void fastForwardTouchEventLog() {
+		if (fastForwardCanStoreEventLog()) {
+			gamePersistence.touchEventLog(gameEventLog);
+			fastForwardCheckBlockStoring();
+		}
+	}
+
+	/**
+	 * Checks if the game's event log can currently be written to.
+	 *
+	 * @return true if the event log can be written to, false otherwise
+	 */
+	private boolean fastForwardCanStoreEventLog() {
+		return gameEventLog != null && gameActive && !gameAlreadyFinished && !blockedStoringSaveState;
+	}
+
+	/**
+	 * Stops storing the game's progress when a time trial is about to run out.
+	 */
+	private void fastForwardCheckBlockStoring() {
+		/*
+		 * This is to prevent edge cases where the user loads a state RIGHT before they
+		 * ran out of time
+		 */
+		if (gameType == GameType.TIME_TRIAL && timeTrialTimerPane.getTimeLeft() <= 2) {
+			blockedStoringSaveState = true;
 		}
 	}
 
@@ -504,12 +665,22 @@ public class GameSession extends StackPane implements Modular {
 	 * Clears the user's save state.
 	 */
 	private void fastForwardClearSaveState() {
-		WebUser currentUser = gameSessionContext.getWebSessionContext().getSession().getUser();
-		currentUser.readFromDatabase();
+		if (gameSessionContext.isArchiveMode()) {
+			return;
+		}
 
-		if (currentUser.hasLatestSaveState()) {
-			currentUser.clearLatestGameSaveState();
-			currentUser.writeToDatabase();
+		gamePersistence.clearSaveState();
+	}
+
+	/**
+	 * Keeps the progress of an unfinished archive game in its ArchivePuzzle, so
+	 * that the game can be reopened where it was left after the tab wakes up from
+	 * hibernation.
+	 */
+	private void fastForwardKeepArchiveSaveState() {
+		if (gameSessionContext.isArchiveMode() && gameActive && !gameAlreadyFinished && !blockedStoringSaveState) {
+			gameSessionContext.getArchivePuzzle().setSaveState(new GameSaveState(tileGridWord, hintsPane,
+					mistakesPane, gameSessionContext, false, gameType, gameStartDateTime));
 		}
 	}
 
@@ -520,10 +691,14 @@ public class GameSession extends StackPane implements Modular {
 	private void fastForwardCheckGameFinishedAlready() {
 		if (!loadedFromSaveState && !gameActive) {
 
-			WebUser currentUser = gameSessionContext.getWebSessionContext().getSession().getUser();
-			currentUser.readFromDatabase();
+			PlayedGameInfo previousGameInfo;
+			if (gameSessionContext.isArchiveMode()) {
+				previousGameInfo = gameSessionContext.getArchivePuzzle().getPlayedGameInfo();
+			} else {
+				previousGameInfo = gamePersistence.getPlayedGame(currentPuzzleNumber);
+			}
 
-			gameAlreadyFinished = currentUser.hasPlayedGameByPuzzleNum(currentPuzzleNumber);
+			gameAlreadyFinished = previousGameInfo != null;
 
 			gameActive = false;
 
@@ -531,7 +706,7 @@ public class GameSession extends StackPane implements Modular {
 				helperSetAllInteractablesDisabled(false);
 				helperSetGameInteractablesDisabled(true);
 
-				playedGameInfo = currentUser.getPlayedGameByPuzzleNum(currentPuzzleNumber);
+				playedGameInfo = previousGameInfo;
 				gameStartDateTime = playedGameInfo.getGameStartTime();
 				gameEndDateTime = playedGameInfo.getGameEndTime();
 				gameType = playedGameInfo.getGameType();
@@ -549,7 +724,7 @@ public class GameSession extends StackPane implements Modular {
 			} else {
 				helperSetAllInteractablesDisabled(true);
 				helperSetUserInGameStatus(true);
-				displayPaneWithGaussianBlur(gameTypeOptionSelector);
+				displayPaneWithBlurredBackdrop(gameTypeOptionSelector);
 				gameTypeOptionSelector.appear();
 			}
 		}
@@ -560,9 +735,19 @@ public class GameSession extends StackPane implements Modular {
 	 */
 	private void sessionHintUsed() {
 		if (!hintsCannotBeUsedRightNow && hintsPane.getNumCircles() > 0 && !tileGridWord.hintAnimationIsRunning()) {
-			tileGridWord.hintAnimationShow();
+			// Each hint used in a game is one level stronger than the previous one.
+			int hintsUsedCount = hintsPane.getMaxNumCircles() - hintsPane.getNumCircles();
+			Hint hint = tileGridWord.getHint(HintLevel.forHintsUsed(hintsUsedCount));
+			if (hint == null) {
+				return;
+			}
+
+			tileGridWord.hintAnimationShow(hint);
+			if (hint.getLevel() == HintLevel.CATEGORY_LABEL) {
+				helperDisplayHintCategoryLabel(hint);
+			}
 			hintsPane.removeCircle();
-			fastForwardStoreSaveState();
+			fastForwardLogEvent(GameEvent.EventType.HINT, hint.getLevel().ordinal());
 			tileGridWord.setOnHintAnimationStopped(event -> {
 				if (!hintsCannotBeUsedRightNow && hintsPane.getNumCircles() > 0) {
 					hintMenuButton.setDisable(false);
@@ -609,6 +794,7 @@ public class GameSession extends StackPane implements Modular {
 		gameActive = true;
 		wonGame = false;
 		blockedStoringSaveState = false;
+		fastForwardStartEventLog();
 		helperSetAllInteractablesDisabled(false);
 	}
 
@@ -639,19 +825,19 @@ public class GameSession extends StackPane implements Modular {
 		default:
 		}
 
-		WebUser currentUser = gameSessionContext.getWebSessionContext().getSession().getUser();
-		currentUser.readFromDatabase();
-		currentUser.addPlayedGame(playedGameInfo);
-		currentUser.writeToDatabase();
-
-		fastForwardClearSaveState();
+		// Archive games have no save state, event log or in-game status to clear.
+		if (gameSessionContext.isArchiveMode()) {
+			gamePersistence.recordPlayedGame(playedGameInfo);
+			gameSessionContext.getArchivePuzzle().setPlayedGameInfo(playedGameInfo);
+		} else {
+			gamePersistence.finishGame(playedGameInfo, gameEventLog);
+		}
 
 		gameActive = false;
 
-		helperSetUserInGameStatus(false);
 		helperSetGameInteractablesDisabled(true);
 
-		boolean noMistakes = (wonGame && tileGridWord.getGuesses().size() == 4);
+		boolean noMistakes = (wonGame && tileGridWord.getGuessCount() == 4);
 		int timeTrialTime = (gameType == GameType.TIME_TRIAL) ? timeTrialTimerPane.getElapsedTime() : 0;
 		WebSessionContext webSessionContext = gameSessionContext.getWebSessionContext();
 		webSessionContext.getSession().updateUserAchievementData(gameType, noMistakes, timeTrialTime, wonGame);
@@ -670,6 +856,7 @@ public class GameSession extends StackPane implements Modular {
 			helperDisplayPopupNotifcation("Already Guessed!", 132.09, POPUP_DEFAULT_DURATION_MS);
 		} else {
 			tileGridWord.saveSelectedAsGuess();
+			fastForwardLogEvent(GameEvent.EventType.SUBMIT, tileGridWord.getSelectedMask());
 
 			int matchCount = tileGridWord.checkNumWordsMatchSelected();
 			boolean isCorrect = (matchCount == TileGridWord.MAX_SELECTED);
@@ -677,12 +864,12 @@ public class GameSession extends StackPane implements Modular {
 
 			if (isCorrect) {
 				SequentialTransition animation = helperCreateAnimationSubmissionCorrect();
-				animation.play();
+				animation.playFromStart();
 			} else {
 				boolean lostGame = (mistakesPane.getNumCircles() == 1);
 
 				SequentialTransition animation = helperCreateAnimationSubmissionIncorrect(lostGame, isOneAway);
-				animation.play();
+				animation.playFromStart();
 			}
 		}
 	}
@@ -720,36 +907,26 @@ public class GameSession extends StackPane implements Modular {
 	 * @param status true to set the user as in-game, false otherwise
 	 */
 	private void helperSetUserInGameStatus(boolean status) {
-		WebUser currentUser = gameSessionContext.getWebSessionContext().getSession().getUser();
-		String currentInstanceID = gameSessionContext.getWebContext().getWebAPI().getInstanceID();
-
-		currentUser.readFromDatabase();
-
-		// If the user does not have an active instance ID (is not in a game) OR the
-		// current instance ID matches the user's active instance ID.
-		// This check is needed because we do not want to override an existing instance
-		// ID with the current instance ID.
-		if (!currentUser.isCurrentlyInGame() || currentInstanceID.equals(currentUser.getActiveInstanceID())) {
-			if (status) {
-				currentUser.setActiveInstanceID(currentInstanceID);
-			} else {
-				currentUser.clearActiveInstanceID();
-			}
-			currentUser.writeToDatabase();
+		// Archive games are never saved, so they cannot conflict with a game in
+		// another tab.
+		if (gameSessionContext.isArchiveMode()) {
+			return;
 		}
+
+		gamePersistence.setInGameStatus(status);
 	}
 
 	/**
-	 * Displays a pane with a Gaussian blur effect.
+	 * Displays a pane over a blurred still image of the game, or over the game
+	 * itself when the server is too busy to blur it.
 	 *
-	 * @param pane the pane to be displayed with the Gaussian blur effect
+	 * @param pane the pane to be displayed over the blurred game
 	 */
-	private void displayPaneWithGaussianBlur(Pane pane) {
+	private void displayPaneWithBlurredBackdrop(Pane pane) {
 		if (pane == null) {
 			return;
 		}
-		GaussianBlur blurEffect = new GaussianBlur();
-		organizationPane.setEffect(blurEffect);
+		organizationBackdrop.cover(organizationPane, gameSessionContext.getStyleManager().colorWholeGameBackground());
 		getChildren().add(pane);
 	}
 
@@ -841,6 +1018,22 @@ public class GameSession extends StackPane implements Modular {
 		popupNotification.popup(menuPane, duration);
 	}
 
+	/**
+	 * Displays a popup notification with the category label of the hinted group.
+	 *
+	 * @param hint the hint whose category label should be displayed
+	 */
+	private void helperDisplayHintCategoryLabel(Hint hint) {
+		GameAnswerColor answer = gameSessionContext.getGameData().getAnswerForColor(hint.getColor());
+		String message = answer.getDescription().toUpperCase();
+
+		Text measureText = new Text(message);
+		measureText.setFont(gameSessionContext.getStyleManager().getFont("franklin-normal", 600, 16));
+		double width = measureText.getLayoutBounds().getWidth() + POPUP_TEXT_PADDING;
+
+		helperDisplayPopupNotifcation(message, width, POPUP_DEFAULT_DURATION_MS);
+	}
+
 	/**
 	 * Sets the disabled state of menu buttons in the game session.
 	 *
@@ -940,30 +1133,42 @@ public class GameSession extends StackPane implements Modular {
 	}
 
 	/**
-	 * Creates an animation sequence for an incorrect submission attempt.
+	 * Returns the animation sequence for an incorrect submission attempt. The
+	 * sequence is built on the first incorrect submission and retargeted to the
+	 * selected tile words on the following ones.
 	 *
 	 * @param lostGame  true if the player has lost the game, false otherwise
 	 * @param isOneAway true if the submission is one away from the correct answer,
 	 *                  false otherwise
-	 * @return the created animation sequence for an incorrect submission attempt
+	 * @return the animation sequence for an incorrect submission attempt
 	 */
 	private SequentialTransition helperCreateAnimationSubmissionIncorrect(boolean lostGame, boolean isOneAway) {
-		SequentialTransition sequentialIncorrectTrans = new SequentialTransition();
+		submissionLostGame = lostGame;
+		submissionOneAway = isOneAway;
+
+		// Both transitions are refilled in place with the selected tile words, so they
+		// must be retargeted on every submission, not just the first.
+		ParallelTransition jumpTransition = tileGridWord.getTransitionTileWordJump();
+		SequentialTransition shakeTransition = tileGridWord.getTransitionTileWordShake();
+
+		if (submissionIncorrectTransition != null) {
+			// The jump transition is shared with the correct submission sequence, so it
+			// is put back in place every time.
+			submissionIncorrectTransition.getChildren().set(1, jumpTransition);
+			return submissionIncorrectTransition;
+		}
 
 		PauseTransition placeholderPause = new PauseTransition(Duration.millis(5));
 		placeholderPause.setOnFinished(event -> {
 			sessionHintsAnimationStop();
 			helperSetGameInteractablesDisabled(true);
-			if (lostGame) {
+			if (submissionLostGame) {
 				helperTimeKeepingStop();
 			}
 		});
 
-		ParallelTransition jumpTransition = tileGridWord.getTransitionTileWordJump();
-
 		PauseTransition pauseAfterJump = new PauseTransition(Duration.millis(500));
 
-		SequentialTransition shakeTransition = tileGridWord.getTransitionTileWordShake();
 		shakeTransition.setOnFinished(event -> {
 			tileGridWord.unsetIncorrectTileWords();
 		});
@@ -977,7 +1182,7 @@ public class GameSession extends StackPane implements Modular {
 		removeCircleDelay.setOnFinished(removeCircleEvent -> {
 			mistakesPane.removeCircle();
 
-			if (lostGame) {
+			if (submissionLostGame) {
 				if ((gameType == GameType.TIME_TRIAL && !ranOutOfTime) || gameType != GameType.TIME_TRIAL) {
 					helperDisplayPopupNotifcation("Next Time", 88.13, POPUP_DEFAULT_DURATION_MS);
 
@@ -990,55 +1195,63 @@ public class GameSession extends StackPane implements Modular {
 					helperSetGameInteractablesDisabled(true);
 				}
 			} else {
-				if (isOneAway) {
+				if (submissionOneAway) {
 					helperDisplayPopupNotifcation("One Away...", 96.09, POPUP_DEFAULT_DURATION_MS);
 				}
 				helperSetGameInteractablesDisabled(false);
-				fastForwardStoreSaveState();
 			}
 		});
 
-		sequentialIncorrectTrans.getChildren().addAll(placeholderPause, jumpTransition, pauseAfterJump, shakeTransition,
-				deselectDelay, removeCircleDelay);
-		return sequentialIncorrectTrans;
+		submissionIncorrectTransition = new SequentialTransition(placeholderPause, jumpTransition, pauseAfterJump,
+				shakeTransition, deselectDelay, removeCircleDelay);
+		SessionRegistry.trackAnimation(gameSessionContext.getWebSessionContext(), submissionIncorrectTransition);
+		return submissionIncorrectTransition;
 	}
 
 	/**
-	 * Creates an animation sequence for a correct submission attempt.
+	 * Returns the animation sequence for a correct submission attempt. The
+	 * sequence is built on the first correct submission and retargeted to the
+	 * selected tile words on the following ones.
 	 *
-	 * @return the created animation sequence for a correct submission attempt
+	 * @return the animation sequence for a correct submission attempt
 	 */
 	private SequentialTransition helperCreateAnimationSubmissionCorrect() {
-		boolean wonGameSet = tileGridWord.checkAllCategoriesGuessed();
+		submissionWonGame = tileGridWord.checkAllCategoriesGuessed();
+
+		ParallelTransition jumpTransition = tileGridWord.getTransitionTileWordJump();
+		SequentialTransition swapAndAnswerTileSequence = tileGridWordAnimationPane.getSequenceCorrectAnswer();
+
+		if (submissionCorrectTransition != null) {
+			submissionCorrectTransition.getChildren().set(1, jumpTransition);
+			submissionCorrectTransition.getChildren().set(3, swapAndAnswerTileSequence);
+			return submissionCorrectTransition;
+		}
 
-		SequentialTransition sequentialCorrectTrans = new SequentialTransition();
 		PauseTransition placeholderPause = new PauseTransition(Duration.millis(5));
 		placeholderPause.setOnFinished(event -> {
 			sessionHintsAnimationStop();
 			helperSetGameInteractablesDisabled(true);
-			if (wonGameSet) {
+			if (submissionWonGame) {
 				helperTimeKeepingStop();
 			}
 		});
 
-		ParallelTransition jumpTransition = tileGridWord.getTransitionTileWordJump();
-		SequentialTransition swapAndAnswerTileSequence = tileGridWordAnimationPane.getSequenceCorrectAnswer();
 		PauseTransition pauseTransition = new PauseTransition(Duration.millis(500));
 		PauseTransition endPauseTransition = new PauseTransition(Duration.millis(500));
 
 		endPauseTransition.setOnFinished(event -> {
-			if (wonGameSet) {
+			if (submissionWonGame) {
 				wonGame = true;
 				sessionReachedEndGame();
 			} else {
 				helperSetGameInteractablesDisabled(false);
-				fastForwardStoreSaveState();
 			}
 		});
 
-		sequentialCorrectTrans.getChildren().addAll(placeholderPause, jumpTransition, pauseTransition,
+		submissionCorrectTransition = new SequentialTransition(placeholderPause, jumpTransition, pauseTransition,
 				swapAndAnswerTileSequence, endPauseTransition);
-		return sequentialCorrectTrans;
+		SessionRegistry.trackAnimation(gameSessionContext.getWebSessionContext(), submissionCorrectTransition);
+		return submissionCorrectTransition;
 	}
 
 	/**
@@ -1070,7 +1283,9 @@ public class GameSession extends StackPane implements Modular {
 	public void refreshStyle() {
 		StyleManager styleManager = gameSessionContext.getStyleManager();
 
-		setBackground(new Background(new BackgroundFill(styleManager.colorWholeGameBackground(), null, null)));
+		// Everything styled by the theme stylesheet follows this one pseudo-class;
+		// the walk below is left for the fills that are set from code.
+		styleManager.applyTheme(this);
 
 		/*
 		 * NOTE: If there is anything that is not properly being updated with the dark
@@ -1088,7 +1303,7 @@ public class GameSession extends StackPane implements Modular {
 				menuButtonRowLeftPane, tileGridAchievement, errorUserInGamePane, tileGridWord,
 				tileGridWordAnimationPane, darkModeToggleMenuButton, hintMenuButton, achievementsMenuButton,
 				leaderboardMenuButton, profileMenuButton, backMenuButton, gameSubmitButton, gameDeselectButton,
-				gameShuffleButton, gameViewResultsButton, resultsPane, popupPane };
+				gameShuffleButton, gameViewResultsButton, gameNextPuzzleButton, resultsPane, popupPane };
 
 		for (Node node : completeComponentList) {
 			helperRefreshStyle(styleManager, node);
@@ -1096,14 +1311,21 @@ public class GameSession extends StackPane implements Modular {
 	}
 
 	/**
-	 * Closes everything related to the game session.
+	 * Closes everything related to the game session. The owner of the session
+	 * calls this when it is hidden, when the browser tab is closed, or when the
+	 * tab is hibernated. An unfinished archive game is kept in its ArchivePuzzle.
 	 */
 	public void close() {
-		fastForwardStoreSaveState();
+		fastForwardTouchEventLog();
+		fastForwardKeepArchiveSaveState();
 		helperSetUserInGameStatus(false);
 		gameActive = false;
 		helperTimeKeepingStop();
 		midnightChecker.stop();
+		screenRegistry.clear();
+		if (resultsPane != null) {
+			resultsPane.close();
+		}
 	}
 
 	/**
@@ -1115,6 +1337,16 @@ public class GameSession extends StackPane implements Modular {
 		this.onGoBack = onGoBack;
 	}
 
+	/**
+	 * Sets the event handler to be invoked when the player moves on to the next
+	 * puzzle of the archive.
+	 *
+	 * @param onNextPuzzle the event handler to be set
+	 */
+	public void setOnNextPuzzle(EventHandler<ActionEvent> onNextPuzzle) {
+		this.onNextPuzzle = onNextPuzzle;
+	}
+
 	/**
 	 * Sets the event handler to be invoked when midnight strikes.
 	 *
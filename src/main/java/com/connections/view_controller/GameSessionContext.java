@@ -1,6 +1,7 @@
 package com.connections.view_controller;
 
 import com.connections.model.GameData;
+import com.connections.web.ArchivePuzzle;
 import com.connections.web.WebContext;
 import com.connections.web.WebSessionContext;
 
@@ -9,10 +10,17 @@ import com.connections.web.WebSessionContext;
  * holds references to various objects and data required for the game session.
  */
 public class GameSessionContext {
+	public static final String PROPERTY_CANVAS_TILE_GRID = "connections.canvasTileGrid";
+
+	// The renderer is chosen per deployment, so the property is read once per JVM.
+	private static final boolean CANVAS_TILE_GRID = Boolean.getBoolean(PROPERTY_CANVAS_TILE_GRID);
+
 	private StyleManager styleManager;
 	private GameData gameData;
 	private WebContext webContext;
 	private WebSessionContext webSessionContext;
+	private ArchivePuzzle archivePuzzle;
+	private boolean canvasTileGrid;
 
 	/**
 	 * Constructs a new GameSessionContext with the specified StyleManager,
@@ -20,7 +28,8 @@ public class GameSessionContext {
 	 *
 	 * @param styleManager      the StyleManager used by the game session
 	 * @param gameData          the GameData used by the game session
-	 * @param webContext        the WebContext used by the game session
+	 * @param webContext        the WebContext used by the game session, or null
+	 *                          when the game session runs without a database
 	 * @param webSessionContext the WebSessionContext used by the game session
 	 */
 	public GameSessionContext(StyleManager styleManager, GameData gameData, WebContext webContext,
@@ -29,6 +38,21 @@ public class GameSessionContext {
 		this.gameData = gameData;
 		this.webContext = webContext;
 		this.webSessionContext = webSessionContext;
+		this.canvasTileGrid = CANVAS_TILE_GRID;
+	}
+
+	/**
+	 * Constructs a new GameSessionContext for playing a puzzle from the archive.
+	 *
+	 * @param styleManager      the StyleManager used by the game session
+	 * @param archivePuzzle     the archive puzzle played in the game session
+	 * @param webContext        the WebContext used by the game session
+	 * @param webSessionContext the WebSessionContext used by the game session
+	 */
+	public GameSessionContext(StyleManager styleManager, ArchivePuzzle archivePuzzle, WebContext webContext,
+			WebSessionContext webSessionContext) {
+		this(styleManager, archivePuzzle.getGameData(), webContext, webSessionContext);
+		this.archivePuzzle = archivePuzzle;
 	}
 
 	/**
@@ -66,4 +90,35 @@ public class GameSessionContext {
 	public WebSessionContext getWebSessionContext() {
 		return webSessionContext;
 	}
+
+	/**
+	 * Returns the archive puzzle played in the game session.
+	 *
+	 * @return the archive puzzle, or null if the game session plays the daily
+	 *         puzzle
+	 */
+	public ArchivePuzzle getArchivePuzzle() {
+		return archivePuzzle;
+	}
+
+	/**
+	 * Checks if the game session plays a puzzle from the archive.
+	 *
+	 * @return true if the game session is in archive mode, false otherwise
+	 */
+	public boolean isArchiveMode() {
+		return archivePuzzle != null;
+	}
+
+	/**
+	 * Checks if the tile grid of the game session is drawn onto a single canvas.
+	 * It is enabled for the whole server by starting the JVM with
+	 * -Dconnections.canvasTileGrid=true.
+	 *
+	 * @return true if the canvas tile grid is used, false if the tile grid is
+	 *         built from nodes
+	 */
+	public boolean isCanvasTileGrid() {
+		return canvasTileGrid;
+	}
 }
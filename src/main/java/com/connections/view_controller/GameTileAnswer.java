@@ -5,18 +5,22 @@ import com.connections.model.GameAnswerColor;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.ScaleTransition;
+import javafx.beans.InvalidationListener;
 import javafx.geometry.Pos;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
 import javafx.util.Duration;
 
 /**
  * The GameTileAnswer class represents an answer tile in the game. It displays
  * the category name and the list of words associated with an answer color.
  */
-public class GameTileAnswer extends StackPane implements Modular {
+public class GameTileAnswer extends StackPane implements Modular, CanvasDrawable {
 	private static final int POP_UP_MS = 125;
 	private static final int FADE_IN_MS = 500;
 	private GameAnswerColor answer;
@@ -65,6 +69,17 @@ public class GameTileAnswer extends StackPane implements Modular {
 		return answer;
 	}
 
+	/**
+	 * Resets the answer tile to its fully shown state so it can be reused when the
+	 * grid is restored.
+	 */
+	public void resetAppearance() {
+		setScaleX(1);
+		setScaleY(1);
+		setVisible(true);
+		textVBox.setOpacity(1);
+	}
+
 	/**
 	 * Creates and returns an animation for the appearance of the answer tile.
 	 *
@@ -101,6 +116,69 @@ public class GameTileAnswer extends StackPane implements Modular {
 		rectBackground.setFill(styleManager.colorDifficulty(answer.getColor()));
 	}
 
+	/**
+	 * Draws the answer tile onto the canvas of a TileGridCanvas.
+	 *
+	 * @param gc the graphics context of the canvas
+	 */
+	@Override
+	public void drawOnCanvas(GraphicsContext gc) {
+		TileGridCanvas.applyNodeTransform(gc, this, TileGridWord.PANE_WIDTH, GameTile.RECTANGLE_HEIGHT);
+
+		gc.setFill(rectBackground.getFill());
+		gc.fillRoundRect(0, 0, TileGridWord.PANE_WIDTH, GameTile.RECTANGLE_HEIGHT, GameTile.CORNER_RADIUS,
+				GameTile.CORNER_RADIUS);
+
+		// The two lines are stacked about the middle of the tile, like the VBox.
+		double centerX = TileGridWord.PANE_WIDTH / 2.0;
+		double centerY = GameTile.RECTANGLE_HEIGHT / 2.0;
+		double halfLineHeight = categoryNameText.getFont().getSize() * 0.6;
+		gc.setGlobalAlpha(gc.getGlobalAlpha() * textVBox.getOpacity());
+		gc.setTextAlign(TextAlignment.CENTER);
+		gc.setTextBaseline(VPos.CENTER);
+		gc.setFill(categoryNameText.getFill());
+		gc.setFont(categoryNameText.getFont());
+		gc.fillText(categoryNameText.getText(), centerX, centerY - halfLineHeight);
+		gc.setFill(wordListText.getFill());
+		gc.setFont(wordListText.getFont());
+		gc.fillText(wordListText.getText(), centerX, centerY + halfLineHeight);
+	}
+
+	/**
+	 * Adds a listener that is invalidated whenever the drawn appearance of the
+	 * answer tile changes.
+	 *
+	 * @param listener the listener to be added
+	 */
+	@Override
+	public void addRedrawListener(InvalidationListener listener) {
+		layoutXProperty().addListener(listener);
+		layoutYProperty().addListener(listener);
+		scaleXProperty().addListener(listener);
+		scaleYProperty().addListener(listener);
+		visibleProperty().addListener(listener);
+		rectBackground.fillProperty().addListener(listener);
+		textVBox.opacityProperty().addListener(listener);
+		categoryNameText.fillProperty().addListener(listener);
+	}
+
+	/**
+	 * Removes a listener added with addRedrawListener.
+	 *
+	 * @param listener the listener to be removed
+	 */
+	@Override
+	public void removeRedrawListener(InvalidationListener listener) {
+		layoutXProperty().removeListener(listener);
+		layoutYProperty().removeListener(listener);
+		scaleXProperty().removeListener(listener);
+		scaleYProperty().removeListener(listener);
+		visibleProperty().removeListener(listener);
+		rectBackground.fillProperty().removeListener(listener);
+		textVBox.opacityProperty().removeListener(listener);
+		categoryNameText.fillProperty().removeListener(listener);
+	}
+
 	/**
 	 * Returns the GameSessionContext associated with the answer tile.
 	 *
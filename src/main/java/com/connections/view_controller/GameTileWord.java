@@ -7,33 +7,61 @@ import javafx.animation.FillTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.ScaleTransition;
 import javafx.animation.SequentialTransition;
+import javafx.animation.TranslateTransition;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.VPos;
 import javafx.scene.Cursor;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
 import javafx.util.Duration;
 
 /**
  * The GameTileWord class represents a word tile in the game. It displays a word
  * and allows user interaction for selecting and deselecting the tile.
  */
-public class GameTileWord extends StackPane implements Modular {
+public class GameTileWord extends StackPane implements Modular, CanvasDrawable {
 	protected static final int FILL_TRANSITION_MS = 100;
 	protected static final int FILL_PULSE_TRANSITION_MS = 750;
 	protected static final double PULSE_SCALE_FACTOR = 1.05;
 	protected static final double PULSE_COLOR_DARK_FACTOR = 1.3;
 	protected static final double PULSE_FADE_FACTOR = 0.75;
 	protected static final int PULSE_REPEAT_COUNT = 4;
+	protected static final int SHAKE_TRANSITION_MS = 100;
+	protected static final int JUMP_TRANSITION_MS = 200;
+	protected static final int FADE_IN_TEXT_MS = 500;
 	private boolean selected;
 	private boolean incorrect;
 	private boolean styleChangeable;
 	private Rectangle rectangle;
 	private Text text;
 	private Word word;
+	private int wordMask;
 	private TileGridWord tileGridWord;
 	private StyleStatus styleStatus;
 
+	// The animations of the word tile are built once and retargeted each time
+	// they are played, so clicking around the grid does not allocate new ones.
+	private FillTransition styleRectFill;
+	private FillTransition styleTextFill;
+	private ParallelTransition styleTransition;
+	private FillTransition hintInitialRectFill;
+	private FillTransition hintInitialTextFill;
+	private FillTransition hintContinueRectFill;
+	private FillTransition hintContinueTextFill;
+	private SequentialTransition hintPulseTransition;
+	private FillTransition hintReturnRectFill;
+	private FillTransition hintReturnTextFill;
+	private ParallelTransition hintReturnTransition;
+	private FadeTransition textFadeInTransition;
+	private TranslateTransition shakeTransition;
+	private TranslateTransition jumpTransition;
+	private Color hintAnswerColor;
+	private Color hintAnswerColorDark;
+
 	/**
 	 * Represents the style status of the word tile.
 	 */
@@ -99,10 +127,58 @@ public class GameTileWord extends StackPane implements Modular {
 	public void setWord(Word word) {
 		if (word != null) {
 			this.word = word;
+			this.wordMask = tileGridWord.getGameBoard().getWordMask(word);
 			text.setText(word.getText().toUpperCase());
 		}
 	}
 
+	/**
+	 * Resets the selected, incorrect and animated state of the word tile so it can
+	 * be reused when the grid is restored.
+	 */
+	public void resetStatus() {
+		selected = false;
+		incorrect = false;
+		styleChangeable = true;
+		setOpacity(1);
+		setScaleX(1);
+		setScaleY(1);
+		setTranslateX(0);
+		setTranslateY(0);
+		setVisible(true);
+		text.setOpacity(1);
+		enable();
+		refreshStyle();
+	}
+
+	/**
+	 * Makes the word tile look like the specified word tile, so it can stand in
+	 * for it as a ghost during animations. The colors are copied as they are
+	 * right now instead of being transitioned to.
+	 *
+	 * @param other the word tile to copy the look of
+	 */
+	public void copyAppearance(GameTileWord other) {
+		word = other.word;
+		wordMask = other.wordMask;
+		selected = other.selected;
+		incorrect = other.incorrect;
+		styleChangeable = other.styleChangeable;
+		styleStatus = other.styleStatus;
+
+		styleTransition.stop();
+		text.setText(other.text.getText());
+		rectangle.setFill(other.rectangle.getFill());
+		rectangle.setOpacity(other.rectangle.getOpacity());
+		text.setFill(other.text.getFill());
+		text.setOpacity(other.text.getOpacity());
+		setOpacity(1);
+		setScaleX(1);
+		setScaleY(1);
+		setTranslateX(0);
+		setTranslateY(0);
+	}
+
 	/**
 	 * Sets whether the style of the word tile is changeable.
 	 *
@@ -119,6 +195,7 @@ public class GameTileWord extends StackPane implements Modular {
 	 */
 	public void setSelectedStatus(boolean selected) {
 		this.selected = selected;
+		tileGridWord.updateSelectedMask(wordMask, selected);
 		refreshStyle();
 	}
 
@@ -160,6 +237,15 @@ public class GameTileWord extends StackPane implements Modular {
 		return word;
 	}
 
+	/**
+	 * Returns the board mask of the word associated with the word tile.
+	 *
+	 * @return the single-bit mask of the word, or 0 if no word is set
+	 */
+	public int getWordMask() {
+		return wordMask;
+	}
+
 	/**
 	 * Initializes the assets and components of the word tile.
 	 */
@@ -174,6 +260,10 @@ public class GameTileWord extends StackPane implements Modular {
 
 		this.getChildren().addAll(rectangle, text);
 
+		styleRectFill = new FillTransition(Duration.millis(FILL_TRANSITION_MS), rectangle);
+		styleTextFill = new FillTransition(Duration.millis(FILL_TRANSITION_MS), text);
+		styleTransition = new ParallelTransition(styleRectFill, styleTextFill);
+
 		refreshStyle();
 	}
 
@@ -230,104 +320,159 @@ public class GameTileWord extends StackPane implements Modular {
 	}
 
 	/**
-	 * Returns the fill color for the text based on the style status.
-	 *
-	 * @return the fill color for the text
+	 * Transitions the fill colors of the word tile to the ones of its style
+	 * status.
 	 */
 	private void updateStyleColor() {
-		FillTransition rectangleFillTransition = new FillTransition(Duration.millis(FILL_TRANSITION_MS), rectangle);
-		rectangleFillTransition.setToValue(getRectFill());
-		FillTransition textFillTransition = new FillTransition(Duration.millis(FILL_TRANSITION_MS), text);
-		textFillTransition.setToValue(getTextFill());
-		ParallelTransition parallelTransition = new ParallelTransition(rectangleFillTransition, textFillTransition);
-		parallelTransition.play();
+		styleRectFill.setToValue(getRectFill());
+		styleTextFill.setToValue(getTextFill());
+		styleTransition.playFromStart();
 	}
 
 	/**
-	 * Returns a sequential transition animation for the hint pulse effect.
-	 *
-	 * @return a sequential transition animation for the hint pulse effect
+	 * Builds the animations of the hint pulse effect and of the return to normal
+	 * after it. They are only built once a hint is shown on the word tile.
 	 */
-	public SequentialTransition getHintPulseAnimation() {
-		StyleManager styleManager = tileGridWord.getGameSessionContext().getStyleManager();
-
-		updateStyleStatus();
-
-		Color answerColor = styleManager.colorDifficulty(word.getColor());
-		Color answerColorDark = Color.rgb((int) (255 * answerColor.getRed() / PULSE_COLOR_DARK_FACTOR),
-				(int) (255 * answerColor.getGreen() / PULSE_COLOR_DARK_FACTOR),
-				(int) (255 * answerColor.getBlue() / PULSE_COLOR_DARK_FACTOR));
+	private void initHintAnimations() {
+		Duration duration = Duration.millis(FILL_PULSE_TRANSITION_MS);
 
 		// Initial Pulse
 
-		ScaleTransition initialScale = new ScaleTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), this);
+		ScaleTransition initialScale = new ScaleTransition(duration, this);
 		initialScale.setFromX(1.0);
 		initialScale.setFromY(1.0);
 		initialScale.setToX(PULSE_SCALE_FACTOR);
 		initialScale.setToY(PULSE_SCALE_FACTOR);
 
-		FillTransition initialRectFill = new FillTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), rectangle);
-		initialRectFill.setFromValue(getRectFill());
-		initialRectFill.setToValue(answerColor);
-
-		FillTransition initialTextFill = new FillTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), text);
-		initialTextFill.setFromValue(getTextFill());
-		initialTextFill.setToValue(styleManager.colorTextNeutral());
+		hintInitialRectFill = new FillTransition(duration, rectangle);
+		hintInitialTextFill = new FillTransition(duration, text);
 
-		ParallelTransition initialParallel = new ParallelTransition(initialScale, initialRectFill, initialTextFill);
+		ParallelTransition initialParallel = new ParallelTransition(initialScale, hintInitialRectFill,
+				hintInitialTextFill);
 
 		// Repeated Pulse by Using the Answer Color Only
 
-		int cycleCount = PULSE_REPEAT_COUNT * 2;
-
-		ScaleTransition continueScale = new ScaleTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), this);
+		ScaleTransition continueScale = new ScaleTransition(duration, this);
 		continueScale.setToX(1.0);
 		continueScale.setToY(1.0);
 
-		FadeTransition continueFade = new FadeTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), rectangle);
+		FadeTransition continueFade = new FadeTransition(duration, rectangle);
 		continueFade.setToValue(PULSE_FADE_FACTOR);
 
-		FillTransition continueRectFill = new FillTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), rectangle);
-		continueRectFill.setToValue(answerColorDark);
+		hintContinueRectFill = new FillTransition(duration, rectangle);
+		hintContinueTextFill = new FillTransition(duration, text);
 
-		FillTransition continueTextFill = new FillTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), text);
-		continueTextFill.setToValue(styleManager.colorTextInverted());
-
-		ParallelTransition continueParallel = new ParallelTransition(continueScale, continueFade, continueRectFill,
-				continueTextFill);
+		ParallelTransition continueParallel = new ParallelTransition(continueScale, continueFade,
+				hintContinueRectFill, hintContinueTextFill);
 		continueParallel.setAutoReverse(true);
-		continueParallel.setCycleCount(cycleCount);
+		continueParallel.setCycleCount(PULSE_REPEAT_COUNT * 2);
+
+		hintPulseTransition = new SequentialTransition(initialParallel, continueParallel);
+
+		// Return to Normal
 
-		SequentialTransition sequence = new SequentialTransition(initialParallel, continueParallel);
+		ScaleTransition returnScale = new ScaleTransition(duration, this);
+		returnScale.setToX(1.0);
+		returnScale.setToY(1.0);
 
-		return sequence;
+		FadeTransition returnFade = new FadeTransition(duration, rectangle);
+		returnFade.setToValue(1.0);
+
+		hintReturnRectFill = new FillTransition(duration, rectangle);
+		hintReturnTextFill = new FillTransition(duration, text);
+
+		hintReturnTransition = new ParallelTransition(returnScale, returnFade, hintReturnRectFill,
+				hintReturnTextFill);
 	}
 
 	/**
-	 * Returns a sequential transition animation for the hint pulse effect.
+	 * Returns a sequential transition animation for the hint pulse effect. The
+	 * same animation is returned every time, retargeted to the current colors, so
+	 * it must not be running when this is called.
 	 *
 	 * @return a sequential transition animation for the hint pulse effect
 	 */
-	public ParallelTransition getHintReturnNormalAnimation() {
+	public SequentialTransition getHintPulseAnimation() {
+		StyleManager styleManager = tileGridWord.getGameSessionContext().getStyleManager();
+
+		if (hintPulseTransition == null) {
+			initHintAnimations();
+		}
+
 		updateStyleStatus();
 
-		ScaleTransition continueScale = new ScaleTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), this);
-		continueScale.setToX(1.0);
-		continueScale.setToY(1.0);
+		Color answerColor = styleManager.colorDifficulty(word.getColor());
+		if (answerColor != hintAnswerColor) {
+			hintAnswerColor = answerColor;
+			hintAnswerColorDark = Color.rgb((int) (255 * answerColor.getRed() / PULSE_COLOR_DARK_FACTOR),
+					(int) (255 * answerColor.getGreen() / PULSE_COLOR_DARK_FACTOR),
+					(int) (255 * answerColor.getBlue() / PULSE_COLOR_DARK_FACTOR));
+		}
+
+		hintInitialRectFill.setFromValue(getRectFill());
+		hintInitialRectFill.setToValue(answerColor);
+		hintInitialTextFill.setFromValue(getTextFill());
+		hintInitialTextFill.setToValue(styleManager.colorTextNeutral());
+		hintContinueRectFill.setToValue(hintAnswerColorDark);
+		hintContinueTextFill.setToValue(styleManager.colorTextInverted());
+
+		return hintPulseTransition;
+	}
+
+	/**
+	 * Returns a parallel transition animation that returns the word tile to normal
+	 * after the hint pulse effect. The same animation is returned every time,
+	 * retargeted to the current colors, so it must not be running when this is
+	 * called.
+	 *
+	 * @return a parallel transition animation that ends the hint pulse effect
+	 */
+	public ParallelTransition getHintReturnNormalAnimation() {
+		if (hintReturnTransition == null) {
+			initHintAnimations();
+		}
 
-		FadeTransition continueFade = new FadeTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), rectangle);
-		continueFade.setToValue(1.0);
+		updateStyleStatus();
 
-		FillTransition continueRectFill = new FillTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), rectangle);
-		continueRectFill.setToValue(getRectFill());
+		hintReturnRectFill.setToValue(getRectFill());
+		hintReturnTextFill.setToValue(getTextFill());
 
-		FillTransition continueTextFill = new FillTransition(Duration.millis(FILL_PULSE_TRANSITION_MS), text);
-		continueTextFill.setToValue(getTextFill());
+		return hintReturnTransition;
+	}
 
-		ParallelTransition continueParallel = new ParallelTransition(continueScale, continueFade, continueRectFill,
-				continueTextFill);
+	/**
+	 * Returns the translate transition that shakes the word tile after an
+	 * incorrect guess. The same animation is returned every time.
+	 *
+	 * @return the translate transition for shaking the word tile
+	 */
+	public TranslateTransition getShakeAnimation() {
+		if (shakeTransition == null) {
+			shakeTransition = new TranslateTransition(Duration.millis(SHAKE_TRANSITION_MS), this);
+			shakeTransition.setByX(8);
+			shakeTransition.setAutoReverse(true);
+			shakeTransition.setCycleCount(4);
+		}
+		return shakeTransition;
+	}
 
-		return continueParallel;
+	/**
+	 * Returns the translate transition that makes the word tile jump when a guess
+	 * is submitted. The same animation is returned every time, with its delay set
+	 * to the specified one.
+	 *
+	 * @param delay the delay before the word tile jumps
+	 * @return the translate transition for making the word tile jump
+	 */
+	public TranslateTransition getJumpAnimation(Duration delay) {
+		if (jumpTransition == null) {
+			jumpTransition = new TranslateTransition(Duration.millis(JUMP_TRANSITION_MS), this);
+			jumpTransition.setByY(-8);
+			jumpTransition.setAutoReverse(true);
+			jumpTransition.setCycleCount(2);
+		}
+		jumpTransition.setDelay(delay);
+		return jumpTransition;
 	}
 
 	/**
@@ -346,13 +491,7 @@ public class GameTileWord extends StackPane implements Modular {
 	public void enable() {
 		this.setDisable(false);
 		this.setOnMouseClicked(event -> {
-			if (!selected && tileGridWord.getSelectedTileWordCount() < TileGridWord.MAX_SELECTED) {
-				setSelectedStatus(true);
-				tileGridWord.incrementSelectedTileWordCount();
-			} else if (selected) {
-				setSelectedStatus(false);
-				tileGridWord.decrementSelectedTileWordCount();
-			}
+			handleClick();
 		});
 
 		this.setOnMouseEntered(event -> {
@@ -364,6 +503,19 @@ public class GameTileWord extends StackPane implements Modular {
 		});
 	}
 
+	/**
+	 * Selects or deselects the word tile in response to a click.
+	 */
+	void handleClick() {
+		if (!selected && tileGridWord.getSelectedTileWordCount() < TileGridWord.MAX_SELECTED) {
+			setSelectedStatus(true);
+			tileGridWord.incrementSelectedTileWordCount();
+		} else if (selected) {
+			setSelectedStatus(false);
+			tileGridWord.decrementSelectedTileWordCount();
+		}
+	}
+
 	/**
 	 * Adds a fade-in transition for the word text to the provided parallel
 	 * transition.
@@ -374,10 +526,12 @@ public class GameTileWord extends StackPane implements Modular {
 	public void fadeInWordText(ParallelTransition fadeInTransition) {
 		text.setOpacity(0);
 
-		FadeTransition fadeTransition = new FadeTransition(Duration.millis(500), text);
-		fadeTransition.setFromValue(0);
-		fadeTransition.setToValue(1);
-		fadeInTransition.getChildren().add(fadeTransition);
+		if (textFadeInTransition == null) {
+			textFadeInTransition = new FadeTransition(Duration.millis(FADE_IN_TEXT_MS), text);
+			textFadeInTransition.setFromValue(0);
+			textFadeInTransition.setToValue(1);
+		}
+		fadeInTransition.getChildren().add(textFadeInTransition);
 	}
 
 	/**
@@ -391,6 +545,74 @@ public class GameTileWord extends StackPane implements Modular {
 		}
 	}
 
+	/**
+	 * Draws the word tile onto the canvas of a TileGridCanvas.
+	 *
+	 * @param gc the graphics context of the canvas
+	 */
+	@Override
+	public void drawOnCanvas(GraphicsContext gc) {
+		TileGridCanvas.applyNodeTransform(gc, this, GameTile.RECTANGLE_WIDTH, GameTile.RECTANGLE_HEIGHT);
+
+		double opacity = gc.getGlobalAlpha();
+		gc.setGlobalAlpha(opacity * rectangle.getOpacity());
+		gc.setFill(rectangle.getFill());
+		gc.fillRoundRect(0, 0, GameTile.RECTANGLE_WIDTH, GameTile.RECTANGLE_HEIGHT, GameTile.CORNER_RADIUS,
+				GameTile.CORNER_RADIUS);
+
+		gc.setGlobalAlpha(opacity * text.getOpacity());
+		gc.setFill(text.getFill());
+		gc.setFont(text.getFont());
+		gc.setTextAlign(TextAlignment.CENTER);
+		gc.setTextBaseline(VPos.CENTER);
+		gc.fillText(text.getText(), GameTile.RECTANGLE_WIDTH / 2.0, GameTile.RECTANGLE_HEIGHT / 2.0);
+	}
+
+	/**
+	 * Adds a listener that is invalidated whenever the drawn appearance of the
+	 * word tile changes.
+	 *
+	 * @param listener the listener to be added
+	 */
+	@Override
+	public void addRedrawListener(InvalidationListener listener) {
+		layoutXProperty().addListener(listener);
+		layoutYProperty().addListener(listener);
+		translateXProperty().addListener(listener);
+		translateYProperty().addListener(listener);
+		scaleXProperty().addListener(listener);
+		scaleYProperty().addListener(listener);
+		opacityProperty().addListener(listener);
+		visibleProperty().addListener(listener);
+		rectangle.fillProperty().addListener(listener);
+		rectangle.opacityProperty().addListener(listener);
+		text.fillProperty().addListener(listener);
+		text.opacityProperty().addListener(listener);
+		text.textProperty().addListener(listener);
+	}
+
+	/**
+	 * Removes a listener added with addRedrawListener.
+	 *
+	 * @param listener the listener to be removed
+	 */
+	@Override
+	public void removeRedrawListener(InvalidationListener listener) {
+		layoutXProperty().removeListener(listener);
+		layoutYProperty().removeListener(listener);
+		translateXProperty().removeListener(listener);
+		translateYProperty().removeListener(listener);
+		scaleXProperty().removeListener(listener);
+		scaleYProperty().removeListener(listener);
+		opacityProperty().removeListener(listener);
+		visibleProperty().removeListener(listener);
+		rectangle.fillProperty().removeListener(listener);
+		rectangle.opacityProperty().removeListener(listener);
+		text.fillProperty().removeListener(listener);
+		text.opacityProperty().removeListener(listener);
+		text.textProperty().removeListener(listener);
+	}
+
 	/**
 	 * Returns the GameSessionContext associated with the word tile.
 	 *
@@ -0,0 +1,130 @@
+package com.connections.view_controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+/**
+ * The GlobalTicker class drives every timer widget of the process from a
+ * single Timeline. All sessions share the JavaFX application thread, so one
+ * ticker replaces a Timeline per widget: each tick reads the monotonic clock
+ * once and hands it to every subscribed listener. The Timeline only runs while
+ * there is at least one listener.
+ *
+ * All methods must be called on the JavaFX application thread.
+ */
+public final class GlobalTicker {
+	public static final int TICK_INTERVAL_MS = 100;
+
+	private static Timeline timeline;
+	private static final List<Listener> listeners = new ArrayList<>();
+	private static boolean ticking;
+	private static boolean hasRemovedListeners;
+
+	/**
+	 * Represents a widget that is updated on every tick.
+	 */
+	public interface Listener {
+		/**
+		 * Called on every tick of the ticker.
+		 *
+		 * @param nowNanos the current value of System.nanoTime()
+		 */
+		void onTick(long nowNanos);
+	}
+
+	private GlobalTicker() {
+	}
+
+	/**
+	 * Subscribes a listener to the ticker, starting the ticker if it was idle.
+	 * Subscribing a listener that is already subscribed has no effect.
+	 *
+	 * @param listener the listener to subscribe
+	 */
+	public static void subscribe(Listener listener) {
+		if (listeners.contains(listener)) {
+			return;
+		}
+		listeners.add(listener);
+
+		if (timeline == null) {
+			timeline = new Timeline(new KeyFrame(Duration.millis(TICK_INTERVAL_MS), event -> tick()));
+			timeline.setCycleCount(Animation.INDEFINITE);
+		}
+		if (timeline.getStatus() != Animation.Status.RUNNING) {
+			timeline.play();
+		}
+	}
+
+	/**
+	 * Unsubscribes a listener from the ticker, stopping the ticker once no
+	 * listeners are left. A listener may unsubscribe itself while it is being
+	 * ticked.
+	 *
+	 * @param listener the listener to unsubscribe
+	 */
+	public static void unsubscribe(Listener listener) {
+		int index = listeners.indexOf(listener);
+		if (index < 0) {
+			return;
+		}
+
+		if (ticking) {
+			// Removed after the current tick so that the tick loop does not skip any
+			// listener.
+			listeners.set(index, null);
+			hasRemovedListeners = true;
+		} else {
+			listeners.remove(index);
+			stopIfIdle();
+		}
+	}
+
+	/**
+	 * Returns the number of subscribed listeners.
+	 *
+	 * @return the listener count
+	 */
+	public static int getListenerCount() {
+		return listeners.size();
+	}
+
+	/**
+	 * Ticks every subscribed listener with the current monotonic time.
+	 */
+	private static void tick() {
+		long nowNanos = System.nanoTime();
+
+		ticking = true;
+		try {
+			for (int i = 0; i < listeners.size(); i++) {
+				Listener listener = listeners.get(i);
+				if (listener != null) {
+					listener.onTick(nowNanos);
+				}
+			}
+		} finally {
+			ticking = false;
+		}
+
+		if (hasRemovedListeners) {
+			hasRemovedListeners = false;
+			listeners.removeIf(listener -> listener == null);
+			stopIfIdle();
+		}
+	}
+
+	/**
+	 * Stops the Timeline if there are no listeners left.
+	 */
+	private static void stopIfIdle() {
+		if (listeners.isEmpty() && timeline != null) {
+			timeline.stop();
+		}
+	}
+}
@@ -13,9 +13,12 @@ import javafx.scene.layout.StackPane;
 
 /**
  * The LeaderboardPane class represents a pane that displays the leaderboard. It
- * shows the top users and their ranks, names, and scores.
+ * shows the top users and their ranks, names, and scores. The rows are built
+ * once and filled in again each time the leaderboard is shown.
  */
-public class LeaderboardPane extends StackPane implements Modular {
+public class LeaderboardPane extends StackPane implements Modular, ScreenRegistry.Recyclable {
+	private static final int TOP_USER_COUNT = 10;
+
 	private GameSessionContext gameSessionContext;
 	private GridPane leaderboardGrid;
 	private Label rankLabel;
@@ -62,29 +65,52 @@ public class LeaderboardPane extends StackPane implements Modular {
 		nameValueLabels = new ArrayList<>();
 		scoreValueLabels = new ArrayList<>();
 
-		List<WebUser> topUsers = WebUser.getTopUsers(gameSessionContext.getWebContext(), 10);
+		refreshData();
+	}
+
+	/**
+	 * Reloads the top users from the database and shows them in the rows of the
+	 * leaderboard, adding rows only when there are more users than before.
+	 */
+	@Override
+	public void refreshData() {
+		List<WebUser> topUsers = WebUser.getTopUsers(gameSessionContext.getWebContext(), TOP_USER_COUNT);
 
-		for (int i = 0; i < topUsers.size(); i++) {
-			WebUser user = topUsers.get(i);
+		while (rankValueLabels.size() < topUsers.size()) {
+			int row = rankValueLabels.size() + 1;
 
-			Label rankValueLabel = new Label(String.valueOf(i + 1) + ".");
+			Label rankValueLabel = new Label(String.valueOf(row) + ".");
 			rankValueLabel.setFont(gameSessionContext.getStyleManager().getFont("franklin-normal", 500, 20));
 			GridPane.setHalignment(rankValueLabel, HPos.CENTER);
 			rankValueLabels.add(rankValueLabel);
 
-			Label nameValueLabel = new Label(user.getUserName());
+			Label nameValueLabel = new Label();
 			nameValueLabel.setFont(gameSessionContext.getStyleManager().getFont("franklin-normal", 500, 20));
 			GridPane.setHalignment(nameValueLabel, HPos.CENTER);
 			nameValueLabels.add(nameValueLabel);
 
-			Label scoreValueLabel = new Label(String.valueOf(user.getNumAllGamesForAchievements()));
+			Label scoreValueLabel = new Label();
 			scoreValueLabel.setFont(gameSessionContext.getStyleManager().getFont("franklin-normal", 500, 20));
 			GridPane.setHalignment(scoreValueLabel, HPos.CENTER);
 			scoreValueLabels.add(scoreValueLabel);
 
-			leaderboardGrid.add(rankValueLabel, 0, i + 1);
-			leaderboardGrid.add(nameValueLabel, 1, i + 1);
-			leaderboardGrid.add(scoreValueLabel, 2, i + 1);
+			leaderboardGrid.add(rankValueLabel, 0, row);
+			leaderboardGrid.add(nameValueLabel, 1, row);
+			leaderboardGrid.add(scoreValueLabel, 2, row);
+		}
+
+		for (int i = 0; i < rankValueLabels.size(); i++) {
+			boolean shown = i < topUsers.size();
+			if (shown) {
+				WebUser user = topUsers.get(i);
+				nameValueLabels.get(i).setText(user.getUserName());
+				scoreValueLabels.get(i).setText(String.valueOf(user.getNumAllGamesForAchievements()));
+			}
+			for (Label label : new Label[] { rankValueLabels.get(i), nameValueLabels.get(i),
+					scoreValueLabels.get(i) }) {
+				label.setVisible(shown);
+				label.setManaged(shown);
+			}
 		}
 	}
 
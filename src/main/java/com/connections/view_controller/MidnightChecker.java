@@ -1,74 +1,42 @@
 package com.connections.view_controller;
 
-import java.time.ZonedDateTime;
-
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
-import javafx.util.Duration;
 
+/**
+ * The MidnightChecker class notifies a session when the day rolls over. It
+ * holds no timer of its own: running checkers are registered with the shared
+ * MidnightScheduler.
+ */
 public class MidnightChecker {
-	// This is to prevent the timeline from counting indefinitely (might cause
-	// issues with JPro).
-	// Will go at most for 24 hours plus 10 seconds.
-	private static final int MAX_CYCLE_COUNT = (24 * 60 * 60) + 10;
-
-	// Set this to some positive number if the trigger should occur some seconds
-	// before midnight.
-	public static final int TRIGGER_SEC_THRESHOLD = 1;
-
-	private Timeline timeline;
-	private KeyFrame keyFrame;
 	private boolean isRunning;
 	private EventHandler<ActionEvent> onMidnight;
 
 	/**
-	 * Constructs the MidnightChecker by setting a Timeline and KeyFrame.
-	 */
-	public MidnightChecker() {
-		keyFrame = new KeyFrame(Duration.seconds(1), event -> {
-			ZonedDateTime currentDate = ZonedDateTime.now();
-			ZonedDateTime midnightDate = currentDate.toLocalDate().atStartOfDay(currentDate.getZone()).plusDays(1);
-
-			java.time.Duration durationUntilMidnight = java.time.Duration.between(currentDate, midnightDate);
-
-			if (durationUntilMidnight.toSeconds() <= TRIGGER_SEC_THRESHOLD) {
-				if (onMidnight != null) {
-					onMidnight.handle(new ActionEvent(this, null));
-				}
-				timeline.stop();
-			}
-		});
-
-		timeline = new Timeline(keyFrame);
-		timeline.setCycleCount(MAX_CYCLE_COUNT);
-	}
-
-	/**
-	 * Starts the Timeline if it is not already running.
+	 * Registers the checker with the MidnightScheduler if it is not already
+	 * running.
 	 */
 	public void start() {
-		if (timeline != null && !isRunning) {
-			timeline.play();
+		if (!isRunning) {
 			isRunning = true;
+			MidnightScheduler.register(this);
 		}
 	}
 
 	/**
-	 * Stops the Timeline if it is already running.
+	 * Unregisters the checker from the MidnightScheduler if it is already running.
 	 */
 	public void stop() {
-		if (timeline != null && isRunning) {
-			timeline.stop();
+		if (isRunning) {
 			isRunning = false;
+			MidnightScheduler.unregister(this);
 		}
 	}
 
 	/**
-	 * Returns the running status of the Timeline.
+	 * Returns the running status of the checker.
 	 *
-	 * @return true if the Timeline is running and false if otherwise
+	 * @return true if the checker is running and false if otherwise
 	 */
 	public boolean isRunning() {
 		return isRunning;
@@ -82,4 +50,19 @@ public class MidnightChecker {
 	public void setOnMidnight(EventHandler<ActionEvent> onMidnight) {
 		this.onMidnight = onMidnight;
 	}
+
+	/**
+	 * Called by the MidnightScheduler on the JavaFX application thread once the
+	 * day has rolled over. The checker stops after firing, like a
+	 * single-shot timer.
+	 */
+	void fireMidnight() {
+		if (!isRunning) {
+			return;
+		}
+		isRunning = false;
+		if (onMidnight != null) {
+			onMidnight.handle(new ActionEvent(this, null));
+		}
+	}
 }
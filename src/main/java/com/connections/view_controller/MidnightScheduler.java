@@ -0,0 +1,118 @@
+package com.connections.view_controller;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+
+/**
+ * The MidnightScheduler class is the single midnight timer of the JVM. Rather
+ * than every session polling the clock, it arms one timer for the next daily
+ * rollover and then notifies the registered MidnightCheckers in staggered
+ * batches on the JavaFX application thread, so that sessions do not all reload
+ * the new puzzle at the same instant. The daily puzzle is derived from the
+ * date, so nothing needs to be written to the database at the rollover.
+ */
+public final class MidnightScheduler {
+	// The rollover runs shortly after midnight so that the new day has begun
+	// when sessions read the daily puzzle.
+	public static final long ROLLOVER_DELAY_MS = 1000;
+	public static final int FANOUT_BATCH_SIZE = 50;
+	public static final long FANOUT_BATCH_INTERVAL_MS = 100;
+
+	private static final Set<MidnightChecker> checkers = new LinkedHashSet<>();
+	private static ScheduledExecutorService executor;
+	private static ScheduledFuture<?> rolloverFuture;
+
+	private MidnightScheduler() {
+	}
+
+	/**
+	 * Registers a checker to be notified at the next rollover, arming the timer if
+	 * it is not armed yet.
+	 *
+	 * @param checker the checker to register
+	 */
+	public static synchronized void register(MidnightChecker checker) {
+		checkers.add(checker);
+
+		if (executor == null) {
+			executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "connections-midnight");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		if (rolloverFuture == null) {
+			armRollover();
+		}
+	}
+
+	/**
+	 * Unregisters a checker so that it is no longer notified.
+	 *
+	 * @param checker the checker to unregister
+	 */
+	public static synchronized void unregister(MidnightChecker checker) {
+		checkers.remove(checker);
+	}
+
+	/**
+	 * Returns the number of registered checkers.
+	 *
+	 * @return the checker count
+	 */
+	public static synchronized int getCheckerCount() {
+		return checkers.size();
+	}
+
+	/**
+	 * Returns the milliseconds from the specified time until the next rollover.
+	 *
+	 * @param currentDate the current time
+	 * @return the milliseconds until the next rollover
+	 */
+	public static long getMillisUntilRollover(ZonedDateTime currentDate) {
+		ZonedDateTime midnightDate = currentDate.toLocalDate().atStartOfDay(currentDate.getZone()).plusDays(1);
+		return java.time.Duration.between(currentDate, midnightDate).toMillis() + ROLLOVER_DELAY_MS;
+	}
+
+	/**
+	 * Arms the timer for the next rollover.
+	 */
+	private static void armRollover() {
+		rolloverFuture = executor.schedule(MidnightScheduler::rollover,
+				getMillisUntilRollover(ZonedDateTime.now()), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Notifies every registered checker in batches and arms the timer for the
+	 * following day.
+	 */
+	private static void rollover() {
+		List<MidnightChecker> notifying;
+		synchronized (MidnightScheduler.class) {
+			notifying = new ArrayList<>(checkers);
+			checkers.clear();
+			armRollover();
+		}
+
+		for (int start = 0; start < notifying.size(); start += FANOUT_BATCH_SIZE) {
+			List<MidnightChecker> batch = notifying.subList(start,
+					Math.min(start + FANOUT_BATCH_SIZE, notifying.size()));
+			long delayMillis = (start / FANOUT_BATCH_SIZE) * FANOUT_BATCH_INTERVAL_MS;
+			executor.schedule(() -> Platform.runLater(() -> {
+				for (MidnightChecker checker : batch) {
+					checker.fireMidnight();
+				}
+			}), delayMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+}
@@ -62,6 +62,7 @@ public class PopupWrapperPane extends BorderPane implements Modular {
 		initAssets();
 		initMenuPane();
 
+		getStyleClass().add("overlay-pane");
 		setSizeFixed(false);
 		refreshStyle();
 	}
@@ -191,7 +192,6 @@ public class PopupWrapperPane extends BorderPane implements Modular {
 	@Override
 	public void refreshStyle() {
 		StyleManager styleManager = gameSessionContext.getStyleManager();
-		setStyle(styleManager.styleOverlayPane());
 		titleText.setFill(styleManager.colorText());
 		goBackCross.setFill(styleManager.colorText());
 		goBackText.setFill(styleManager.colorText());
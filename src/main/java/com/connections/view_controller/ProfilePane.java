@@ -20,7 +20,7 @@ import javafx.scene.shape.SVGPath;
  * user's profile information. It shows the user's username, email, password,
  * and bio, and provides options to edit each field.
  */
-public class ProfilePane extends VBox implements Modular {
+public class ProfilePane extends VBox implements Modular, ScreenRegistry.Recyclable {
 	private GameSessionContext gameSessionContext;
 	private WebContext webContext;
 	private WebUser user;
@@ -120,6 +120,51 @@ public class ProfilePane extends VBox implements Modular {
 		}
 	}
 
+	/**
+	 * Shows the current profile information again, closing any field that was left
+	 * in the middle of being edited. The pane is only rebuilt if the user has
+	 * switched between a guest and an account since it was built.
+	 */
+	@Override
+	public void refreshData() {
+		WebUser.UserType builtUserType = user.getType();
+		user = gameSessionContext.getWebSessionContext().getSession().getUser();
+
+		if (user.getType() != builtUserType) {
+			getChildren().clear();
+			if (user.getType() == WebUser.UserType.GUEST) {
+				initializeGuestMessage();
+			} else {
+				initializeProfile();
+			}
+			return;
+		}
+
+		if (user.getType() == WebUser.UserType.GUEST) {
+			return;
+		}
+
+		Label[] labels = { usernameLabel, emailLabel, passwordLabel, bioLabel };
+		TextField[] textFields = { usernameTextField, emailTextField, passwordField, bioTextField };
+		for (int i = 0; i < labels.length; i++) {
+			if (labels[i].getParent() == null) {
+				cancelField(labels[i], textFields[i]);
+			}
+		}
+
+		usernameLabel.setText(user.getUserName());
+		emailLabel.setText(user.getEmail());
+		passwordLabel.setText("••••••••");
+		bioLabel.setText(user.getBio());
+		usernameTextField.setText(user.getUserName());
+		emailTextField.setText(user.getEmail());
+		passwordField.setText(user.getPassWord());
+		passwordTextField.setText(user.getPassWord());
+		bioTextField.setText(user.getBio());
+		showPasswordButton.setVisible(true);
+		hidePasswordButton.setVisible(false);
+	}
+
 	/**
 	 * Initializes the guest message when the user is playing as a guest.
 	 */
@@ -9,6 +9,7 @@ import com.connections.model.PlayedGameInfo;
 import com.connections.model.PlayedGameInfoClassic;
 import com.connections.model.PlayedGameInfoTimed;
 import com.connections.model.Word;
+import com.connections.web.SessionRegistry;
 
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
@@ -170,6 +171,7 @@ public class ResultsPane extends StackPane implements Modular {
 
 		timerTimeline.setCycleCount(Animation.INDEFINITE);
 		timerTimeline.play();
+		SessionRegistry.trackAnimation(gameSessionContext.getWebSessionContext(), timerTimeline);
 	}
 
 	/**
@@ -307,6 +309,13 @@ public class ResultsPane extends StackPane implements Modular {
 		}
 	}
 
+	/**
+	 * Stops the countdown to the next puzzle.
+	 */
+	public void close() {
+		timerTimeline.stop();
+	}
+
 	/**
 	 * Returns the GameSessionContext object associated with this ResultsPane.
 	 *
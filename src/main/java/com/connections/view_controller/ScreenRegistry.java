@@ -0,0 +1,85 @@
+package com.connections.view_controller;
+
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javafx.scene.Node;
+
+/**
+ * The ScreenRegistry class keeps the screens of one session so that each screen
+ * is only built the first time it is shown. Showing a screen again reuses it
+ * and only refreshes its data. Screens are held through soft references, so a
+ * screen that is not on display can be released when memory runs low, in which
+ * case it is simply built again the next time it is needed.
+ *
+ * Like the screens themselves, a registry is only meant to be used from the
+ * JavaFX application thread.
+ */
+public class ScreenRegistry {
+	/**
+	 * The Recyclable interface defines the method that a screen implements to
+	 * bring its data up to date when it is shown again.
+	 */
+	public interface Recyclable {
+
+		/**
+		 * Resets the screen to how it looks when it is first shown, reloading the data
+		 * it displays.
+		 */
+		void refreshData();
+	}
+
+	private Map<Class<?>, SoftReference<Node>> screens;
+
+	/**
+	 * Constructs an empty ScreenRegistry.
+	 */
+	public ScreenRegistry() {
+		screens = new HashMap<>();
+	}
+
+	/**
+	 * Returns the screen of the specified type. The screen is built with the
+	 * factory the first time (or after it was released); otherwise the kept
+	 * screen is returned, with its data refreshed if it is Recyclable.
+	 *
+	 * @param <T>     the type of the screen
+	 * @param type    the class of the screen, used as its key
+	 * @param factory builds the screen when there is none to reuse
+	 * @return the screen
+	 */
+	public <T extends Node> T get(Class<T> type, Supplier<T> factory) {
+		SoftReference<Node> reference = screens.get(type);
+		Node screen = (reference == null) ? null : reference.get();
+
+		if (screen == null) {
+			T newScreen = factory.get();
+			screens.put(type, new SoftReference<>(newScreen));
+			return newScreen;
+		}
+
+		if (screen instanceof Recyclable) {
+			((Recyclable) screen).refreshData();
+		}
+		return type.cast(screen);
+	}
+
+	/**
+	 * Drops the screen of the specified type, so that it is built again the next
+	 * time it is needed.
+	 *
+	 * @param type the class of the screen
+	 */
+	public void release(Class<?> type) {
+		screens.remove(type);
+	}
+
+	/**
+	 * Drops every screen of the registry.
+	 */
+	public void clear() {
+		screens.clear();
+	}
+}
@@ -1,22 +1,21 @@
 package com.connections.view_controller;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.util.HashMap;
-import java.util.Map;
-
 import com.connections.model.DifficultyColor;
 
+import javafx.css.PseudoClass;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
+import javafx.scene.Parent;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 
 /**
  * The StyleManager class is responsible for managing the styles and colors used
  * throughout the application. It provides methods for retrieving colors and
- * styles based on the current theme (light or dark mode). It also handles
- * loading and caching fonts from files.
+ * styles based on the current theme (light or dark mode). The styles of the
+ * controls live in a shared stylesheet that is switched to dark mode through a
+ * pseudo-class on the root of the game. Fonts are loaded through the shared
+ * AssetRegistry.
  */
 public class StyleManager {
 	protected static final Color YELLOW_LIGHT = Color.rgb(249, 223, 109);
@@ -52,34 +51,17 @@ public class StyleManager {
 	protected static final Color TEXT_NEUTRAL_LIGHT = Color.BLACK;
 	protected static final Color TEXT_NEUTRAL_DARK = Color.BLACK;
 
-	protected static final String BUTTON_LIGHT_MODE = "-fx-background-color: white; -fx-text-fill: black; -fx-border-color: black; -fx-border-width: 1px; -fx-border-radius: 50;";
-	protected static final String BUTTON_DARK_MODE = "-fx-background-color: black; -fx-text-fill: white; -fx-border-color: white; -fx-border-width: 1px; -fx-border-radius: 50;";
-
-	protected static final String SUBMIT_BUTTON_FILL_LIGHT_MODE = "-fx-background-color: black; -fx-text-fill: white; -fx-background-radius: 50; -fx-border-radius: 50;";
-	protected static final String SUBMIT_BUTTON_FILL_DARK_MODE = "-fx-background-color: white; -fx-text-fill: black; -fx-background-radius: 50; -fx-border-radius: 50;";
-
-	protected static final String RESULTS_PANE_SHARE_BUTTON_LIGHT_MODE = "-fx-background-color: white; -fx-text-fill: black; -fx-background-radius: 50; -fx-border-radius: 50; -fx-min-height: 48px; -fx-max-height: 48px;";
-	protected static final String RESULTS_PANE_SHARE_BUTTON_DARK_MODE = "-fx-background-color: black; -fx-text-fill: white; -fx-background-radius: 50; -fx-border-radius: 50; -fx-min-height: 48px; -fx-max-height: 48px;";
-
-	protected static final String OVERLAY_PANE_LIGHT_MODE = "-fx-background-color: white; -fx-effect: dropshadow(gaussian, black, 20, 0, 0, 0);";
-	protected static final String OVERLAY_PANE_DARK_MODE = "-fx-background-color: black; -fx-effect: dropshadow(gaussian, rgb(176, 247, 121), 20, 0, 0, 0);";
-
-	protected static final String WHOLE_GAME_LIGHT_MODE = "-fx-background-color: white;";
-	protected static final String WHOLE_GAME_DARK_MODE = "-fx-background-color: black;";
-
-	protected static final String LABEL_LIGHT_MODE = "-fx-background-color: #ebebeb; -fx-background-radius: 200px; -fx-effect: dropshadow(gaussian, rgba(0, 0, 0, 0.4), 10, 0, 0, 5), dropshadow(gaussian, rgba(255, 255, 255, 0.4), 5, 0, 0, -5);";
-	protected static final String LABEL_DARK_MODE = "-fx-background-color: #242424; -fx-background-radius: 200px; -fx-effect: dropshadow(gaussian, rgba(176, 247, 21, 0.4), 10, 0, 0, 5), dropshadow(gaussian, rgba(0, 0, 0, 0.4), 10, 0, 0, 5);";
-
-	protected static final String CIRCLE_LIGHT_MODE = "-fx-fill: linear-gradient(from 0% 0% to 100% 100%, #ffcc89, #d8860b); -fx-effect: dropshadow(gaussian, rgba(0, 0, 0, 0.2), 5, 0, 0, 5);";
-	protected static final String CIRCLE_DARK_MODE = "-fx-fill: linear-gradient(from 0% 0% to 100% 100%, #777, #3a3a3a); -fx-effect: dropshadow(gaussian, rgba(0, 0, 0, 0.2), 5, 0, 0, 5);";
+	protected static final String THEME_STYLESHEET = "/com/connections/web/css/theme.css";
+	protected static final String THEME_ROOT_STYLE_CLASS = "game-session";
+	protected static final PseudoClass DARK_PSEUDO_CLASS = PseudoClass.getPseudoClass("dark");
 
 	private boolean darkMode;
 	private EventHandler<ActionEvent> onDarkModeChange;
-	private Map<String, Font> fontMap = new HashMap<>();
 
 	/**
 	 * Retrieves a Font instance for the specified font name, file extension,
-	 * weight, and size. Fonts are loaded from files and cached for future use.
+	 * weight, and size. Fonts are loaded from files once and shared through the
+	 * AssetRegistry.
 	 *
 	 * @param fontName      The name of the font.
 	 * @param fileExtension The file extension of the font file (e.g., "ttf",
@@ -90,27 +72,13 @@ public class StyleManager {
 	 * @return The Font instance for the specified parameters.
 	 */
 	public Font getFont(String fontName, String fileExtension, int weight, int size) {
-		try {
-			String key = String.format("%s-%s-%d-%d", fontName, fileExtension, size, weight);
-			Font font = fontMap.get(key);
-
-			if (font == null) {
-				font = Font.loadFont(
-						new FileInputStream(String.format("Fonts/%s-%d.%s", fontName, weight, fileExtension)), size);
-				fontMap.put(key, font);
-			}
-
-			return font;
-		} catch (FileNotFoundException e) {
-			System.out.printf("ERROR: could not load font %s with weight %d and size %d!\n", fontName, weight, size);
-		}
-
-		return Font.font("System", size);
+		return AssetRegistry.getFont(fontName, fileExtension, weight, size);
 	}
 
 	/**
 	 * Retrieves a Font instance for the specified font name, file extension, and
-	 * size. Fonts are loaded from files and cached for future use.
+	 * size. Fonts are loaded from files once and shared through the
+	 * AssetRegistry.
 	 *
 	 * @param fontName      The name of the font.
 	 * @param fileExtension The file extension of the font file (e.g., "ttf",
@@ -119,21 +87,7 @@ public class StyleManager {
 	 * @return The Font instance for the specified parameters.
 	 */
 	public Font getFont(String fontName, String fileExtension, int size) {
-		try {
-			String key = String.format("%s-%s-%d", fontName, fileExtension, size);
-			Font font = fontMap.get(key);
-
-			if (font == null) {
-				font = Font.loadFont(new FileInputStream(String.format("Fonts/%s.%s", fontName, fileExtension)), size);
-				fontMap.put(key, font);
-			}
-
-			return font;
-		} catch (FileNotFoundException e) {
-			System.out.printf("ERROR: could not load font %s with size %d!\n", fontName, size);
-		}
-
-		return Font.font("System", size);
+		return AssetRegistry.getFont(fontName, fileExtension, size);
 	}
 
 	/**
@@ -161,6 +115,24 @@ public class StyleManager {
 		return getFont(fontName, "ttf", size);
 	}
 
+	/**
+	 * Makes the specified node the root of the theme. The theme stylesheet is
+	 * parsed once by JavaFX and shared by every node that uses it, so switching
+	 * between light and dark mode only flips the dark pseudo-class of the root.
+	 *
+	 * @param root the root node of the themed components
+	 */
+	public void applyTheme(Parent root) {
+		String stylesheet = StyleManager.class.getResource(THEME_STYLESHEET).toExternalForm();
+		if (!root.getStylesheets().contains(stylesheet)) {
+			root.getStylesheets().add(stylesheet);
+		}
+		if (!root.getStyleClass().contains(THEME_ROOT_STYLE_CLASS)) {
+			root.getStyleClass().add(THEME_ROOT_STYLE_CLASS);
+		}
+		root.pseudoClassStateChanged(DARK_PSEUDO_CLASS, darkMode);
+	}
+
 	/**
 	 * Sets the dark mode state of the application.
 	 *
@@ -380,68 +352,4 @@ public class StyleManager {
 	public Color timerBackground() {
 		return darkMode ? Color.WHITE : Color.BLACK;
 	}
-
-	/**
-	 * Retrieves the style for buttons based on the current theme.
-	 *
-	 * @return The style for buttons.
-	 */
-	public String styleButton() {
-		return darkMode ? BUTTON_DARK_MODE : BUTTON_LIGHT_MODE;
-	}
-
-	/**
-	 * Retrieves the style for the submit button fill based on the current theme.
-	 *
-	 * @return The style for the submit button fill.
-	 */
-	public String styleSubmitButtonFill() {
-		return darkMode ? SUBMIT_BUTTON_FILL_DARK_MODE : SUBMIT_BUTTON_FILL_LIGHT_MODE;
-	}
-
-	/**
-	 * Retrieves the style for the share button in the results pane based on the
-	 * current theme.
-	 *
-	 * @return The style for the share button in the results pane.
-	 */
-	public String styleResultsPaneShareButton() {
-		return darkMode ? RESULTS_PANE_SHARE_BUTTON_DARK_MODE : RESULTS_PANE_SHARE_BUTTON_LIGHT_MODE;
-	}
-
-	/**
-	 * Retrieves the style for the overlay pane based on the current theme.
-	 *
-	 * @return The style for the overlay pane.
-	 */
-	public String styleOverlayPane() {
-		return darkMode ? OVERLAY_PANE_DARK_MODE : OVERLAY_PANE_LIGHT_MODE;
-	}
-
-	/**
-	 * Retrieves the style for the whole game based on the current theme.
-	 *
-	 * @return The style for the whole game.
-	 */
-	public String styleWholeGame() {
-		return darkMode ? WHOLE_GAME_DARK_MODE : WHOLE_GAME_LIGHT_MODE;
-	}
-
-	/**
-	 * Retrieves the style for labels based on the current theme.
-	 *
-	 * @return The style for labels.
-	 */
-	public String styleLabel() {
-		return darkMode ? LABEL_DARK_MODE : LABEL_LIGHT_MODE;
-	}
-
-	/**
-	 * Retrieves the style for circles based on the current theme.
-	 *
-	 * @return The style for circles.
-	 */
-	public String styleCircle() {
-		return darkMode ? CIRCLE_DARK_MODE : CIRCLE_LIGHT_MODE;
-	}
 }
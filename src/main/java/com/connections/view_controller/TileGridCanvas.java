@@ -0,0 +1,231 @@
+package com.connections.view_controller;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+
+/**
+ * The TileGridCanvas class draws the whole tile grid onto a single Canvas. The
+ * tiles of the grid are still GameTileWord and GameTileAnswer objects, so they
+ * keep their state and animations, but they are never added to the scene
+ * graph: the canvas redraws itself whenever one of them changes and forwards
+ * clicks to the tile under the mouse. With JPro every node in the scene graph
+ * is mirrored to the browser, so this replaces around fifty nodes per session
+ * with two.
+ */
+public class TileGridCanvas extends Pane {
+	// Room around the grid for tiles that are drawn past its edges, such as an
+	// answer tile popping up to 1.4 times its size.
+	private static final int MARGIN_X = 128;
+	private static final int MARGIN_Y = 24;
+	private static final int CELL_WIDTH = GameTile.RECTANGLE_WIDTH + TileGridWord.GAP;
+	private static final int CELL_HEIGHT = GameTile.RECTANGLE_HEIGHT + TileGridWord.GAP;
+
+	private TileGridWord tileGridWord;
+	private Canvas canvas;
+	private List<Node> floatingNodes;
+	private InvalidationListener redrawListener;
+	private AnimationTimer redrawTimer;
+
+	/**
+	 * Constructs a new TileGridCanvas for the specified TileGridWord.
+	 *
+	 * @param tileGridWord the TileGridWord whose grid is drawn
+	 */
+	public TileGridCanvas(TileGridWord tileGridWord) {
+		this.tileGridWord = tileGridWord;
+		this.floatingNodes = new ArrayList<>();
+		initAssets();
+	}
+
+	/**
+	 * Initializes the canvas, the redraw timer and the mouse handlers.
+	 */
+	private void initAssets() {
+		canvas = new Canvas(TileGridWord.PANE_WIDTH + MARGIN_X * 2, TileGridWord.PANE_HEIGHT + MARGIN_Y * 2);
+		canvas.setManaged(false);
+		canvas.relocate(-MARGIN_X, -MARGIN_Y);
+
+		setMinSize(TileGridWord.PANE_WIDTH, TileGridWord.PANE_HEIGHT);
+		setPrefSize(TileGridWord.PANE_WIDTH, TileGridWord.PANE_HEIGHT);
+		setMaxSize(TileGridWord.PANE_WIDTH, TileGridWord.PANE_HEIGHT);
+		getChildren().add(canvas);
+
+		// Many changes can happen in one pulse (e.g. every property of a transition),
+		// so they are coalesced into a single redraw on the next pulse.
+		redrawTimer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				stop();
+				draw();
+			}
+		};
+		redrawListener = observable -> requestRedraw();
+
+		canvas.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
+			GameTileWord tileWord = getTileWordAt(event.getX() - MARGIN_X, event.getY() - MARGIN_Y);
+			if (tileWord != null) {
+				tileWord.handleClick();
+			}
+		});
+		canvas.addEventHandler(MouseEvent.MOUSE_MOVED, event -> {
+			GameTileWord tileWord = getTileWordAt(event.getX() - MARGIN_X, event.getY() - MARGIN_Y);
+			canvas.setCursor((tileWord != null) ? Cursor.HAND : Cursor.DEFAULT);
+		});
+		canvas.addEventHandler(MouseEvent.MOUSE_EXITED, event -> {
+			canvas.setCursor(Cursor.DEFAULT);
+		});
+	}
+
+	/**
+	 * Starts drawing the specified grid node, redrawing the canvas whenever it
+	 * changes.
+	 *
+	 * @param node the node placed in the grid
+	 */
+	public void attach(Node node) {
+		if (node instanceof CanvasDrawable) {
+			((CanvasDrawable) node).addRedrawListener(redrawListener);
+		}
+		requestRedraw();
+	}
+
+	/**
+	 * Stops redrawing the canvas when the specified grid node changes.
+	 *
+	 * @param node the node removed from the grid
+	 */
+	public void detach(Node node) {
+		if (node instanceof CanvasDrawable) {
+			((CanvasDrawable) node).removeRedrawListener(redrawListener);
+		}
+		requestRedraw();
+	}
+
+	/**
+	 * Adds a node that is drawn above the grid, at its own position, until it is
+	 * removed. Used for the tiles that move between cells during animations.
+	 *
+	 * @param node the node to be drawn above the grid
+	 */
+	public void floatingAdd(Node node) {
+		floatingNodes.add(node);
+		attach(node);
+	}
+
+	/**
+	 * Removes nodes that were drawn above the grid.
+	 *
+	 * @param nodes the nodes to be removed
+	 */
+	public void floatingRemove(Collection<? extends Node> nodes) {
+		for (Node node : nodes) {
+			if (floatingNodes.remove(node)) {
+				detach(node);
+			}
+		}
+	}
+
+	/**
+	 * Schedules a redraw of the canvas on the next pulse.
+	 */
+	public void requestRedraw() {
+		redrawTimer.start();
+	}
+
+	/**
+	 * Draws the grid and the floating nodes onto the canvas.
+	 */
+	private void draw() {
+		GraphicsContext gc = canvas.getGraphicsContext2D();
+		gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		gc.save();
+		gc.translate(MARGIN_X, MARGIN_Y);
+		for (int row = 0; row < TileGridWord.ROWS; row++) {
+			for (int col = 0; col < TileGridWord.COLS; col++) {
+				drawNode(gc, tileGridWord.gridGetNode(row, col));
+			}
+		}
+		for (Node node : floatingNodes) {
+			drawNode(gc, node);
+		}
+		gc.restore();
+	}
+
+	/**
+	 * Draws the specified node if it can be drawn and is visible.
+	 *
+	 * @param gc   the graphics context of the canvas
+	 * @param node the node to draw
+	 */
+	private void drawNode(GraphicsContext gc, Node node) {
+		if (node instanceof CanvasDrawable && node.isVisible()) {
+			gc.save();
+			((CanvasDrawable) node).drawOnCanvas(gc);
+			gc.restore();
+		}
+	}
+
+	/**
+	 * Returns the enabled word tile at the specified position of the grid.
+	 *
+	 * @param x the x position relative to the top left corner of the grid
+	 * @param y the y position relative to the top left corner of the grid
+	 * @return the word tile, or null if the position is not on an enabled word
+	 *         tile
+	 */
+	private GameTileWord getTileWordAt(double x, double y) {
+		if (x < 0 || y < 0) {
+			return null;
+		}
+		int col = (int) (x / CELL_WIDTH);
+		int row = (int) (y / CELL_HEIGHT);
+		if (x - col * CELL_WIDTH >= GameTile.RECTANGLE_WIDTH || y - row * CELL_HEIGHT >= GameTile.RECTANGLE_HEIGHT) {
+			return null;
+		}
+		Node node = tileGridWord.gridGetNode(row, col);
+		if (node instanceof GameTileWord && !node.isDisable() && node.isVisible()) {
+			return (GameTileWord) node;
+		}
+		return null;
+	}
+
+	/**
+	 * Moves a node to the top left corner of the specified grid cell, where a
+	 * GridPane would have laid it out.
+	 *
+	 * @param node the node to be moved
+	 * @param row  the row index
+	 * @param col  the column index
+	 */
+	public static void relocateToCell(Node node, int row, int col) {
+		node.relocate(col * CELL_WIDTH, row * CELL_HEIGHT);
+	}
+
+	/**
+	 * Applies the position, scale and opacity of a node to the graphics context,
+	 * the same way they would be applied to the node in the scene graph. The node
+	 * is scaled about its center.
+	 *
+	 * @param gc     the graphics context of the canvas
+	 * @param node   the node being drawn
+	 * @param width  the width of the node
+	 * @param height the height of the node
+	 */
+	public static void applyNodeTransform(GraphicsContext gc, Node node, double width, double height) {
+		gc.translate(node.getLayoutX() + node.getTranslateX() + width / 2,
+				node.getLayoutY() + node.getTranslateY() + height / 2);
+		gc.scale(node.getScaleX(), node.getScaleY());
+		gc.translate(-width / 2, -height / 2);
+		gc.setGlobalAlpha(gc.getGlobalAlpha() * node.getOpacity());
+	}
+}
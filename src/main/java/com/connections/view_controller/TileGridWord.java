@@ -5,35 +5,41 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Random;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 
 import com.connections.model.DifficultyColor;
 import com.connections.model.GameAnswerColor;
+import com.connections.model.GameBoard;
+import com.connections.model.GameBoardState;
 import com.connections.model.GameSaveState;
+import com.connections.model.GridLayout;
+import com.connections.model.Hint;
+import com.connections.model.HintEngine;
+import com.connections.model.HintLevel;
 import com.connections.model.PlayedGameInfo;
 import com.connections.model.Word;
 
 import javafx.animation.ParallelTransition;
 import javafx.animation.PauseTransition;
 import javafx.animation.SequentialTransition;
-import javafx.animation.TranslateTransition;
-import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
 import javafx.util.Duration;
 
 /**
  * The TileGridWord class is a JavaFX component that represents a grid of tiles
  * containing words. It extends the BorderPane class and implements the Modular
  * interface.
+ *
+ * The tiles are laid out by a GridPane, or, when the game session uses the
+ * canvas tile grid, drawn onto a TileGridCanvas without entering the scene
+ * graph.
  */
 public class TileGridWord extends BorderPane implements Modular {
 	public static final int MAX_SELECTED = 4;
@@ -42,15 +48,37 @@ public class TileGridWord extends BorderPane implements Modular {
 	public static final int GAP = 8;
 	public static final int PANE_WIDTH = GameTile.RECTANGLE_WIDTH * 4 + GAP * 3;
 	public static final int PANE_HEIGHT = GameTile.RECTANGLE_HEIGHT * 4 + GAP * 3;
+	private static final int JUMP_STAGGER_MS = 50;
+	private static final Duration[] JUMP_DELAYS = new Duration[MAX_SELECTED];
+
+	static {
+		for (int i = 0; i < MAX_SELECTED; i++) {
+			JUMP_DELAYS[i] = Duration.millis(JUMP_STAGGER_MS * i);
+		}
+	}
 
 	private GridPane gridPane;
+	private TileGridCanvas tileGridCanvas;
+	private Pane gridSurface;
+	private Node[][] gridNodes;
 	private int currentSolvingRow;
 	public int selectedTileWordCount;
-	private List<Set<Word>> previousGuesses;
+	private GameBoard gameBoard;
+	private HintEngine hintEngine;
+	private GameBoardState gameBoardState;
+	private GridLayout gridLayout;
 	private GameSessionContext gameSessionContext;
 	private EventHandler<ActionEvent> onTileWordSelection;
 	private EventHandler<ActionEvent> onHintAnimationStopped;
 
+	// The grid animations are built once and refilled with the animations of the
+	// tile words involved each time they are played.
+	private ParallelTransition tileWordShuffleFadeInTransition;
+	private List<GameTileWord> tileWordShakeList;
+	private ParallelTransition tileWordShakeParallelTransition;
+	private SequentialTransition tileWordShakeTransition;
+	private ParallelTransition tileWordJumpTransition;
+
 	private Set<GameTileWord> tileWordHintShowSet;
 	private ParallelTransition tileWordHintPulseTransition;
 	private ParallelTransition tileWordHintReturnNormalTransition;
@@ -65,6 +93,10 @@ public class TileGridWord extends BorderPane implements Modular {
 	 */
 	public TileGridWord(GameSessionContext gameSessionContext) {
 		this.gameSessionContext = gameSessionContext;
+		this.hintEngine = HintEngine.forGameData(gameSessionContext.getGameData());
+		this.gameBoard = hintEngine.getGameBoard();
+		this.gameBoardState = new GameBoardState(gameBoard);
+		this.gridLayout = new GridLayout();
 		initAssets();
 	}
 
@@ -75,29 +107,9 @@ public class TileGridWord extends BorderPane implements Modular {
 	 *                      state.
 	 */
 	public void loadFromSaveState(GameSaveState gameSaveState) {
-		initAssets();
-		gridPane.getChildren().clear();
-
-		initGuessedWordsFromExternalVar(gameSaveState.getGuesses());
-
-		for (Set<Word> guessedWordSet : previousGuesses) {
-			GameAnswerColor answerColor = checkMatchingAnswerColor(guessedWordSet);
-			if (answerColor != null) {
-				GameTileAnswer tileAnswer = new GameTileAnswer(answerColor, this);
-				currentSolvingRow++;
-				gridSetTileAnswer(tileAnswer);
-			}
-		}
-
-		for (int row = currentSolvingRow; row < ROWS; row++) {
-			List<Word> wordsOnRow = gameSaveState.getGrid().get(row);
-
-			for (int col = 0; col < COLS; col++) {
-				GameTileWord tileWord = new GameTileWord(this);
-				tileWord.setWord(wordsOnRow.get(col));
-				gridPane.add(tileWord, col, row);
-			}
-		}
+		gameBoardState.loadGuesses(gameSaveState.getGuesses());
+		gridLayout.loadInProgress(gameBoardState, gameSaveState.getGrid());
+		gridApplyLayout();
 	}
 
 	/**
@@ -107,25 +119,9 @@ public class TileGridWord extends BorderPane implements Modular {
 	 *                       information.
 	 */
 	public void loadFromPlayedGameInfo(PlayedGameInfo playedGameInfo) {
-		initAssets();
-		initGuessedWordsFromExternalVar(playedGameInfo.getGuesses());
-
-		for (Set<Word> guessedWordSet : previousGuesses) {
-			GameAnswerColor answerColor = checkMatchingAnswerColor(guessedWordSet);
-			if (answerColor != null) {
-				GameTileAnswer tileAnswer = new GameTileAnswer(answerColor, this);
-				currentSolvingRow++;
-				gridSetTileAnswer(tileAnswer);
-			}
-		}
-
-		List<DifficultyColor> remainingColors = getSortedUnansweredDifficultyColor();
-		for (DifficultyColor color : remainingColors) {
-			GameAnswerColor answerColor = gameSessionContext.getGameData().getAnswerForColor(color);
-			GameTileAnswer tileAnswer = new GameTileAnswer(answerColor, this);
-			currentSolvingRow++;
-			gridSetTileAnswer(tileAnswer);
-		}
+		gameBoardState.loadGuesses(playedGameInfo.getGuesses());
+		gridLayout.loadFinished(gameBoardState);
+		gridApplyLayout();
 	}
 
 	/**
@@ -134,90 +130,61 @@ public class TileGridWord extends BorderPane implements Modular {
 	private void initAssets() {
 		currentSolvingRow = 0;
 		selectedTileWordCount = 0;
-		previousGuesses = new ArrayList<>();
+		gameBoardState.reset();
 
-		gridPane = new GridPane();
-		gridPane.setHgap(GAP);
-		gridPane.setVgap(GAP);
-		gridPane.setAlignment(Pos.CENTER);
-		gridPane.setMaxWidth(PANE_WIDTH);
+		gridNodes = new Node[ROWS][COLS];
+		if (gameSessionContext.isCanvasTileGrid()) {
+			tileGridCanvas = new TileGridCanvas(this);
+			gridSurface = tileGridCanvas;
+		} else {
+			gridPane = new GridPane();
+			gridPane.setHgap(GAP);
+			gridPane.setVgap(GAP);
+			gridPane.setAlignment(Pos.CENTER);
+			gridPane.setMaxWidth(PANE_WIDTH);
+			gridSurface = gridPane;
+		}
 
 		setMaxWidth(PANE_WIDTH);
-		setCenter(gridPane);
+		setCenter(gridSurface);
 		initEmptyTileWords();
 	}
 
-	/**
-	 * Initializes the previously guessed words from an external variable.
-	 *
-	 * @param previousGuessesExternal The external list of previously guessed word
-	 *                                sets.
-	 */
-	private void initGuessedWordsFromExternalVar(List<Set<Word>> previousGuessesExternal) {
-		previousGuesses = new ArrayList<>();
-
-		for (Set<Word> guessSetFromSave : previousGuessesExternal) {
-			Set<Word> guessSetFromTileWord = new HashSet<>();
-
-			for (Word wordFromSave : guessSetFromSave) {
-				// by default set it to the save copy
-				Word wordFromTileWord = wordFromSave;
-
-				for (int row = currentSolvingRow; row < ROWS; row++) {
-					for (int col = 0; col < COLS; col++) {
-						Node node = gridGetNode(row, col);
-						if (node instanceof GameTileWord) {
-							GameTileWord tileWord = (GameTileWord) node;
-							if (wordFromSave.equals(tileWord.getWord())) {
-								wordFromTileWord = tileWord.getWord();
-
-								row = ROWS;
-								col = COLS;
-								break;
-							}
-						}
-					}
-				}
-
-				guessSetFromTileWord.add(wordFromTileWord);
-			}
-
-			previousGuesses.add(guessSetFromTileWord);
-		}
-	}
-
 	/**
 	 * Initializes empty tile words in the grid.
 	 */
 	private void initEmptyTileWords() {
-		gridPane.getChildren().clear();
+		gridClear();
 		for (int row = 0; row < ROWS; row++) {
 			for (int col = 0; col < COLS; col++) {
-				gridPane.add(new GameTileWord(this), col, row);
+				gridPlaceNode(new GameTileWord(this), row, col);
 			}
 		}
 	}
 
 	/**
-	 * Initializes the tile words with words from the game data.
+	 * Initializes the tile words with words from the game data, laid out by a
+	 * seeded shuffle so the layout can be replayed from the seed.
+	 *
+	 * @param seed the seed of the layout shuffle
 	 */
-	public void initTileWords() {
+	public void initTileWords(long seed) {
 		List<Word> words = new ArrayList<>();
-		for (DifficultyColor color : DifficultyColor.getAllColors()) {
-			GameAnswerColor answer = gameSessionContext.getGameData().getAnswerForColor(color);
-			for (String wordText : answer.getWords()) {
-				words.add(new Word(wordText, color));
-			}
+		for (int index = 0; index < GameBoard.WORD_COUNT; index++) {
+			words.add(gameBoard.getWord(index));
 		}
 
-		Collections.shuffle(words);
+		Collections.shuffle(words, new Random(seed));
 
 		int wordIndex = 0;
-		for (Node node : gridPane.getChildren()) {
-			if (node instanceof GameTileWord) {
-				GameTileWord tileWord = (GameTileWord) node;
-				tileWord.setWord(words.get(wordIndex));
-				wordIndex++;
+		for (int row = 0; row < ROWS; row++) {
+			for (int col = 0; col < COLS; col++) {
+				Node node = gridNodes[row][col];
+				if (node instanceof GameTileWord) {
+					GameTileWord tileWord = (GameTileWord) node;
+					tileWord.setWord(words.get(wordIndex));
+					wordIndex++;
+				}
 			}
 		}
 	}
@@ -226,44 +193,53 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * Deselects all tile words in the grid.
 	 */
 	public void deselectTileWords() {
-		gridPane.getChildren().forEach(node -> {
+		for (Node node : gridGetNodes()) {
 			if (node instanceof GameTileWord) {
 				GameTileWord tileWord = (GameTileWord) node;
 				tileWord.setSelectedStatus(false);
 			}
-		});
+		}
 		selectedTileWordCount = 0;
+		gameBoardState.clearSelection();
 	}
 
 	/**
-	 * Shuffles the tile words in the grid.
+	 * Shuffles the tile words in the grid with a seeded shuffle, so the shuffle
+	 * can be replayed from the seed.
+	 *
+	 * @param seed the seed of the shuffle
 	 */
-	public void shuffleTileWords() {
-		ObservableList<Node> children = gridPane.getChildren();
-		List<GameTileWord> gameTileWords = children.stream().filter(node -> node instanceof GameTileWord)
-				.map(node -> (GameTileWord) node).collect(Collectors.toList());
+	public void shuffleTileWords(long seed) {
+		List<GameTileWord> gameTileWords = new ArrayList<>();
+		for (int row = currentSolvingRow; row < ROWS; row++) {
+			for (int col = 0; col < COLS; col++) {
+				if (gridNodes[row][col] instanceof GameTileWord) {
+					gameTileWords.add((GameTileWord) gridNodes[row][col]);
+				}
+			}
+		}
 
-		Collections.shuffle(gameTileWords);
+		Collections.shuffle(gameTileWords, new Random(seed));
 
 		int index = 0;
 		for (int row = currentSolvingRow; row < ROWS; row++) {
-			for (int col = 0; col < COLS; col++) {
-				GridPane.setRowIndex(gameTileWords.get(index), row);
-				GridPane.setColumnIndex(gameTileWords.get(index), col);
+			for (int col = 0; col < COLS && index < gameTileWords.size(); col++) {
+				gridMoveNode(gameTileWords.get(index), row, col);
 				index++;
 			}
 		}
 
-		ParallelTransition fadeInTransition = new ParallelTransition();
+		if (tileWordShuffleFadeInTransition == null) {
+			tileWordShuffleFadeInTransition = new ParallelTransition();
+		}
+		tileWordShuffleFadeInTransition.stop();
+		tileWordShuffleFadeInTransition.getChildren().clear();
 
-		for (Node node : gridPane.getChildren()) {
-			if (node instanceof GameTileWord) {
-				GameTileWord tileWord = (GameTileWord) node;
-				tileWord.fadeInWordText(fadeInTransition);
-			}
+		for (GameTileWord tileWord : gameTileWords) {
+			tileWord.fadeInWordText(tileWordShuffleFadeInTransition);
 		}
 
-		fadeInTransition.play();
+		tileWordShuffleFadeInTransition.playFromStart();
 	}
 
 	/**
@@ -281,15 +257,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @return The number of words that match the selected words.
 	 */
 	public int checkNumWordsMatchSelected() {
-		int maxMatchCount = 0;
-		for (DifficultyColor color : DifficultyColor.getAllColors()) {
-			GameAnswerColor answer = gameSessionContext.getGameData().getAnswerForColor(color);
-			List<String> colorWords = Arrays.asList(answer.getWords());
-			int matchCount = (int) getSelectedWords().stream().filter(word -> colorWords.contains(word.getText()))
-					.count();
-			maxMatchCount = Math.max(maxMatchCount, matchCount);
-		}
-		return maxMatchCount;
+		return gameBoardState.getSelectedMatchCount();
 	}
 
 	/**
@@ -299,14 +267,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @return The number of words that match an answer.
 	 */
 	public int checkNumWordsMatch(Set<Word> words) {
-		int maxMatchCount = 0;
-		for (DifficultyColor color : DifficultyColor.getAllColors()) {
-			GameAnswerColor answer = gameSessionContext.getGameData().getAnswerForColor(color);
-			List<String> colorWords = Arrays.asList(answer.getWords());
-			int matchCount = (int) words.stream().filter(word -> colorWords.contains(word.getText())).count();
-			maxMatchCount = Math.max(maxMatchCount, matchCount);
-		}
-		return maxMatchCount;
+		return gameBoard.countBestMatch(gameBoard.getMask(words));
 	}
 
 	/**
@@ -316,17 +277,11 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @return The GameAnswerColor object if a match is found, otherwise null.
 	 */
 	public GameAnswerColor checkMatchingAnswerColor(Set<Word> words) {
-		int maxMatchCount = 0;
-		for (DifficultyColor color : DifficultyColor.getAllColors()) {
-			GameAnswerColor answer = gameSessionContext.getGameData().getAnswerForColor(color);
-			List<String> colorWords = Arrays.asList(answer.getWords());
-			int matchCount = (int) words.stream().filter(word -> colorWords.contains(word.getText())).count();
-			maxMatchCount = Math.max(maxMatchCount, matchCount);
-			if (maxMatchCount == 4) {
-				return answer;
-			}
+		DifficultyColor color = gameBoard.getMatchingColor(gameBoard.getMask(words));
+		if (color == null) {
+			return null;
 		}
-		return null;
+		return gameSessionContext.getGameData().getAnswerForColor(color);
 	}
 
 	/**
@@ -335,13 +290,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @return true if all categories have been guessed, false otherwise.
 	 */
 	public boolean checkAllCategoriesGuessed() {
-		Set<DifficultyColor> guessedColors = new HashSet<>();
-		for (Set<Word> guess : previousGuesses) {
-			if (checkNumWordsMatch(guess) == MAX_SELECTED) {
-				guessedColors.add(guess.iterator().next().getColor());
-			}
-		}
-		return guessedColors.size() == DifficultyColor.getAllColors().size();
+		return gameBoardState.isAllGroupsSolved();
 	}
 
 	/**
@@ -352,7 +301,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	public Set<GameTileWord> getSelectedTileWords() {
 		Set<GameTileWord> selectedPieceSet = new HashSet<>();
 
-		for (Node node : gridPane.getChildren()) {
+		for (Node node : gridGetNodes()) {
 			if (node instanceof GameTileWord) {
 				GameTileWord tileWord = (GameTileWord) node;
 				if (tileWord.getSelectedStatus()) {
@@ -370,18 +319,51 @@ public class TileGridWord extends BorderPane implements Modular {
 	 *         otherwise.
 	 */
 	public boolean checkSelectedAlreadyGuessed() {
-		Set<Word> selected = getSelectedWords();
-		return previousGuesses.contains(selected);
+		return gameBoardState.isSelectedAlreadyGuessed();
 	}
 
 	/**
 	 * Saves the currently selected words as a guess.
 	 */
 	public void saveSelectedAsGuess() {
-		Set<Word> selected = getSelectedWords();
-		if (!previousGuesses.contains(selected)) {
-			previousGuesses.add(selected);
-		}
+		gameBoardState.saveSelectedAsGuess();
+	}
+
+	/**
+	 * Updates the selection mask when a tile word is selected or deselected.
+	 *
+	 * @param wordMask The mask of the tile word's word.
+	 * @param selected true if the tile word is now selected, false otherwise.
+	 */
+	public void updateSelectedMask(int wordMask, boolean selected) {
+		gameBoardState.setSelected(wordMask, selected);
+	}
+
+	/**
+	 * Gets the mask of the currently selected words.
+	 *
+	 * @return The mask of the selected words.
+	 */
+	public int getSelectedMask() {
+		return gameBoardState.getSelectedMask();
+	}
+
+	/**
+	 * Gets the GameBoard used to evaluate guesses on this grid.
+	 *
+	 * @return The GameBoard object.
+	 */
+	public GameBoard getGameBoard() {
+		return gameBoard;
+	}
+
+	/**
+	 * Gets the GameBoardState holding the selection and guesses of this grid.
+	 *
+	 * @return The GameBoardState object.
+	 */
+	public GameBoardState getGameBoardState() {
+		return gameBoardState;
 	}
 
 	/**
@@ -392,7 +374,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	public Set<Word> getSelectedWords() {
 		Set<Word> selectedWords = new HashSet<>();
 
-		for (Node node : gridPane.getChildren()) {
+		for (Node node : gridGetNodes()) {
 			if (node instanceof GameTileWord) {
 				GameTileWord tileWord = (GameTileWord) node;
 				if (tileWord.getSelectedStatus()) {
@@ -411,7 +393,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	public List<DifficultyColor> getSortedUnansweredDifficultyColor() {
 		List<DifficultyColor> unansweredColor = new ArrayList<>(DifficultyColor.getAllColors());
 
-		for (Node node : gridPane.getChildren()) {
+		for (Node node : gridGetNodes()) {
 			if (node instanceof GameTileAnswer) {
 				GameTileAnswer tileAnswer = (GameTileAnswer) node;
 				unansweredColor.remove(tileAnswer.getGameAnswerColor().getColor());
@@ -428,7 +410,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * Unsets the incorrect status of all tile words.
 	 */
 	public void unsetIncorrectTileWords() {
-		for (Node node : gridPane.getChildren()) {
+		for (Node node : gridGetNodes()) {
 			if (node instanceof GameTileWord) {
 				GameTileWord tileWord = (GameTileWord) node;
 				if (tileWord.getIncorrectStatus()) {
@@ -445,7 +427,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	 */
 	public void selectMatchingAnswerWords(GameAnswerColor answer) {
 		Set<String> wordStringSet = new HashSet<>(Arrays.asList(answer.getWords()));
-		for (Node node : gridPane.getChildren()) {
+		for (Node node : gridGetNodes()) {
 			if (node instanceof GameTileWord) {
 				GameTileWord tileWord = (GameTileWord) node;
 				String tileWordText = tileWord.getWord().getText().toLowerCase();
@@ -457,66 +439,69 @@ public class TileGridWord extends BorderPane implements Modular {
 	}
 
 	/**
-	 * Gets a sequential transition that shakes the selected tile words.
+	 * Gets a sequential transition that shakes the selected tile words. The same
+	 * transition is returned every time, refilled with the currently selected tile
+	 * words, so it must not be running when this is called.
 	 *
 	 * @return The sequential transition for shaking the selected tile words.
 	 */
 	public SequentialTransition getTransitionTileWordShake() {
-		ParallelTransition shakeTransition = new ParallelTransition();
-		Set<GameTileWord> selectedTileWords = getSelectedTileWords();
+		if (tileWordShakeTransition == null) {
+			tileWordShakeList = new ArrayList<>(MAX_SELECTED);
+			tileWordShakeParallelTransition = new ParallelTransition();
+
+			PauseTransition placeholderPause = new PauseTransition(Duration.millis(5));
+			placeholderPause.setOnFinished(event -> {
+				for (GameTileWord tileWord : tileWordShakeList) {
+					tileWord.setSelectedStatus(false);
+					tileWord.setIncorrectStatus(true);
+				}
+			});
 
-		for (GameTileWord tileWord : selectedTileWords) {
-			TranslateTransition individualShakeTransition = new TranslateTransition(Duration.millis(100), tileWord);
-			individualShakeTransition.setByX(8);
-			individualShakeTransition.setAutoReverse(true);
-			individualShakeTransition.setCycleCount(4);
-			shakeTransition.getChildren().add(individualShakeTransition);
+			tileWordShakeTransition = new SequentialTransition(placeholderPause, tileWordShakeParallelTransition);
 		}
 
-		PauseTransition placeholderPause = new PauseTransition(Duration.millis(5));
-		placeholderPause.setOnFinished(event -> {
-			for (GameTileWord tileWord : selectedTileWords) {
-				tileWord.setSelectedStatus(false);
-				tileWord.setIncorrectStatus(true);
+		tileWordShakeList.clear();
+		tileWordShakeParallelTransition.getChildren().clear();
+		for (Node[] rowNodes : gridNodes) {
+			for (Node colNode : rowNodes) {
+				if (colNode instanceof GameTileWord && ((GameTileWord) colNode).getSelectedStatus()) {
+					GameTileWord colTileWord = (GameTileWord) colNode;
+					tileWordShakeList.add(colTileWord);
+					tileWordShakeParallelTransition.getChildren().add(colTileWord.getShakeAnimation());
+				}
 			}
-		});
+		}
 
-		SequentialTransition sequentialTransition = new SequentialTransition(placeholderPause, shakeTransition);
-		return sequentialTransition;
+		return tileWordShakeTransition;
 	}
 
 	/**
-	 * Gets a parallel transition that makes the selected tile words jump.
+	 * Gets a parallel transition that makes the selected tile words jump. The same
+	 * transition is returned every time, refilled with the currently selected tile
+	 * words, so it must not be running when this is called.
 	 *
 	 * @return The parallel transition for making the selected tile words jump.
 	 */
 	public ParallelTransition getTransitionTileWordJump() {
-		GameTileWord[][] tileWordGrid = new GameTileWord[ROWS][COLS];
-		for (Node node : gridPane.getChildren()) {
-			if (node instanceof GameTileWord) {
-				tileWordGrid[GridPane.getRowIndex(node)][GridPane.getColumnIndex(node)] = (GameTileWord) node;
-			}
-		}
-
-		ParallelTransition jumpTransition = new ParallelTransition();
-		int delay = 0;
-
-		for (GameTileWord[] rowTileWords : tileWordGrid) {
-			for (GameTileWord colTileWord : rowTileWords) {
-				if (colTileWord != null && colTileWord.getSelectedStatus()) {
-					TranslateTransition individualJumpTransition = new TranslateTransition(Duration.millis(200),
-							colTileWord);
-					individualJumpTransition.setByY(-8);
-					individualJumpTransition.setAutoReverse(true);
-					individualJumpTransition.setCycleCount(2);
-					individualJumpTransition.setDelay(Duration.millis(delay));
-					jumpTransition.getChildren().add(individualJumpTransition);
-					delay += 50;
+		if (tileWordJumpTransition == null) {
+			tileWordJumpTransition = new ParallelTransition();
+		}
+
+		tileWordJumpTransition.getChildren().clear();
+		int jumpIndex = 0;
+		for (Node[] rowNodes : gridNodes) {
+			for (Node colNode : rowNodes) {
+				if (colNode instanceof GameTileWord && ((GameTileWord) colNode).getSelectedStatus()
+						&& jumpIndex < MAX_SELECTED) {
+					GameTileWord colTileWord = (GameTileWord) colNode;
+					tileWordJumpTransition.getChildren().add(colTileWord.getJumpAnimation(JUMP_DELAYS[jumpIndex]));
+					jumpIndex++;
 				}
 			}
 		}
 
-		return jumpTransition;
+		return tileWordJumpTransition;
 	}
 
 	/**
@@ -525,7 +510,16 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @return The list of previous guesses.
 	 */
 	public List<Set<Word>> getGuesses() {
-		return previousGuesses;
+		return gameBoardState.getGuesses();
+	}
+
+	/**
+	 * Gets the number of previous guesses.
+	 *
+	 * @return The number of previous guesses.
+	 */
+	public int getGuessCount() {
+		return gameBoardState.getGuessCount();
 	}
 
 	/**
@@ -534,7 +528,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @param status The disabled state to set.
 	 */
 	public void setTileWordDisable(boolean status) {
-		for (Node node : gridPane.getChildren()) {
+		for (Node node : gridGetNodes()) {
 			if (node instanceof GameTileWord) {
 				node.setDisable(status);
 			}
@@ -547,7 +541,7 @@ public class TileGridWord extends BorderPane implements Modular {
 	 */
 	@Override
 	public void refreshStyle() {
-		for (Node node : gridPane.getChildren()) {
+		for (Node node : gridGetNodes()) {
 			if (node instanceof Modular) {
 				Modular stylableNode = (Modular) node;
 				stylableNode.refreshStyle();
@@ -618,12 +612,89 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @return The node at the specified row and column, or null if not found.
 	 */
 	public Node gridGetNode(int row, int col) {
-		for (Node node : gridPane.getChildren()) {
-			if (GridPane.getRowIndex(node) == row && GridPane.getColumnIndex(node) == col) {
-				return node;
+		if (row < 0 || row >= ROWS || col < 0 || col >= COLS) {
+			return null;
+		}
+		return gridNodes[row][col];
+	}
+
+	/**
+	 * Returns the nodes in the grid, row by row.
+	 *
+	 * @return The list of nodes in the grid.
+	 */
+	private List<Node> gridGetNodes() {
+		List<Node> nodes = new ArrayList<>(ROWS * COLS);
+		for (Node[] rowNodes : gridNodes) {
+			for (Node node : rowNodes) {
+				if (node != null) {
+					nodes.add(node);
+				}
+			}
+		}
+		return nodes;
+	}
+
+	/**
+	 * Gets the TileGridCanvas the grid is drawn onto.
+	 *
+	 * @return The TileGridCanvas, or null if the grid is laid out with nodes.
+	 */
+	public TileGridCanvas getTileGridCanvas() {
+		return tileGridCanvas;
+	}
+
+	/**
+	 * Removes all nodes from the grid and clears the cell index.
+	 */
+	private void gridClear() {
+		if (tileGridCanvas != null) {
+			for (Node node : gridGetNodes()) {
+				tileGridCanvas.detach(node);
 			}
+		} else {
+			gridPane.getChildren().clear();
+		}
+		for (Node[] rowNodes : gridNodes) {
+			Arrays.fill(rowNodes, null);
+		}
+	}
+
+	/**
+	 * Adds the node to the grid at the specified row and column and records it in
+	 * the cell index.
+	 *
+	 * @param node The node to be added.
+	 * @param row  The row index.
+	 * @param col  The column index.
+	 */
+	private void gridPlaceNode(Node node, int row, int col) {
+		if (tileGridCanvas != null) {
+			TileGridCanvas.relocateToCell(node, row, col);
+			tileGridCanvas.attach(node);
+		} else {
+			gridPane.add(node, col, row);
+		}
+		gridNodes[row][col] = node;
+	}
+
+	/**
+	 * Moves a node that is already in the grid to the specified row and column
+	 * and records it in the cell index. The cell the node is moved out of is
+	 * left to the caller to fill.
+	 *
+	 * @param node The node to be moved.
+	 * @param row  The destination row index.
+	 * @param col  The destination column index.
+	 */
+	private void gridMoveNode(Node node, int row, int col) {
+		if (tileGridCanvas != null) {
+			TileGridCanvas.relocateToCell(node, row, col);
+		} else {
+			GridPane.setRowIndex(node, row);
+			GridPane.setColumnIndex(node, col);
 		}
-		return null;
+		gridNodes[row][col] = node;
 	}
 
 	/**
@@ -632,7 +703,20 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @param nodeSet The set of nodes to be removed.
 	 */
 	public void gridRemoveNodeSet(Set<? extends Node> nodeSet) {
-		gridPane.getChildren().removeAll(nodeSet);
+		for (int row = 0; row < ROWS; row++) {
+			for (int col = 0; col < COLS; col++) {
+				Node node = gridNodes[row][col];
+				if (node != null && nodeSet.contains(node)) {
+					gridNodes[row][col] = null;
+					if (tileGridCanvas != null) {
+						tileGridCanvas.detach(node);
+					}
+				}
+			}
+		}
+		if (gridPane != null) {
+			gridPane.getChildren().removeAll(nodeSet);
+		}
 	}
 
 	/**
@@ -641,10 +725,74 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @param tileAnswer The tile answer to be set.
 	 */
 	public void gridSetTileAnswer(GameTileAnswer tileAnswer) {
-		gridPane.add(tileAnswer, 0, currentSolvingRow - 1);
+		int row = currentSolvingRow - 1;
+		for (int col = 1; col < COLS; col++) {
+			gridNodes[row][col] = null;
+		}
+		gridPlaceNode(tileAnswer, row, 0);
 		GridPane.setColumnSpan(tileAnswer, COLS);
 	}
 
+	/**
+	 * Rebuilds the grid from the current layout in a single pass. The word and
+	 * answer tiles already in the grid are reused, and new tiles are only created
+	 * when there are not enough of them.
+	 */
+	private void gridApplyLayout() {
+		GameTileAnswer[] reusableTileAnswers = new GameTileAnswer[GameBoard.GROUP_COUNT];
+		GameTileWord[] reusableTileWords = new GameTileWord[ROWS * COLS];
+		int reusableTileWordCount = 0;
+		for (int row = 0; row < ROWS; row++) {
+			for (int col = 0; col < COLS; col++) {
+				Node node = gridNodes[row][col];
+				if (node instanceof GameTileAnswer) {
+					GameTileAnswer tileAnswer = (GameTileAnswer) node;
+					int group = GameBoard.getGroupIndex(tileAnswer.getGameAnswerColor().getColor());
+					reusableTileAnswers[group] = tileAnswer;
+				} else if (node instanceof GameTileWord) {
+					reusableTileWords[reusableTileWordCount++] = (GameTileWord) node;
+				}
+			}
+		}
+
+		gridClear();
+		currentSolvingRow = gridLayout.getAnsweredRowCount();
+		selectedTileWordCount = 0;
+		gameBoardState.clearSelection();
+
+		for (int row = 0; row < currentSolvingRow; row++) {
+			int group = gridLayout.getRowGroup(row);
+			GameTileAnswer tileAnswer = reusableTileAnswers[group];
+			if (tileAnswer == null) {
+				GameAnswerColor answerColor = gameSessionContext.getGameData()
+						.getAnswerForColor(GameBoard.getGroupColor(group));
+				tileAnswer = new GameTileAnswer(answerColor, this);
+			} else {
+				tileAnswer.resetAppearance();
+			}
+			gridPlaceNode(tileAnswer, row, 0);
+			GridPane.setColumnSpan(tileAnswer, COLS);
+		}
+
+		for (int row = currentSolvingRow; row < ROWS; row++) {
+			for (int col = 0; col < COLS; col++) {
+				GameTileWord tileWord;
+				if (reusableTileWordCount > 0) {
+					tileWord = reusableTileWords[--reusableTileWordCount];
+					tileWord.resetStatus();
+				} else {
+					tileWord = new GameTileWord(this);
+				}
+
+				int wordIndex = gridLayout.getWordIndex(row, col);
+				if (wordIndex != GridLayout.EMPTY) {
+					tileWord.setWord(gameBoard.getWord(wordIndex));
+				}
+				gridPlaceNode(tileWord, row, col);
+			}
+		}
+	}
+
 	/**
 	 * Swaps the nodes at the specified source and destination row and column
 	 * indices.
@@ -658,10 +806,8 @@ public class TileGridWord extends BorderPane implements Modular {
 		Node node1 = gridGetNode(sourceRow, sourceCol);
 		Node node2 = gridGetNode(destRow, destCol);
 
-		gridPane.getChildren().removeAll(node1, node2);
-
-		gridPane.add(node1, destCol, destRow);
-		gridPane.add(node2, sourceCol, sourceRow);
+		gridMoveNode(node1, destRow, destCol);
+		gridMoveNode(node2, sourceRow, sourceCol);
 	}
 
 	/**
@@ -670,9 +816,11 @@ public class TileGridWord extends BorderPane implements Modular {
 	 * @param status The visibility status to set.
 	 */
 	public void gridSetNonSolvingNodeVisible(boolean status) {
-		for (Node node : gridPane.getChildren()) {
-			if (GridPane.getRowIndex(node) >= currentSolvingRow) {
-				node.setVisible(true);
+		for (int row = currentSolvingRow; row < ROWS; row++) {
+			for (Node node : gridNodes[row]) {
+				if (node != null) {
+					node.setVisible(true);
+				}
 			}
 		}
 	}
@@ -733,103 +881,79 @@ public class TileGridWord extends BorderPane implements Modular {
 			hintAnimationInitialActive = false;
 			tileWordHintPulseTransition.stop();
 
-			tileWordHintReturnNormalTransition = new ParallelTransition();
+			if (tileWordHintReturnNormalTransition == null) {
+				tileWordHintReturnNormalTransition = new ParallelTransition();
+				tileWordHintReturnNormalTransition.setOnFinished(event -> {
+					if (onHintAnimationStopped != null) {
+						onHintAnimationStopped.handle(new ActionEvent(this, null));
+					}
+					for (GameTileWord tileWord : tileWordHintShowSet) {
+						tileWord.setStyleChangeable(true);
+						tileWord.refreshStyle();
+					}
+					hintAnimationPlaying = false;
+				});
+			}
+			tileWordHintReturnNormalTransition.getChildren().clear();
 			for (GameTileWord tileWord : tileWordHintShowSet) {
 				tileWordHintReturnNormalTransition.getChildren().add(tileWord.getHintReturnNormalAnimation());
 			}
-			tileWordHintReturnNormalTransition.setOnFinished(event -> {
-				if (onHintAnimationStopped != null) {
-					onHintAnimationStopped.handle(new ActionEvent(this, null));
-				}
-				for (GameTileWord tileWord : tileWordHintShowSet) {
-					tileWord.setStyleChangeable(true);
-					tileWord.refreshStyle();
-				}
-				hintAnimationPlaying = false;
-			});
-			tileWordHintReturnNormalTransition.play();
+			tileWordHintReturnNormalTransition.playFromStart();
 		}
-		gridPane.setOnMouseClicked(null);
+		gridSurface.setOnMouseClicked(null);
 	}
 
 	/**
-	 * Shows the hint animation.
+	 * Gets the hint of the specified level for the current board state.
+	 *
+	 * @param level The level of hint requested.
+	 * @return The hint, or null if every category has been guessed.
 	 */
-	public void hintAnimationShow() {
-		tileWordHintShowSet = new HashSet<>();
-
-		Set<GameTileWord> tileWordSelectedSet = getSelectedTileWords();
-		Map<DifficultyColor, Integer> tilesByColorCount = new TreeMap<>();
-
-		// Initialize the HashMap with zero for each color.
-		for (DifficultyColor color : DifficultyColor.getAllColors()) {
-			tilesByColorCount.put(color, 0);
-		}
-
-		// Go through all of the selected colors and increment the counters in the
-		// HashMap.
-		for (GameTileWord tileWord : tileWordSelectedSet) {
-			DifficultyColor color = tileWord.getWord().getColor();
-			tilesByColorCount.put(color, tilesByColorCount.get(color) + 1);
-			tileWordHintShowSet.add(tileWord);
-		}
-
-		Set<DifficultyColor> colorsToSearchFor = new TreeSet<>();
-		int numExtraTilesToPulse = 3;
+	public Hint getHint(HintLevel level) {
+		return hintEngine.getHint(gameBoardState.getSolvedGroupMask(), gameBoardState.getSelectedMask(), level);
+	}
 
-		// Find the first and second maximum count.
-		for (int i = 0; i < numExtraTilesToPulse; i++) {
-			DifficultyColor maxColor = null;
-			int maxCount = -1;
-			for (DifficultyColor color : tilesByColorCount.keySet()) {
-				if (tilesByColorCount.get(color) > maxCount) {
-					maxCount = tilesByColorCount.get(color);
-					maxColor = color;
-				}
-			}
-			if (maxColor != null) {
-				colorsToSearchFor.add(maxColor);
-				tilesByColorCount.remove(maxColor);
-			}
+	/**
+	 * Shows the hint animation, pulsing the tile words revealed by the hint.
+	 *
+	 * @param hint The hint to show.
+	 */
+	public void hintAnimationShow(Hint hint) {
+		if (tileWordHintShowSet == null) {
+			tileWordHintShowSet = new HashSet<>();
 		}
+		tileWordHintShowSet.clear();
 
-		// Search the entire grid for non-selected GameTileWord objects that have a
-		// matching color, pulse the first object that is found (and pulse no more
-		// objects of that color).
-		for (Node node : gridPane.getChildren()) {
-			if (node instanceof GameTileWord) {
-				GameTileWord tileWord = (GameTileWord) node;
-				if (!tileWord.getSelectedStatus()) {
-					DifficultyColor color = tileWord.getWord().getColor();
-					if (colorsToSearchFor.contains(color)) {
-						colorsToSearchFor.remove(color);
+		for (int row = currentSolvingRow; row < ROWS; row++) {
+			for (Node node : gridNodes[row]) {
+				if (node instanceof GameTileWord) {
+					GameTileWord tileWord = (GameTileWord) node;
+					if ((tileWord.getWordMask() & hint.getWordMask()) != 0) {
 						tileWordHintShowSet.add(tileWord);
 					}
 				}
 			}
-
-			if (colorsToSearchFor.isEmpty()) {
-				break;
-			}
 		}
 
-		tileWordHintPulseTransition = new ParallelTransition();
+		if (tileWordHintPulseTransition == null) {
+			tileWordHintPulseTransition = new ParallelTransition();
+			tileWordHintPulseTransition.setOnFinished(event -> {
+				hintAnimationStop();
+			});
+		}
 
+		tileWordHintPulseTransition.getChildren().clear();
 		for (GameTileWord tileWord : tileWordHintShowSet) {
 			tileWordHintPulseTransition.getChildren().add(tileWord.getHintPulseAnimation());
 			tileWord.setStyleChangeable(false);
 		}
 
-		tileWordHintPulseTransition.setOnFinished(event -> {
-			hintAnimationStop();
-		});
-
-		gridPane.setOnMouseClicked(event -> {
+		gridSurface.setOnMouseClicked(event -> {
 			hintAnimationStop();
 		});
 
-		tileWordHintPulseTransition.play();
 		hintAnimationInitialActive = true;
 		hintAnimationPlaying = true;
+		tileWordHintPulseTransition.playFromStart();
 	}
 }
@@ -1,6 +1,8 @@
 package com.connections.view_controller;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -21,13 +23,26 @@ import javafx.util.Duration;
  * The TileGridWordAnimationOverlay class provides animations and visual effects
  * for the TileGridWord component. It extends the Pane class and implements the
  * Modular interface.
+ *
+ * The tiles that swap places are animated with ghost tiles taken from a pool of
+ * sixteen, one per cell of the board. The pool is built on the first correct
+ * answer and rebound to the moving words for every answer after it, including
+ * the ones shown by the auto-solver.
+ *
+ * When the TileGridWord is drawn onto a TileGridCanvas, the animated tiles are
+ * drawn by the canvas too, and this pane stays empty.
  */
 public class TileGridWordAnimationOverlay extends Pane implements Modular {
 	private static final int SWAP_TRANS_MS = 350;
 	private static final int BUFFER_MS = 5;
 	private static final int PLACEHOLDER_MS = 5;
+	private static final int GHOST_POOL_SIZE = TileGridWord.ROWS * TileGridWord.COLS;
 
 	private TileGridWord tileGridWord;
+	private GameTileWord[] ghostPool;
+	private TranslateTransition[] ghostTransitions;
+	private int ghostPoolUsed;
+	private Interpolator swapInterpolator;
 
 	private boolean allowChangeVisibility = true;
 	private boolean paneShouldBeVisible = false;
@@ -69,27 +84,19 @@ public class TileGridWordAnimationOverlay extends Pane implements Modular {
 	 */
 	private void getWordSwap(Set<GameTileWord> ghostPieceSet, ParallelTransition parallel, int destRow, int destCol,
 			int sourceRow, int sourceCol) {
-		GameTileWord sourcePiece = createGhostPiece(sourceRow, sourceCol);
-		GameTileWord destPiece = createGhostPiece(destRow, destCol);
+		int sourceIndex = ghostPoolUsed;
+		int destIndex = ghostPoolUsed + 1;
+		GameTileWord sourcePiece = bindGhostPiece(sourceIndex, sourceRow, sourceCol);
+		GameTileWord destPiece = bindGhostPiece(destIndex, destRow, destCol);
+		ghostPoolUsed += 2;
 
-		sourcePiece.setTranslateX(0);
-		sourcePiece.setTranslateY(0);
-
-		destPiece.setTranslateX(0);
-		destPiece.setTranslateY(0);
-
-		sourcePiece.setVisible(false);
-		destPiece.setVisible(false);
-
-		TranslateTransition sourceTrans = new TranslateTransition(Duration.millis(SWAP_TRANS_MS), sourcePiece);
+		TranslateTransition sourceTrans = ghostTransitions[sourceIndex];
 		sourceTrans.setToX(destPiece.getLayoutX() - sourcePiece.getLayoutX());
 		sourceTrans.setToY(destPiece.getLayoutY() - sourcePiece.getLayoutY());
-		sourceTrans.setInterpolator(new EaseOutInterpolator());
 
-		TranslateTransition destTrans = new TranslateTransition(Duration.millis(SWAP_TRANS_MS), destPiece);
+		TranslateTransition destTrans = ghostTransitions[destIndex];
 		destTrans.setToX(sourcePiece.getLayoutX() - destPiece.getLayoutX());
 		destTrans.setToY(sourcePiece.getLayoutY() - destPiece.getLayoutY());
-		destTrans.setInterpolator(new EaseOutInterpolator());
 
 		parallel.getChildren().addAll(sourceTrans, destTrans);
 		ghostPieceSet.add(sourcePiece);
@@ -159,6 +166,8 @@ public class TileGridWordAnimationOverlay extends Pane implements Modular {
 		});
 
 		ParallelTransition parallelSwapPieces = new ParallelTransition();
+		initGhostPool();
+		ghostPoolUsed = 0;
 		getSwapRowColIndex(originalPieceSet, destRowList, destColList, sourceRowList, sourceColList);
 		Set<GameTileWord> originalSelectedPieceSet = tileGridWord.getSelectedTileWords();
 
@@ -169,7 +178,9 @@ public class TileGridWordAnimationOverlay extends Pane implements Modular {
 
 		PauseTransition pauseDuringSwapping = new PauseTransition(Duration.millis(SWAP_TRANS_MS + BUFFER_MS));
 		pauseDuringSwapping.setOnFinished(event -> {
-			this.getChildren().removeAll(ghostPieceSet);
+			for (GameTileWord piece : ghostPieceSet) {
+				piece.setVisible(false);
+			}
 			for (int i = 0; i < destRowList.size(); i++) {
 				tileGridWord.gridSwapNode(destRowList.get(i), destColList.get(i), sourceRowList.get(i),
 						sourceColList.get(i));
@@ -202,7 +213,7 @@ public class TileGridWordAnimationOverlay extends Pane implements Modular {
 
 			PauseTransition pauseBeforeDisplayAnswer = new PauseTransition(Duration.millis(PLACEHOLDER_MS));
 			pauseBeforeDisplayAnswer.setOnFinished(event -> {
-				this.getChildren().add(tileAnswer);
+				overlayAdd(tileAnswer);
 				setVisibleWeak(true);
 				for (Node node : originalSelectedPieceSet) {
 					node.setVisible(false);
@@ -212,7 +223,7 @@ public class TileGridWordAnimationOverlay extends Pane implements Modular {
 			ParallelTransition tileAppear = tileAnswer.getAppearAnimation();
 
 			tileAppear.setOnFinished(event -> {
-				this.getChildren().remove(tileAnswer);
+				overlayRemove(Collections.singleton(tileAnswer));
 				setVisibleWeak(false);
 				tileGridWord.gridRemoveNodeSet(originalSelectedPieceSet);
 				tileGridWord.gridSetTileAnswer(tileAnswer);
@@ -228,23 +239,79 @@ public class TileGridWordAnimationOverlay extends Pane implements Modular {
 	}
 
 	/**
-	 * Creates a ghost tile word (a copy) for the specified row and column.
+	 * Builds the pool of ghost tile words and their swap transitions, unless it
+	 * has already been built. The ghost tile words stay in the overlay, hidden,
+	 * between answers.
+	 */
+	private void initGhostPool() {
+		if (ghostPool != null) {
+			return;
+		}
+
+		swapInterpolator = new EaseOutInterpolator();
+		ghostPool = new GameTileWord[GHOST_POOL_SIZE];
+		ghostTransitions = new TranslateTransition[GHOST_POOL_SIZE];
+		for (int i = 0; i < GHOST_POOL_SIZE; i++) {
+			GameTileWord ghost = new GameTileWord(tileGridWord);
+			ghost.disable();
+			ghost.setVisible(false);
+			overlayAdd(ghost);
+			ghostPool[i] = ghost;
+
+			TranslateTransition ghostTransition = new TranslateTransition(Duration.millis(SWAP_TRANS_MS), ghost);
+			ghostTransition.setInterpolator(swapInterpolator);
+			ghostTransitions[i] = ghostTransition;
+		}
+	}
+
+	/**
+	 * Rebinds a ghost tile word from the pool to the tile word at the specified
+	 * row and column. The ghost tile word takes the look and position of the tile
+	 * word and stays hidden until the swap starts.
 	 *
-	 * @param row The row index.
-	 * @param col The column index.
-	 * @return The ghost tile word (a copy of the tile word at the specified row and
-	 *         column).
+	 * @param index The index of the ghost tile word in the pool.
+	 * @param row   The row index.
+	 * @param col   The column index.
+	 * @return The ghost tile word standing in for the tile word at the specified
+	 *         row and column.
 	 */
-	private GameTileWord createGhostPiece(int row, int col) {
+	private GameTileWord bindGhostPiece(int index, int row, int col) {
 		GameTileWord original = (GameTileWord) tileGridWord.gridGetNode(row, col);
-		GameTileWord copy = new GameTileWord(original);
-		copy.disable();
+		GameTileWord ghost = ghostPool[index];
+		ghost.copyAppearance(original);
+		ghost.setVisible(false);
+		ghost.setLayoutX(original.getLayoutX());
+		ghost.setLayoutY(original.getLayoutY());
+		return ghost;
+	}
 
-		this.getChildren().add(copy);
-		copy.setLayoutX(original.getLayoutX());
-		copy.setLayoutY(original.getLayoutY());
+	/**
+	 * Shows the specified node above the tile grid, on the TileGridCanvas if the
+	 * grid is drawn onto one and in this pane otherwise.
+	 *
+	 * @param node The node to be shown.
+	 */
+	private void overlayAdd(Node node) {
+		TileGridCanvas tileGridCanvas = tileGridWord.getTileGridCanvas();
+		if (tileGridCanvas != null) {
+			tileGridCanvas.floatingAdd(node);
+		} else {
+			this.getChildren().add(node);
+		}
+	}
 
-		return copy;
+	/**
+	 * Removes nodes shown with overlayAdd.
+	 *
+	 * @param nodes The nodes to be removed.
+	 */
+	private void overlayRemove(Collection<? extends Node> nodes) {
+		TileGridCanvas tileGridCanvas = tileGridWord.getTileGridCanvas();
+		if (tileGridCanvas != null) {
+			tileGridCanvas.floatingRemove(nodes);
+		} else {
+			this.getChildren().removeAll(nodes);
+		}
 	}
 
 	/**
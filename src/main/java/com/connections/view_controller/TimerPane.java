@@ -1,14 +1,10 @@
 package com.connections.view_controller;
 
 import java.time.ZonedDateTime;
-import java.time.temporal.ChronoUnit;
 
-import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
-import javafx.animation.KeyFrame;
 import javafx.animation.PauseTransition;
 import javafx.animation.SequentialTransition;
-import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.geometry.Insets;
@@ -27,19 +23,21 @@ import javafx.util.Duration;
 
 /**
  * The TimerPane class displays a timer countdown. It extends the StackPane
- * class and implements the Modular interface.
+ * class and implements the Modular interface. The countdown is driven by the
+ * GlobalTicker and measured with the monotonic clock, and the label is only
+ * updated when the displayed second changes.
  */
-public class TimerPane extends StackPane implements Modular {
+public class TimerPane extends StackPane implements Modular, GlobalTicker.Listener {
 	public static final int BACKGROUND_PANE_WIDTH = 160;
 	public static final int BACKGROUND_PANE_HEIGHT = 60;
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
 
 	private Pane backgroundPane;
 	private Label counterLabel;
-	private Timeline timerTimeLine;
 	private SVGPath timerSVG;
 	private HBox counterLayout;
-	private ZonedDateTime startTime;
-	private ZonedDateTime endTime;
+	private long startNanos;
+	private long stopNanos;
 	private int durationSeconds;
 	private int prevSecondsLeftBuffer;
 	private GameSessionContext gameSessionContext;
@@ -87,14 +85,6 @@ public class TimerPane extends StackPane implements Modular {
 		timerSVG.setStrokeLineCap(StrokeLineCap.ROUND);
 		timerSVG.setStrokeLineJoin(StrokeLineJoin.ROUND);
 
-		KeyFrame timeLineKeyFrame = new KeyFrame(Duration.millis(100), event -> {
-			updateTimerLabel();
-		});
-
-		timerTimeLine = new Timeline();
-		timerTimeLine.setCycleCount(Animation.INDEFINITE);
-		timerTimeLine.getKeyFrames().add(timeLineKeyFrame);
-
 		counterLabel = new Label(formatTime(durationSeconds));
 
 		counterLayout = new HBox(16, timerSVG, counterLabel);
@@ -114,11 +104,11 @@ public class TimerPane extends StackPane implements Modular {
 	 */
 	public int getTimeLeft() {
 		if (timerActive) {
-			return getSecondsLeft(ZonedDateTime.now());
+			return getSecondsLeft(System.nanoTime());
 		} else if (timerFinished || justInitialized) {
 			return 0;
 		} else {
-			return getSecondsLeft(endTime);
+			return getSecondsLeft(stopNanos);
 		}
 	}
 
@@ -129,28 +119,33 @@ public class TimerPane extends StackPane implements Modular {
 	 */
 	public int getElapsedTime() {
 		if (timerActive) {
-			return (int) ChronoUnit.SECONDS.between(startTime, ZonedDateTime.now());
+			return getSecondsElapsed(System.nanoTime());
 		} else if (timerFinished || justInitialized) {
 			return durationSeconds;
 		} else {
-			return (int) ChronoUnit.SECONDS.between(startTime, endTime);
+			return getSecondsElapsed(stopNanos);
 		}
 	}
 
 	/**
-	 * Restarts the timer with the specified start time.
+	 * Restarts the timer with the specified start time. The wall-clock start time
+	 * is only read once here, and converted to a start instant on the monotonic
+	 * clock.
 	 *
 	 * @param startTime The start time for the timer.
 	 */
 	public void restartTimer(ZonedDateTime startTime) {
-		this.startTime = startTime;
-		prevSecondsLeftBuffer = durationSeconds;
-		updateTimerLabel();
-		timerTimeLine.play();
+		long nowNanos = System.nanoTime();
+		startNanos = nowNanos - java.time.Duration.between(startTime, ZonedDateTime.now()).toNanos();
+		prevSecondsLeftBuffer = Integer.MIN_VALUE;
 		timerActive = true;
 		timerFinished = false;
 		timerStopped = false;
 		justInitialized = false;
+		onTick(nowNanos);
+		if (timerActive) {
+			GlobalTicker.subscribe(this);
+		}
 	}
 
 	/**
@@ -209,8 +204,8 @@ public class TimerPane extends StackPane implements Modular {
 		if (timerActive) {
 			timerActive = false;
 			timerStopped = true;
-			timerTimeLine.stop();
-			endTime = ZonedDateTime.now();
+			stopNanos = System.nanoTime();
+			GlobalTicker.unsubscribe(this);
 		}
 	}
 
@@ -279,16 +274,26 @@ public class TimerPane extends StackPane implements Modular {
 	}
 
 	/**
-	 * Updates the timer label with the remaining time.
+	 * Updates the timer label with the remaining time, only when the displayed
+	 * second has changed since the previous tick.
+	 *
+	 * @param nowNanos The current value of the monotonic clock.
 	 */
-	private void updateTimerLabel() {
-		int secondsLeft = getSecondsLeft(ZonedDateTime.now());
+	@Override
+	public void onTick(long nowNanos) {
+		if (!timerActive) {
+			return;
+		}
 
-		if (secondsLeft != prevSecondsLeftBuffer) {
-			prevSecondsLeftBuffer = secondsLeft;
-			if (onSecondPassedBy != null) {
-				onSecondPassedBy.handle(new ActionEvent(this, null));
-			}
+		int secondsLeft = getSecondsLeft(nowNanos);
+		if (secondsLeft == prevSecondsLeftBuffer) {
+			return;
+		}
+
+		boolean firstTick = prevSecondsLeftBuffer == Integer.MIN_VALUE;
+		prevSecondsLeftBuffer = secondsLeft;
+		if (!firstTick && onSecondPassedBy != null) {
+			onSecondPassedBy.handle(new ActionEvent(this, null));
 		}
 
 		if (secondsLeft >= 0) {
@@ -301,17 +306,24 @@ public class TimerPane extends StackPane implements Modular {
 	}
 
 	/**
-	 * Returns the number of seconds left on the timer based on the current time.
+	 * Returns the number of whole seconds elapsed on the timer at the specified
+	 * time.
 	 *
-	 * @param current The current time.
+	 * @param nanos The value of the monotonic clock.
+	 * @return The number of seconds elapsed.
+	 */
+	private int getSecondsElapsed(long nanos) {
+		return (int) ((nanos - startNanos) / NANOS_PER_SECOND);
+	}
+
+	/**
+	 * Returns the number of seconds left on the timer at the specified time.
+	 *
+	 * @param nanos The value of the monotonic clock.
 	 * @return The number of seconds left.
 	 */
-	private int getSecondsLeft(ZonedDateTime current) {
-		if (current == null) {
-			return 0;
-		}
-		long secondsElapsed = ChronoUnit.SECONDS.between(startTime, current);
-		return durationSeconds - (int) secondsElapsed;
+	private int getSecondsLeft(long nanos) {
+		return durationSeconds - getSecondsElapsed(nanos);
 	}
 
 	/**
@@ -0,0 +1,154 @@
+package com.connections.web;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.connections.model.GameData;
+import com.connections.model.HintEngine;
+import com.connections.model.PlayedGameInfo;
+
+/**
+ * Fetches archive puzzles in the background. While a puzzle from the archive is
+ * being played, the puzzles that come after it are fetched along with the
+ * user's earlier results for them, and their game boards and hint plans are
+ * built, so that moving on to the next puzzle does not wait on the database.
+ *
+ * Apart from the background fetches, all methods are meant to be called from
+ * the JavaFX application thread.
+ */
+public class ArchivePrefetcher {
+	public static final int PREFETCH_COUNT = 2;
+
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+		Thread thread = new Thread(runnable, "connections-archive-prefetch");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private WebContext webContext;
+	private String userID;
+	private int[] catalog;
+	private int todayPuzzleNumber;
+	private Map<Integer, CompletableFuture<ArchivePuzzle>> prefetched;
+
+	/**
+	 * Constructs an ArchivePrefetcher for the specified user.
+	 *
+	 * @param webContext the WebContext used to reach the database
+	 * @param userID     the ID of the user whose earlier results are fetched
+	 */
+	public ArchivePrefetcher(WebContext webContext, String userID) {
+		this.webContext = webContext;
+		this.userID = userID;
+		this.catalog = WebUtils.dailyPuzzleCatalogGet(webContext);
+		this.todayPuzzleNumber = WebUtils.dailyPuzzleNumberGet(webContext);
+		this.prefetched = new HashMap<>();
+	}
+
+	/**
+	 * Returns the puzzle that follows the specified puzzle in the archive. The
+	 * archive goes back in time, from newer puzzles to older ones, wraps around
+	 * to the newest puzzle, and skips today's puzzle and any puzzle after it,
+	 * which are not in the archive yet.
+	 *
+	 * @param puzzleNumber the puzzle number
+	 * @return the next puzzle number, or -1 if the archive is empty
+	 */
+	public int getNextPuzzleNumber(int puzzleNumber) {
+		int index = Arrays.binarySearch(catalog, puzzleNumber);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		for (int i = 1; i <= catalog.length; i++) {
+			int nextPuzzleNumber = catalog[Math.floorMod(index - i, catalog.length)];
+			if (nextPuzzleNumber < todayPuzzleNumber) {
+				return nextPuzzleNumber;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Starts fetching the puzzles that follow the specified puzzle, and drops the
+	 * puzzles fetched earlier that are no longer coming up.
+	 *
+	 * @param puzzleNumber the puzzle number being played
+	 */
+	public void prefetchAfter(int puzzleNumber) {
+		Map<Integer, CompletableFuture<ArchivePuzzle>> upcoming = new HashMap<>();
+		int nextPuzzleNumber = puzzleNumber;
+		for (int i = 0; i < PREFETCH_COUNT; i++) {
+			nextPuzzleNumber = getNextPuzzleNumber(nextPuzzleNumber);
+			if (nextPuzzleNumber == -1 || upcoming.containsKey(nextPuzzleNumber)) {
+				break;
+			}
+			CompletableFuture<ArchivePuzzle> future = prefetched.remove(nextPuzzleNumber);
+			if (future == null) {
+				int fetchPuzzleNumber = nextPuzzleNumber;
+				future = CompletableFuture.supplyAsync(() -> fetch(fetchPuzzleNumber), EXECUTOR);
+			}
+			upcoming.put(nextPuzzleNumber, future);
+		}
+
+		for (Iterator<CompletableFuture<ArchivePuzzle>> iter = prefetched.values().iterator(); iter.hasNext();) {
+			iter.next().cancel(false);
+			iter.remove();
+		}
+		prefetched = upcoming;
+	}
+
+	/**
+	 * Returns the specified puzzle, using the prefetched copy when it has already
+	 * arrived and fetching it otherwise.
+	 *
+	 * @param puzzleNumber the puzzle number
+	 * @return the archive puzzle, or null if it does not exist
+	 */
+	public ArchivePuzzle take(int puzzleNumber) {
+		CompletableFuture<ArchivePuzzle> future = prefetched.remove(puzzleNumber);
+		if (future != null && future.isDone() && !future.isCompletedExceptionally() && !future.isCancelled()) {
+			return future.join();
+		}
+		if (future != null) {
+			future.cancel(false);
+		}
+		return fetch(puzzleNumber);
+	}
+
+	/**
+	 * Cancels every pending fetch.
+	 */
+	public void close() {
+		for (CompletableFuture<ArchivePuzzle> future : prefetched.values()) {
+			future.cancel(false);
+		}
+		prefetched.clear();
+	}
+
+	/**
+	 * Fetches the specified puzzle and the user's earlier result for it, and
+	 * builds its game board and hint plans.
+	 *
+	 * @param puzzleNumber the puzzle number
+	 * @return the archive puzzle, or null if it does not exist
+	 */
+	private ArchivePuzzle fetch(int puzzleNumber) {
+		GameData gameData = WebUtils.gameGetByPuzzleNumber(webContext, puzzleNumber);
+		if (gameData == null) {
+			return null;
+		}
+		HintEngine.forGameData(gameData);
+
+		PlayedGameInfo playedGameInfo = null;
+		WebUser user = (userID == null) ? null : WebUser.getUserByID(webContext, userID);
+		if (user != null) {
+			playedGameInfo = user.getPlayedGameByPuzzleNum(puzzleNumber);
+		}
+		return new ArchivePuzzle(gameData, playedGameInfo);
+	}
+}
@@ -0,0 +1,74 @@
+package com.connections.web;
+
+import com.connections.model.GameData;
+import com.connections.model.GameSaveState;
+import com.connections.model.PlayedGameInfo;
+
+/**
+ * Holds everything needed to open a puzzle from the archive without another
+ * database round trip: the puzzle itself and the user's earlier result for it.
+ */
+public class ArchivePuzzle {
+	private GameData gameData;
+	private PlayedGameInfo playedGameInfo;
+	private GameSaveState saveState;
+
+	/**
+	 * Constructs an ArchivePuzzle with the specified puzzle and earlier result.
+	 *
+	 * @param gameData       the puzzle
+	 * @param playedGameInfo the user's earlier result for the puzzle, or null if
+	 *                       the user has not played it
+	 */
+	public ArchivePuzzle(GameData gameData, PlayedGameInfo playedGameInfo) {
+		this.gameData = gameData;
+		this.playedGameInfo = playedGameInfo;
+	}
+
+	/**
+	 * Returns the puzzle.
+	 *
+	 * @return the game data of the puzzle
+	 */
+	public GameData getGameData() {
+		return gameData;
+	}
+
+	/**
+	 * Returns the user's earlier result for the puzzle.
+	 *
+	 * @return the played game info, or null if the user has not played it
+	 */
+	public PlayedGameInfo getPlayedGameInfo() {
+		return playedGameInfo;
+	}
+
+	/**
+	 * Sets the user's result for the puzzle, e.g. once the user finishes it.
+	 *
+	 * @param playedGameInfo the played game info
+	 */
+	public void setPlayedGameInfo(PlayedGameInfo playedGameInfo) {
+		this.playedGameInfo = playedGameInfo;
+	}
+
+	/**
+	 * Returns the progress of the unfinished game kept when its game session was
+	 * closed. Archive games are never saved to the database, so this only lives
+	 * as long as the ArchivePuzzle.
+	 *
+	 * @return the save state, or null if no unfinished game was kept
+	 */
+	public GameSaveState getSaveState() {
+		return saveState;
+	}
+
+	/**
+	 * Sets the progress of the unfinished game.
+	 *
+	 * @param saveState the save state, or null to drop it
+	 */
+	public void setSaveState(GameSaveState saveState) {
+		this.saveState = saveState;
+	}
+}
@@ -0,0 +1,67 @@
+package com.connections.web;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.connections.model.PuzzleRollover;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * The DatabaseMaintenance class runs the upkeep of the database once for the
+ * whole JVM, away from the connections of players. The first call initializes
+ * the database if it has not been yet, and schedules the clearing of expired
+ * sessions and the daily rollover check on a background thread.
+ */
+public final class DatabaseMaintenance {
+	public static final long MAINTENANCE_INTERVAL_MINUTES = 60;
+
+	private static ScheduledExecutorService executor;
+
+	private DatabaseMaintenance() {
+	}
+
+	/**
+	 * Makes sure that the database is initialized and that the maintenance is
+	 * scheduled. Only the first call does any work; later calls wait for it to
+	 * finish and return. Must not be called on the JavaFX application thread.
+	 *
+	 * @param mongoDatabase the database to be maintained
+	 */
+	public static synchronized void ensureStarted(MongoDatabase mongoDatabase) {
+		if (executor != null) {
+			return;
+		}
+
+		// Maintenance outlives every tab, so it has a context without a WebAPI.
+		WebContext webContext = new WebContext(mongoDatabase, null, null);
+		if (!WebUtils.checkDatabaseInit(webContext)) {
+			System.out.println("CONNECTIONS: DatabaseMaintenance initialized the database.");
+			WebUtils.initDatabase(webContext);
+		}
+
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "connections-maintenance");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(() -> runMaintenance(webContext), 0, MAINTENANCE_INTERVAL_MINUTES,
+				TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Clears the expired sessions and advances the daily puzzle if needed.
+	 *
+	 * @param webContext the context used to reach the database
+	 */
+	private static void runMaintenance(WebContext webContext) {
+		// A failed run must not cancel the runs after it.
+		try {
+			WebSession.clearExpiredSessions(webContext);
+			PuzzleRollover.rolloverIfNeeded(WebUtils.dailyPuzzleRolloverStoreGet(webContext), ZonedDateTime.now());
+		} catch (Exception e) {
+			System.out.println("CONNECTIONS (WARNING): database maintenance failed: " + e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package com.connections.web;
+
+import java.time.ZonedDateTime;
+
+import com.connections.model.GameBoard;
+import com.connections.model.GameEvent;
+import com.connections.model.GameEventLog;
+import com.connections.model.GameSaveState;
+import com.connections.model.PlayedGameInfo;
+
+/**
+ * The GamePersistence class makes the database calls of one game of the daily
+ * puzzle: reading what the user saved of the game when it is opened, claiming
+ * the game for the browser tab, recording the game's event log, and storing the
+ * played game once it ends. It does not depend on JavaFX, so the game screen
+ * and the load test's virtual users make the very same calls.
+ */
+public class GamePersistence {
+	/**
+	 * The SavedGame enum lists what the user has saved of the game when it is
+	 * opened.
+	 */
+	public enum SavedGame {
+		IN_GAME_ELSEWHERE, IN_PROGRESS, NONE
+	}
+
+	private WebSessionContext webSessionContext;
+	private String instanceID;
+
+	/**
+	 * Constructs a GamePersistence for the user of the specified session.
+	 *
+	 * @param webSessionContext the WebSessionContext of the player
+	 * @param instanceID        the ID of the player's browser tab, or null if
+	 *                          there is none, in which case the in-game status
+	 *                          must not be set
+	 */
+	public GamePersistence(WebSessionContext webSessionContext, String instanceID) {
+		this.webSessionContext = webSessionContext;
+		this.instanceID = instanceID;
+	}
+
+	/**
+	 * Returns the user of the session.
+	 *
+	 * @return the current user
+	 */
+	public WebUser getUser() {
+		return webSessionContext.getSession().getUser();
+	}
+
+	/**
+	 * Reads the user from the database and returns what the user has saved of
+	 * the game. The getters of the saved game and of the played game then use
+	 * this read, without reading the user again.
+	 *
+	 * @return what the user has saved of the game
+	 */
+	public SavedGame open() {
+		WebUser user = getUser();
+		user.readFromDatabase();
+		if (user.isCurrentlyInGame()) {
+			return SavedGame.IN_GAME_ELSEWHERE;
+		} else if (user.hasActiveGameEventLog() || user.hasLatestSaveState()) {
+			return SavedGame.IN_PROGRESS;
+		}
+		return SavedGame.NONE;
+	}
+
+	/**
+	 * Returns the event log of the game in progress, as read by open().
+	 *
+	 * @return the event log, or null if the game is not saved as an event log
+	 */
+	public GameEventLog getSavedEventLog() {
+		WebUser user = getUser();
+		return user.hasActiveGameEventLog() ? user.getGameEventLog() : null;
+	}
+
+	/**
+	 * Returns the full save state of the game in progress written by older
+	 * versions, as read by open().
+	 *
+	 * @return the save state, or null if there is none
+	 */
+	public GameSaveState getSavedSaveState() {
+		WebUser user = getUser();
+		return user.hasLatestSaveState() ? user.getLatestGameSaveState() : null;
+	}
+
+	/**
+	 * Returns the user's result for the specified puzzle, as read by open().
+	 *
+	 * @param puzzleNumber the puzzle number
+	 * @return the played game info, or null if the user has not played it
+	 */
+	public PlayedGameInfo getPlayedGame(int puzzleNumber) {
+		return getUser().getPlayedGameByPuzzleNum(puzzleNumber);
+	}
+
+	/**
+	 * Sets the user's in-game status, unless the game is held by another browser
+	 * tab.
+	 *
+	 * @param status true to set the user as in-game, false otherwise
+	 */
+	public void setInGameStatus(boolean status) {
+		WebUser user = getUser();
+		user.readFromDatabase();
+
+		// An existing instance ID of another tab must not be overridden.
+		if (!user.isCurrentlyInGame() || instanceID.equals(user.getActiveInstanceID())) {
+			if (status) {
+				user.setActiveInstanceID(instanceID);
+			} else {
+				user.clearActiveInstanceID();
+			}
+			user.writeToDatabase();
+		}
+	}
+
+	/**
+	 * Starts storing the event log of a new game, replacing any earlier log.
+	 *
+	 * @param gameEventLog the event log of the game
+	 */
+	public void startEventLog(GameEventLog gameEventLog) {
+		getUser().startGameEventLog(gameEventLog);
+	}
+
+	/**
+	 * Records a player action in the game's event log with a single push, and
+	 * stores a new snapshot of the log when enough events have been added since
+	 * the last one.
+	 *
+	 * @param gameEventLog the event log of the game
+	 * @param type         the type of the action
+	 * @param value        the seed, board mask or hint level of the action
+	 * @param gameBoard    the board of the game, to take snapshots with
+	 */
+	public void logEvent(GameEventLog gameEventLog, GameEvent.EventType type, long value, GameBoard gameBoard) {
+		WebUser user = getUser();
+		GameEvent event = gameEventLog.addEvent(type, value, ZonedDateTime.now());
+		user.pushGameEvent(gameEventLog, event);
+
+		if (gameEventLog.needsSnapshot()) {
+			gameEventLog.takeSnapshot(gameBoard);
+			user.updateGameEventLogSnapshot(gameEventLog);
+		}
+	}
+
+	/**
+	 * Records that the game is still active, so the time spent in it is kept when
+	 * the game is loaded again.
+	 *
+	 * @param gameEventLog the event log of the game
+	 */
+	public void touchEventLog(GameEventLog gameEventLog) {
+		gameEventLog.setLastActiveTime(ZonedDateTime.now());
+		getUser().updateGameEventLogTimes(gameEventLog);
+	}
+
+	/**
+	 * Clears the full save state written by older versions, if the user has one.
+	 */
+	public void clearSaveState() {
+		WebUser user = getUser();
+		user.readFromDatabase();
+
+		if (user.hasLatestSaveState()) {
+			user.clearLatestGameSaveState();
+			user.writeToDatabase();
+		}
+	}
+
+	/**
+	 * Adds the specified played game to the user's played games.
+	 *
+	 * @param playedGameInfo the played game
+	 */
+	public void recordPlayedGame(PlayedGameInfo playedGameInfo) {
+		WebUser user = getUser();
+		user.readFromDatabase();
+		user.addPlayedGame(playedGameInfo);
+		user.writeToDatabase();
+	}
+
+	/**
+	 * Ends the game: stores the played game, clears the save state, marks the
+	 * event log as finished, keeping it so the game can still be replayed, and
+	 * clears the in-game status.
+	 *
+	 * @param playedGameInfo the played game
+	 * @param gameEventLog   the event log of the game, or null if it has none
+	 */
+	public void finishGame(PlayedGameInfo playedGameInfo, GameEventLog gameEventLog) {
+		recordPlayedGame(playedGameInfo);
+		clearSaveState();
+		if (gameEventLog != null) {
+			getUser().finishGameEventLog();
+			gameEventLog.setGameFinished(true);
+		}
+		setInGameStatus(false);
+	}
+}
@@ -0,0 +1,193 @@
+package com.connections.web;
+
+import java.util.concurrent.TimeUnit;
+
+import com.connections.view_controller.ConnectionsHome;
+import com.connections.view_controller.GlobalTicker;
+
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.InputEvent;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.TouchEvent;
+import javafx.scene.layout.StackPane;
+
+/**
+ * The SessionHibernator class hibernates the session of a browser tab that has
+ * been left open without any input. Hibernating saves the game on display,
+ * drops the whole ConnectionsHome scene graph along with its timers, and leaves
+ * a small placeholder in the scene. The next click, tap or key press on the
+ * placeholder builds the home screen again and reopens the game from its save
+ * state, or from the progress kept in memory for an archive game, so the
+ * server only holds the full scene graph for active players.
+ *
+ * Hibernation starts once the session of the tab is ready, with the idle period
+ * read from the server status along with it. The hibernator also registers the
+ * tab with the SessionRegistry, and closes the home screen when the tab is
+ * closed.
+ */
+public class SessionHibernator implements GlobalTicker.Listener {
+	private WebContext webContext;
+	private WebSessionContext webSessionContext;
+	private Scene scene;
+	private ConnectionsHome home;
+	private Parent placeholder;
+	private SessionRegistry.Entry registryEntry;
+
+	private long idleTimeoutNanos;
+	private long lastInputNanos;
+	private boolean hibernating;
+	private boolean closed;
+	private boolean debugEnabled;
+	private int resumePuzzleNumber;
+	private ArchivePuzzle resumeArchivePuzzle;
+
+	/**
+	 * Constructs a SessionHibernator for the specified scene, whose root is the
+	 * specified home screen, and starts watching it for input. Idle sessions are
+	 * only hibernated after onSessionReady() is called.
+	 *
+	 * @param webContext        the WebContext of the tab
+	 * @param webSessionContext the WebSessionContext of the tab
+	 * @param scene             the scene of the tab
+	 * @param home              the home screen shown in the scene
+	 */
+	public SessionHibernator(WebContext webContext, WebSessionContext webSessionContext, Scene scene,
+			ConnectionsHome home) {
+		this.webContext = webContext;
+		this.webSessionContext = webSessionContext;
+		this.scene = scene;
+		this.home = home;
+		this.lastInputNanos = System.nanoTime();
+		this.registryEntry = SessionRegistry.register(webSessionContext, scene);
+
+		scene.addEventFilter(InputEvent.ANY, this::handleInput);
+		webContext.getWebAPI().addInstanceCloseListener(this::close);
+	}
+
+	/**
+	 * Finishes the home screen once the session of the tab has been resolved, and
+	 * starts hibernating the session when it is idle for the specified period.
+	 * Does nothing if the tab has been closed in the meantime.
+	 *
+	 * @param debugEnabled         true if debug mode is enabled on the server
+	 * @param idleHibernateMinutes the idle period in minutes, or 0 to never
+	 *                             hibernate
+	 */
+	public void onSessionReady(boolean debugEnabled, int idleHibernateMinutes) {
+		if (closed) {
+			return;
+		}
+
+		this.debugEnabled = debugEnabled;
+		this.idleTimeoutNanos = TimeUnit.MINUTES.toNanos(idleHibernateMinutes);
+		this.lastInputNanos = System.nanoTime();
+		home.onSessionReady(debugEnabled);
+		if (idleTimeoutNanos > 0) {
+			GlobalTicker.subscribe(this);
+		}
+	}
+
+	/**
+	 * Records the time of the input, and wakes the session up if it is
+	 * hibernating and the input was a click, tap or key press.
+	 *
+	 * @param event the input event
+	 */
+	private void handleInput(InputEvent event) {
+		lastInputNanos = System.nanoTime();
+		registryEntry.markActive();
+
+		EventType<? extends Event> eventType = event.getEventType();
+		if (hibernating && (eventType == MouseEvent.MOUSE_PRESSED || eventType == TouchEvent.TOUCH_PRESSED
+				|| eventType == KeyEvent.KEY_PRESSED)) {
+			event.consume();
+			resume();
+		}
+	}
+
+	/**
+	 * Hibernates the session once it has been idle for longer than the idle
+	 * period.
+	 *
+	 * @param nowNanos the current value of System.nanoTime()
+	 */
+	@Override
+	public void onTick(long nowNanos) {
+		if (!hibernating && nowNanos - lastInputNanos >= idleTimeoutNanos) {
+			hibernate();
+		}
+	}
+
+	/**
+	 * Saves and closes the home screen and replaces it with the placeholder.
+	 */
+	private void hibernate() {
+		// Closing an archive game keeps its progress in the archive puzzle, which is
+		// held here until the session is resumed.
+		resumePuzzleNumber = home.getOpenPuzzleNumber();
+		resumeArchivePuzzle = home.getOpenArchivePuzzle();
+		home.close();
+		home = null;
+
+		hibernating = true;
+		GlobalTicker.unsubscribe(this);
+		scene.setRoot(getPlaceholder());
+	}
+
+	/**
+	 * Builds the home screen again and reopens the game that was on display when
+	 * the session was hibernated.
+	 */
+	private void resume() {
+		hibernating = false;
+		home = new ConnectionsHome(webContext, webSessionContext);
+		home.onSessionReady(debugEnabled);
+		scene.setRoot(home);
+		if (resumeArchivePuzzle != null) {
+			home.resumeArchiveGameSession(resumeArchivePuzzle);
+			resumeArchivePuzzle = null;
+		} else if (resumePuzzleNumber != -1) {
+			home.resumeGameSession(resumePuzzleNumber);
+		}
+
+		lastInputNanos = System.nanoTime();
+		GlobalTicker.subscribe(this);
+	}
+
+	/**
+	 * Returns the placeholder shown while the session is hibernating, building it
+	 * the first time.
+	 *
+	 * @return the placeholder
+	 */
+	private Parent getPlaceholder() {
+		if (placeholder == null) {
+			Label pausedLabel = new Label("Connections is paused. Click anywhere to continue.");
+			StackPane placeholderPane = new StackPane(pausedLabel);
+			placeholderPane.setAlignment(Pos.CENTER);
+			placeholderPane.setStyle("-fx-background-color: white;");
+			placeholder = placeholderPane;
+		}
+		return placeholder;
+	}
+
+	/**
+	 * Stops watching the session and closes the home screen. Called when the tab
+	 * is closed.
+	 */
+	private void close() {
+		closed = true;
+		GlobalTicker.unsubscribe(this);
+		registryEntry.close();
+		if (home != null) {
+			home.close();
+			home = null;
+		}
+	}
+}
@@ -0,0 +1,357 @@
+package com.connections.web;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.animation.Animation;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+/**
+ * The SessionRegistry class keeps track of the live sessions of the process
+ * (one per browser tab) and of what each of them holds on to: how many nodes
+ * its scene has, how many of its animations are running, a rough estimate of
+ * the heap they retain, and how old and how recently active it is.
+ *
+ * The registry only holds weak references to a session and its scene, so it
+ * never keeps a session alive. A session that was closed but is still reachable
+ * after garbage collection has leaked, and is reported as such. Entries are
+ * looked up by the identity of their session, and the entry of a collected
+ * session is dropped the next time a session is registered or listed.
+ */
+public final class SessionRegistry {
+	// Rough per-object figures for the retained heap estimate. They are meant to
+	// compare sessions with each other; a heap dump gives exact numbers.
+	public static final long BYTES_PER_NODE_ESTIMATE = 1_000;
+	public static final long BYTES_PER_ANIMATION_ESTIMATE = 500;
+
+	// Keyed by the weak reference to the session, so that the entry of a
+	// collected session can be found from the reference the queue hands back.
+	private static final Map<SessionReference, Entry> entries = new LinkedHashMap<>();
+	private static final ReferenceQueue<Object> collectedSessions = new ReferenceQueue<>();
+	private static int nextEntryID = 1;
+
+	private SessionRegistry() {
+	}
+
+	/**
+	 * A weak reference to a session that is equal to any other reference to the
+	 * same session, so that sessions are compared by identity even if they
+	 * override equals().
+	 */
+	private static final class SessionReference extends WeakReference<Object> {
+		private final int hash;
+
+		/**
+		 * Constructs a SessionReference to the specified session.
+		 *
+		 * @param session the session object
+		 * @param queue   the queue the reference is put on once the session is
+		 *                collected, or null for a reference only used for lookups
+		 */
+		private SessionReference(Object session, ReferenceQueue<Object> queue) {
+			super(session, queue);
+			this.hash = System.identityHashCode(session);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof SessionReference)) {
+				return false;
+			}
+			Object session = get();
+			return session != null && session == ((SessionReference) other).get();
+		}
+	}
+
+	/**
+	 * The Entry class holds the accounting of one session.
+	 */
+	public static final class Entry {
+		private final int entryID;
+		private final SessionReference sessionReference;
+		private final WeakReference<Scene> sceneReference;
+		private final List<WeakReference<Animation>> animationReferences;
+		private final long openedNanos;
+		private volatile long lastActivityNanos;
+		private volatile long closedNanos;
+		private volatile boolean closed;
+
+		/**
+		 * Constructs an Entry for the specified session.
+		 *
+		 * @param entryID          the ID of the entry
+		 * @param sessionReference the weak reference to the session object
+		 * @param scene            the scene of the session, or null if it has none
+		 */
+		private Entry(int entryID, SessionReference sessionReference, Scene scene) {
+			this.entryID = entryID;
+			this.sessionReference = sessionReference;
+			this.sceneReference = new WeakReference<>(scene);
+			this.animationReferences = new ArrayList<>();
+			this.openedNanos = System.nanoTime();
+			this.lastActivityNanos = openedNanos;
+		}
+
+		/**
+		 * Returns the ID of the entry, unique within the process.
+		 *
+		 * @return the entry ID
+		 */
+		public int getEntryID() {
+			return entryID;
+		}
+
+		/**
+		 * Records that the session has just had activity.
+		 */
+		public void markActive() {
+			lastActivityNanos = System.nanoTime();
+		}
+
+		/**
+		 * Marks the session as closed. From now on, the session is expected to be
+		 * garbage collected.
+		 */
+		public void close() {
+			closedNanos = System.nanoTime();
+			closed = true;
+		}
+
+		/**
+		 * Returns whether the session has been closed.
+		 *
+		 * @return true if the session is closed, false otherwise
+		 */
+		public boolean isClosed() {
+			return closed;
+		}
+
+		/**
+		 * Returns whether the session object has been garbage collected.
+		 *
+		 * @return true if the session has been collected, false otherwise
+		 */
+		public boolean isCollected() {
+			return sessionReference.get() == null;
+		}
+
+		/**
+		 * Returns how long ago the session was opened.
+		 *
+		 * @param nowNanos the current value of System.nanoTime()
+		 * @return the age of the session in nanoseconds
+		 */
+		public long getAgeNanos(long nowNanos) {
+			return nowNanos - openedNanos;
+		}
+
+		/**
+		 * Returns how long ago the session last had activity.
+		 *
+		 * @param nowNanos the current value of System.nanoTime()
+		 * @return the time since the last activity in nanoseconds
+		 */
+		public long getIdleNanos(long nowNanos) {
+			return nowNanos - lastActivityNanos;
+		}
+
+		/**
+		 * Returns how long ago the session was closed.
+		 *
+		 * @param nowNanos the current value of System.nanoTime()
+		 * @return the time since the session was closed in nanoseconds, or -1 if it
+		 *         is still open
+		 */
+		public long getClosedNanos(long nowNanos) {
+			return closed ? nowNanos - closedNanos : -1;
+		}
+
+		/**
+		 * Tracks an animation of the session, so that it is counted while it runs.
+		 *
+		 * @param animation the animation to be tracked
+		 */
+		public synchronized void trackAnimation(Animation animation) {
+			for (WeakReference<Animation> reference : animationReferences) {
+				if (reference.get() == animation) {
+					return;
+				}
+			}
+			animationReferences.add(new WeakReference<>(animation));
+		}
+
+		/**
+		 * Returns the number of tracked animations of the session that are running
+		 * or paused.
+		 *
+		 * @return the live animation count
+		 */
+		public synchronized int getLiveAnimationCount() {
+			int count = 0;
+			for (Iterator<WeakReference<Animation>> iter = animationReferences.iterator(); iter.hasNext();) {
+				Animation animation = iter.next().get();
+				if (animation == null) {
+					iter.remove();
+				} else if (animation.getStatus() != Animation.Status.STOPPED) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * Returns the number of nodes in the scene of the session, including the
+		 * nodes of control skins. Must be called on the JavaFX application thread.
+		 *
+		 * @return the node count, or 0 if the session has no scene
+		 */
+		public int getNodeCount() {
+			Scene scene = sceneReference.get();
+			if (scene == null || scene.getRoot() == null) {
+				return 0;
+			}
+
+			int count = 0;
+			Deque<Node> pending = new ArrayDeque<>();
+			pending.push(scene.getRoot());
+			while (!pending.isEmpty()) {
+				Node node = pending.pop();
+				count++;
+				if (node instanceof Parent) {
+					for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+						pending.push(child);
+					}
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * Returns a rough estimate of the heap retained by the session, from its node
+		 * and live animation counts. Must be called on the JavaFX application
+		 * thread.
+		 *
+		 * @return the estimated retained heap in bytes
+		 */
+		public long getRetainedBytesEstimate() {
+			return getNodeCount() * BYTES_PER_NODE_ESTIMATE + getLiveAnimationCount() * BYTES_PER_ANIMATION_ESTIMATE;
+		}
+	}
+
+	/**
+	 * Registers a newly opened session.
+	 *
+	 * @param session the object that represents the session
+	 * @param scene   the scene of the session, or null if it has none
+	 * @return the entry of the session
+	 */
+	public static synchronized Entry register(Object session, Scene scene) {
+		removeCollected();
+		SessionReference sessionReference = new SessionReference(session, collectedSessions);
+		Entry entry = new Entry(nextEntryID++, sessionReference, scene);
+		entries.put(sessionReference, entry);
+		return entry;
+	}
+
+	/**
+	 * Returns the entry of the specified session.
+	 *
+	 * @param session the object that represents the session
+	 * @return the entry, or null if the session is not registered
+	 */
+	public static synchronized Entry get(Object session) {
+		if (session == null) {
+			return null;
+		}
+		return entries.get(new SessionReference(session, null));
+	}
+
+	/**
+	 * Tracks an animation of the specified session. Does nothing if the session
+	 * is not registered, as in tests and benchmarks.
+	 *
+	 * @param session   the object that represents the session
+	 * @param animation the animation to be tracked
+	 */
+	public static void trackAnimation(Object session, Animation animation) {
+		Entry entry = get(session);
+		if (entry != null) {
+			entry.trackAnimation(animation);
+		}
+	}
+
+	/**
+	 * Returns the entries of every session that has not been garbage collected,
+	 * open or closed. Entries of collected sessions are dropped.
+	 *
+	 * @return the entries of the sessions that are still in memory
+	 */
+	public static synchronized List<Entry> getEntries() {
+		removeCollected();
+		return new ArrayList<>(entries.values());
+	}
+
+	/**
+	 * Drops the entries of the sessions that have been garbage collected since
+	 * the last call.
+	 */
+	private static void removeCollected() {
+		Reference<?> reference;
+		while ((reference = collectedSessions.poll()) != null) {
+			entries.remove(reference);
+		}
+	}
+
+	/**
+	 * Returns the entries of the sessions that were closed at least the specified
+	 * time ago but are still in memory. Right after a full garbage collection,
+	 * every one of them has leaked.
+	 *
+	 * @param minClosedNanos how long ago a session must have been closed to be
+	 *                       reported
+	 * @return the entries of the leaked sessions
+	 */
+	public static List<Entry> getLeakedEntries(long minClosedNanos) {
+		long nowNanos = System.nanoTime();
+		List<Entry> leakedEntries = new ArrayList<>();
+		for (Entry entry : getEntries()) {
+			if (entry.isClosed() && entry.getClosedNanos(nowNanos) >= minClosedNanos) {
+				leakedEntries.add(entry);
+			}
+		}
+		return leakedEntries;
+	}
+
+	/**
+	 * Returns the number of sessions that are open.
+	 *
+	 * @return the open session count
+	 */
+	public static int getOpenCount() {
+		int count = 0;
+		for (Entry entry : getEntries()) {
+			if (!entry.isClosed()) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
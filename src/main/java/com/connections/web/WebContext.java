@@ -4,16 +4,23 @@ import com.jpro.webapi.JProApplication;
 import com.jpro.webapi.WebAPI;
 import com.mongodb.client.MongoDatabase;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+
 /**
  * The WebContext class represents the context for a web application, containing
  * references to the MongoDB database, the web API, and the JProApplication
  * instance. It provides methods to access these components and facilitates
  * their interaction.
+ *
+ * A WebContext without a WebAPI, as used by load tests and background work,
+ * keeps its cookies in memory instead of in a browser.
  */
 public class WebContext {
 	private MongoDatabase mongoDatabase;
 	private WebAPI webAPI;
 	private JProApplication jproApplication;
+	private ObservableMap<String, String> localCookies;
 
 	/**
 	 * Constructs a WebContext with the specified MongoDatabase, WebAPI, and
@@ -30,6 +37,9 @@ public class WebContext {
 		this.jproApplication = jproApplication;
 		this.mongoDatabase = mongoDatabase;
 		this.webAPI = webAPI;
+		if (webAPI == null) {
+			this.localCookies = FXCollections.observableHashMap();
+		}
 	}
 
 	/**
@@ -58,4 +68,13 @@ public class WebContext {
 	public JProApplication getJProApplication() {
 		return jproApplication;
 	}
+
+	/**
+	 * Retrieves the cookies kept in memory when this WebContext has no WebAPI.
+	 *
+	 * @return The in-memory cookies, or null if the WebContext has a WebAPI.
+	 */
+	public ObservableMap<String, String> getLocalCookies() {
+		return localCookies;
+	}
 }
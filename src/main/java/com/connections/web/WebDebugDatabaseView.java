@@ -1,9 +1,15 @@
 package com.connections.web;
 
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bson.Document;
 
+import com.connections.model.PuzzleRollover;
+import com.connections.model.PuzzleSchedule;
+import com.connections.view_controller.AssetRegistry;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 
@@ -13,6 +19,7 @@ import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
@@ -28,6 +35,8 @@ public class WebDebugDatabaseView extends VBox {
 	private WebContext webContext;
 	private GridPane gridPane;
 	private Text currentPuzzleNum;
+	private Text assetRegistryCounts;
+	private Text sessionRegistryReport;
 	private static final int SPACING = 3;
 	private static final int PADDING = 3;
 	private static final double FONT_SIZE_SCALE = 1;
@@ -88,11 +97,37 @@ public class WebDebugDatabaseView extends VBox {
 
 		Button dailyPuzzleDateCheck = new Button("Check Date");
 		dailyPuzzleDateCheck.setOnAction(event -> {
-			WebUtils.dailyPuzzleNumberIncrementIfNeeded(webContext);
+			PuzzleRollover.rolloverIfNeeded(WebUtils.dailyPuzzleRolloverStoreGet(webContext), ZonedDateTime.now());
+			refreshView();
+		});
+
+		TextField overridePuzzleNum = new TextField();
+		overridePuzzleNum.setPromptText("Puzzle Num");
+		overridePuzzleNum.setPrefColumnCount(6);
+
+		Button dailyPuzzleOverride = new Button("Override Today's Puzzle");
+		dailyPuzzleOverride.setOnAction(event -> {
+			try {
+				// Only puzzle numbers of the catalog can override the schedule.
+				int puzzleNumber = Integer.parseInt(overridePuzzleNum.getText().trim());
+				if (WebUtils.gameGetByPuzzleNumber(webContext, puzzleNumber) != null) {
+					WebUtils.dailyPuzzleOverrideSet(webContext, ZonedDateTime.now().toLocalDate(), puzzleNumber);
+				}
+			} catch (NumberFormatException e) {
+				overridePuzzleNum.clear();
+			}
+			refreshView();
+		});
+
+		Button dailyPuzzleOverrideRemove = new Button("Remove Today's Override");
+		dailyPuzzleOverrideRemove.setOnAction(event -> {
+			WebUtils.dailyPuzzleOverrideRemove(webContext, ZonedDateTime.now().toLocalDate());
 			refreshView();
 		});
 
 		currentPuzzleNum = new Text("...");
+		assetRegistryCounts = new Text("...");
+		sessionRegistryReport = new Text("...");
 
 		int maxCols = 3;
 		int currentRow = 0;
@@ -117,11 +152,13 @@ public class WebDebugDatabaseView extends VBox {
 			}
 		}
 
-		HBox mainControlBox = new HBox(SPACING, initDatabase, clearDatabase, refreshAll);
+		HBox mainControlBox = new HBox(SPACING, initDatabase, clearDatabase, refreshAll, assetRegistryCounts);
 		HBox dateControlBox = new HBox(SPACING, dailyPuzzleIncrement, dailyPuzzleIncrementMuch, currentPuzzleNum,
 				dailyPuzzleDateSub, dailyPuzzleDateCheck);
+		HBox overrideControlBox = new HBox(SPACING, overridePuzzleNum, dailyPuzzleOverride,
+				dailyPuzzleOverrideRemove);
 
-		VBox tallControlBox = new VBox(SPACING * 2, mainControlBox, dateControlBox);
+		VBox tallControlBox = new VBox(SPACING * 2, mainControlBox, dateControlBox, overrideControlBox);
 		for (Node node : tallControlBox.getChildren()) {
 			if (node instanceof HBox) {
 				HBox hbox = (HBox) node;
@@ -130,7 +167,7 @@ public class WebDebugDatabaseView extends VBox {
 			}
 		}
 
-		getChildren().addAll(title, tallControlBox, gridPane);
+		getChildren().addAll(title, tallControlBox, sessionRegistryReport, gridPane);
 
 		setPadding(new Insets(PADDING));
 		setSpacing(SPACING);
@@ -142,7 +179,17 @@ public class WebDebugDatabaseView extends VBox {
 	 * Refreshes the view by updating the displayed data.
 	 */
 	public void refreshView() {
-		currentPuzzleNum.setText("Current Puzzle Num: " + WebUtils.dailyPuzzleNumberGet(webContext));
+		PuzzleSchedule schedule = WebUtils.dailyPuzzleScheduleGet(webContext);
+		LocalDate today = ZonedDateTime.now().toLocalDate();
+		if (schedule == null) {
+			currentPuzzleNum.setText("Current Puzzle Num: -1");
+		} else {
+			currentPuzzleNum.setText("Current Puzzle Num: " + schedule.getPuzzleNumber(today)
+					+ (schedule.hasOverride(today) ? " (overridden)" : ""));
+		}
+		assetRegistryCounts.setText(String.format("Asset Hits: %d, Misses: %d", AssetRegistry.getHitCount(),
+				AssetRegistry.getMissCount()));
+		refreshSessionRegistryReport();
 
 		for (Node node : gridPane.getChildren()) {
 			if (node instanceof GroupView) {
@@ -151,6 +198,32 @@ public class WebDebugDatabaseView extends VBox {
 		}
 	}
 
+	/**
+	 * Refreshes the report of the sessions in the SessionRegistry, one line per
+	 * session that is still in memory. A session is flagged as leaked if it was
+	 * closed more than a minute ago but has not been garbage collected.
+	 */
+	private void refreshSessionRegistryReport() {
+		long nowNanos = System.nanoTime();
+		long leakAfterNanos = TimeUnit.MINUTES.toNanos(1);
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Sessions: %d open, %d leaked", SessionRegistry.getOpenCount(),
+				SessionRegistry.getLeakedEntries(leakAfterNanos).size()));
+
+		for (SessionRegistry.Entry entry : SessionRegistry.getEntries()) {
+			String status = "open";
+			if (entry.isClosed()) {
+				status = (entry.getClosedNanos(nowNanos) >= leakAfterNanos) ? "LEAKED" : "closed";
+			}
+			report.append(String.format("\n#%d %s: %d nodes, %d animations, ~%d KB, age %ds, idle %ds",
+					entry.getEntryID(), status, entry.getNodeCount(), entry.getLiveAnimationCount(),
+					entry.getRetainedBytesEstimate() / 1024,
+					TimeUnit.NANOSECONDS.toSeconds(entry.getAgeNanos(nowNanos)),
+					TimeUnit.NANOSECONDS.toSeconds(entry.getIdleNanos(nowNanos))));
+		}
+		sessionRegistryReport.setText(report.toString());
+	}
+
 	private abstract class GroupView extends VBox {
 		protected WebContext webContext;
 		protected Text title;
@@ -2,6 +2,9 @@ package com.connections.web;
 
 import java.net.URL;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.connections.view_controller.ConnectionsHome;
 import com.jpro.webapi.JProApplication;
@@ -9,6 +12,7 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoDatabase;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Scene;
@@ -20,11 +24,28 @@ import javafx.stage.Stage;
  * initialization and setup of the web application. It is responsible for
  * connecting to the database, creating a WebSession and WebSessionContext, and
  * setting up the main application scene.
+ *
+ * The home screen is shown before anything is read from the database. The
+ * session from the cookie and the server status are read concurrently in the
+ * background and applied to the home screen when they are ready, so the first
+ * frame of a tab does not wait on the database. Database upkeep runs in
+ * DatabaseMaintenance instead of on every connection.
+ *
+ * ConnectionsAppWeb creates the controller directly for every connection. It
+ * can still be loaded through webapp.fxml, which is kept for tools that use it.
  */
 public class WebFXMLController implements Initializable {
 	protected static final int STAGE_WIDTH = 800;
 	protected static final int STAGE_HEIGHT = 750;
 
+	private static final ExecutorService BOOTSTRAP_EXECUTOR = Executors.newFixedThreadPool(4, runnable -> {
+		Thread thread = new Thread(runnable, "connections-bootstrap");
+		thread.setDaemon(true);
+		return thread;
+	});
+	// One client, with its connection pool, is shared by every tab of the JVM
+	private static MongoDatabase sharedDatabase;
+
 	@FXML
 	protected StackPane root;
 	protected JProApplication jproApplication;
@@ -43,28 +64,33 @@ public class WebFXMLController implements Initializable {
 	}
 
 	/**
-	 * Returns the MongoDatabase to be used for Connections.
+	 * Returns the MongoDatabase to be used for Connections, connecting to it the
+	 * first time.
 	 *
 	 * @return The MongoDatabase object representing the connected database, or null
 	 *         if the connection fails.
 	 */
-	private MongoDatabase connectDatabase() {
+	private static synchronized MongoDatabase connectDatabase() {
+		if (sharedDatabase != null) {
+			return sharedDatabase;
+		}
+
 		String mongoURL = "mongodb://localhost:27017/";
 
 		try {
 			MongoClient mongoClient = MongoClients.create(mongoURL);
-			return mongoClient.getDatabase(WebUtils.DATABASE_NAME);
+			sharedDatabase = mongoClient.getDatabase(WebUtils.DATABASE_NAME);
 		} catch (Exception e) {
 			System.out.println(
 					"CONNECTIONS (WARNING): WebFXMLController could not connect to the database at " + mongoURL);
 		}
-		return null;
+		return sharedDatabase;
 	}
 
 	/**
-	 * Entry point of the WebFXMLController. Initializes the database if needed,
-	 * increments the daily puzzle number, creates a new WebSession and
-	 * WebSessionContext, and sets up the main application scene.
+	 * Entry point of the WebFXMLController. Shows the home screen with an empty
+	 * session right away, then resolves the session from the cookie and reads the
+	 * server status in the background.
 	 *
 	 * @param stage The primary stage for the application.
 	 */
@@ -72,23 +98,40 @@ public class WebFXMLController implements Initializable {
 		MongoDatabase mongoDatabase = connectDatabase();
 		WebContext webContext = new WebContext(mongoDatabase, jproApplication.getWebAPI(), jproApplication);
 
-		if (!WebUtils.checkDatabaseInit(webContext)) {
-			System.out.println("CONNECTIONS: WebFXMLController initialized the database.");
-			WebUtils.initDatabase(webContext);
-		}
-
-		WebUtils.dailyPuzzleNumberIncrementIfNeeded(webContext);
-
-		WebSession session = new WebSession(webContext);
-		WebSessionContext webSessionContext = new WebSessionContext(session);
-
-		WebSession.clearExpiredSessions(webContext);
+		String cookieSessionID = WebUtils.cookieGet(webContext, WebSession.KEY_SESSION_ID);
+		WebSessionContext webSessionContext = new WebSessionContext(WebSession.createEmpty(webContext));
 
 		ConnectionsHome home = new ConnectionsHome(webContext, webSessionContext);
 		Scene scene = new Scene(home, STAGE_WIDTH, STAGE_HEIGHT);
+		SessionHibernator hibernator = new SessionHibernator(webContext, webSessionContext, scene, home);
 		stage.setScene(scene);
 		stage.setTitle("Connections");
 		stage.show();
+
+		CompletableFuture<Void> databaseReady = CompletableFuture
+				.runAsync(() -> DatabaseMaintenance.ensureStarted(mongoDatabase), BOOTSTRAP_EXECUTOR);
+		CompletableFuture<WebSession> session = databaseReady
+				.thenApplyAsync(ready -> new WebSession(webContext, cookieSessionID), BOOTSTRAP_EXECUTOR);
+		CompletableFuture<Boolean> debugEnabled = databaseReady
+				.thenApplyAsync(ready -> WebUtils.debugIsEnabled(webContext), BOOTSTRAP_EXECUTOR);
+		CompletableFuture<Integer> idleHibernateMinutes = databaseReady
+				.thenApplyAsync(ready -> WebUtils.idleHibernateMinutesGet(webContext), BOOTSTRAP_EXECUTOR);
+
+		CompletableFuture.allOf(session, debugEnabled, idleHibernateMinutes).whenComplete((ready, error) -> {
+			Platform.runLater(() -> {
+				if (error != null) {
+					// The tab is still usable; it starts over with a guest session.
+					System.out.println("CONNECTIONS (WARNING): the session could not be resolved: " + error);
+					hibernator.onSessionReady(false, WebUtils.DEFAULT_IDLE_HIBERNATE_MINUTES);
+					return;
+				}
+
+				WebSession resolvedSession = session.join();
+				resolvedSession.removeStaleCookie();
+				webSessionContext.setSession(resolvedSession);
+				hibernator.onSessionReady(debugEnabled.join(), idleHibernateMinutes.join());
+			});
+		});
 	}
 
 	/**
@@ -23,6 +23,8 @@ public class WebSession implements WebContextAccessible, DatabaseFormattable, Da
 	private boolean sessionActive;
 	private WebContext webContext;
 	private ZonedDateTime sessionCreationDate;
+	// Set when the session ID of the cookie no longer has a valid session
+	private boolean staleCookie;
 
 	/**
 	 * Constructs a new WebSession with the given WebContext and Document.
@@ -43,9 +45,24 @@ public class WebSession implements WebContextAccessible, DatabaseFormattable, Da
 	 * @param webContext the WebContext associated with the session
 	 */
 	public WebSession(WebContext webContext) {
+		this(webContext, WebUtils.cookieGet(webContext, KEY_SESSION_ID));
+		removeStaleCookie();
+	}
+
+	/**
+	 * Constructs a new WebSession with the given WebContext from the session ID
+	 * read from the cookie. Only the database is read, so the session can be
+	 * resolved off the JavaFX application thread; removeStaleCookie() must then be
+	 * called on the JavaFX application thread.
+	 *
+	 * @param webContext      the WebContext associated with the session
+	 * @param cookieSessionID the session ID read from the cookie, or null if there
+	 *                        is none
+	 */
+	public WebSession(WebContext webContext, String cookieSessionID) {
 		setWebContext(webContext);
 
-		if (!loadFromCookie()) {
+		if (!loadFromSessionID(cookieSessionID)) {
 			this.sessionID = null;
 			this.user = null;
 			this.sessionActive = false;
@@ -54,27 +71,34 @@ public class WebSession implements WebContextAccessible, DatabaseFormattable, Da
 	}
 
 	/**
-	 * Loads the session data from a cookie.
+	 * Returns an empty WebSession with the given WebContext, without reading the
+	 * cookie or the database. It stands in for the session of a tab until the
+	 * session from the cookie has been resolved.
 	 *
-	 * @return true if the session data is successfully loaded from the cookie,
-	 *         false otherwise
+	 * @param webContext the WebContext associated with the session
+	 * @return the empty session
 	 */
-	private boolean loadFromCookie() {
-		// When there is no cookie with the session ID.
-		if (!WebUtils.cookieContains(webContext, KEY_SESSION_ID)) {
-			return false;
-		}
-
-		String readSessionID = WebUtils.cookieGet(webContext, KEY_SESSION_ID);
+	public static WebSession createEmpty(WebContext webContext) {
+		return new WebSession(webContext, (String) null);
+	}
 
-		// When the session ID does not actually exist (not valid).
+	/**
+	 * Loads the session data of the session ID read from the cookie. If the cookie
+	 * turns out to be stale, it is marked to be removed by removeStaleCookie().
+	 *
+	 * @param readSessionID the session ID read from the cookie, or null if there is
+	 *                      none
+	 * @return true if the session data is successfully loaded, false otherwise
+	 */
+	private boolean loadFromSessionID(String readSessionID) {
+		// When there is no cookie with the session ID.
 		if (readSessionID == null) {
 			return false;
 		}
 
 		// Remove the cookie if its session ID does not exist anymore.
 		if (!checkSessionIDExists(webContext, readSessionID)) {
-			WebUtils.cookieRemove(webContext, KEY_SESSION_ID);
+			staleCookie = true;
 			return false;
 		}
 
@@ -88,7 +112,7 @@ public class WebSession implements WebContextAccessible, DatabaseFormattable, Da
 		}
 
 		if (readSession.isExpired()) {
-			WebUtils.cookieRemove(webContext, KEY_SESSION_ID);
+			staleCookie = true;
 			readSession.removeFromDatabase();
 		}
 
@@ -99,6 +123,17 @@ public class WebSession implements WebContextAccessible, DatabaseFormattable, Da
 		return true;
 	}
 
+	/**
+	 * Removes the session ID from the cookie if loading the session found it to
+	 * be stale.
+	 */
+	public void removeStaleCookie() {
+		if (staleCookie) {
+			WebUtils.cookieRemove(webContext, KEY_SESSION_ID);
+			staleCookie = false;
+		}
+	}
+
 	/**
 	 * Logs in the session. If the session contains no user, it will create a new
 	 * guest user. It will store the session in the database and in the cookie.
@@ -24,4 +24,14 @@ public class WebSessionContext {
 	public WebSession getSession() {
 		return session;
 	}
+
+	/**
+	 * Sets the WebSession associated with this context. Used to replace the empty
+	 * session a tab starts with once its session has been resolved.
+	 *
+	 * @param session The WebSession to associate with this context.
+	 */
+	public void setSession(WebSession session) {
+		this.session = session;
+	}
 }
@@ -6,6 +6,8 @@ import java.util.List;
 import org.bson.Document;
 
 import com.connections.model.DifficultyColor;
+import com.connections.model.GameEvent;
+import com.connections.model.GameEventLog;
 import com.connections.model.GameSaveState;
 import com.connections.model.PlayedGameInfo;
 import com.mongodb.client.FindIterable;
@@ -34,11 +36,13 @@ public abstract class WebUser implements WebContextAccessible, DatabaseFormattab
 	public static final String KEY_HAS_LATEST_SAVE_STATE = "has_latest_game_save_state";
 	public static final String KEY_ACTIVE_INSTANCE_ID = "active_instance_id";
 	public static final String KEY_DARK_MODE = "dark_mode";
+	public static final String KEY_GAME_EVENT_LOG = "game_event_log";
 
 	protected List<PlayedGameInfo> playedGameList;
 	protected String userID;
 	protected WebContext webContext;
 	protected GameSaveState latestSaveState;
+	protected GameEventLog gameEventLog;
 	protected boolean hasLatestSaveState;
 	protected boolean darkModeStatus;
 	protected String activeInstanceID;
@@ -225,6 +229,100 @@ public abstract class WebUser implements WebContextAccessible, DatabaseFormattab
 		return hasLatestSaveState;
 	}
 
+	/**
+	 * Retrieves the event log of the latest game the user started, as last read
+	 * from the database.
+	 *
+	 * @return the game event log, or null if there is none
+	 */
+	public GameEventLog getGameEventLog() {
+		return gameEventLog;
+	}
+
+	/**
+	 * Checks if the user has an event log of a game that has not finished.
+	 *
+	 * @return true if there is an unfinished game event log, false otherwise
+	 */
+	public boolean hasActiveGameEventLog() {
+		return gameEventLog != null && !gameEventLog.isGameFinished();
+	}
+
+	/**
+	 * Stores a new game event log, replacing the previous one. The event log is
+	 * never part of writeToDatabase(); it is only changed through these targeted
+	 * updates, so a full write of stale user data cannot drop recorded events.
+	 *
+	 * @param gameEventLog the event log of the game being started
+	 */
+	public void startGameEventLog(GameEventLog gameEventLog) {
+		this.gameEventLog = gameEventLog;
+		WebUtils.helperCollectionUpdate(webContext, getCollectionName(), KEY_USER_ID, userID,
+				new Document(KEY_GAME_EVENT_LOG, gameEventLog.getAsDatabaseFormat()));
+	}
+
+	/**
+	 * Appends an event to the stored game event log with a single push.
+	 *
+	 * @param gameEventLog the event log the event was added to
+	 * @param event        the event to append
+	 */
+	public void pushGameEvent(GameEventLog gameEventLog, GameEvent event) {
+		Document updateWith = new Document(KEY_GAME_EVENT_LOG + "." + GameEventLog.KEY_LAST_ACTIVE_TIME,
+				WebUtils.helperDateToString(gameEventLog.getLastActiveTime()));
+		WebUtils.helperCollectionPush(webContext, getCollectionName(), KEY_USER_ID, userID,
+				KEY_GAME_EVENT_LOG + "." + GameEventLog.KEY_EVENTS, event.getAsDatabaseFormat(), updateWith);
+	}
+
+	/**
+	 * Updates the start and last active times of the stored game event log.
+	 *
+	 * @param gameEventLog the event log holding the new times
+	 */
+	public void updateGameEventLogTimes(GameEventLog gameEventLog) {
+		Document updateWith = new Document();
+		updateWith.append(KEY_GAME_EVENT_LOG + "." + GameEventLog.KEY_GAME_START_TIME,
+				WebUtils.helperDateToString(gameEventLog.getGameStartTime()));
+		updateWith.append(KEY_GAME_EVENT_LOG + "." + GameEventLog.KEY_LAST_ACTIVE_TIME,
+				WebUtils.helperDateToString(gameEventLog.getLastActiveTime()));
+		WebUtils.helperCollectionUpdate(webContext, getCollectionName(), KEY_USER_ID, userID, updateWith);
+	}
+
+	/**
+	 * Stores the latest snapshot of the game event log.
+	 *
+	 * @param gameEventLog the event log holding the snapshot
+	 */
+	public void updateGameEventLogSnapshot(GameEventLog gameEventLog) {
+		Document updateWith = new Document();
+		updateWith.append(KEY_GAME_EVENT_LOG + "." + GameEventLog.KEY_SNAPSHOT,
+				gameEventLog.getSnapshot().getAsDatabaseFormat());
+		updateWith.append(KEY_GAME_EVENT_LOG + "." + GameEventLog.KEY_SNAPSHOT_EVENT_COUNT,
+				gameEventLog.getSnapshotEventCount());
+		WebUtils.helperCollectionUpdate(webContext, getCollectionName(), KEY_USER_ID, userID, updateWith);
+	}
+
+	/**
+	 * Marks the stored game event log as finished. The log is kept so the game
+	 * can still be replayed, but it is no longer resumed.
+	 */
+	public void finishGameEventLog() {
+		if (gameEventLog != null) {
+			gameEventLog.setGameFinished(true);
+		}
+		WebUtils.helperCollectionUpdate(webContext, getCollectionName(), KEY_USER_ID, userID,
+				new Document(KEY_GAME_EVENT_LOG + "." + GameEventLog.KEY_GAME_FINISHED, true));
+	}
+
+	/**
+	 * Returns the name of the collection that stores this type of user.
+	 *
+	 * @return the collection name
+	 */
+	protected String getCollectionName() {
+		return (getType() == UserType.ACCOUNT) ? WebUtils.COLLECTION_ACCOUNT : WebUtils.COLLECTION_GUEST;
+	}
+
 	/**
 	 * Sets the active instance ID of the user.
 	 *
@@ -453,6 +551,8 @@ public abstract class WebUser implements WebContextAccessible, DatabaseFormattab
 		hasLatestSaveState = doc.getBoolean(KEY_HAS_LATEST_SAVE_STATE, false);
 		activeInstanceID = doc.getString(KEY_ACTIVE_INSTANCE_ID);
 		darkModeStatus = doc.getBoolean(KEY_DARK_MODE, false);
+		Document gameEventLogDoc = doc.get(KEY_GAME_EVENT_LOG, Document.class);
+		gameEventLog = (gameEventLogDoc == null) ? null : new GameEventLog(gameEventLogDoc);
 	}
 
 	/**
@@ -566,12 +666,22 @@ public abstract class WebUser implements WebContextAccessible, DatabaseFormattab
 		for (WebUser user : allUsers) {
 			user.readFromDatabase();
 		}
-		allUsers.sort((user1, user2) -> {
+		sortByAchievementCount(allUsers);
+		return allUsers.subList(0, Math.min(limit, allUsers.size()));
+	}
+
+	/**
+	 * Sorts the specified users by the total number of games completed for
+	 * achievements, from most to fewest, as shown on the leaderboard.
+	 *
+	 * @param users the users to sort
+	 */
+	public static void sortByAchievementCount(List<WebUser> users) {
+		users.sort((user1, user2) -> {
 			int totalCount1 = user1.getNumAllGamesForAchievements();
 			int totalCount2 = user2.getNumAllGamesForAchievements();
 			return Integer.compare(totalCount2, totalCount1);
 		});
-		return allUsers.subList(0, Math.min(limit, allUsers.size()));
 	}
 
 	/**
@@ -3,18 +3,27 @@ package com.connections.web;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bson.Document;
 
 import com.connections.model.GameData;
+import com.connections.model.HintEngine;
+import com.connections.model.PuzzleAmbiguityAnalyzer;
+import com.connections.model.PuzzleDifficultyMetrics;
+import com.connections.model.PuzzleRollover;
+import com.connections.model.PuzzleSchedule;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.UpdateOptions;
 
 import javafx.collections.ObservableMap;
@@ -40,10 +49,19 @@ public class WebUtils {
 	public static final String KEY_MIN_PUZZLE_NUMBER = "min_puzzle_number";
 	public static final String KEY_MAX_PUZZLE_NUMBER = "max_puzzle_number";
 	public static final String KEY_DEBUG_MODE = "debug_mode";
+	public static final String KEY_IDLE_HIBERNATE_MINUTES = "idle_hibernate_minutes";
+	public static final String KEY_PUZZLE_OVERRIDES = "puzzle_overrides";
+
+	public static final int DEFAULT_IDLE_HIBERNATE_MINUTES = 30;
 
 	public static final String[] COLLECTIONS = { COLLECTION_SERVER_STATUS, COLLECTION_GAMES, COLLECTION_SESSION_ID_NAME,
 			COLLECTION_ACCOUNT, COLLECTION_GUEST };
 
+	// The puzzle numbers of the games collection only change when the database is
+	// initialized, so they are read once per database. Every context of a database
+	// shares its MongoDatabase object, which the catalogs are keyed by.
+	private static final Map<MongoDatabase, int[]> puzzleCatalogs = new ConcurrentHashMap<>();
+
 	/**
 	 * Checks if a MongoDB collection contains a document with the specified query
 	 * key and value.
@@ -238,6 +256,67 @@ public class WebUtils {
 		collection.updateOne(findCriteria, updateCriteria, options);
 	}
 
+	/**
+	 * Removes a field from a document in the specified MongoDB collection based on
+	 * the specified key-value pair.
+	 *
+	 * @param webContext     The web context providing access to the MongoDB
+	 *                       database
+	 * @param collectionName The name of the MongoDB collection to update
+	 * @param findByKey      The key to search for
+	 * @param findByValue    The value to match against the search key
+	 * @param unsetKey       The (possibly dotted) key of the field to remove
+	 */
+	public static void helperCollectionUnset(WebContext webContext, String collectionName, String findByKey,
+			Object findByValue, String unsetKey) {
+		MongoCollection<Document> collection = webContext.getMongoDatabase().getCollection(collectionName);
+		Document findCriteria = new Document(findByKey, findByValue);
+		collection.updateOne(findCriteria, new Document("$unset", new Document(unsetKey, "")));
+	}
+
+	/**
+	 * Appends a value to an array field of a document in the specified MongoDB
+	 * collection, optionally setting other fields in the same update. Only the
+	 * appended value is sent to the database, not the whole document.
+	 *
+	 * @param webContext     The web context providing access to the MongoDB
+	 *                       database
+	 * @param collectionName The name of the MongoDB collection to update
+	 * @param findByKey      The key to search for
+	 * @param findByValue    The value to match against the search key
+	 * @param pushKey        The (possibly dotted) key of the array field
+	 * @param pushValue      The value to append to the array
+	 * @param updateWith     The document containing fields to set, or null
+	 */
+	public static void helperCollectionPush(WebContext webContext, String collectionName, String findByKey,
+			Object findByValue, String pushKey, Object pushValue, Document updateWith) {
+		MongoCollection<Document> collection = webContext.getMongoDatabase().getCollection(collectionName);
+		Document findCriteria = new Document(findByKey, findByValue);
+		Document updateCriteria = new Document("$push", new Document(pushKey, pushValue));
+		if (updateWith != null && !updateWith.isEmpty()) {
+			updateCriteria.append("$set", updateWith);
+		}
+		collection.updateOne(findCriteria, updateCriteria);
+	}
+
+	/**
+	 * Sets fields of the document in the specified MongoDB collection that matches
+	 * the expected document, as a single atomic compare-and-set. Nothing is
+	 * updated if no document matches anymore.
+	 *
+	 * @param webContext     The web context providing access to the MongoDB
+	 *                       database
+	 * @param collectionName The name of the MongoDB collection to update
+	 * @param expected       The fields the document must still have
+	 * @param updateWith     The document containing the updated fields
+	 * @return true if a document was updated, false otherwise
+	 */
+	public static boolean helperCollectionUpdateIf(WebContext webContext, String collectionName, Document expected,
+			Document updateWith) {
+		MongoCollection<Document> collection = webContext.getMongoDatabase().getCollection(collectionName);
+		return collection.updateOne(expected, new Document("$set", updateWith)).getModifiedCount() == 1;
+	}
+
 	/**
 	 * Updates a document in the specified MongoDB collection based on the specified
 	 * key.
@@ -322,6 +401,8 @@ public class WebUtils {
 	 */
 	public static void clearDatabase(WebContext webContext) {
 		webContext.getMongoDatabase().drop();
+		puzzleCatalogs.remove(webContext.getMongoDatabase());
+		HintEngine.clearSharedEngines();
 	}
 
 	/**
@@ -332,6 +413,8 @@ public class WebUtils {
 	 */
 	public static void initDatabase(WebContext webContext) {
 		webContext.getMongoDatabase().drop();
+		puzzleCatalogs.remove(webContext.getMongoDatabase());
+		HintEngine.clearSharedEngines();
 
 		int minPuzzleNumber = Integer.MAX_VALUE;
 		int maxPuzzleNumber = Integer.MIN_VALUE;
@@ -362,13 +445,16 @@ public class WebUtils {
 
 		ZonedDateTime currentDateTime = ZonedDateTime.now();
 
-		helperCollectionPut(webContext, COLLECTION_SERVER_STATUS, KEY_LAST_PUZZLE_DATE,
-				helperDateToString(currentDateTime));
-		helperCollectionPut(webContext, COLLECTION_SERVER_STATUS, KEY_CURRENT_PUZZLE_NUMBER, minPuzzleNumber);
+		// The date and puzzle number share a document so that the daily rollover can
+		// update both with a single compare-and-set.
+		helperCollectionPut(webContext, COLLECTION_SERVER_STATUS, new Document(KEY_CURRENT_PUZZLE_NUMBER,
+				minPuzzleNumber).append(KEY_LAST_PUZZLE_DATE, helperDateToString(currentDateTime)));
 		helperCollectionPut(webContext, COLLECTION_SERVER_STATUS, KEY_MIN_PUZZLE_NUMBER, minPuzzleNumber);
 		helperCollectionPut(webContext, COLLECTION_SERVER_STATUS, KEY_MAX_PUZZLE_NUMBER, maxPuzzleNumber);
 		helperCollectionPut(webContext, COLLECTION_SERVER_STATUS, KEY_IS_SERVER_INIT, true);
 		helperCollectionPut(webContext, COLLECTION_SERVER_STATUS, KEY_DEBUG_MODE, false);
+		helperCollectionPut(webContext, COLLECTION_SERVER_STATUS, KEY_IDLE_HIBERNATE_MINUTES,
+				DEFAULT_IDLE_HIBERNATE_MINUTES);
 	}
 
 	/**
@@ -411,6 +497,28 @@ public class WebUtils {
 		return new GameData(gameDoc);
 	}
 
+	/**
+	 * Analyzes every puzzle in the games collection for ambiguity and writes the
+	 * resulting difficulty metrics back to each puzzle's document.
+	 *
+	 * @param webContext The web context providing access to the MongoDB database
+	 * @param analyzer   The analyzer used to compute the difficulty metrics
+	 * @return The difficulty metrics of each puzzle, by puzzle number
+	 */
+	public static Map<Integer, PuzzleDifficultyMetrics> gameAnalyzeCatalog(WebContext webContext,
+			PuzzleAmbiguityAnalyzer analyzer) {
+		Map<Integer, PuzzleDifficultyMetrics> metricsByPuzzleNumber = analyzer.analyzeCatalog(gameGetAll(webContext));
+
+		for (Map.Entry<Integer, PuzzleDifficultyMetrics> entry : metricsByPuzzleNumber.entrySet()) {
+			Document updateWith = new Document(GameData.KEY_DIFFICULTY_METRICS,
+					entry.getValue().getAsDatabaseFormat());
+			helperCollectionUpdate(webContext, COLLECTION_GAMES, GameData.KEY_PUZZLE_NUMBER, entry.getKey(),
+					updateWith);
+		}
+
+		return metricsByPuzzleNumber;
+	}
+
 	/**
 	 * Generates a random UUID as a general-purpose ID.
 	 *
@@ -450,19 +558,107 @@ public class WebUtils {
 	}
 
 	/**
-	 * Gets the current puzzle number for the daily puzzle.
+	 * Gets the current puzzle number for the daily puzzle. It is derived from the
+	 * daily puzzle schedule, so no database writes are needed when the day rolls
+	 * over.
 	 *
 	 * @param webContext The WebContext associated with the request.
 	 * @return The current puzzle number for the daily puzzle, or -1 if not found.
 	 */
 	public static int dailyPuzzleNumberGet(WebContext webContext) {
-		Document result = helperCollectionGetByKey(webContext, COLLECTION_SERVER_STATUS, KEY_CURRENT_PUZZLE_NUMBER);
-		if (result != null && result.containsKey(KEY_CURRENT_PUZZLE_NUMBER)) {
-			return result.getInteger(KEY_CURRENT_PUZZLE_NUMBER, -1);
+		PuzzleSchedule schedule = dailyPuzzleScheduleGet(webContext);
+		if (schedule != null) {
+			return schedule.getPuzzleNumber(ZonedDateTime.now().toLocalDate());
 		}
 		return -1;
 	}
 
+	/**
+	 * Gets the daily puzzle schedule, which can be queried for the puzzle of any
+	 * past or future date. It is anchored on the last puzzle date and the puzzle
+	 * number of that date.
+	 *
+	 * @param webContext The WebContext associated with the request.
+	 * @return The daily puzzle schedule, or null if the database is not
+	 *         initialized.
+	 */
+	public static PuzzleSchedule dailyPuzzleScheduleGet(WebContext webContext) {
+		Document currentNumDoc = helperCollectionGetByKey(webContext, COLLECTION_SERVER_STATUS,
+				KEY_CURRENT_PUZZLE_NUMBER);
+		if (currentNumDoc == null) {
+			return null;
+		}
+
+		String lastPuzzleDate = currentNumDoc.getString(KEY_LAST_PUZZLE_DATE);
+		if (lastPuzzleDate == null) {
+			Document prevDateDoc = helperCollectionGetByKey(webContext, COLLECTION_SERVER_STATUS,
+					KEY_LAST_PUZZLE_DATE);
+			if (prevDateDoc != null) {
+				lastPuzzleDate = prevDateDoc.getString(KEY_LAST_PUZZLE_DATE);
+			}
+		}
+		LocalDate anchorDate = (lastPuzzleDate == null) ? ZonedDateTime.now().toLocalDate()
+				: helperStringToDate(lastPuzzleDate).toLocalDate();
+
+		Map<LocalDate, Integer> overrides = new HashMap<>();
+		Document overridesDoc = currentNumDoc.get(KEY_PUZZLE_OVERRIDES, Document.class);
+		if (overridesDoc != null) {
+			for (String dateString : overridesDoc.keySet()) {
+				overrides.put(LocalDate.parse(dateString), overridesDoc.getInteger(dateString));
+			}
+		}
+
+		return new PuzzleSchedule(anchorDate, currentNumDoc.getInteger(KEY_CURRENT_PUZZLE_NUMBER, -1),
+				dailyPuzzleCatalogGet(webContext), overrides);
+	}
+
+	/**
+	 * Gets the puzzle numbers of every game in the database, in ascending order.
+	 *
+	 * @param webContext The WebContext associated with the request.
+	 * @return The sorted puzzle numbers.
+	 */
+	public static int[] dailyPuzzleCatalogGet(WebContext webContext) {
+		int[] catalog = puzzleCatalogs.get(webContext.getMongoDatabase());
+		if (catalog == null) {
+			List<Integer> puzzleNumbers = new ArrayList<>();
+			for (Document gameDoc : helperCollectionGetAll(webContext, COLLECTION_GAMES)
+					.projection(new Document(GameData.KEY_PUZZLE_NUMBER, 1))) {
+				int puzzleNumber = gameDoc.getInteger(GameData.KEY_PUZZLE_NUMBER, -1);
+				if (puzzleNumber != -1) {
+					puzzleNumbers.add(puzzleNumber);
+				}
+			}
+			catalog = puzzleNumbers.stream().mapToInt(Integer::intValue).sorted().toArray();
+			puzzleCatalogs.put(webContext.getMongoDatabase(), catalog);
+		}
+		return catalog;
+	}
+
+	/**
+	 * Overrides the daily puzzle of the specified date without shifting the
+	 * puzzles of the other dates.
+	 *
+	 * @param webContext   The WebContext associated with the request.
+	 * @param date         The date to override.
+	 * @param puzzleNumber The puzzle number to play on that date.
+	 */
+	public static void dailyPuzzleOverrideSet(WebContext webContext, LocalDate date, int puzzleNumber) {
+		helperCollectionUpdate(webContext, COLLECTION_SERVER_STATUS, KEY_CURRENT_PUZZLE_NUMBER,
+				new Document("$exists", true), new Document(KEY_PUZZLE_OVERRIDES + "." + date, puzzleNumber));
+	}
+
+	/**
+	 * Removes the override of the daily puzzle of the specified date.
+	 *
+	 * @param webContext The WebContext associated with the request.
+	 * @param date       The date whose override is removed.
+	 */
+	public static void dailyPuzzleOverrideRemove(WebContext webContext, LocalDate date) {
+		helperCollectionUnset(webContext, COLLECTION_SERVER_STATUS, KEY_CURRENT_PUZZLE_NUMBER,
+				new Document("$exists", true), KEY_PUZZLE_OVERRIDES + "." + date);
+	}
+
 	/**
 	 * Rewinds the clock for the daily puzzle by the specified number of hours.
 	 *
@@ -480,28 +676,94 @@ public class WebUtils {
 	}
 
 	/**
-	 * Increments the daily puzzle number if needed based on the current date and
-	 * time.
+	 * Gets the store of the daily rollover state, to be advanced with
+	 * PuzzleRollover.rolloverIfNeeded().
 	 *
 	 * @param webContext The WebContext associated with the request.
+	 * @return The store of the daily rollover state.
 	 */
-	public static void dailyPuzzleNumberIncrementIfNeeded(WebContext webContext) {
-		Document prevDateDoc = helperCollectionGetByKey(webContext, COLLECTION_SERVER_STATUS, KEY_LAST_PUZZLE_DATE);
-		if (prevDateDoc != null) {
-			ZonedDateTime prevDate = helperStringToDate(prevDateDoc.getString(KEY_LAST_PUZZLE_DATE));
-			ZonedDateTime prevDateRoundedToDay = prevDate.toLocalDate().atStartOfDay(prevDate.getZone());
+	public static PuzzleRollover.Store dailyPuzzleRolloverStoreGet(WebContext webContext) {
+		return new DailyPuzzleStore(webContext);
+	}
 
-			ZonedDateTime currentDate = ZonedDateTime.now();
-			ZonedDateTime currentDateRoundedToDay = currentDate.toLocalDate().atStartOfDay(currentDate.getZone());
+	/**
+	 * Stores the daily rollover state in the server status collection. Databases
+	 * initialized by older versions keep the last puzzle date in a document of its
+	 * own; the first rollover moves it next to the puzzle number.
+	 */
+	private static class DailyPuzzleStore implements PuzzleRollover.Store {
+		private WebContext webContext;
+		private boolean legacyDate;
 
-			long daysBetween = ChronoUnit.DAYS.between(prevDateRoundedToDay, currentDateRoundedToDay);
+		/**
+		 * Constructs a DailyPuzzleStore for the specified WebContext.
+		 *
+		 * @param webContext The WebContext associated with the request.
+		 */
+		DailyPuzzleStore(WebContext webContext) {
+			this.webContext = webContext;
+		}
 
-			while (daysBetween > 0) {
-				dailyPuzzleNumberIncrement(webContext);
-				daysBetween--;
+		/**
+		 * Reads the last puzzle date and the current puzzle number.
+		 *
+		 * @return The rollover state, or null if the database is not initialized.
+		 */
+		@Override
+		public PuzzleRollover.State read() {
+			Document currentNumDoc = helperCollectionGetByKey(webContext, COLLECTION_SERVER_STATUS,
+					KEY_CURRENT_PUZZLE_NUMBER);
+			if (currentNumDoc == null) {
+				return null;
 			}
-			helperCollectionUpdateByKey(webContext, COLLECTION_SERVER_STATUS, KEY_LAST_PUZZLE_DATE,
-					helperDateToString(currentDate));
+
+			String lastPuzzleDate = currentNumDoc.getString(KEY_LAST_PUZZLE_DATE);
+			legacyDate = lastPuzzleDate == null;
+			if (legacyDate) {
+				Document prevDateDoc = helperCollectionGetByKey(webContext, COLLECTION_SERVER_STATUS,
+						KEY_LAST_PUZZLE_DATE);
+				if (prevDateDoc == null) {
+					return null;
+				}
+				lastPuzzleDate = prevDateDoc.getString(KEY_LAST_PUZZLE_DATE);
+			}
+			return new PuzzleRollover.State(lastPuzzleDate, currentNumDoc.getInteger(KEY_CURRENT_PUZZLE_NUMBER, -1));
+		}
+
+		/**
+		 * Updates the last puzzle date and the current puzzle number only if
+		 * neither has changed since they were read.
+		 *
+		 * @param expected The state that was read.
+		 * @param updated  The state to write.
+		 * @return True if this call performed the rollover, false otherwise.
+		 */
+		@Override
+		public boolean compareAndSet(PuzzleRollover.State expected, PuzzleRollover.State updated) {
+			Document expectedDoc = new Document(KEY_CURRENT_PUZZLE_NUMBER, expected.getPuzzleNumber());
+			expectedDoc.append(KEY_LAST_PUZZLE_DATE,
+					legacyDate ? new Document("$exists", false) : expected.getLastPuzzleDate());
+			Document updateDoc = new Document(KEY_CURRENT_PUZZLE_NUMBER, updated.getPuzzleNumber());
+			updateDoc.append(KEY_LAST_PUZZLE_DATE, updated.getLastPuzzleDate());
+
+			boolean updatedState = helperCollectionUpdateIf(webContext, COLLECTION_SERVER_STATUS, expectedDoc,
+					updateDoc);
+			if (updatedState && legacyDate) {
+				webContext.getMongoDatabase().getCollection(COLLECTION_SERVER_STATUS)
+						.deleteMany(new Document(KEY_LAST_PUZZLE_DATE, new Document("$exists", true))
+								.append(KEY_CURRENT_PUZZLE_NUMBER, new Document("$exists", false)));
+			}
+			return updatedState;
+		}
+
+		/**
+		 * Returns the puzzle numbers of every game, in ascending order.
+		 *
+		 * @return The sorted puzzle numbers.
+		 */
+		@Override
+		public int[] getCatalog() {
+			return dailyPuzzleCatalogGet(webContext);
 		}
 	}
 
@@ -554,6 +816,21 @@ public class WebUtils {
 		return false;
 	}
 
+	/**
+	 * Gets the number of minutes a browser tab may stay idle before its session
+	 * is hibernated.
+	 *
+	 * @param webContext The WebContext associated with the request.
+	 * @return The idle period in minutes, or 0 if sessions are never hibernated.
+	 */
+	public static int idleHibernateMinutesGet(WebContext webContext) {
+		Document idleDoc = helperCollectionGetByKey(webContext, COLLECTION_SERVER_STATUS, KEY_IDLE_HIBERNATE_MINUTES);
+		if (idleDoc != null) {
+			return idleDoc.getInteger(KEY_IDLE_HIBERNATE_MINUTES, DEFAULT_IDLE_HIBERNATE_MINUTES);
+		}
+		return DEFAULT_IDLE_HIBERNATE_MINUTES;
+	}
+
 	/**
 	 * Checks if the user's cookie is empty.
 	 *
@@ -561,7 +838,7 @@ public class WebUtils {
 	 * @return True if the user's cookie is empty, false otherwise.
 	 */
 	public static boolean cookieIsEmpty(WebContext webContext) {
-		return webContext.getWebAPI().getCookies().size() == 0;
+		return cookieGetMap(webContext).size() == 0;
 	}
 
 	/**
@@ -570,6 +847,10 @@ public class WebUtils {
 	 * @param webContext The WebContext associated with the request.
 	 */
 	public static void cookieClear(WebContext webContext) {
+		if (webContext.getWebAPI() == null) {
+			webContext.getLocalCookies().clear();
+			return;
+		}
 		ObservableMap<String, String> map = webContext.getWebAPI().getCookies();
 		for (String key : map.keySet()) {
 			webContext.getWebAPI().deleteCookie(key);
@@ -585,7 +866,7 @@ public class WebUtils {
 	 *         otherwise.
 	 */
 	public static boolean cookieContains(WebContext webContext, String key) {
-		return webContext.getWebAPI().getCookies().containsKey(key);
+		return cookieGetMap(webContext).containsKey(key);
 	}
 
 	/**
@@ -597,7 +878,7 @@ public class WebUtils {
 	 *         null if the key is not found.
 	 */
 	public static String cookieGet(WebContext webContext, String key) {
-		return webContext.getWebAPI().getCookies().get(key);
+		return cookieGetMap(webContext).get(key);
 	}
 
 	/**
@@ -608,6 +889,10 @@ public class WebUtils {
 	 * @param value      The value to set for the specified key.
 	 */
 	public static void cookieSet(WebContext webContext, String key, String value) {
+		if (webContext.getWebAPI() == null) {
+			webContext.getLocalCookies().put(key, value);
+			return;
+		}
 		webContext.getWebAPI().setCookie(key, value);
 	}
 
@@ -618,7 +903,12 @@ public class WebUtils {
 	 * @param key        The key to remove from the cookie.
 	 */
 	public static void cookieRemove(WebContext webContext, String key) {
-		if (cookieContains(webContext, key)) {
+		if (!cookieContains(webContext, key)) {
+			return;
+		}
+		if (webContext.getWebAPI() == null) {
+			webContext.getLocalCookies().remove(key);
+		} else {
 			webContext.getWebAPI().deleteCookie(key);
 		}
 	}
@@ -630,6 +920,9 @@ public class WebUtils {
 	 * @return A map of all the key-value pairs in the user's cookie.
 	 */
 	public static ObservableMap<String, String> cookieGetMap(WebContext webContext) {
+		if (webContext.getWebAPI() == null) {
+			return webContext.getLocalCookies();
+		}
 		return webContext.getWebAPI().getCookies();
 	}
 }
@@ -0,0 +1,118 @@
+package com.connections.benchmark;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import com.connections.web.WebFXMLController;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Measures the time a connection takes from ConnectionsAppWeb.start() to its
+ * first scene, comparing the old bootstrap (resolving webapp.fxml from the
+ * working directory and running an FXMLLoader to obtain the controller) with
+ * the current one (creating the controller directly).
+ *
+ * Connecting to the database and building ConnectionsHome happen after this
+ * point and are the same for both paths, so they are left out; the scene is
+ * built around an empty root instead. It needs a JavaFX platform and the
+ * webapp.fxml source file, so it is run as a program from the project
+ * directory:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes:&lt;javafx jars&gt; com.connections.benchmark.BenchmarkBootstrap
+ * </pre>
+ */
+public class BenchmarkBootstrap {
+	private static final int WARMUP_CONNECTIONS = 500;
+	private static final int MEASURED_CONNECTIONS = 5_000;
+	private static final String FXML_PATH = "src/main/resources/com/connections/web/fxml/webapp.fxml";
+
+	/**
+	 * The Bootstrap interface defines one way of getting a connection to its
+	 * first scene.
+	 */
+	private interface Bootstrap {
+
+		/**
+		 * Builds the controller and the first scene of a connection.
+		 *
+		 * @return the first scene
+		 */
+		Scene firstScene() throws Exception;
+	}
+
+	public static void main(String[] args) throws Exception {
+		CountDownLatch startup = new CountDownLatch(1);
+		Platform.startup(startup::countDown);
+		startup.await();
+
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		Platform.runLater(() -> {
+			try {
+				run();
+				done.complete(null);
+			} catch (Throwable e) {
+				done.completeExceptionally(e);
+			}
+		});
+		try {
+			done.get();
+		} finally {
+			Platform.exit();
+		}
+	}
+
+	private static void run() throws Exception {
+		if (!new File(FXML_PATH).exists()) {
+			throw new IllegalStateException("Run the benchmark from the project directory: " + FXML_PATH);
+		}
+
+		double fxmlMicros = measure(BenchmarkBootstrap::firstSceneWithFXML);
+		double directMicros = measure(BenchmarkBootstrap::firstSceneDirect);
+
+		System.out.printf("Connections: %d%n", MEASURED_CONNECTIONS);
+		System.out.printf("FXMLLoader bootstrap: %.1f us per connection%n", fxmlMicros);
+		System.out.printf("Direct bootstrap: %.1f us per connection%n", directMicros);
+		System.out.printf("Speedup: %.1fx%n", fxmlMicros / directMicros);
+	}
+
+	private static double measure(Bootstrap bootstrap) throws Exception {
+		for (int i = 0; i < WARMUP_CONNECTIONS; i++) {
+			bootstrap.firstScene();
+		}
+
+		long startNanos = System.nanoTime();
+		for (int i = 0; i < MEASURED_CONNECTIONS; i++) {
+			bootstrap.firstScene();
+		}
+		return (System.nanoTime() - startNanos) / 1_000.0 / MEASURED_CONNECTIONS;
+	}
+
+	private static Scene firstSceneWithFXML() throws Exception {
+		File fxmlFile = new File(FXML_PATH);
+		if (!fxmlFile.exists()) {
+			throw new IllegalStateException("FXML file could not be found");
+		}
+		FXMLLoader loader = new FXMLLoader(fxmlFile.toURI().toURL());
+		loader.load();
+		WebFXMLController controller = loader.getController();
+		return createScene(controller);
+	}
+
+	private static Scene firstSceneDirect() {
+		WebFXMLController controller = new WebFXMLController();
+		return createScene(controller);
+	}
+
+	private static Scene createScene(WebFXMLController controller) {
+		if (controller == null) {
+			throw new IllegalStateException("No controller was created");
+		}
+		return new Scene(new StackPane(), 800, 750);
+	}
+}
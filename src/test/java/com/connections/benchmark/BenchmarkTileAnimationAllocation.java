@@ -0,0 +1,355 @@
+package com.connections.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+
+import com.connections.model.DifficultyColor;
+import com.connections.test.GameFixtures;
+import com.connections.view_controller.CircularButton;
+import com.connections.view_controller.GameSession;
+import com.connections.view_controller.GameSessionContext;
+import com.connections.view_controller.GameTileWord;
+import com.connections.view_controller.StyleManager;
+import com.connections.view_controller.TileGridWord;
+import com.connections.web.ArchivePuzzle;
+import com.connections.web.WebContext;
+import com.connections.web.WebSession;
+import com.connections.web.WebSessionContext;
+import com.connections.web.WebUser;
+import com.connections.web.WebUserGuest;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.animation.ParallelTransition;
+import javafx.animation.SequentialTransition;
+import javafx.animation.TranslateTransition;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * Measures how much a round of tile animations allocates once the game is
+ * warmed up, and checks that the reused animations are retargeted correctly.
+ *
+ * Before measuring, two different incorrect guesses are submitted through a
+ * GameSession, which is how the game reuses its submission sequence, and each
+ * must mark and shake exactly the tiles that were submitted. The game session
+ * plays an archive puzzle, so it needs no database.
+ *
+ * A measured round then selects the four tiles of one row, a different row
+ * each round, builds the submission jump and shake, shows and ends a hint
+ * pulse on the selected tiles, and deselects them again, which is what the
+ * game does on every guess. Every round checks that the jump and shake target
+ * the tiles of that round and that the same animation objects are returned.
+ * The bytes allocated per round on the JavaFX application thread are printed.
+ *
+ * It needs a JavaFX platform, so it is run as a program rather than a test:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes:&lt;javafx jars&gt; com.connections.benchmark.BenchmarkTileAnimationAllocation
+ * </pre>
+ */
+public class BenchmarkTileAnimationAllocation {
+	private static final int WARMUP_ROUNDS = 2_000;
+	private static final int MEASURED_ROUNDS = 20_000;
+	private static final int ANIMATIONS_PER_ROUND = 4;
+	private static final int INCORRECT_GUESS_COUNT = 2;
+	private static final long TIMEOUT_SECONDS = 10;
+	private static final long POLL_MILLIS = 20;
+
+	// Filled in place so the benchmark itself does not allocate in a round.
+	private static final GameTileWord[] roundTileWords = new GameTileWord[TileGridWord.MAX_SELECTED];
+	private static final Animation[] roundAnimations = new Animation[ANIMATIONS_PER_ROUND];
+
+	public static void main(String[] args) throws Exception {
+		CountDownLatch startup = new CountDownLatch(1);
+		Platform.startup(startup::countDown);
+		startup.await();
+
+		try {
+			checkIncorrectSubmissions();
+			onFxThread(() -> {
+				measureRounds();
+				return null;
+			});
+		} finally {
+			Platform.exit();
+		}
+	}
+
+	/**
+	 * Submits two different incorrect guesses through a game session, and checks
+	 * that each one marks exactly the tiles that were submitted.
+	 */
+	private static void checkIncorrectSubmissions() throws Exception {
+		GameSession gameSession = onFxThread(BenchmarkTileAnimationAllocation::createArchiveGameSession);
+		TileGridWord tileGridWord = onFxThread(() -> findNode(gameSession, TileGridWord.class, null));
+		CircularButton classicButton = onFxThread(() -> findNode(gameSession, CircularButton.class, "Classic"));
+		CircularButton submitButton = onFxThread(() -> findNode(gameSession, CircularButton.class, "Submit"));
+		Node firstTile = onFxThread(() -> tileGridWord.gridGetNode(0, 0));
+
+		waitUntil("the game type options", () -> !classicButton.isDisabled());
+		onFxThread(() -> {
+			classicButton.fire();
+			return null;
+		});
+		waitUntil("the game to start", () -> !firstTile.isDisabled());
+
+		for (int guess = 0; guess < INCORRECT_GUESS_COUNT; guess++) {
+			int guessIndex = guess;
+			Set<GameTileWord> submittedTiles = onFxThread(() -> selectIncorrectGuess(tileGridWord, guessIndex));
+			Set<GameTileWord> markedTiles = new HashSet<>();
+			AnimationTimer markRecorder = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					for (int row = 0; row < TileGridWord.ROWS; row++) {
+						for (int col = 0; col < TileGridWord.COLS; col++) {
+							GameTileWord tileWord = (GameTileWord) tileGridWord.gridGetNode(row, col);
+							if (tileWord.getIncorrectStatus()) {
+								markedTiles.add(tileWord);
+							}
+						}
+					}
+				}
+			};
+
+			onFxThread(() -> {
+				markRecorder.start();
+				submitButton.fire();
+				return null;
+			});
+			// The sequence is over once the tiles have been marked, unmarked, deselected
+			// and enabled again.
+			waitUntil("the incorrect guess to be animated", () -> !markedTiles.isEmpty()
+					&& tileGridWord.getSelectedTileWordCount() == 0 && !firstTile.isDisabled()
+					&& !hasIncorrectTile(tileGridWord));
+			onFxThread(() -> {
+				markRecorder.stop();
+				return null;
+			});
+
+			if (!markedTiles.equals(submittedTiles)) {
+				throw new IllegalStateException("Incorrect guess " + (guess + 1) + " marked " + getWords(markedTiles)
+						+ " instead of " + getWords(submittedTiles));
+			}
+		}
+
+		onFxThread(() -> {
+			gameSession.close();
+			return null;
+		});
+		System.out.println("Incorrect guesses mark the submitted tiles: yes");
+	}
+
+	/**
+	 * Builds a game session for the sample puzzle in archive mode, for a guest
+	 * that only exists in memory.
+	 *
+	 * @return the game session
+	 */
+	private static GameSession createArchiveGameSession() {
+		WebContext webContext = new WebContext(null, null, null);
+		WebSession session = WebSession.createEmpty(webContext);
+		session.setUser(new WebUserGuest(webContext, new Document(WebUser.KEY_USER_ID, "benchmark-guest")
+				.append(WebUser.KEY_PLAYED_GAMES, new ArrayList<Document>())));
+		return new GameSession(new GameSessionContext(new StyleManager(),
+				new ArchivePuzzle(GameFixtures.createGameData(), null), webContext, new WebSessionContext(session)));
+	}
+
+	/**
+	 * Selects an incorrect guess the way clicks do: the tile at the specified
+	 * index within each of the four groups, so that every guess is incorrect and
+	 * every guess selects different tiles.
+	 *
+	 * @param tileGridWord the tile grid
+	 * @param guessIndex   the index of the guess
+	 * @return the selected tiles
+	 */
+	private static Set<GameTileWord> selectIncorrectGuess(TileGridWord tileGridWord, int guessIndex) {
+		Set<GameTileWord> selectedTiles = new HashSet<>();
+		for (DifficultyColor color : DifficultyColor.getAllColors()) {
+			int colorIndex = 0;
+			for (int row = 0; row < TileGridWord.ROWS; row++) {
+				for (int col = 0; col < TileGridWord.COLS; col++) {
+					GameTileWord tileWord = (GameTileWord) tileGridWord.gridGetNode(row, col);
+					if (tileWord.getWord().getColor() == color && colorIndex++ == guessIndex) {
+						tileWord.setSelectedStatus(true);
+						tileGridWord.incrementSelectedTileWordCount();
+						selectedTiles.add(tileWord);
+					}
+				}
+			}
+		}
+		return selectedTiles;
+	}
+
+	/**
+	 * Checks if any tile of the grid is marked as incorrect.
+	 *
+	 * @param tileGridWord the tile grid
+	 * @return true if a tile is marked as incorrect, false otherwise
+	 */
+	private static boolean hasIncorrectTile(TileGridWord tileGridWord) {
+		for (int row = 0; row < TileGridWord.ROWS; row++) {
+			for (int col = 0; col < TileGridWord.COLS; col++) {
+				if (((GameTileWord) tileGridWord.gridGetNode(row, col)).getIncorrectStatus()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the words of the specified tiles, for error messages.
+	 *
+	 * @param tileWords the tiles
+	 * @return the words of the tiles
+	 */
+	private static List<String> getWords(Set<GameTileWord> tileWords) {
+		List<String> words = new ArrayList<>();
+		for (GameTileWord tileWord : tileWords) {
+			words.add(tileWord.getWord().getText());
+		}
+		return words;
+	}
+
+	/**
+	 * Returns the first node under the specified root of the specified type, and
+	 * with the specified text if it is a button.
+	 *
+	 * @param root the root to search from
+	 * @param type the type of the node
+	 * @param text the text of the button, or null to match any node of the type
+	 * @return the node
+	 */
+	private static <T extends Node> T findNode(Parent root, Class<T> type, String text) {
+		Deque<Node> pending = new ArrayDeque<>();
+		pending.push(root);
+		while (!pending.isEmpty()) {
+			Node node = pending.pop();
+			if (type.isInstance(node) && (text == null || text.equals(((CircularButton) node).getText()))) {
+				return type.cast(node);
+			}
+			if (node instanceof Parent) {
+				pending.addAll(((Parent) node).getChildrenUnmodifiable());
+			}
+		}
+		throw new IllegalStateException("No " + type.getSimpleName() + " " + ((text == null) ? "" : text));
+	}
+
+	/**
+	 * Runs the specified action on the JavaFX application thread and waits for
+	 * its result.
+	 *
+	 * @param action the action
+	 * @return the result of the action
+	 */
+	private static <T> T onFxThread(Callable<T> action) throws Exception {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		Platform.runLater(() -> {
+			try {
+				result.complete(action.call());
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		});
+		return result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Waits until the specified condition, checked on the JavaFX application
+	 * thread, holds.
+	 *
+	 * @param description what is waited for, for the timeout message
+	 * @param condition   the condition
+	 */
+	private static void waitUntil(String description, Callable<Boolean> condition) throws Exception {
+		long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+		while (!onFxThread(condition)) {
+			if (System.nanoTime() > deadlineNanos) {
+				throw new IllegalStateException("Timed out waiting for " + description);
+			}
+			Thread.sleep(POLL_MILLIS);
+		}
+	}
+
+	private static void measureRounds() {
+		GameSessionContext gameSessionContext = new GameSessionContext(new StyleManager(),
+				GameFixtures.createGameData(), null, null);
+		TileGridWord tileGridWord = new TileGridWord(gameSessionContext);
+		tileGridWord.initTileWords(1L);
+
+		runRound(tileGridWord, 0);
+		Animation firstJump = roundAnimations[0];
+		Animation firstShake = roundAnimations[1];
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			runRound(tileGridWord, i);
+		}
+
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long threadID = Thread.currentThread().getId();
+		long allocatedBefore = threadBean.getThreadAllocatedBytes(threadID);
+		for (int i = 0; i < MEASURED_ROUNDS; i++) {
+			runRound(tileGridWord, i);
+		}
+		long allocatedAfter = threadBean.getThreadAllocatedBytes(threadID);
+
+		if (firstJump != roundAnimations[0] || firstShake != roundAnimations[1]) {
+			throw new IllegalStateException("A new jump or shake transition was built");
+		}
+
+		System.out.printf("Rounds: %d%n", MEASURED_ROUNDS);
+		System.out.printf("Allocated per round: %.1f bytes%n",
+				(double) (allocatedAfter - allocatedBefore) / MEASURED_ROUNDS);
+		System.out.println("Animations retargeted to the tiles of every round: yes");
+	}
+
+	private static void runRound(TileGridWord tileGridWord, int round) {
+		int row = round % TileGridWord.ROWS;
+		for (int col = 0; col < TileGridWord.COLS; col++) {
+			roundTileWords[col] = (GameTileWord) tileGridWord.gridGetNode(row, col);
+			roundTileWords[col].setSelectedStatus(true);
+		}
+
+		roundAnimations[0] = tileGridWord.getTransitionTileWordJump();
+		checkTargets("jump", (ParallelTransition) roundAnimations[0], round);
+		roundAnimations[1] = tileGridWord.getTransitionTileWordShake();
+		checkTargets("shake", (ParallelTransition) ((SequentialTransition) roundAnimations[1]).getChildren().get(1),
+				round);
+		roundAnimations[2] = roundTileWords[0].getHintPulseAnimation();
+		roundAnimations[3] = roundTileWords[0].getHintReturnNormalAnimation();
+
+		tileGridWord.deselectTileWords();
+	}
+
+	/**
+	 * Checks that the specified transition animates exactly the tiles selected in
+	 * this round, in grid order.
+	 *
+	 * @param name       the name of the transition, for the error message
+	 * @param transition the transition holding one translate transition per tile
+	 * @param round      the round, for the error message
+	 */
+	private static void checkTargets(String name, ParallelTransition transition, int round) {
+		boolean targetsMatch = transition.getChildren().size() == roundTileWords.length;
+		for (int i = 0; targetsMatch && i < roundTileWords.length; i++) {
+			targetsMatch = ((TranslateTransition) transition.getChildren().get(i)).getNode() == roundTileWords[i];
+		}
+		if (!targetsMatch) {
+			throw new IllegalStateException("The " + name + " of round " + round + " targets the wrong tiles");
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.connections.benchmark.jmh;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.bson.Document;
+
+import com.connections.model.GameBoard;
+import com.connections.model.PlayedGameInfo;
+import com.connections.model.PlayedGameInfoClassic;
+import com.connections.model.Word;
+import com.connections.test.GameFixtures;
+import com.connections.web.WebUser;
+import com.connections.web.WebUserAccount;
+
+/**
+ * Builds the sample data shared by the JMH benchmarks. Everything is built in
+ * memory from a fixed seed, so the benchmarks need neither a database nor a
+ * JavaFX display, and every run measures the same data.
+ */
+final class BenchmarkData {
+	static final long SEED = 42L;
+
+	private BenchmarkData() {
+	}
+
+	/**
+	 * Returns the board masks of random four-word guesses.
+	 *
+	 * @param guessCount the number of guesses
+	 * @param random     the random source
+	 * @return the guess masks
+	 */
+	static int[] createGuessMasks(int guessCount, SplittableRandom random) {
+		int[] masks = new int[guessCount];
+		for (int i = 0; i < guessCount; i++) {
+			int mask = 0;
+			while (Integer.bitCount(mask) < GameBoard.GROUP_SIZE) {
+				mask |= 1 << random.nextInt(GameBoard.WORD_COUNT);
+			}
+			masks[i] = mask;
+		}
+		return masks;
+	}
+
+	/**
+	 * Returns random four-word guesses on the specified board.
+	 *
+	 * @param gameBoard  the game board
+	 * @param guessCount the number of guesses
+	 * @param random     the random source
+	 * @return the guesses
+	 */
+	static List<Set<Word>> createGuesses(GameBoard gameBoard, int guessCount, SplittableRandom random) {
+		List<Set<Word>> guesses = new ArrayList<>();
+		for (int mask : createGuessMasks(guessCount, random)) {
+			guesses.add(gameBoard.getWords(mask));
+		}
+		return guesses;
+	}
+
+	/**
+	 * Returns the 4x4 grid of the specified board, in board order.
+	 *
+	 * @param gameBoard the game board
+	 * @return the grid
+	 */
+	static List<List<Word>> createGrid(GameBoard gameBoard) {
+		List<List<Word>> grid = new ArrayList<>();
+		for (int row = 0; row < GameBoard.GROUP_COUNT; row++) {
+			List<Word> gridRow = new ArrayList<>();
+			for (int col = 0; col < GameBoard.GROUP_SIZE; col++) {
+				gridRow.add(gameBoard.getWord(row * GameBoard.GROUP_SIZE + col));
+			}
+			grid.add(gridRow);
+		}
+		return grid;
+	}
+
+	/**
+	 * Returns a finished classic game with the specified number of guesses.
+	 *
+	 * @param gameBoard    the game board
+	 * @param puzzleNumber the puzzle number of the game
+	 * @param guessCount   the number of guesses
+	 * @param random       the random source
+	 * @return the played game
+	 */
+	static PlayedGameInfo createPlayedGame(GameBoard gameBoard, int puzzleNumber, int guessCount,
+			SplittableRandom random) {
+		ZonedDateTime gameEndTime = ZonedDateTime.now();
+		return new PlayedGameInfoClassic(puzzleNumber, guessCount / 2, 1, GameBoard.GROUP_COUNT,
+				createGuesses(gameBoard, guessCount, random), true, gameEndTime.minusMinutes(5), gameEndTime);
+	}
+
+	/**
+	 * Returns an account that has played the specified number of games.
+	 *
+	 * @param userID       the ID of the user
+	 * @param historyCount the number of played games
+	 * @param random       the random source
+	 * @return the account
+	 */
+	static WebUser createUser(String userID, int historyCount, SplittableRandom random) {
+		GameBoard gameBoard = new GameBoard(GameFixtures.createGameData(1));
+		List<Document> playedGameDocs = new ArrayList<>();
+		for (int i = 0; i < historyCount; i++) {
+			playedGameDocs.add(createPlayedGame(gameBoard, i + 1, 4 + random.nextInt(4), random).getAsDatabaseFormat());
+		}
+
+		Document doc = new Document();
+		doc.append(WebUser.KEY_USER_ID, userID);
+		doc.append(WebUser.KEY_PLAYED_GAMES, playedGameDocs);
+		doc.append("regular_games_completed", random.nextInt(historyCount + 1));
+		doc.append("time_trials_completed", random.nextInt(historyCount + 1));
+		doc.append("no_mistakes_completed", random.nextInt(historyCount + 1));
+		doc.append("time_trials_under_time_completed", random.nextInt(historyCount + 1));
+		doc.append(WebUser.KEY_HAS_LATEST_SAVE_STATE, false);
+		doc.append(WebUser.KEY_DARK_MODE, false);
+		return new WebUserAccount(null, doc);
+	}
+}
@@ -0,0 +1,82 @@
+package com.connections.benchmark.jmh;
+
+import java.time.ZonedDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.connections.model.GameBoard;
+import com.connections.model.GameData;
+import com.connections.model.GameSaveState;
+import com.connections.model.PlayedGameInfo;
+import com.connections.test.GameFixtures;
+import com.connections.view_controller.GameSession;
+import com.connections.web.WebUser;
+import com.connections.web.WebUserAccount;
+
+/**
+ * Measures a DatabaseFormattable round trip (writing an object to a Document
+ * and reading it back) for the objects that are saved and loaded on every
+ * game. The history count is the number of guesses of a save state or played
+ * game, and the number of played games of a user.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkDatabaseFormat {
+	@Param({ "10", "100", "1000" })
+	public int historyCount;
+
+	private GameData gameData;
+	private GameSaveState gameSaveState;
+	private PlayedGameInfo playedGameInfo;
+	private WebUser user;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+		gameData = GameFixtures.createGameData(1);
+		GameBoard gameBoard = new GameBoard(gameData);
+
+		ZonedDateTime now = ZonedDateTime.now();
+		gameSaveState = new GameSaveState(false, GameSession.GameType.CLASSIC, 2, 1, 1,
+				BenchmarkData.createGrid(gameBoard), BenchmarkData.createGuesses(gameBoard, historyCount, random),
+				now.minusMinutes(5), now);
+		playedGameInfo = BenchmarkData.createPlayedGame(gameBoard, 1, historyCount, random);
+		user = BenchmarkData.createUser("benchmark-user", historyCount, random);
+	}
+
+	@Benchmark
+	public GameData gameDataRoundTrip() {
+		return new GameData(gameData.getAsDatabaseFormat());
+	}
+
+	@Benchmark
+	public GameSaveState gameSaveStateRoundTrip() {
+		return new GameSaveState(gameSaveState.getAsDatabaseFormat());
+	}
+
+	@Benchmark
+	public PlayedGameInfo playedGameInfoRoundTrip() {
+		return PlayedGameInfo.getGameInfoFromDatabaseFormat(playedGameInfo.getAsDatabaseFormat());
+	}
+
+	@Benchmark
+	public WebUser webUserRoundTrip() {
+		return new WebUserAccount(null, user.getAsDatabaseFormat());
+	}
+}
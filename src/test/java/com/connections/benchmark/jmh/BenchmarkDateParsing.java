@@ -0,0 +1,48 @@
+package com.connections.benchmark.jmh;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.connections.web.WebUtils;
+
+/**
+ * Measures the conversion of dates to and from the strings stored in the
+ * database, which runs for every date of every saved game and played game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkDateParsing {
+	private ZonedDateTime date;
+	private String dateString;
+
+	@Setup
+	public void setup() {
+		date = ZonedDateTime.now();
+		dateString = WebUtils.helperDateToString(date);
+	}
+
+	@Benchmark
+	public ZonedDateTime helperStringToDate() {
+		return WebUtils.helperStringToDate(dateString);
+	}
+
+	@Benchmark
+	public String helperDateToString() {
+		return WebUtils.helperDateToString(date);
+	}
+}
@@ -0,0 +1,83 @@
+package com.connections.benchmark.jmh;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.connections.model.GameBoard;
+import com.connections.model.GameBoardState;
+import com.connections.model.Word;
+import com.connections.test.GameFixtures;
+
+/**
+ * Measures the guess checks of TileGridWord. TileGridWord is a JavaFX node, so
+ * the checks are measured on the GameBoard and GameBoardState it delegates
+ * them to: matching a guess against the answers, counting its best match, and
+ * looking it up in the guess history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkGuessCheck {
+	private static final int SAMPLE_COUNT = 64;
+
+	@Param({ "4", "16", "64" })
+	public int guessCount;
+
+	private GameBoard gameBoard;
+	private GameBoardState gameBoardState;
+	private List<Set<Word>> sampleGuesses;
+	private int[] sampleMasks;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+		gameBoard = new GameBoard(GameFixtures.createGameData(1));
+		gameBoardState = new GameBoardState(gameBoard);
+		gameBoardState.loadGuesses(BenchmarkData.createGuesses(gameBoard, guessCount, random));
+		sampleGuesses = BenchmarkData.createGuesses(gameBoard, SAMPLE_COUNT, random);
+		sampleMasks = BenchmarkData.createGuessMasks(SAMPLE_COUNT, random);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public void checkMatchingColor(Blackhole blackhole) {
+		for (Set<Word> guess : sampleGuesses) {
+			blackhole.consume(gameBoard.getMatchingColor(gameBoard.getMask(guess)));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public void checkNumWordsMatch(Blackhole blackhole) {
+		for (Set<Word> guess : sampleGuesses) {
+			blackhole.consume(gameBoard.countBestMatch(gameBoard.getMask(guess)));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public void checkAlreadyGuessed(Blackhole blackhole) {
+		for (int mask : sampleMasks) {
+			blackhole.consume(gameBoardState.isGuessed(mask));
+		}
+	}
+}
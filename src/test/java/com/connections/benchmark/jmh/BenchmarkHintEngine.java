@@ -0,0 +1,83 @@
+package com.connections.benchmark.jmh;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.connections.model.GameBoard;
+import com.connections.model.HintEngine;
+import com.connections.model.HintLevel;
+import com.connections.test.GameFixtures;
+
+/**
+ * Measures hint computation for random board states: computing a hint plan
+ * from scratch, as for the first player to ask for a hint on a board state,
+ * and serving a hint from the plan cache, as for everyone after.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkHintEngine {
+	private static final int SAMPLE_COUNT = 64;
+
+	private GameBoard gameBoard;
+	private HintEngine cachedHintEngine;
+	private int[] solvedGroupMasks;
+	private int[] selectedMasks;
+	private HintLevel[] levels;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+		gameBoard = new GameBoard(GameFixtures.createGameData(1));
+		solvedGroupMasks = new int[SAMPLE_COUNT];
+		selectedMasks = new int[SAMPLE_COUNT];
+		levels = new HintLevel[SAMPLE_COUNT];
+
+		HintLevel[] allLevels = HintLevel.values();
+		for (int i = 0; i < SAMPLE_COUNT; i++) {
+			// Leave at least one group unsolved, so that there is a hint to give.
+			solvedGroupMasks[i] = random.nextInt(GameBoard.ALL_GROUPS_MASK);
+			selectedMasks[i] = random.nextInt(GameBoard.ALL_WORDS_MASK + 1)
+					& random.nextInt(GameBoard.ALL_WORDS_MASK + 1);
+			levels[i] = allLevels[random.nextInt(allLevels.length)];
+		}
+
+		cachedHintEngine = new HintEngine(gameBoard);
+		for (int i = 0; i < SAMPLE_COUNT; i++) {
+			cachedHintEngine.getPlan(solvedGroupMasks[i], selectedMasks[i]);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public void computePlan(Blackhole blackhole) {
+		HintEngine hintEngine = new HintEngine(gameBoard);
+		for (int i = 0; i < SAMPLE_COUNT; i++) {
+			blackhole.consume(hintEngine.getPlan(solvedGroupMasks[i], selectedMasks[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public void getCachedHint(Blackhole blackhole) {
+		for (int i = 0; i < SAMPLE_COUNT; i++) {
+			blackhole.consume(cachedHintEngine.getHint(solvedGroupMasks[i], selectedMasks[i], levels[i]));
+		}
+	}
+}
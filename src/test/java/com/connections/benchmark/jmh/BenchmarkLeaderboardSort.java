@@ -0,0 +1,56 @@
+package com.connections.benchmark.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.connections.web.WebUser;
+
+/**
+ * Measures sorting the users for the leaderboard by their achievement counts.
+ * Each invocation sorts a fresh copy of the same shuffled users, so the copy is
+ * included in the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkLeaderboardSort {
+	private static final int HISTORY_COUNT = 20;
+
+	@Param({ "100", "1000", "10000" })
+	public int userCount;
+
+	private List<WebUser> users;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+		users = new ArrayList<>();
+		for (int i = 0; i < userCount; i++) {
+			users.add(BenchmarkData.createUser("benchmark-user-" + i, HISTORY_COUNT, random));
+		}
+	}
+
+	@Benchmark
+	public List<WebUser> sortByAchievementCount() {
+		List<WebUser> sortedUsers = new ArrayList<>(users);
+		WebUser.sortByAchievementCount(sortedUsers);
+		return sortedUsers;
+	}
+}
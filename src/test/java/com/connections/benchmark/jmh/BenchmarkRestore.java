@@ -0,0 +1,118 @@
+package com.connections.benchmark.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.connections.model.GameBoard;
+import com.connections.model.GameBoardState;
+import com.connections.model.GridLayout;
+import com.connections.model.Word;
+import com.connections.simulation.SimulatedGame;
+import com.connections.test.GameFixtures;
+
+/**
+ * Measures restoring a game from its saved guesses and grid, for growing guess
+ * histories. The two headless phases of the restore used by TileGridWord are
+ * measured apart: decoding the guesses into board masks, which costs one hash
+ * lookup per guessed word, and computing the grid layout, which should stay
+ * flat as the guess count grows. Applying the layout to the grid always
+ * touches the same sixteen cells.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkRestore {
+	@Param({ "0", "1", "2", "4", "8", "16", "32", "64" })
+	public int guessCount;
+
+	private GameBoardState gameBoardState;
+	private GridLayout gridLayout;
+	private List<Set<Word>> guesses;
+	private List<List<Word>> gridWords;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+		GameBoard gameBoard = new GameBoard(GameFixtures.createGameData(1));
+		gameBoardState = new GameBoardState(gameBoard);
+		gridLayout = new GridLayout();
+		guesses = createGuesses(gameBoard, guessCount, random);
+		gridWords = createSolvedYellowGrid(gameBoard);
+
+		// The layout is computed from the guesses loaded by the decode phase.
+		gameBoardState.loadGuesses(guesses);
+	}
+
+	@Benchmark
+	public int decodeGuesses() {
+		gameBoardState.loadGuesses(guesses);
+		return gameBoardState.getSolvedGroupMask();
+	}
+
+	@Benchmark
+	public int layoutGrid() {
+		gridLayout.loadInProgress(gameBoardState, gridWords);
+		return gridLayout.getAnsweredRowCount() + gridLayout.getWordIndex(GridLayout.ROWS - 1, 0);
+	}
+
+	/**
+	 * Returns a guess history of the specified length that solves the yellow
+	 * group last and makes incorrect guesses before it.
+	 *
+	 * @param gameBoard  the game board
+	 * @param guessCount the number of guesses
+	 * @param random     the random source
+	 * @return the guess history
+	 */
+	private static List<Set<Word>> createGuesses(GameBoard gameBoard, int guessCount, SplittableRandom random) {
+		List<Set<Word>> guesses = new ArrayList<>();
+		for (int i = 0; i < guessCount - 1; i++) {
+			int mask;
+			do {
+				mask = SimulatedGame.randomSubset(GameBoard.ALL_WORDS_MASK, GameBoard.GROUP_SIZE, random);
+			} while (gameBoard.getMatchingGroup(mask) >= 0);
+			guesses.add(gameBoard.getWords(mask));
+		}
+		if (guessCount > 0) {
+			guesses.add(gameBoard.getWords(gameBoard.getAnswerMask(0)));
+		}
+		return guesses;
+	}
+
+	/**
+	 * Returns the saved grid of a game where the yellow group is solved.
+	 *
+	 * @param gameBoard the game board
+	 * @return the saved words of every row
+	 */
+	private static List<List<Word>> createSolvedYellowGrid(GameBoard gameBoard) {
+		List<List<Word>> gridWords = new ArrayList<>();
+		gridWords.add(new ArrayList<>());
+		for (int group = 1; group < GameBoard.GROUP_COUNT; group++) {
+			List<Word> wordsOnRow = new ArrayList<>();
+			for (int col = 0; col < GridLayout.COLS; col++) {
+				wordsOnRow.add(gameBoard.getWord(group * GameBoard.GROUP_SIZE + col));
+			}
+			gridWords.add(wordsOnRow);
+		}
+		return gridWords;
+	}
+}
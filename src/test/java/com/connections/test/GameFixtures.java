@@ -0,0 +1,57 @@
+package com.connections.test;
+
+import java.util.Map;
+
+import com.connections.model.DifficultyColor;
+import com.connections.model.GameAnswerColor;
+import com.connections.model.GameBoard;
+import com.connections.model.GameData;
+
+/**
+ * Builds the sample puzzle shared by the tests and benchmarks. The words of
+ * each group are in board order, so the yellow group is board mask 0x000F,
+ * green 0x00F0, blue 0x0F00 and purple 0xF000.
+ */
+public final class GameFixtures {
+	public static final int PUZZLE_NUMBER = 123;
+
+	private GameFixtures() {
+	}
+
+	/**
+	 * Returns the sample puzzle with the specified puzzle number.
+	 *
+	 * @param puzzleNumber the puzzle number
+	 * @return the sample game data
+	 */
+	public static GameData createGameData(int puzzleNumber) {
+		String[] yellowWords = { "sun", "lemon", "banana", "gold" };
+		String[] greenWords = { "apple", "pear", "orange", "peach" };
+		String[] blueWords = { "cucumber", "carrot", "potato", "eggplant" };
+		String[] purpleWords = { "milk", "juice", "soda", "punch" };
+		Map<DifficultyColor, GameAnswerColor> answerMap = Map.of(DifficultyColor.YELLOW,
+				new GameAnswerColor(DifficultyColor.YELLOW, "Sunny", yellowWords), DifficultyColor.GREEN,
+				new GameAnswerColor(DifficultyColor.GREEN, "Fruity", greenWords), DifficultyColor.BLUE,
+				new GameAnswerColor(DifficultyColor.BLUE, "Vegetables", blueWords), DifficultyColor.PURPLE,
+				new GameAnswerColor(DifficultyColor.PURPLE, "Drinks", purpleWords));
+		return new GameData(answerMap, puzzleNumber);
+	}
+
+	/**
+	 * Returns the sample puzzle with the default puzzle number.
+	 *
+	 * @return the sample game data
+	 */
+	public static GameData createGameData() {
+		return createGameData(PUZZLE_NUMBER);
+	}
+
+	/**
+	 * Returns the board of the sample puzzle.
+	 *
+	 * @return the sample game board
+	 */
+	public static GameBoard createGameBoard() {
+		return new GameBoard(createGameData());
+	}
+}
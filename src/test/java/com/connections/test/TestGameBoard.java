@@ -0,0 +1,69 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.DifficultyColor;
+import com.connections.model.GameBoard;
+import com.connections.model.Word;
+
+public class TestGameBoard {
+	@Test
+	void testAnswerMasks() {
+		GameBoard gameBoard = GameFixtures.createGameBoard();
+
+		assertEquals(0x000F, gameBoard.getAnswerMask(DifficultyColor.YELLOW));
+		assertEquals(0x00F0, gameBoard.getAnswerMask(DifficultyColor.GREEN));
+		assertEquals(0x0F00, gameBoard.getAnswerMask(DifficultyColor.BLUE));
+		assertEquals(0xF000, gameBoard.getAnswerMask(DifficultyColor.PURPLE));
+	}
+
+	@Test
+	void testWordMask() {
+		GameBoard gameBoard = GameFixtures.createGameBoard();
+
+		assertEquals(1 << 1, gameBoard.getWordMask(new Word("lemon", DifficultyColor.YELLOW)));
+		assertEquals(1 << 15, gameBoard.getWordMask(new Word("punch", DifficultyColor.PURPLE)));
+		assertEquals(0, gameBoard.getWordMask(new Word("lemon", DifficultyColor.GREEN)));
+		assertEquals(0, gameBoard.getWordMask(null));
+	}
+
+	@Test
+	void testCountBestMatch() {
+		GameBoard gameBoard = GameFixtures.createGameBoard();
+
+		int oneAway = gameBoard.getMask(Set.of(new Word("sun", DifficultyColor.YELLOW),
+				new Word("lemon", DifficultyColor.YELLOW), new Word("banana", DifficultyColor.YELLOW),
+				new Word("milk", DifficultyColor.PURPLE)));
+
+		assertEquals(3, gameBoard.countBestMatch(oneAway));
+		assertEquals(4, gameBoard.countBestMatch(0x0F00));
+		assertEquals(0, gameBoard.countBestMatch(0));
+	}
+
+	@Test
+	void testGetMatchingColor() {
+		GameBoard gameBoard = GameFixtures.createGameBoard();
+
+		assertEquals(DifficultyColor.GREEN, gameBoard.getMatchingColor(0x00F0));
+		assertEquals(1, gameBoard.getMatchingGroup(0x00F0));
+		assertNull(gameBoard.getMatchingColor(0x00F1));
+		assertEquals(-1, gameBoard.getMatchingGroup(0x00F1));
+	}
+
+	@Test
+	void testGetWordsRoundTrip() {
+		GameBoard gameBoard = GameFixtures.createGameBoard();
+
+		Set<Word> words = gameBoard.getWords(0xF000);
+
+		assertEquals(4, words.size());
+		assertTrue(words.contains(new Word("juice", DifficultyColor.PURPLE)));
+		assertEquals(0xF000, gameBoard.getMask(words));
+	}
+}
@@ -0,0 +1,70 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.GameBoard;
+import com.connections.model.GameBoardState;
+import com.connections.model.Word;
+
+public class TestGameBoardState {
+	@Test
+	void testSubmitResults() {
+		GameBoardState state = new GameBoardState(GameFixtures.createGameBoard());
+
+		state.setSelectedMask(0x0007 | 0x1000);
+		assertEquals(GameBoardState.SubmitResult.ONE_AWAY, state.submitSelected());
+
+		state.setSelectedMask(0x0007 | 0x1000);
+		assertEquals(GameBoardState.SubmitResult.ALREADY_GUESSED, state.submitSelected());
+
+		state.setSelectedMask(0x0033);
+		assertEquals(GameBoardState.SubmitResult.INCORRECT, state.submitSelected());
+
+		state.setSelectedMask(0x00F0);
+		assertEquals(GameBoardState.SubmitResult.CORRECT, state.submitSelected());
+
+		assertEquals(3, state.getGuessCount());
+		assertEquals(0b0010, state.getSolvedGroupMask());
+		assertEquals(GameBoard.ALL_WORDS_MASK & ~0x00F0, state.getRemainingMask());
+	}
+
+	@Test
+	void testSelection() {
+		GameBoardState state = new GameBoardState(GameFixtures.createGameBoard());
+
+		state.setSelected(1 << 3, true);
+		state.setSelected(1 << 4, true);
+		state.setSelected(1 << 3, false);
+
+		assertEquals(1 << 4, state.getSelectedMask());
+		state.clearSelection();
+		assertEquals(0, state.getSelectedMask());
+	}
+
+	@Test
+	void testLoadGuessesRoundTrip() {
+		GameBoardState state = new GameBoardState(GameFixtures.createGameBoard());
+		Set<Word> purple = state.getGameBoard().getWords(0xF000);
+		Set<Word> mixed = state.getGameBoard().getWords(0x0101 | 0x0022);
+
+		state.loadGuesses(List.of(mixed, purple));
+
+		assertEquals(2, state.getGuessCount());
+		assertEquals(0x0123, state.getGuessMask(0));
+		assertEquals(0b1000, state.getSolvedGroupMask());
+		assertTrue(state.isGuessed(0xF000));
+		assertFalse(state.isAllGroupsSolved());
+		assertEquals(List.of(mixed, purple), state.getGuesses());
+
+		state.reset();
+		assertEquals(0, state.getGuessCount());
+		assertEquals(0, state.getSolvedGroupMask());
+	}
+}
@@ -0,0 +1,73 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.GameBoard;
+import com.connections.model.GameEvent;
+import com.connections.model.GameEventLog;
+import com.connections.model.GameReplay;
+import com.connections.model.GameSaveState;
+import com.connections.model.GridLayout;
+import com.connections.view_controller.GameSession;
+
+public class TestGameEventLog {
+	@Test
+	void testReplayCountsMistakesAndHints() {
+		GameBoard gameBoard = GameFixtures.createGameBoard();
+		ZonedDateTime startTime = ZonedDateTime.now();
+		GameEventLog log = new GameEventLog(123, GameSession.GameType.CLASSIC, startTime);
+		log.addEvent(GameEvent.EventType.START, 7, startTime);
+		log.addEvent(GameEvent.EventType.SUBMIT, 0x0123, startTime.plusSeconds(5));
+		log.addEvent(GameEvent.EventType.HINT, 0, startTime.plusSeconds(6));
+		log.addEvent(GameEvent.EventType.SUBMIT, 0x00F0, startTime.plusSeconds(9));
+
+		GameReplay replay = log.replay(gameBoard);
+
+		assertEquals(1, replay.getMistakesMade());
+		assertEquals(1, replay.getHintsUsed());
+		assertEquals(1, replay.getSolvingRow());
+		assertEquals(GridLayout.EMPTY, replay.getCell(0, 0));
+		assertEquals(9000, log.getEvents().get(3).getElapsedMillis());
+
+		int remainingMask = 0;
+		for (int row = 1; row < GridLayout.ROWS; row++) {
+			for (int col = 0; col < GridLayout.COLS; col++) {
+				remainingMask |= 1 << replay.getCell(row, col);
+			}
+		}
+		assertEquals(GameBoard.ALL_WORDS_MASK & ~0x00F0, remainingMask);
+	}
+
+	@Test
+	void testSnapshotMatchesFullReplay() {
+		GameBoard gameBoard = GameFixtures.createGameBoard();
+		ZonedDateTime startTime = ZonedDateTime.now();
+		GameEventLog log = new GameEventLog(123, GameSession.GameType.CLASSIC, startTime);
+		log.addEvent(GameEvent.EventType.START, 11, startTime);
+		for (int i = 0; i < GameEventLog.SNAPSHOT_INTERVAL; i++) {
+			log.addEvent(GameEvent.EventType.SHUFFLE, i, startTime.plusSeconds(i));
+		}
+		log.addEvent(GameEvent.EventType.SUBMIT, 0xF000, startTime.plusSeconds(60));
+
+		assertTrue(log.needsSnapshot());
+		GameSaveState fullReplay = log.toSaveState(gameBoard);
+		log.takeSnapshot(gameBoard);
+		log.addEvent(GameEvent.EventType.SHUFFLE, 99, startTime.plusSeconds(61));
+
+		GameReplay fromSnapshot = log.replay(gameBoard);
+		GameReplay fromStart = new GameReplay(gameBoard);
+		fromStart.applyAll(log.getEvents(), 0);
+
+		assertTrue(fullReplay.getGrid().get(0).isEmpty());
+		for (int row = 0; row < GridLayout.ROWS; row++) {
+			for (int col = 0; col < GridLayout.COLS; col++) {
+				assertEquals(fromStart.getCell(row, col), fromSnapshot.getCell(row, col));
+			}
+		}
+	}
+}
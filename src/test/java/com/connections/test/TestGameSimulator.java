@@ -0,0 +1,55 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.GameData;
+import com.connections.simulation.GameSimulator;
+import com.connections.simulation.GreedyHintBotStrategy;
+import com.connections.simulation.PerfectBotStrategy;
+import com.connections.simulation.RandomBotStrategy;
+import com.connections.simulation.SimulationReport;
+
+public class TestGameSimulator {
+	private static final int GAME_COUNT = 2_000;
+
+	private List<GameData> createCatalog() {
+		return List.of(GameFixtures.createGameData(1), GameFixtures.createGameData(2));
+	}
+
+	@Test
+	void testPerfectBotWinsWithoutMistakes() {
+		SimulationReport report = new GameSimulator(createCatalog(), new PerfectBotStrategy()).run(GAME_COUNT, 1);
+
+		assertEquals(GAME_COUNT, report.getTotalGames());
+		assertEquals(GAME_COUNT, report.getTotalWins());
+		assertEquals(GAME_COUNT / 2, report.getMistakesCount(0, 0));
+		assertEquals(GAME_COUNT / 2, report.getHintsCount(1, 0));
+	}
+
+	@Test
+	void testGreedyBotUsesAllHints() {
+		SimulationReport report = new GameSimulator(createCatalog(), new GreedyHintBotStrategy()).run(GAME_COUNT, 1);
+
+		// the fourth hint reveals a full group, so the bot always solves at least one
+		long usedAllHints = report.getHintsCount(0, 4) + report.getHintsCount(1, 4);
+		assertTrue(usedAllHints > 0);
+		assertTrue(report.getTotalWins() > 0);
+	}
+
+	@Test
+	void testRunsAreRepeatable() {
+		GameSimulator simulator = new GameSimulator(createCatalog(), new RandomBotStrategy());
+		SimulationReport first = simulator.run(GAME_COUNT, 7);
+		SimulationReport second = simulator.run(GAME_COUNT, 7);
+
+		assertEquals(first.getTotalWins(), second.getTotalWins());
+		for (int mistakes = 0; mistakes <= 4; mistakes++) {
+			assertEquals(first.getMistakesCount(0, mistakes), second.getMistakesCount(0, mistakes));
+		}
+	}
+}
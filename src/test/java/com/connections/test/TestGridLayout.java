@@ -0,0 +1,62 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.DifficultyColor;
+import com.connections.model.GameBoard;
+import com.connections.model.GameBoardState;
+import com.connections.model.GridLayout;
+import com.connections.model.Word;
+
+public class TestGridLayout {
+	@Test
+	void testLoadInProgress() {
+		GameBoardState state = new GameBoardState(GameFixtures.createGameBoard());
+		GameBoard gameBoard = state.getGameBoard();
+		List<Set<Word>> guesses = List.of(gameBoard.getWords(0x0123), gameBoard.getWords(0x0F00));
+		state.loadGuesses(guesses);
+
+		int[][] remainingIndices = { { 0, 1, 2, 3 }, { 4, 5, 6, 7 }, { 15, 14, 13, 12 } };
+		List<List<Word>> gridWords = new ArrayList<>();
+		gridWords.add(new ArrayList<>());
+		for (int[] rowIndices : remainingIndices) {
+			List<Word> wordsOnRow = new ArrayList<>();
+			for (int index : rowIndices) {
+				wordsOnRow.add(gameBoard.getWord(index));
+			}
+			gridWords.add(wordsOnRow);
+		}
+
+		GridLayout layout = new GridLayout();
+		layout.loadInProgress(state, gridWords);
+
+		assertEquals(1, layout.getAnsweredRowCount());
+		assertEquals(GameBoard.getGroupIndex(DifficultyColor.BLUE), layout.getRowGroup(0));
+		assertEquals(GridLayout.EMPTY, layout.getRowGroup(1));
+		assertEquals(GridLayout.EMPTY, layout.getWordIndex(0, 0));
+		assertEquals(0, layout.getWordIndex(1, 0));
+		assertEquals(15, layout.getWordIndex(3, 0));
+	}
+
+	@Test
+	void testLoadFinishedOrdersRemainingByDifficulty() {
+		GameBoardState state = new GameBoardState(GameFixtures.createGameBoard());
+		GameBoard gameBoard = state.getGameBoard();
+		state.loadGuesses(List.of(gameBoard.getWords(0xF000), gameBoard.getWords(0x00F0)));
+
+		GridLayout layout = new GridLayout();
+		layout.loadFinished(state);
+
+		assertEquals(4, layout.getAnsweredRowCount());
+		assertEquals(3, layout.getRowGroup(0));
+		assertEquals(1, layout.getRowGroup(1));
+		assertEquals(0, layout.getRowGroup(2));
+		assertEquals(2, layout.getRowGroup(3));
+	}
+}
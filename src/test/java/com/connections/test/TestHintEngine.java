@@ -0,0 +1,97 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.DifficultyColor;
+import com.connections.model.GameAnswerColor;
+import com.connections.model.GameBoard;
+import com.connections.model.GameData;
+import com.connections.model.Hint;
+import com.connections.model.HintEngine;
+import com.connections.model.HintLevel;
+
+public class TestHintEngine {
+	@Test
+	void testHintLevelForHintsUsed() {
+		assertEquals(HintLevel.NUDGE, HintLevel.forHintsUsed(0));
+		assertEquals(HintLevel.CATEGORY_LABEL, HintLevel.forHintsUsed(2));
+		assertEquals(HintLevel.FULL_GROUP, HintLevel.forHintsUsed(10));
+	}
+
+	@Test
+	void testNoSelectionHintsEasiestGroup() {
+		HintEngine hintEngine = new HintEngine(GameFixtures.createGameBoard());
+
+		Hint nudge = hintEngine.getHint(0, 0, HintLevel.NUDGE);
+		Hint fullGroup = hintEngine.getHint(0, 0, HintLevel.FULL_GROUP);
+
+		assertEquals(DifficultyColor.YELLOW, nudge.getColor());
+		assertEquals(1, Integer.bitCount(nudge.getWordMask()));
+		assertEquals(0x000F, fullGroup.getWordMask());
+	}
+
+	@Test
+	void testSelectionPicksBestOverlappingGroup() {
+		HintEngine hintEngine = new HintEngine(GameFixtures.createGameBoard());
+
+		// Two blue words and one yellow word selected.
+		int selectedMask = (1 << 8) | (1 << 9) | (1 << 0);
+
+		Hint nudge = hintEngine.getHint(0, selectedMask, HintLevel.NUDGE);
+		Hint pair = hintEngine.getHint(0, selectedMask, HintLevel.PARTNER_PAIR);
+
+		assertEquals(DifficultyColor.BLUE, nudge.getColor());
+		assertEquals(0, nudge.getWordMask() & selectedMask);
+		assertEquals(0, nudge.getWordMask() & ~0x0F00);
+		assertEquals(2, Integer.bitCount(pair.getWordMask()));
+		assertEquals(0, pair.getWordMask() & ~0x0F00);
+	}
+
+	@Test
+	void testSolvedGroupsAreSkipped() {
+		HintEngine hintEngine = new HintEngine(GameFixtures.createGameBoard());
+
+		Hint hint = hintEngine.getHint(0b0111, 0, HintLevel.FULL_GROUP);
+
+		assertEquals(DifficultyColor.PURPLE, hint.getColor());
+		assertNull(hintEngine.getHint(GameBoard.ALL_GROUPS_MASK, 0, HintLevel.NUDGE));
+	}
+
+	@Test
+	void testPlanIsCached() {
+		HintEngine hintEngine = new HintEngine(GameFixtures.createGameBoard());
+
+		Hint[] firstPlan = hintEngine.getPlan(0, 0x0003);
+		Hint[] secondPlan = hintEngine.getPlan(0, 0x0003);
+
+		assertSame(firstPlan, secondPlan);
+		assertEquals(1, hintEngine.getCachedPlanCount());
+	}
+
+	@Test
+	void testSharedEngineFollowsPuzzleContent() {
+		HintEngine hintEngine = HintEngine.forGameData(GameFixtures.createGameData());
+		assertSame(hintEngine, HintEngine.forGameData(GameFixtures.createGameData()));
+
+		// The same puzzle number with different words, as after the games file is
+		// edited and the database is set up again.
+		Map<DifficultyColor, GameAnswerColor> answerMap = new HashMap<>(
+				GameFixtures.createGameData().getAnswerMap());
+		answerMap.put(DifficultyColor.YELLOW, new GameAnswerColor(DifficultyColor.YELLOW, "Sunny",
+				new String[] { "sun", "lemon", "banana", "canary" }));
+		HintEngine editedHintEngine = HintEngine.forGameData(new GameData(answerMap, GameFixtures.PUZZLE_NUMBER));
+		assertNotSame(hintEngine, editedHintEngine);
+		assertEquals("canary", editedHintEngine.getGameBoard().getWord(3).getText());
+
+		HintEngine.clearSharedEngines();
+		assertNotSame(hintEngine, HintEngine.forGameData(GameFixtures.createGameData()));
+	}
+}
@@ -0,0 +1,96 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.GameData;
+import com.connections.model.PuzzleAmbiguityAnalyzer;
+import com.connections.model.PuzzleDifficultyMetrics;
+import com.connections.model.WordRelatednessTable;
+
+public class TestPuzzleAmbiguityAnalyzer {
+	@Test
+	void testUnrelatedWordsHaveNoRedHerrings() {
+		PuzzleAmbiguityAnalyzer analyzer = new PuzzleAmbiguityAnalyzer((wordA, wordB) -> 0.0);
+
+		PuzzleDifficultyMetrics metrics = analyzer.analyze(GameFixtures.createGameData(1));
+
+		assertEquals(0, metrics.getRedHerringCount());
+		assertEquals(0.0, metrics.getStrongestDecoyScore());
+	}
+
+	@Test
+	void testFullyRelatedWordsMakeEverySubsetARedHerring() {
+		PuzzleAmbiguityAnalyzer analyzer = new PuzzleAmbiguityAnalyzer((wordA, wordB) -> 1.0);
+
+		PuzzleDifficultyMetrics metrics = analyzer.analyze(GameFixtures.createGameData(1));
+
+		// C(16,4) subsets minus the four answers.
+		assertEquals(1816, metrics.getRedHerringCount());
+		assertEquals(1408, metrics.getMultiCategoryRedHerringCount());
+		assertEquals(0.0, metrics.getAmbiguityScore());
+	}
+
+	@Test
+	void testSharedLetterRedHerrings() {
+		// Words starting with the same letter look related.
+		PuzzleAmbiguityAnalyzer analyzer = new PuzzleAmbiguityAnalyzer(
+				(wordA, wordB) -> (wordA.charAt(0) == wordB.charAt(0)) ? 1.0 : 0.0, 1.0);
+
+		PuzzleDifficultyMetrics metrics = analyzer.analyze(GameFixtures.createGameData(1));
+
+		// "pear", "peach", "potato", "punch" all start with 'p'.
+		assertEquals(1, metrics.getRedHerringCount());
+		assertEquals(1, metrics.getMultiCategoryRedHerringCount());
+	}
+
+	@Test
+	void testAnalyzeCatalog() {
+		PuzzleAmbiguityAnalyzer analyzer = new PuzzleAmbiguityAnalyzer((wordA, wordB) -> 0.25);
+
+		Map<Integer, PuzzleDifficultyMetrics> metrics = analyzer
+				.analyzeCatalog(List.of(GameFixtures.createGameData(1), GameFixtures.createGameData(2),
+						GameFixtures.createGameData(3)));
+
+		assertEquals(3, metrics.size());
+		assertNotNull(metrics.get(2));
+		assertEquals(0.25, metrics.get(2).getWeakestAnswerScore(), 1e-9);
+	}
+
+	@Test
+	void testMetricsRoundTrip() {
+		PuzzleDifficultyMetrics metrics = new PuzzleDifficultyMetrics(5, 2, 0.75, 0.5);
+		GameData gameData = GameFixtures.createGameData(7);
+		gameData.setDifficultyMetrics(metrics);
+
+		Document doc = gameData.getAsDatabaseFormat();
+		GameData loaded = new GameData(doc);
+
+		assertEquals(5, loaded.getDifficultyMetrics().getRedHerringCount());
+		assertEquals(2, loaded.getDifficultyMetrics().getMultiCategoryRedHerringCount());
+		assertEquals(0.25, loaded.getDifficultyMetrics().getAmbiguityScore(), 1e-9);
+	}
+
+	@Test
+	void testRelatednessTable() {
+		WordRelatednessTable table = new WordRelatednessTable(
+				List.of("# fruit and drinks", "apple\tjuice\t0.75", "", "Pear\tPeach\t0.5"));
+
+		assertEquals(2, table.getPairCount());
+		assertEquals(0.75, table.getRelatedness("juice", "apple"));
+		assertEquals(0.5, table.getRelatedness("peach", "pear"));
+		assertEquals(0.0, table.getRelatedness("apple", "soda"));
+		assertThrows(IllegalArgumentException.class, () -> new WordRelatednessTable(List.of("apple\tjuice")));
+
+		PuzzleDifficultyMetrics metrics = new PuzzleAmbiguityAnalyzer(table).analyze(GameFixtures.createGameData(1));
+		// "apple", "pear", "peach" and "juice" score both pairs of the table.
+		assertEquals((0.75 + 0.5) / 6, metrics.getStrongestDecoyScore(), 1e-9);
+	}
+}
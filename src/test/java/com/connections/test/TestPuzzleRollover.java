@@ -0,0 +1,115 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.PuzzleRollover;
+
+public class TestPuzzleRollover {
+	private static final ZoneId ZONE = ZoneId.of("America/Los_Angeles");
+	private static final int MIN_PUZZLE_NUMBER = 1;
+	private static final int MAX_PUZZLE_NUMBER = 10;
+
+	/**
+	 * An in-memory store whose compare-and-set behaves like a conditional update
+	 * of a single database document.
+	 */
+	private static class MemoryStore implements PuzzleRollover.Store {
+		private PuzzleRollover.State state;
+		private AtomicInteger successfulUpdates = new AtomicInteger();
+
+		MemoryStore(PuzzleRollover.State state) {
+			this.state = state;
+		}
+
+		@Override
+		public synchronized PuzzleRollover.State read() {
+			return state;
+		}
+
+		@Override
+		public synchronized boolean compareAndSet(PuzzleRollover.State expected, PuzzleRollover.State updated) {
+			if (state.getPuzzleNumber() != expected.getPuzzleNumber()
+					|| !state.getLastPuzzleDate().equals(expected.getLastPuzzleDate())) {
+				return false;
+			}
+			state = updated;
+			successfulUpdates.incrementAndGet();
+			return true;
+		}
+
+		@Override
+		public int[] getCatalog() {
+			return IntStream.rangeClosed(MIN_PUZZLE_NUMBER, MAX_PUZZLE_NUMBER).toArray();
+		}
+	}
+
+	private String formatDate(ZonedDateTime date) {
+		return date.format(DateTimeFormatter.ISO_ZONED_DATE_TIME);
+	}
+
+	@Test
+	void testRolloverAdvancesOncePerDay() {
+		ZonedDateTime lastDate = ZonedDateTime.of(2024, 5, 1, 22, 0, 0, 0, ZONE);
+		MemoryStore store = new MemoryStore(new PuzzleRollover.State(formatDate(lastDate), 4));
+
+		assertEquals(4, PuzzleRollover.rolloverIfNeeded(store, lastDate.plusHours(1)));
+		assertEquals(7, PuzzleRollover.rolloverIfNeeded(store, lastDate.plusDays(3)));
+		assertEquals(7, PuzzleRollover.rolloverIfNeeded(store, lastDate.plusDays(3).plusMinutes(30)));
+		assertEquals(1, store.successfulUpdates.get());
+	}
+
+	@Test
+	void testRolloverWrapsToFirstPuzzle() {
+		ZonedDateTime lastDate = ZonedDateTime.of(2024, 5, 1, 12, 0, 0, 0, ZONE);
+		MemoryStore store = new MemoryStore(new PuzzleRollover.State(formatDate(lastDate), MAX_PUZZLE_NUMBER - 1));
+
+		assertEquals(MIN_PUZZLE_NUMBER, PuzzleRollover.rolloverIfNeeded(store, lastDate.plusDays(2)));
+	}
+
+	@Test
+	void testConcurrentRolloverIsIdempotent() throws Exception {
+		int threadCount = 16;
+		int rounds = 200;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			for (int round = 0; round < rounds; round++) {
+				ZonedDateTime lastDate = ZonedDateTime.of(2024, 5, 1, 23, 59, 59, 0, ZONE);
+				ZonedDateTime currentDate = lastDate.plusDays(2);
+				MemoryStore store = new MemoryStore(new PuzzleRollover.State(formatDate(lastDate), 3));
+				CountDownLatch startSignal = new CountDownLatch(1);
+
+				List<Future<Integer>> results = new ArrayList<>();
+				for (int i = 0; i < threadCount; i++) {
+					results.add(executor.submit(() -> {
+						startSignal.await();
+						return PuzzleRollover.rolloverIfNeeded(store, currentDate);
+					}));
+				}
+				startSignal.countDown();
+
+				for (Future<Integer> result : results) {
+					assertEquals(5, result.get());
+				}
+				assertEquals(1, store.successfulUpdates.get());
+				assertEquals(5, store.read().getPuzzleNumber());
+				assertEquals(formatDate(currentDate), store.read().getLastPuzzleDate());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
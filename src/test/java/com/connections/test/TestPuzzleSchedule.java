@@ -0,0 +1,61 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.PuzzleSchedule;
+
+public class TestPuzzleSchedule {
+	private static final LocalDate ANCHOR_DATE = LocalDate.of(2024, 5, 1);
+	private static final int[] CATALOG = { 3, 1, 2, 5 };
+
+	@Test
+	void testScheduleAdvancesAndWraps() {
+		PuzzleSchedule schedule = new PuzzleSchedule(ANCHOR_DATE, 2, CATALOG, null);
+
+		assertEquals(2, schedule.getPuzzleNumber(ANCHOR_DATE));
+		assertEquals(3, schedule.getPuzzleNumber(ANCHOR_DATE.plusDays(1)));
+		assertEquals(5, schedule.getPuzzleNumber(ANCHOR_DATE.plusDays(2)));
+		assertEquals(1, schedule.getPuzzleNumber(ANCHOR_DATE.plusDays(3)));
+		assertEquals(1, schedule.getPuzzleNumber(ANCHOR_DATE.minusDays(1)));
+		assertEquals(2, schedule.getPuzzleNumber(ANCHOR_DATE.plusDays(4 * 1000)));
+	}
+
+	@Test
+	void testScheduleMatchesDailyAdvance() {
+		PuzzleSchedule schedule = new PuzzleSchedule(ANCHOR_DATE, 3, CATALOG, null);
+		int[] sortedCatalog = { 1, 2, 3, 5 };
+
+		int puzzleNumber = 3;
+		for (int day = 1; day <= 50; day++) {
+			puzzleNumber = PuzzleSchedule.advance(sortedCatalog, puzzleNumber, 1);
+			assertEquals(puzzleNumber, schedule.getPuzzleNumber(ANCHOR_DATE.plusDays(day)));
+		}
+	}
+
+	@Test
+	void testUnknownAnchorStartsAtFirstPuzzle() {
+		PuzzleSchedule schedule = new PuzzleSchedule(ANCHOR_DATE, -1, CATALOG, null);
+
+		assertEquals(-1, schedule.getPuzzleNumber(ANCHOR_DATE));
+		assertEquals(1, schedule.getPuzzleNumber(ANCHOR_DATE.plusDays(1)));
+	}
+
+	@Test
+	void testOverrideReplacesSingleDate() {
+		LocalDate overrideDate = ANCHOR_DATE.plusDays(1);
+		PuzzleSchedule schedule = new PuzzleSchedule(ANCHOR_DATE, 2, CATALOG, Map.of(overrideDate, 1));
+
+		assertTrue(schedule.hasOverride(overrideDate));
+		assertEquals(1, schedule.getPuzzleNumber(overrideDate));
+		assertEquals(3, schedule.getScheduledPuzzleNumber(overrideDate));
+		assertFalse(schedule.hasOverride(ANCHOR_DATE.plusDays(2)));
+		assertEquals(5, schedule.getPuzzleNumber(ANCHOR_DATE.plusDays(2)));
+	}
+}
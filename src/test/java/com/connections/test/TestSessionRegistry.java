@@ -0,0 +1,182 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.connections.view_controller.MidnightChecker;
+import com.connections.view_controller.MidnightScheduler;
+import com.connections.web.SessionRegistry;
+import com.connections.web.WebContext;
+import com.connections.web.WebSession;
+import com.connections.web.WebSessionContext;
+
+public class TestSessionRegistry {
+	private static final int SESSION_COUNT = 500;
+	private static final long COLLECT_TIMEOUT_SECONDS = 10;
+	private static final long COLLECT_POLL_MILLIS = 10;
+
+	/**
+	 * Opens and closes a session the way a browser tab does, without JavaFX: the
+	 * session of the tab is registered with the SessionRegistry, and its midnight
+	 * checker, whose handler refers back to the session like the one of a game
+	 * session, is registered with the shared MidnightScheduler.
+	 */
+	private static class Tab {
+		private WebSessionContext webSessionContext;
+		private MidnightChecker midnightChecker;
+		private SessionRegistry.Entry registryEntry;
+
+		Tab() {
+			WebContext webContext = new WebContext(null, null, null);
+			webSessionContext = new WebSessionContext(WebSession.createEmpty(webContext));
+			registryEntry = SessionRegistry.register(webSessionContext, null);
+			midnightChecker = new MidnightChecker();
+			midnightChecker.setOnMidnight(event -> webSessionContext.setSession(null));
+			midnightChecker.start();
+		}
+
+		/**
+		 * Closes the tab, optionally forgetting to stop its midnight checker.
+		 *
+		 * @param stopMidnightChecker false to leave the checker registered
+		 */
+		void close(boolean stopMidnightChecker) {
+			if (stopMidnightChecker) {
+				midnightChecker.stop();
+			}
+			registryEntry.close();
+		}
+	}
+
+	/**
+	 * A session whose equals() matches any other session, so that only a lookup
+	 * by identity finds the right entry.
+	 */
+	private static class EqualSession {
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof EqualSession;
+		}
+
+		@Override
+		public int hashCode() {
+			return 0;
+		}
+	}
+
+	/**
+	 * Runs the garbage collector until the condition holds or the timeout runs
+	 * out.
+	 *
+	 * @param condition the condition to wait for
+	 * @return true if the condition holds
+	 */
+	private boolean collectUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(COLLECT_TIMEOUT_SECONDS);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadlineNanos) {
+				return false;
+			}
+			System.gc();
+			Thread.sleep(COLLECT_POLL_MILLIS);
+		}
+		return true;
+	}
+
+	@Test
+	void testClosedSessionsAreCollected() throws InterruptedException {
+		int checkerCount = MidnightScheduler.getCheckerCount();
+		List<Tab> tabs = new ArrayList<>();
+		List<SessionRegistry.Entry> entries = new ArrayList<>();
+		for (int i = 0; i < SESSION_COUNT; i++) {
+			Tab tab = new Tab();
+			tabs.add(tab);
+			entries.add(tab.registryEntry);
+		}
+		assertEquals(checkerCount + SESSION_COUNT, MidnightScheduler.getCheckerCount());
+
+		for (Tab tab : tabs) {
+			assertFalse(tab.registryEntry.isClosed());
+			assertFalse(tab.registryEntry.isCollected());
+			tab.close(true);
+		}
+		tabs.clear();
+		assertEquals(checkerCount, MidnightScheduler.getCheckerCount());
+
+		assertTrue(collectUntil(() -> entries.stream().allMatch(SessionRegistry.Entry::isCollected)),
+				"closed sessions were never garbage collected");
+		for (SessionRegistry.Entry leakedEntry : SessionRegistry.getLeakedEntries(0)) {
+			assertFalse(entries.contains(leakedEntry));
+		}
+		for (SessionRegistry.Entry entry : SessionRegistry.getEntries()) {
+			assertFalse(entries.contains(entry));
+		}
+	}
+
+	@Test
+	void testSessionLeakedByRunningCheckerIsReported() throws InterruptedException {
+		Tab closedTab = new Tab();
+		SessionRegistry.Entry closedEntry = closedTab.registryEntry;
+		closedTab.close(true);
+		closedTab = null;
+
+		Tab leakingTab = new Tab();
+		SessionRegistry.Entry leakedEntry = leakingTab.registryEntry;
+		WeakReference<Tab> leakingTabReference = new WeakReference<>(leakingTab);
+		leakingTab.close(false);
+		leakingTab = null;
+
+		// Once the properly closed tab is gone, a collection has run that would also
+		// have collected the other one had the scheduler not kept it.
+		assertTrue(collectUntil(closedEntry::isCollected), "a closed session was never garbage collected");
+		assertFalse(leakedEntry.isCollected());
+		assertTrue(SessionRegistry.getLeakedEntries(0).contains(leakedEntry));
+
+		Tab leakedTab = leakingTabReference.get();
+		assertNotNull(leakedTab);
+		leakedTab.midnightChecker.stop();
+		leakedTab = null;
+		assertTrue(collectUntil(leakedEntry::isCollected), "a session was still leaked after its checker stopped");
+		assertFalse(SessionRegistry.getLeakedEntries(0).contains(leakedEntry));
+	}
+
+	@Test
+	void testSessionsAreLookedUpByIdentity() {
+		EqualSession firstSession = new EqualSession();
+		EqualSession secondSession = new EqualSession();
+		SessionRegistry.Entry firstEntry = SessionRegistry.register(firstSession, null);
+		SessionRegistry.Entry secondEntry = SessionRegistry.register(secondSession, null);
+
+		assertSame(firstEntry, SessionRegistry.get(firstSession));
+		assertSame(secondEntry, SessionRegistry.get(secondSession));
+		assertNull(SessionRegistry.get(new EqualSession()));
+		firstEntry.close();
+		secondEntry.close();
+	}
+
+	@Test
+	void testOpenSessionIsNotLeaked() {
+		Tab tab = new Tab();
+		SessionRegistry.Entry entry = tab.registryEntry;
+
+		assertFalse(SessionRegistry.getLeakedEntries(0).contains(entry));
+		assertTrue(SessionRegistry.getOpenCount() >= 1);
+		assertEquals(-1, entry.getClosedNanos(System.nanoTime()));
+		assertEquals(0, entry.getNodeCount());
+		assertEquals(0, entry.getLiveAnimationCount());
+		assertSame(entry, SessionRegistry.get(tab.webSessionContext));
+		tab.close(true);
+	}
+}
@@ -0,0 +1,120 @@
+package com.connections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.connections.model.GameData;
+import com.connections.model.PuzzleAmbiguityAnalyzer;
+import com.connections.model.PuzzleDifficultyMetrics;
+import com.connections.web.WebContext;
+import com.connections.web.WebUtils;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+
+public class TestWebUtils {
+	private static final String MONGO_URL = "mongodb://localhost:27017/";
+	private static final String DATABASE_NAME = "connections_test";
+	private static final long SERVER_TIMEOUT_MILLIS = 2000;
+
+	private static MongoClient mongoClient;
+	private static MongoDatabase mongoDatabase;
+	private WebContext webContext;
+
+	@BeforeAll
+	static void connect() {
+		MongoClientSettings settings = MongoClientSettings.builder()
+				.applyConnectionString(new ConnectionString(MONGO_URL))
+				.applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(SERVER_TIMEOUT_MILLIS,
+						TimeUnit.MILLISECONDS))
+				.build();
+		mongoClient = MongoClients.create(settings);
+		mongoDatabase = mongoClient.getDatabase(DATABASE_NAME);
+		boolean serverRunning;
+		try {
+			mongoDatabase.runCommand(new Document("ping", 1));
+			serverRunning = true;
+		} catch (MongoException e) {
+			serverRunning = false;
+		}
+		// The database calls need a running server; without one the tests are skipped.
+		assumeTrue(serverRunning, "no MongoDB server at " + MONGO_URL);
+	}
+
+	@AfterAll
+	static void disconnect() {
+		if (mongoClient != null) {
+			mongoClient.close();
+		}
+	}
+
+	@BeforeEach
+	void clearDatabase() {
+		webContext = new WebContext(mongoDatabase, null, null);
+		WebUtils.clearDatabase(webContext);
+	}
+
+	/**
+	 * Puts the sample puzzles with the specified puzzle numbers into the games
+	 * collection.
+	 *
+	 * @param puzzleCount the number of puzzles, numbered from 1
+	 */
+	private void putGames(int puzzleCount) {
+		for (int puzzleNumber = 1; puzzleNumber <= puzzleCount; puzzleNumber++) {
+			WebUtils.helperCollectionPut(webContext, WebUtils.COLLECTION_GAMES,
+					GameFixtures.createGameData(puzzleNumber).getAsDatabaseFormat());
+		}
+	}
+
+	@Test
+	void testAnalyzedCatalogIsWrittenBack() {
+		putGames(3);
+
+		Map<Integer, PuzzleDifficultyMetrics> metrics = WebUtils.gameAnalyzeCatalog(webContext,
+				new PuzzleAmbiguityAnalyzer((wordA, wordB) -> 0.25));
+
+		assertEquals(3, metrics.size());
+		assertEquals(3, WebUtils.gameGetAll(webContext).size());
+		GameData loaded = WebUtils.gameGetByPuzzleNumber(webContext, 2);
+		assertNotNull(loaded.getDifficultyMetrics());
+		assertEquals(metrics.get(2).getRedHerringCount(), loaded.getDifficultyMetrics().getRedHerringCount());
+		assertEquals(0.25, loaded.getDifficultyMetrics().getWeakestAnswerScore(), 1e-9);
+		assertEquals(GameFixtures.createGameData(2).getAnswerMap().size(), loaded.getAnswerMap().size());
+	}
+
+	@Test
+	void testOverrideReplacesOnlyItsDate() {
+		putGames(3);
+		ZonedDateTime now = ZonedDateTime.now();
+		WebUtils.helperCollectionPut(webContext, WebUtils.COLLECTION_SERVER_STATUS,
+				new Document(WebUtils.KEY_CURRENT_PUZZLE_NUMBER, 1).append(WebUtils.KEY_LAST_PUZZLE_DATE,
+						WebUtils.helperDateToString(now)));
+		LocalDate today = now.toLocalDate();
+		LocalDate tomorrow = today.plusDays(1);
+		assertEquals(1, WebUtils.dailyPuzzleNumberGet(webContext));
+
+		WebUtils.dailyPuzzleOverrideSet(webContext, today, 3);
+		assertEquals(3, WebUtils.dailyPuzzleNumberGet(webContext));
+		assertEquals(2, WebUtils.dailyPuzzleScheduleGet(webContext).getPuzzleNumber(tomorrow));
+
+		WebUtils.dailyPuzzleOverrideRemove(webContext, today);
+		assertEquals(1, WebUtils.dailyPuzzleNumberGet(webContext));
+		assertEquals(2, WebUtils.dailyPuzzleScheduleGet(webContext).getPuzzleNumber(tomorrow));
+	}
+}